@@ -1,3 +1,5 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
     id("java")
     id("checkstyle")
@@ -7,6 +9,7 @@ plugins {
     id("com.github.akazver.mapstruct") version "1.0.9"
     id("net.ltgt.nullaway") version "3.0.0"
     id("com.github.spotbugs") version "6.4.8"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 java {
@@ -75,12 +78,34 @@ nullaway {
     annotatedPackages.add("scheduling.solver.mip")
 }
 
+// Benchmarks and JMH generated sources are not part of the checked code base
+tasks.matching { it.name == "compileJmhJava" || it.name == "jmhCompileGeneratedClasses" }
+    .configureEach { (this as JavaCompile).options.errorprone.isEnabled.set(false) }
+
+jmh {
+    fork = 1
+    warmupIterations = 1
+    iterations = 3
+    resultFormat = "JSON"
+    jvmArgs.add("--enable-preview")
+}
+
 tasks.register("lint") {
     dependsOn("checkstyleMain", "checkstyleTest", "spotlessCheck", "compileJava", "spotbugsMain")
 }
 
+// StructuredTaskScope is a preview API in Java 25
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.add("--enable-preview")
+}
+
+tasks.withType<JavaExec>().configureEach {
+    jvmArgs("--enable-preview")
+}
+
 tasks.test {
     useJUnitPlatform()
+    jvmArgs("--enable-preview")
 }
 
 tasks.register<JavaExec>("runGrasp") {
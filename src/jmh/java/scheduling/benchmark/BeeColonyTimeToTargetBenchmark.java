@@ -0,0 +1,112 @@
+package scheduling.benchmark;
+
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scheduling.mapping.ProblemDTOReader;
+import scheduling.model.Problem;
+import scheduling.model.ProblemBuilder;
+import scheduling.solver.Budget;
+import scheduling.solver.RunInfo;
+import scheduling.solver.StopReason;
+import scheduling.solver.heuristic.beecolony.BeeColonyAlgorithm;
+import scheduling.solver.heuristic.beecolony.BeeColonyConfig;
+import scheduling.solver.heuristic.beecolony.move.MoveSelection;
+import scheduling.solver.heuristic.beecolony.move.MoveSelectorConfig;
+
+// Time for the bee colony to reach a target revenue with uniform versus adaptive
+// move selection.
+//
+// The target is the best revenue a uniform run reaches in calibrationGenerations
+// generations from a fixed seed, so both selectors chase the same value. Each
+// invocation is one run from a fresh seed that stops at the target or the time
+// limit; runs that hit the time limit are counted in misses.
+//
+//   ./gradlew jmh -Pjmh.includes=BeeColonyTimeToTargetBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BeeColonyTimeToTargetBenchmark {
+
+    private static final long CALIBRATION_SEED = 12345;
+
+    @Param({"UNIFORM", "ADAPTIVE"})
+    public MoveSelection selection;
+
+    @Param({"json_files/1.json", "json_files/10.json"})
+    public String instance;
+
+    @Param({"0.05"})
+    public double minProbability;
+
+    @Param({"2000"})
+    public long calibrationGenerations;
+
+    @Param({"60"})
+    public int timeLimitSeconds;
+
+    private Problem problem;
+    private double target;
+    private int seed;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RunCounters {
+        public long misses;
+        public long generations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            misses = 0;
+            generations = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void calibrate() {
+        problem = ProblemBuilder.build(ProblemDTOReader.read(Path.of(instance)));
+        var budget = new Budget(0, 0, calibrationGenerations, 0.0);
+        var calibration =
+                new BeeColonyAlgorithm(
+                                buildConfig(MoveSelectorConfig.UNIFORM, budget),
+                                new Random(CALIBRATION_SEED))
+                        .run(problem);
+        target = calibration.getBestSolution().getTotalRevenue();
+        seed = 0;
+    }
+
+    @Benchmark
+    public void run(RunCounters counters) {
+        var moveSelector = new MoveSelectorConfig(selection, minProbability);
+        var config = buildConfig(moveSelector, new Budget(0, 0, 0, target));
+        var result = new BeeColonyAlgorithm(config, new Random(seed++)).run(problem);
+        var info = result.getAdditionalInformation();
+        counters.generations += info.generations();
+        if (info.stopReason() != StopReason.TARGET_REACHED) {
+            counters.misses++;
+        }
+    }
+
+    private BeeColonyConfig buildConfig(MoveSelectorConfig moveSelector, Budget budget) {
+        return BeeColonyConfig.builder()
+                .runInfo(new RunInfo("benchmark", 0))
+                .populationSize(20)
+                .initialTemperature(0.02)
+                .coolingCoefficient(0.95)
+                .coolingInterval(100)
+                .timeLimitSeconds(timeLimitSeconds)
+                .budget(budget)
+                .moveSelector(moveSelector)
+                .build();
+    }
+}
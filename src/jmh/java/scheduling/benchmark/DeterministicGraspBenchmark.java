@@ -0,0 +1,134 @@
+package scheduling.benchmark;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scheduling.mapping.ProblemDTOReader;
+import scheduling.model.Problem;
+import scheduling.model.ProblemBuilder;
+import scheduling.solver.RunInfo;
+import scheduling.solver.heuristic.grasp.DeterministicGraspAlgorithm;
+import scheduling.solver.heuristic.grasp.EpochConfig;
+import scheduling.solver.heuristic.grasp.GraspAlgorithm;
+import scheduling.solver.heuristic.grasp.GraspConfig;
+import scheduling.solver.heuristic.grasp.MultiThreadGraspAlgorithm;
+import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.InsertNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.InterSwapNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.IntraSwapNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.OutOfPoolSwapNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.ShiftNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.TransferNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.selector.AdaptiveSelector;
+import scheduling.solver.heuristic.grasp.vnd.strategy.FirstImprovingStrategy;
+
+// Throughput cost of the deterministic epoch mode relative to free-running
+// multi-threaded GRASP. The iterationsPerSecond counter is comparable between
+// modes; the barrier cost grows as iterationsPerEpoch shrinks.
+//
+//   ./gradlew jmh -Pjmh.includes=DeterministicGraspBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class DeterministicGraspBenchmark {
+
+    public enum RunMode {
+        FREE_RUNNING,
+        DETERMINISTIC,
+    }
+
+    @Param({"1", "4", "16"})
+    public int threads;
+
+    @Param({"FREE_RUNNING", "DETERMINISTIC"})
+    public RunMode mode;
+
+    @Param({"1", "10", "100"})
+    public int iterationsPerEpoch;
+
+    @Param({"json_files/1.json"})
+    public String instance;
+
+    @Param({"2"})
+    public int timeLimitSeconds;
+
+    @Param({"2000"})
+    public int iterationsPerThread;
+
+    private Problem problem;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RunCounters {
+        public long iterations;
+        public double iterationsPerSecond;
+        public double bestRevenue;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            iterations = 0;
+            iterationsPerSecond = 0.0;
+            bestRevenue = 0.0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void loadProblem() {
+        problem = ProblemBuilder.build(ProblemDTOReader.read(Path.of(instance)));
+    }
+
+    @Benchmark
+    public void run(RunCounters counters) {
+        var startNanos = System.nanoTime();
+        var result = buildAlgorithm().run(problem);
+        var elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        var info = result.getAdditionalInformation();
+        var iterations = info.getConstructionStatistics().getCallCount();
+        counters.iterations += iterations;
+        counters.iterationsPerSecond += iterations / elapsedSeconds;
+        counters.bestRevenue += result.getBestSolution().getTotalRevenue();
+    }
+
+    private GraspAlgorithm buildAlgorithm() {
+        var builder =
+                GraspConfig.builder()
+                        .runInfo(new RunInfo("benchmark", 0))
+                        .timeLimitSeconds(timeLimitSeconds)
+                        .elitePoolSize(10)
+                        .vndConfig(buildVndConfig())
+                        .lowerBound(0.8)
+                        .upperBound(1.0)
+                        .updateInterval(100);
+        if (mode == RunMode.FREE_RUNNING) {
+            return new MultiThreadGraspAlgorithm(builder.build(), new Random(0), threads);
+        }
+        var epochs = Math.max(iterationsPerThread / iterationsPerEpoch, 1);
+        var config = builder.epochConfig(new EpochConfig(epochs, iterationsPerEpoch)).build();
+        return new DeterministicGraspAlgorithm(config, new Random(0), threads);
+    }
+
+    private VNDConfig buildVndConfig() {
+        List<Neighborhood> neighborhoods =
+                List.of(
+                        new InsertNeighborhood(problem),
+                        new InterSwapNeighborhood(problem),
+                        new IntraSwapNeighborhood(problem),
+                        new OutOfPoolSwapNeighborhood(problem),
+                        new ShiftNeighborhood(problem),
+                        new TransferNeighborhood(problem));
+        return new VNDConfig(
+                new FirstImprovingStrategy(),
+                neighborhoods,
+                new AdaptiveSelector(0.05, neighborhoods),
+                0.0);
+    }
+}
@@ -0,0 +1,89 @@
+package scheduling.benchmark;
+
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scheduling.mapping.ProblemDTOReader;
+import scheduling.model.ProblemBuilder;
+import scheduling.solver.heuristic.beecolony.BeeColonySolution;
+import scheduling.solver.heuristic.beecolony.FitnessEvaluator;
+import scheduling.solver.heuristic.beecolony.SolutionStringConverter;
+import scheduling.solver.heuristic.beecolony.move.NeighborhoodFunction;
+import scheduling.solver.heuristic.beecolony.vrp.VrpConverter;
+import scheduling.solver.heuristic.grasp.construction.GreedyConstruction;
+
+// Bee colony fitness evaluations per second on solution strings taken from greedy
+// constructions, cycling through a fixed set so every call decodes a full string.
+// evaluateMove measures the bee colony's inner step instead: apply a random move in
+// place, delta-evaluate it from the parent's cached routes and revert it.
+//
+// Run with -prof gc; gc.alloc.rate.norm is the bytes allocated per evaluation. evaluate
+// should show zero, and evaluateMove only the move and candidate records: its routes
+// are decoded into the evaluator's workspace, except for the moves that shift a depot
+// past a route and fall back to a full decode.
+//
+//   ./gradlew jmh -Pjmh.includes=FitnessEvaluatorBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FitnessEvaluatorBenchmark {
+
+    @Param({"json_files/1.json"})
+    public String instance;
+
+    @Param({"64"})
+    public int solutions;
+
+    private FitnessEvaluator evaluator;
+    private int[][] solutionStrings;
+    private BeeColonySolution[] parents;
+    private NeighborhoodFunction neighborhoodFunction;
+    private Random moveRandom;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        var problem = ProblemBuilder.build(ProblemDTOReader.read(Path.of(instance)));
+        var vrpProblem = VrpConverter.convert(problem);
+        var random = new Random(0);
+        evaluator = new FitnessEvaluator(vrpProblem);
+        solutionStrings = new int[solutions][];
+        for (int i = 0; i < solutions; i++) {
+            var graspSolution = new GreedyConstruction(problem, 0.5, random, 0.5, 2.0).solve();
+            solutionStrings[i] =
+                    SolutionStringConverter.toSolutionString(graspSolution, vrpProblem);
+        }
+        parents = new BeeColonySolution[solutions];
+        for (int i = 0; i < solutions; i++) {
+            parents[i] = evaluator.decode(solutionStrings[i].clone());
+        }
+        neighborhoodFunction = new NeighborhoodFunction();
+        moveRandom = new Random(1);
+    }
+
+    @Benchmark
+    public double evaluate() {
+        var solutionString = solutionStrings[next];
+        next = (next + 1) % solutionStrings.length;
+        return evaluator.evaluate(solutionString);
+    }
+
+    @Benchmark
+    public double evaluateMove() {
+        var parent = parents[next];
+        next = (next + 1) % parents.length;
+        var string = parent.getSolutionString();
+        var applied = neighborhoodFunction.applyInPlace(string, moveRandom);
+        var candidate = evaluator.evaluate(parent, string, applied.low(), applied.high());
+        applied.revert(string);
+        return candidate.getFitness();
+    }
+}
@@ -0,0 +1,128 @@
+package scheduling.benchmark;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scheduling.mapping.ProblemDTOReader;
+import scheduling.model.Problem;
+import scheduling.model.ProblemBuilder;
+import scheduling.solver.RunInfo;
+import scheduling.solver.heuristic.grasp.GraspConfig;
+import scheduling.solver.heuristic.grasp.MultiThreadGraspAlgorithm;
+import scheduling.solver.heuristic.grasp.island.IslandConfig;
+import scheduling.solver.heuristic.grasp.island.MigrationTopology;
+import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.InsertNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.InterSwapNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.IntraSwapNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.OutOfPoolSwapNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.ShiftNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.TransferNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.selector.AdaptiveSelector;
+import scheduling.solver.heuristic.grasp.vnd.strategy.FirstImprovingStrategy;
+
+// Iteration throughput and final elite diversity of multi-threaded GRASP with one
+// shared elite pool versus one island per thread, for 1 to 64 threads.
+//
+// Each invocation is a full fixed-time run, so the interesting numbers are the
+// auxiliary counters: iterations (construction calls), best revenue and final
+// pool diversity, all per run.
+//
+//   ./gradlew jmh -Pjmh.includes=IslandScalingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class IslandScalingBenchmark {
+
+    public enum PoolMode {
+        SHARED,
+        ISLANDS,
+    }
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    public int threads;
+
+    @Param({"SHARED", "ISLANDS"})
+    public PoolMode mode;
+
+    @Param({"json_files/1.json"})
+    public String instance;
+
+    @Param({"2"})
+    public int timeLimitSeconds;
+
+    private Problem problem;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RunCounters {
+        public long iterations;
+        public double bestRevenue;
+        public double diversity;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            iterations = 0;
+            bestRevenue = 0.0;
+            diversity = 0.0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void loadProblem() {
+        problem = ProblemBuilder.build(ProblemDTOReader.read(Path.of(instance)));
+    }
+
+    @Benchmark
+    public void run(RunCounters counters) {
+        var algorithm = new MultiThreadGraspAlgorithm(buildConfig(), new Random(0), threads);
+        var result = algorithm.run(problem);
+        var info = result.getAdditionalInformation();
+        var samples = info.getDiversitySamples();
+        counters.iterations += info.getConstructionStatistics().getCallCount();
+        counters.bestRevenue += result.getBestSolution().getTotalRevenue();
+        counters.diversity += samples.isEmpty() ? 0.0 : samples.getLast().diversity();
+    }
+
+    private GraspConfig buildConfig() {
+        var islandConfig =
+                mode == PoolMode.ISLANDS
+                        ? new IslandConfig(threads, 100, 1, MigrationTopology.RING)
+                        : IslandConfig.SHARED;
+        return GraspConfig.builder()
+                .runInfo(new RunInfo("benchmark", 0))
+                .timeLimitSeconds(timeLimitSeconds)
+                .elitePoolSize(10)
+                .vndConfig(buildVndConfig())
+                .lowerBound(0.8)
+                .upperBound(1.0)
+                .updateInterval(100)
+                .islandConfig(islandConfig)
+                .build();
+    }
+
+    private VNDConfig buildVndConfig() {
+        List<Neighborhood> neighborhoods =
+                List.of(
+                        new InsertNeighborhood(problem),
+                        new InterSwapNeighborhood(problem),
+                        new IntraSwapNeighborhood(problem),
+                        new OutOfPoolSwapNeighborhood(problem),
+                        new ShiftNeighborhood(problem),
+                        new TransferNeighborhood(problem));
+        return new VNDConfig(
+                new FirstImprovingStrategy(),
+                neighborhoods,
+                new AdaptiveSelector(0.05, neighborhoods),
+                0.0);
+    }
+}
@@ -0,0 +1,83 @@
+package scheduling.benchmark;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scheduling.mapping.ProblemDTOReader;
+import scheduling.model.Problem;
+import scheduling.model.ProblemBuilder;
+import scheduling.solver.mip.MipConfig;
+import scheduling.solver.mip.MipFormulation;
+import scheduling.solver.mip.MipSolver;
+import scheduling.solver.mip.model.ContinuousTimeModel;
+
+// Build and solve time of the continuous-time MIP with the direct and cumulative
+// formulations. Each invocation builds and solves the model once; the counters
+// report the model size and the build time of the last invocation. Needs a Gurobi
+// license.
+//
+//   ./gradlew jmh -Pjmh.includes=MipFormulationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MipFormulationBenchmark {
+
+    @Param({"DIRECT", "CUMULATIVE"})
+    public MipFormulation formulation;
+
+    @Param({"json_files/1.json"})
+    public String instance;
+
+    @Param({"300"})
+    public int timeLimitSeconds;
+
+    private Problem problem;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class ModelCounters {
+        public long variables;
+        public long constraints;
+        public long nonZeros;
+        public double buildMillis;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            variables = 0;
+            constraints = 0;
+            nonZeros = 0;
+            buildMillis = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        problem = ProblemBuilder.build(ProblemDTOReader.read(Path.of(instance)));
+    }
+
+    @Benchmark
+    public double solve(ModelCounters counters) {
+        var config =
+                MipConfig.builder()
+                        .instanceName("benchmark")
+                        .timeLimitSeconds(timeLimitSeconds)
+                        .formulation(formulation)
+                        .build();
+        var result = new MipSolver(new ContinuousTimeModel(config)).solve(problem);
+        var statistics = result.getAdditionalInformation().buildStatistics();
+        counters.variables = statistics.getNumVars();
+        counters.constraints = statistics.getNumConstrs();
+        counters.nonZeros = statistics.getNumNonZeros();
+        counters.buildMillis = statistics.getTotalTimeNanos() / 1.0e6;
+        return result.getBestSolution().getTotalRevenue();
+    }
+}
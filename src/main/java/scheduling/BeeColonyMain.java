@@ -7,6 +7,7 @@ import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 import org.slf4j.Logger;
@@ -16,12 +17,23 @@ import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 import scheduling.mapping.ProblemDTOReader;
 import scheduling.mapping.SolutionDTOWriter;
+import scheduling.model.Problem;
 import scheduling.model.ProblemBuilder;
+import scheduling.solver.Budget;
+import scheduling.solver.EarlyStopConfig;
 import scheduling.solver.FeasibilityCheck;
 import scheduling.solver.RunInfo;
 import scheduling.solver.heuristic.HeuristicSolver;
 import scheduling.solver.heuristic.beecolony.BeeColonyAlgorithm;
 import scheduling.solver.heuristic.beecolony.BeeColonyConfig;
+import scheduling.solver.heuristic.beecolony.HybridConfig;
+import scheduling.solver.heuristic.beecolony.move.MoveSelection;
+import scheduling.solver.heuristic.beecolony.move.MoveSelectorConfig;
+import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.NeighborhoodType;
+import scheduling.solver.heuristic.grasp.vnd.selector.SequentialSelector;
+import scheduling.solver.heuristic.grasp.vnd.strategy.FirstImprovingStrategy;
 
 @Command(
         name = "beecolony",
@@ -79,6 +91,94 @@ public class BeeColonyMain implements Runnable {
             description = "Generations between cooling steps")
     private int coolingInterval;
 
+    @Option(
+            names = {"--threads"},
+            defaultValue = "1",
+            description =
+                    "Worker threads for the bee phases; results are reproducible for a given"
+                            + " seed and thread count (default: ${DEFAULT-VALUE})")
+    private int threads;
+
+    @Option(
+            names = {"--moveSelector"},
+            defaultValue = "UNIFORM",
+            description = "UNIFORM or ADAPTIVE move selection (default: ${DEFAULT-VALUE})")
+    private MoveSelection moveSelection;
+
+    @Option(
+            names = {"--minMoveProbability"},
+            defaultValue = "0.05",
+            description =
+                    "Probability floor for each move under ADAPTIVE selection"
+                            + " (default: ${DEFAULT-VALUE})")
+    private double minMoveProbability;
+
+    @Option(
+            names = {"--graspSeeding"},
+            description = "Build the initial population with GRASP construction and VND")
+    private boolean graspSeeding;
+
+    @Option(
+            names = {"--polishInterval"},
+            defaultValue = "0",
+            description =
+                    "Generations between polishing the best bee with VND, 0 = never"
+                            + " (default: ${DEFAULT-VALUE})")
+    private int polishInterval;
+
+    @Option(
+            names = {"--vndMoves"},
+            defaultValue = "INSERT,INTER_SWAP,INTRA_SWAP,OUT_OF_POOL_SWAP,SHIFT,TRANSFER",
+            split = ",",
+            description = "Comma-separated VND neighborhood types for hybrid steps (default: all)")
+    private List<NeighborhoodType> vndMoves;
+
+    @Option(
+            names = {"--maxGenerations"},
+            defaultValue = "0",
+            description =
+                    "Stop after this many generations, 0 = no limit (default: ${DEFAULT-VALUE})")
+    private long maxGenerations;
+
+    @Option(
+            names = {"--targetRevenue"},
+            defaultValue = "0",
+            description =
+                    "Stop once the best revenue reaches this value, 0 = no target"
+                            + " (default: ${DEFAULT-VALUE})")
+    private double targetRevenue;
+
+    @Option(
+            names = {"--stallSeconds"},
+            defaultValue = "0",
+            description =
+                    "Stop after this many seconds without improvement, 0 = off"
+                            + " (default: ${DEFAULT-VALUE})")
+    private double stallSeconds;
+
+    @Option(
+            names = {"--stallIterations"},
+            defaultValue = "0",
+            description =
+                    "Stop after this many generations without improvement, 0 = off"
+                            + " (default: ${DEFAULT-VALUE})")
+    private long stallIterations;
+
+    @Option(
+            names = {"--improvementWindow"},
+            defaultValue = "0",
+            description =
+                    "Window in seconds for --minImprovement, 0 = off (default: ${DEFAULT-VALUE})")
+    private double improvementWindow;
+
+    @Option(
+            names = {"--minImprovement"},
+            defaultValue = "0",
+            description =
+                    "Stop when the best revenue improved by less than this fraction over"
+                            + " --improvementWindow (default: ${DEFAULT-VALUE})")
+    private double minImprovement;
+
     private static final DelegatingOutputStream outDelegate =
             new DelegatingOutputStream(System.out);
     private static final DelegatingOutputStream errDelegate =
@@ -98,14 +198,25 @@ public class BeeColonyMain implements Runnable {
         var fileName = Objects.requireNonNull(instancePath.getFileName());
         var instanceName = fileName.toString().replaceFirst("\\.[^.]+$", "");
         var runInfo = new RunInfo(instanceName, seed);
+        var earlyStop =
+                new EarlyStopConfig(
+                        stallSeconds, stallIterations, improvementWindow, minImprovement);
         var config =
-                new BeeColonyConfig(
-                        runInfo,
-                        populationSize,
-                        initialTemperature,
-                        coolingCoefficient,
-                        coolingInterval,
-                        timeLimit);
+                BeeColonyConfig.builder()
+                        .runInfo(runInfo)
+                        .populationSize(populationSize)
+                        .initialTemperature(initialTemperature)
+                        .coolingCoefficient(coolingCoefficient)
+                        .coolingInterval(coolingInterval)
+                        .timeLimitSeconds(timeLimit)
+                        .budget(new Budget(0, 0, maxGenerations, targetRevenue))
+                        .earlyStop(earlyStop)
+                        .threads(threads)
+                        .moveSelector(new MoveSelectorConfig(moveSelection, minMoveProbability))
+                        .hybrid(
+                                new HybridConfig(
+                                        graspSeeding, polishInterval, buildVndConfig(problem)))
+                        .build();
 
         var outputDir = config.outputPath(outputPath);
         redirectConsoleOutput(outputDir);
@@ -140,13 +251,35 @@ public class BeeColonyMain implements Runnable {
     private void logConfiguration() {
         log.info("Instance: {}", instancePath);
         log.info("Output: {}", outputPath);
-        log.info("Time limit: {}s | Seed: {}", timeLimit, seed);
+        log.info("Time limit: {}s | Seed: {} | Threads: {}", timeLimit, seed, threads);
         log.info(
                 "Population: {} | Temperature: {} | Cooling: {} (every {} generations)",
                 populationSize,
                 initialTemperature,
                 coolingCoefficient,
                 coolingInterval);
+        log.info("Budget: generations={}, target={}", maxGenerations, targetRevenue);
+        log.info(
+                "Early stop: stall={}s, stallIterations={}, window={}s, minImprovement={}",
+                stallSeconds,
+                stallIterations,
+                improvementWindow,
+                minImprovement);
+        log.info("Move selection: {} (min={})", moveSelection, minMoveProbability);
+        log.info(
+                "Hybrid: graspSeeding={}, polishInterval={}, vndMoves={}",
+                graspSeeding,
+                polishInterval,
+                vndMoves);
+    }
+
+    // First-improving VND over vndMoves in a fixed order, for GRASP seeding and
+    // polishing.
+    private VNDConfig buildVndConfig(Problem problem) {
+        List<Neighborhood> neighborhoods =
+                vndMoves.stream().map(type -> type.create(problem)).toList();
+        return new VNDConfig(
+                new FirstImprovingStrategy(), neighborhoods, new SequentialSelector(), 0.0);
     }
 
     private static class DelegatingOutputStream extends OutputStream {
@@ -19,21 +19,29 @@ import scheduling.mapping.ProblemDTOReader;
 import scheduling.mapping.SolutionDTOWriter;
 import scheduling.model.Problem;
 import scheduling.model.ProblemBuilder;
+import scheduling.solver.Budget;
+import scheduling.solver.EarlyStopConfig;
 import scheduling.solver.FeasibilityCheck;
 import scheduling.solver.RunInfo;
+import scheduling.solver.SolverSolution;
 import scheduling.solver.heuristic.HeuristicSolver;
+import scheduling.solver.heuristic.grasp.DeterministicGraspAlgorithm;
+import scheduling.solver.heuristic.grasp.EpochConfig;
+import scheduling.solver.heuristic.grasp.GraspAlgorithm;
 import scheduling.solver.heuristic.grasp.GraspConfig;
+import scheduling.solver.heuristic.grasp.LearningMode;
 import scheduling.solver.heuristic.grasp.MultiThreadGraspAlgorithm;
 import scheduling.solver.heuristic.grasp.SingleThreadGraspAlgorithm;
+import scheduling.solver.heuristic.grasp.distributed.GraspCoordinator;
+import scheduling.solver.heuristic.grasp.distributed.WorkerNode;
+import scheduling.solver.heuristic.grasp.elitepool.ElitePoolConfig;
+import scheduling.solver.heuristic.grasp.elitepool.ReplacementPolicy;
+import scheduling.solver.heuristic.grasp.island.IslandConfig;
+import scheduling.solver.heuristic.grasp.island.MigrationTopology;
+import scheduling.solver.heuristic.grasp.pathrelinking.PathRelinkingConfig;
 import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
-import scheduling.solver.heuristic.grasp.vnd.neighborhood.InsertNeighborhood;
-import scheduling.solver.heuristic.grasp.vnd.neighborhood.InterSwapNeighborhood;
-import scheduling.solver.heuristic.grasp.vnd.neighborhood.IntraSwapNeighborhood;
 import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
 import scheduling.solver.heuristic.grasp.vnd.neighborhood.NeighborhoodType;
-import scheduling.solver.heuristic.grasp.vnd.neighborhood.OutOfPoolSwapNeighborhood;
-import scheduling.solver.heuristic.grasp.vnd.neighborhood.ShiftNeighborhood;
-import scheduling.solver.heuristic.grasp.vnd.neighborhood.TransferNeighborhood;
 import scheduling.solver.heuristic.grasp.vnd.selector.AdaptiveSelector;
 import scheduling.solver.heuristic.grasp.vnd.selector.NeighborhoodSelector;
 import scheduling.solver.heuristic.grasp.vnd.selector.SequentialSelector;
@@ -50,6 +58,9 @@ public class GraspMain implements Runnable {
 
     private static final Logger log = LoggerFactory.getLogger(GraspMain.class);
 
+    // --threads value for "auto".
+    private static final int AUTO_THREADS = 0;
+
     @Option(
             names = {"-i", "--instance"},
             required = true,
@@ -83,7 +94,10 @@ public class GraspMain implements Runnable {
     @Option(
             names = {"--threads"},
             defaultValue = "1",
-            description = "Number of threads, 1=single-thread (default: ${DEFAULT-VALUE})")
+            converter = ThreadCountConverter.class,
+            description =
+                    "Number of threads, 1=single-thread, auto=calibrate from measured"
+                            + " throughput (default: ${DEFAULT-VALUE})")
     private int threads;
 
     @Option(
@@ -92,6 +106,149 @@ public class GraspMain implements Runnable {
             description = "Elite pool size for path relinking (default: ${DEFAULT-VALUE})")
     private int elitePoolSize;
 
+    @Option(
+            names = {"--elitePoolPolicy"},
+            defaultValue = "WORST",
+            description = "WORST or DIVERSITY elite replacement (default: ${DEFAULT-VALUE})")
+    private ReplacementPolicy elitePoolPolicy;
+
+    @Option(
+            names = {"--eliteMinDistance"},
+            defaultValue = "1",
+            description = "Min distance to enter a DIVERSITY pool (default: ${DEFAULT-VALUE})")
+    private int eliteMinDistance;
+
+    @Option(
+            names = {"--eliteCompact"},
+            defaultValue = "false",
+            description = "Store elite solutions in compact form (default: ${DEFAULT-VALUE})")
+    private boolean eliteCompact;
+
+    @Option(
+            names = {"--islands"},
+            defaultValue = "0",
+            description = "Islands with private elite pools, 0 = none (default: ${DEFAULT-VALUE})")
+    private int islands;
+
+    @Option(
+            names = {"--migrationInterval"},
+            defaultValue = "100",
+            description = "Island iterations between migrations (default: ${DEFAULT-VALUE})")
+    private int migrationInterval;
+
+    @Option(
+            names = {"--migrationSize"},
+            defaultValue = "1",
+            description = "Best elite members sent per migration (default: ${DEFAULT-VALUE})")
+    private int migrationSize;
+
+    @Option(
+            names = {"--migrationTopology"},
+            defaultValue = "RING",
+            description = "RING or RANDOM migration topology (default: ${DEFAULT-VALUE})")
+    private MigrationTopology migrationTopology;
+
+    @Option(
+            names = {"--learning"},
+            defaultValue = "PER_THREAD",
+            description =
+                    "PER_THREAD or SHARED alpha and selector learning across threads"
+                            + " (default: ${DEFAULT-VALUE})")
+    private LearningMode learning;
+
+    @Option(
+            names = {"--epochs"},
+            defaultValue = "0",
+            description =
+                    "Deterministic epochs replacing the time limit, 0 = free-running"
+                            + " (default: ${DEFAULT-VALUE})")
+    private int epochs;
+
+    @Option(
+            names = {"--epochIterations"},
+            defaultValue = "10",
+            description = "Iterations per worker and epoch (default: ${DEFAULT-VALUE})")
+    private int epochIterations;
+
+    @Option(
+            names = {"--maxIterations"},
+            defaultValue = "0",
+            description =
+                    "Stop after this many GRASP iterations, 0 = no limit"
+                            + " (default: ${DEFAULT-VALUE})")
+    private long maxIterations;
+
+    @Option(
+            names = {"--maxEvaluations"},
+            defaultValue = "0",
+            description =
+                    "Stop after this many VND candidate evaluations, 0 = no limit"
+                            + " (default: ${DEFAULT-VALUE})")
+    private long maxEvaluations;
+
+    @Option(
+            names = {"--targetRevenue"},
+            defaultValue = "0",
+            description =
+                    "Stop once the best revenue reaches this value, 0 = no target"
+                            + " (default: ${DEFAULT-VALUE})")
+    private double targetRevenue;
+
+    @Option(
+            names = {"--stallSeconds"},
+            defaultValue = "0",
+            description =
+                    "Stop after this many seconds without improvement, 0 = off"
+                            + " (default: ${DEFAULT-VALUE})")
+    private double stallSeconds;
+
+    @Option(
+            names = {"--stallIterations"},
+            defaultValue = "0",
+            description =
+                    "Stop after this many iterations without improvement, 0 = off"
+                            + " (default: ${DEFAULT-VALUE})")
+    private long stallIterations;
+
+    @Option(
+            names = {"--improvementWindow"},
+            defaultValue = "0",
+            description =
+                    "Window in seconds for --minImprovement, 0 = off (default: ${DEFAULT-VALUE})")
+    private double improvementWindow;
+
+    @Option(
+            names = {"--minImprovement"},
+            defaultValue = "0",
+            description =
+                    "Stop when the best revenue improved by less than this fraction over"
+                            + " --improvementWindow (default: ${DEFAULT-VALUE})")
+    private double minImprovement;
+
+    @Option(
+            names = {"--role"},
+            defaultValue = "STANDALONE",
+            description = "STANDALONE, COORDINATOR or WORKER (default: ${DEFAULT-VALUE})")
+    private Role role;
+
+    @Option(
+            names = {"--port"},
+            defaultValue = "7070",
+            description = "Coordinator listening port, 0 = any (default: ${DEFAULT-VALUE})")
+    private int port;
+
+    @Option(
+            names = {"--workers"},
+            defaultValue = "1",
+            description = "Worker processes the coordinator waits for (default: ${DEFAULT-VALUE})")
+    private int workers;
+
+    @Option(
+            names = {"--coordinator"},
+            defaultValue = "localhost:7070",
+            description = "Coordinator address for workers, host:port (default: ${DEFAULT-VALUE})")
+    private String coordinatorAddress;
+
     @Option(
             names = {"-m", "--moves"},
             defaultValue = "INSERT,INTER_SWAP,INTRA_SWAP,OUT_OF_POOL_SWAP,SHIFT,TRANSFER",
@@ -135,11 +292,57 @@ public class GraspMain implements Runnable {
             description = "Alpha upper bound (default: ${DEFAULT-VALUE})")
     private double alphaUpper;
 
+    @Option(
+            names = {"--prMaxSteps"},
+            defaultValue = "0",
+            description = "Max path relinking steps, 0=unlimited (default: ${DEFAULT-VALUE})")
+    private int prMaxSteps;
+
+    @Option(
+            names = {"--prTimeBudgetMs"},
+            defaultValue = "0",
+            description = "Relinking time budget in ms, 0=unlimited (default: ${DEFAULT-VALUE})")
+    private long prTimeBudgetMs;
+
+    @Option(
+            names = {"--prFraction"},
+            defaultValue = "0.5",
+            description =
+                    "Fraction of the path explored from each endpoint, 0.5=full (default:"
+                            + " ${DEFAULT-VALUE})")
+    private double prFraction;
+
+    @Option(
+            names = {"--prAdaptive"},
+            defaultValue = "false",
+            description = "Relink adaptively by gain per ms (default: ${DEFAULT-VALUE})")
+    private boolean prAdaptive;
+
+    @Option(
+            names = {"--prMinProbability"},
+            defaultValue = "0.1",
+            description = "Min relinking probability when adaptive (default: ${DEFAULT-VALUE})")
+    private double prMinProbability;
+
+    @Option(
+            names = {"--prEvolutionaryFraction"},
+            defaultValue = "0.0",
+            description =
+                    "Share of the time limit reserved for evolutionary relinking of the elite"
+                            + " pool, 0=off (default: ${DEFAULT-VALUE})")
+    private double prEvolutionaryFraction;
+
     enum SearchMode {
         FIRST_IMPROVING,
         BEST_IMPROVING,
     }
 
+    enum Role {
+        STANDALONE,
+        COORDINATOR,
+        WORKER,
+    }
+
     enum SelectorType {
         SEQUENTIAL,
         SHUFFLED,
@@ -169,30 +372,52 @@ public class GraspMain implements Runnable {
         var fileName = Objects.requireNonNull(instancePath.getFileName());
         var instanceName = fileName.toString().replaceFirst("\\.[^.]+$", "");
         var runInfo = new RunInfo(instanceName, seed);
+        var prConfig =
+                new PathRelinkingConfig(
+                        prMaxSteps,
+                        prTimeBudgetMs,
+                        prFraction,
+                        prAdaptive,
+                        prMinProbability,
+                        prEvolutionaryFraction);
+        var elitePoolConfig = new ElitePoolConfig(elitePoolPolicy, eliteMinDistance, eliteCompact);
+        var islandConfig =
+                new IslandConfig(islands, migrationInterval, migrationSize, migrationTopology);
+        var budget = new Budget(maxIterations, maxEvaluations, 0, targetRevenue);
+        var earlyStop =
+                new EarlyStopConfig(
+                        stallSeconds, stallIterations, improvementWindow, minImprovement);
         var config =
-                new GraspConfig(
-                        runInfo,
-                        timeLimit,
-                        elitePoolSize,
-                        vndConfig,
-                        alphaLower,
-                        alphaUpper,
-                        updateEveryNIter);
-
-        var outputDir = config.outputPath(outputPath);
+                GraspConfig.builder()
+                        .runInfo(runInfo)
+                        .timeLimitSeconds(timeLimit)
+                        .elitePoolSize(elitePoolSize)
+                        .vndConfig(vndConfig)
+                        .lowerBound(alphaLower)
+                        .upperBound(alphaUpper)
+                        .updateInterval(updateEveryNIter)
+                        .pathRelinkingConfig(prConfig)
+                        .elitePoolConfig(elitePoolConfig)
+                        .islandConfig(islandConfig)
+                        .learningMode(learning)
+                        .budget(budget)
+                        .earlyStopConfig(earlyStop)
+                        .epochConfig(new EpochConfig(epochs, epochIterations))
+                        .build();
+
+        var outputDir = roleOutputDir(config.outputPath(outputPath));
         redirectConsoleOutput(outputDir);
 
         logConfiguration();
         log.info("Config: {}", config.stringDesc());
 
-        var random = new Random(seed);
-        var algorithm =
-                threads == 1
-                        ? new SingleThreadGraspAlgorithm(config, random)
-                        : new MultiThreadGraspAlgorithm(config, random, threads);
-
-        var solver = new HeuristicSolver<>(algorithm);
-        var result = solver.solve(problem);
+        SolverSolution<?> result =
+                switch (role) {
+                    case STANDALONE -> new HeuristicSolver<>(buildAlgorithm(config)).solve(problem);
+                    case COORDINATOR ->
+                            new GraspCoordinator(problem, port, workers, timeLimit, seed).run();
+                    case WORKER -> buildWorkerNode(problem, config).run();
+                };
 
         FeasibilityCheck.check(problem, result.getBestSolution());
 
@@ -202,6 +427,59 @@ public class GraspMain implements Runnable {
         System.out.println("Best revenue: " + result.getBestSolution().getTotalRevenue());
     }
 
+    private GraspAlgorithm buildAlgorithm(GraspConfig config) {
+        var random = new Random(seed);
+        if (config.getEpochConfig().isEnabled()) {
+            if (threads == AUTO_THREADS) {
+                throw new CommandLine.ParameterException(
+                        new CommandLine(this), "--threads auto cannot be used with --epochs");
+            }
+            return new DeterministicGraspAlgorithm(config, random, threads);
+        }
+        if (threads == 1) {
+            return new SingleThreadGraspAlgorithm(config, random);
+        }
+        return buildMultiThreadAlgorithm(config, random);
+    }
+
+    private MultiThreadGraspAlgorithm buildMultiThreadAlgorithm(GraspConfig config, Random random) {
+        if (threads == AUTO_THREADS && islands > 1) {
+            throw new CommandLine.ParameterException(
+                    new CommandLine(this), "--threads auto cannot be used with --islands");
+        }
+        return threads == AUTO_THREADS
+                ? MultiThreadGraspAlgorithm.withAutoThreads(config, random)
+                : new MultiThreadGraspAlgorithm(config, random, threads);
+    }
+
+    // Workers take their seed from the coordinator so that each explores differently.
+    private WorkerNode buildWorkerNode(Problem problem, GraspConfig config) {
+        var separator = coordinatorAddress.lastIndexOf(':');
+        if (separator < 0) {
+            throw new CommandLine.ParameterException(
+                    new CommandLine(this), "--coordinator must be host:port");
+        }
+        var host = coordinatorAddress.substring(0, separator);
+        var coordinatorPort = Integer.parseInt(coordinatorAddress.substring(separator + 1));
+        return new WorkerNode(
+                problem,
+                nodeSeed -> buildMultiThreadAlgorithm(config, new Random(nodeSeed)),
+                host,
+                coordinatorPort);
+    }
+
+    // The config hash does not depend on the role, so a coordinator and its workers
+    // started with the same settings on one host would share a directory. Each
+    // distributed node writes below its own: the coordinator by port, workers by
+    // process id since their seed only arrives from the coordinator.
+    private Path roleOutputDir(Path configDir) {
+        return switch (role) {
+            case STANDALONE -> configDir;
+            case COORDINATOR -> configDir.resolve("coordinator-" + port);
+            case WORKER -> configDir.resolve("worker-" + ProcessHandle.current().pid());
+        };
+    }
+
     private static void redirectConsoleOutput(Path outputDir) {
         try {
             Files.createDirectories(outputDir);
@@ -216,11 +494,56 @@ public class GraspMain implements Runnable {
     private void logConfiguration() {
         log.info("Instance: {}", instancePath);
         log.info("Output: {}", outputPath);
-        log.info("Time limit: {}s | Seed: {} | Threads: {}", timeLimit, seed, threads);
-        log.info("Search mode: {} | Selector: {}", searchMode, selectorType);
+        log.info(
+                "Time limit: {}s | Seed: {} | Threads: {}",
+                timeLimit,
+                seed,
+                threads == AUTO_THREADS ? "auto" : threads);
+        if (role == Role.COORDINATOR) {
+            log.info("Role: {} | Port: {} | Workers: {}", role, port, workers);
+        } else if (role == Role.WORKER) {
+            log.info("Role: {} | Coordinator: {}", role, coordinatorAddress);
+        }
+        log.info(
+                "Search mode: {} | Selector: {} | Learning: {}",
+                searchMode,
+                selectorType,
+                learning);
         log.info("Moves: {}", moves);
         log.info("Elite pool size: {} | Skip probability: {}", elitePoolSize, skipProbability);
+        log.info(
+                "Elite pool policy: {} | Min distance: {} | Compact: {}",
+                elitePoolPolicy,
+                eliteMinDistance,
+                eliteCompact);
+        log.info(
+                "Islands: {} | Migration interval: {} | Migration size: {} | Topology: {}",
+                islands,
+                migrationInterval,
+                migrationSize,
+                migrationTopology);
+        if (epochs > 0) {
+            log.info("Deterministic: epochs={}, iterationsPerEpoch={}", epochs, epochIterations);
+        }
+        log.info(
+                "Budget: iterations={}, evaluations={}, target={}",
+                maxIterations,
+                maxEvaluations,
+                targetRevenue);
+        log.info(
+                "Early stop: stall={}s, stallIterations={}, window={}s, minImprovement={}",
+                stallSeconds,
+                stallIterations,
+                improvementWindow,
+                minImprovement);
         log.info("Alpha: [{}, {}]", alphaLower, alphaUpper);
+        log.info(
+                "Path relinking: maxSteps={}, budget={}ms, fraction={}, adaptive={}, evo={}",
+                prMaxSteps,
+                prTimeBudgetMs,
+                prFraction,
+                prAdaptive,
+                prEvolutionaryFraction);
         if (selectorType == SelectorType.ADAPTIVE) {
             log.info(
                     "Adaptive: minMoveProbability={}, updateEveryNIter={}",
@@ -230,18 +553,7 @@ public class GraspMain implements Runnable {
     }
 
     private List<Neighborhood> buildNeighborhoods(Problem problem) {
-        return moves.stream().map(type -> buildNeighborhood(type, problem)).toList();
-    }
-
-    private Neighborhood buildNeighborhood(NeighborhoodType type, Problem problem) {
-        return switch (type) {
-            case INSERT -> new InsertNeighborhood(problem);
-            case INTER_SWAP -> new InterSwapNeighborhood(problem);
-            case INTRA_SWAP -> new IntraSwapNeighborhood(problem);
-            case OUT_OF_POOL_SWAP -> new OutOfPoolSwapNeighborhood(problem);
-            case SHIFT -> new ShiftNeighborhood(problem);
-            case TRANSFER -> new TransferNeighborhood(problem);
-        };
+        return moves.stream().map(type -> type.create(problem)).toList();
     }
 
     private NeighborhoodSelector buildSelector(List<Neighborhood> neighborhoods) {
@@ -259,6 +571,20 @@ public class GraspMain implements Runnable {
         };
     }
 
+    static class ThreadCountConverter implements CommandLine.ITypeConverter<Integer> {
+        @Override
+        public Integer convert(String value) {
+            if (value.equalsIgnoreCase("auto")) {
+                return AUTO_THREADS;
+            }
+            var count = Integer.parseInt(value);
+            if (count < 1) {
+                throw new CommandLine.TypeConversionException("must be positive or auto");
+            }
+            return count;
+        }
+    }
+
     private static class DelegatingOutputStream extends OutputStream {
         private volatile OutputStream delegate;
 
@@ -39,7 +39,16 @@ public class Main {
                         neighborhoods,
                         new AdaptiveSelector(0.05, neighborhoods),
                         0.0);
-        var config = new GraspConfig(new RunInfo("1", 42), 60, 10, vndConfig, 0.5, 2.0, 100);
+        var config =
+                GraspConfig.builder()
+                        .runInfo(new RunInfo("1", 42))
+                        .timeLimitSeconds(60)
+                        .elitePoolSize(10)
+                        .vndConfig(vndConfig)
+                        .lowerBound(0.5)
+                        .upperBound(2.0)
+                        .updateInterval(100)
+                        .build();
         var algorithm = new MultiThreadGraspAlgorithm(config, random);
 
         var result = algorithm.run(problem);
@@ -16,9 +16,12 @@ import picocli.CommandLine.Option;
 import scheduling.mapping.ProblemDTOReader;
 import scheduling.mapping.SolutionDTOWriter;
 import scheduling.model.ProblemBuilder;
+import scheduling.solver.EarlyStopConfig;
 import scheduling.solver.FeasibilityCheck;
 import scheduling.solver.mip.MipConfig;
+import scheduling.solver.mip.MipFormulation;
 import scheduling.solver.mip.MipSolver;
+import scheduling.solver.mip.ModelBuildStatistics;
 import scheduling.solver.mip.model.ContinuousTimeModel;
 
 @Command(
@@ -47,6 +50,68 @@ public class MipMain implements Runnable {
             description = "Gurobi time limit in seconds")
     private int timeLimit;
 
+    @Option(
+            names = {"--targetRevenue"},
+            defaultValue = "0",
+            description =
+                    "Stop once an incumbent reaches this revenue, 0 = no target"
+                            + " (default: ${DEFAULT-VALUE})")
+    private double targetRevenue;
+
+    @Option(
+            names = {"--workLimit"},
+            defaultValue = "0",
+            description =
+                    "Gurobi work unit limit, a machine-independent alternative to the time"
+                            + " limit, 0 = no limit (default: ${DEFAULT-VALUE})")
+    private double workLimit;
+
+    @Option(
+            names = {"--stallSeconds"},
+            defaultValue = "0",
+            description =
+                    "Stop after this many seconds without improvement, 0 = off"
+                            + " (default: ${DEFAULT-VALUE})")
+    private double stallSeconds;
+
+    @Option(
+            names = {"--stallIterations"},
+            defaultValue = "0",
+            description =
+                    "Stop after this many branch-and-bound nodes without improvement, 0 = off"
+                            + " (default: ${DEFAULT-VALUE})")
+    private long stallIterations;
+
+    @Option(
+            names = {"--improvementWindow"},
+            defaultValue = "0",
+            description =
+                    "Window in seconds for --minImprovement, 0 = off (default: ${DEFAULT-VALUE})")
+    private double improvementWindow;
+
+    @Option(
+            names = {"--minImprovement"},
+            defaultValue = "0",
+            description =
+                    "Stop when the best revenue improved by less than this fraction over"
+                            + " --improvementWindow (default: ${DEFAULT-VALUE})")
+    private double minImprovement;
+
+    @Option(
+            names = {"--modelNames"},
+            description =
+                    "Name Gurobi variables and constraints, for debugging or LP export"
+                            + " (slower to build)")
+    private boolean modelNames;
+
+    @Option(
+            names = {"--formulation"},
+            defaultValue = "DIRECT",
+            description =
+                    "DIRECT sums earlier slots in every start-time row, CUMULATIVE links them"
+                            + " through cumulative-duration variables (default: ${DEFAULT-VALUE})")
+    private MipFormulation formulation;
+
     private static final DelegatingOutputStream outDelegate =
             new DelegatingOutputStream(System.out);
     private static final DelegatingOutputStream errDelegate =
@@ -65,7 +130,19 @@ public class MipMain implements Runnable {
 
         var fileName = Objects.requireNonNull(instancePath.getFileName());
         var instanceName = fileName.toString().replaceFirst("\\.[^.]+$", "");
-        var config = new MipConfig(instanceName, timeLimit);
+        var earlyStop =
+                new EarlyStopConfig(
+                        stallSeconds, stallIterations, improvementWindow, minImprovement);
+        var config =
+                MipConfig.builder()
+                        .instanceName(instanceName)
+                        .timeLimitSeconds(timeLimit)
+                        .targetRevenue(targetRevenue)
+                        .workLimit(workLimit)
+                        .earlyStop(earlyStop)
+                        .modelNames(modelNames)
+                        .formulation(formulation)
+                        .build();
 
         var outputDir = config.outputPath(outputPath);
         redirectConsoleOutput(outputDir);
@@ -82,6 +159,9 @@ public class MipMain implements Runnable {
         var solutionPath = outputDir.resolve("solution.json");
         SolutionDTOWriter.write(result, solutionPath);
 
+        var info = result.getAdditionalInformation();
+        logBuildStatistics(info.buildStatistics());
+        log.info("Solve time: {}s ({})", info.runtimeSeconds(), info.status());
         System.out.println("Best revenue: " + result.getBestSolution().getTotalRevenue());
     }
 
@@ -100,6 +180,31 @@ public class MipMain implements Runnable {
         log.info("Instance: {}", instancePath);
         log.info("Output: {}", outputPath);
         log.info("Time limit: {}s", timeLimit);
+        log.info("Target revenue: {} | Work limit: {}", targetRevenue, workLimit);
+        log.info("Formulation: {}", formulation);
+        log.info(
+                "Early stop: stall={}s, stallIterations={}, window={}s, minImprovement={}",
+                stallSeconds,
+                stallIterations,
+                improvementWindow,
+                minImprovement);
+    }
+
+    private static void logBuildStatistics(ModelBuildStatistics statistics) {
+        for (var entry : statistics.getFamilies().entrySet()) {
+            var family = entry.getValue();
+            log.info(
+                    "Build {}: {} rows in {} ms",
+                    entry.getKey(),
+                    family.rows(),
+                    family.timeNanos() / 1_000_000);
+        }
+        log.info(
+                "Model build: {} ms, {} vars, {} constraints, {} nonzeros",
+                statistics.getTotalTimeNanos() / 1_000_000,
+                statistics.getNumVars(),
+                statistics.getNumConstrs(),
+                statistics.getNumNonZeros());
     }
 
     private static class DelegatingOutputStream extends OutputStream {
@@ -16,7 +16,9 @@ import picocli.CommandLine.Option;
 import scheduling.mapping.ProblemDTOReader;
 import scheduling.mapping.SolutionDTOWriter;
 import scheduling.model.ProblemBuilder;
+import scheduling.solver.EarlyStopConfig;
 import scheduling.solver.FeasibilityCheck;
+import scheduling.solver.mip.ModelBuildStatistics;
 import scheduling.solver.mip.RelaxedMIPConfig;
 import scheduling.solver.mip.RelaxedMIPReturnMode;
 import scheduling.solver.mip.RelaxedMIPSolver;
@@ -48,6 +50,44 @@ public class RelaxedMIPMain implements Runnable {
             description = "BEST, AVERAGE, or WORST break return coefficient")
     private RelaxedMIPReturnMode returnMode;
 
+    @Option(
+            names = {"--stallSeconds"},
+            defaultValue = "0",
+            description =
+                    "Stop after this many seconds without improvement, 0 = off"
+                            + " (default: ${DEFAULT-VALUE})")
+    private double stallSeconds;
+
+    @Option(
+            names = {"--stallIterations"},
+            defaultValue = "0",
+            description =
+                    "Stop after this many branch-and-bound nodes without improvement, 0 = off"
+                            + " (default: ${DEFAULT-VALUE})")
+    private long stallIterations;
+
+    @Option(
+            names = {"--improvementWindow"},
+            defaultValue = "0",
+            description =
+                    "Window in seconds for --minImprovement, 0 = off (default: ${DEFAULT-VALUE})")
+    private double improvementWindow;
+
+    @Option(
+            names = {"--minImprovement"},
+            defaultValue = "0",
+            description =
+                    "Stop when the best revenue improved by less than this fraction over"
+                            + " --improvementWindow (default: ${DEFAULT-VALUE})")
+    private double minImprovement;
+
+    @Option(
+            names = {"--modelNames"},
+            description =
+                    "Name Gurobi variables and constraints, for debugging or LP export"
+                            + " (slower to build)")
+    private boolean modelNames;
+
     private static final DelegatingOutputStream outDelegate =
             new DelegatingOutputStream(System.out);
     private static final DelegatingOutputStream errDelegate =
@@ -66,7 +106,16 @@ public class RelaxedMIPMain implements Runnable {
 
         var fileName = Objects.requireNonNull(instancePath.getFileName());
         var instanceName = fileName.toString().replaceFirst("\\.[^.]+$", "");
-        var config = new RelaxedMIPConfig(instanceName, returnMode);
+        var earlyStop =
+                new EarlyStopConfig(
+                        stallSeconds, stallIterations, improvementWindow, minImprovement);
+        var config =
+                new RelaxedMIPConfig(
+                        instanceName,
+                        returnMode,
+                        RelaxedMIPConfig.DEFAULT_MIP_GAP,
+                        earlyStop,
+                        modelNames);
 
         var outputDir = config.outputPath(outputPath);
         redirectConsoleOutput(outputDir);
@@ -84,6 +133,7 @@ public class RelaxedMIPMain implements Runnable {
         SolutionDTOWriter.write(result, solutionPath);
 
         var info = result.getAdditionalInformation();
+        logBuildStatistics(info.buildStatistics());
         System.out.println("Best revenue: " + result.getBestSolution().getTotalRevenue());
         System.out.println("Relaxed upper bound: " + info.relaxedUpperBound());
     }
@@ -104,6 +154,29 @@ public class RelaxedMIPMain implements Runnable {
         log.info("Output: {}", outputPath);
         log.info("MIP gap: {}", RelaxedMIPConfig.DEFAULT_MIP_GAP);
         log.info("Return mode: {}", returnMode);
+        log.info(
+                "Early stop: stall={}s, stallIterations={}, window={}s, minImprovement={}",
+                stallSeconds,
+                stallIterations,
+                improvementWindow,
+                minImprovement);
+    }
+
+    private static void logBuildStatistics(ModelBuildStatistics statistics) {
+        for (var entry : statistics.getFamilies().entrySet()) {
+            var family = entry.getValue();
+            log.info(
+                    "Build {}: {} rows in {} ms",
+                    entry.getKey(),
+                    family.rows(),
+                    family.timeNanos() / 1_000_000);
+        }
+        log.info(
+                "Model build: {} ms, {} vars, {} constraints, {} nonzeros",
+                statistics.getTotalTimeNanos() / 1_000_000,
+                statistics.getNumVars(),
+                statistics.getNumConstrs(),
+                statistics.getNumNonZeros());
     }
 
     private static class DelegatingOutputStream extends OutputStream {
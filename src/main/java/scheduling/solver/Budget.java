@@ -0,0 +1,64 @@
+package scheduling.solver;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.ArrayList;
+
+// Machine-independent stopping criteria that complement the wall-clock time limit.
+// A value of 0 disables the criterion; a run stops at whichever limit it reaches
+// first.
+//
+// - iterations: GRASP iterations (construction + local search + relinking)
+// - evaluations: VND candidate moves evaluated
+// - generations: bee colony generations
+// - targetObjective: stop once the best solution reaches this revenue
+public record Budget(long iterations, long evaluations, long generations, double targetObjective) {
+
+    public static final Budget NONE = new Budget(0, 0, 0, 0.0);
+
+    public Budget {
+        checkArgument(iterations >= 0, "iterations must be non-negative");
+        checkArgument(evaluations >= 0, "evaluations must be non-negative");
+        checkArgument(generations >= 0, "generations must be non-negative");
+        checkArgument(targetObjective >= 0, "targetObjective must be non-negative");
+    }
+
+    @JsonIgnore
+    public boolean isLimited() {
+        return iterations > 0 || evaluations > 0 || generations > 0 || targetObjective > 0;
+    }
+
+    public boolean iterationsExhausted(long completed) {
+        return iterations > 0 && completed >= iterations;
+    }
+
+    public boolean evaluationsExhausted(long completed) {
+        return evaluations > 0 && completed >= evaluations;
+    }
+
+    public boolean generationsExhausted(long completed) {
+        return generations > 0 && completed >= generations;
+    }
+
+    public boolean targetReached(double objective) {
+        return targetObjective > 0 && objective >= targetObjective;
+    }
+
+    public String stringDesc() {
+        var parts = new ArrayList<String>();
+        if (iterations > 0) {
+            parts.add("iter=" + iterations);
+        }
+        if (evaluations > 0) {
+            parts.add("evals=" + evaluations);
+        }
+        if (generations > 0) {
+            parts.add("gen=" + generations);
+        }
+        if (targetObjective > 0) {
+            parts.add("target=" + targetObjective);
+        }
+        return "BUDGET[" + String.join(", ", parts) + "]";
+    }
+}
@@ -0,0 +1,57 @@
+package scheduling.solver;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.ArrayList;
+
+// Early termination once the best objective stops moving. 0 disables a criterion.
+//
+// - stagnationSeconds: no improvement for this many seconds
+// - stagnationIterations: no improvement for this many iterations (GRASP
+//   iterations, bee colony generations or MIP branch-and-bound nodes)
+// - windowSeconds / minRelativeImprovement: the best objective improved by less
+//   than this fraction over the last windowSeconds
+public record EarlyStopConfig(
+        double stagnationSeconds,
+        long stagnationIterations,
+        double windowSeconds,
+        double minRelativeImprovement) {
+
+    public static final EarlyStopConfig NONE = new EarlyStopConfig(0.0, 0, 0.0, 0.0);
+
+    public EarlyStopConfig {
+        checkArgument(stagnationSeconds >= 0, "stagnationSeconds must be non-negative");
+        checkArgument(stagnationIterations >= 0, "stagnationIterations must be non-negative");
+        checkArgument(windowSeconds >= 0, "windowSeconds must be non-negative");
+        checkArgument(minRelativeImprovement >= 0, "minRelativeImprovement must be non-negative");
+        checkArgument(
+                (windowSeconds > 0) == (minRelativeImprovement > 0),
+                "windowSeconds and minRelativeImprovement must be set together");
+    }
+
+    @JsonIgnore
+    public boolean isEnabled() {
+        return stagnationSeconds > 0 || stagnationIterations > 0 || windowSeconds > 0;
+    }
+
+    // Whether a criterion depends on measured time rather than on counts.
+    @JsonIgnore
+    public boolean isTimeBased() {
+        return stagnationSeconds > 0 || windowSeconds > 0;
+    }
+
+    public String stringDesc() {
+        var parts = new ArrayList<String>();
+        if (stagnationSeconds > 0) {
+            parts.add("stall=" + stagnationSeconds + "s");
+        }
+        if (stagnationIterations > 0) {
+            parts.add("stallIter=" + stagnationIterations);
+        }
+        if (windowSeconds > 0) {
+            parts.add("rate<" + minRelativeImprovement + "/" + windowSeconds + "s");
+        }
+        return "STOP[" + String.join(", ", parts) + "]";
+    }
+}
@@ -0,0 +1,68 @@
+package scheduling.solver;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+// Tracks improvements of the best objective during a run and decides when an
+// EarlyStopConfig criterion is met. Thread-safe: parallel workers report their
+// improvements and check the criteria on the same monitor.
+//
+// The history keeps the improvements inside the rate window plus the last one
+// before it, which is the best objective at the start of the window.
+public final class EarlyStopMonitor {
+
+    private final EarlyStopConfig config;
+    private final Deque<CheckPoint> history = new ArrayDeque<>();
+    private double bestObjective;
+    private double lastImprovementSeconds;
+    private long lastImprovementIteration;
+
+    public EarlyStopMonitor(EarlyStopConfig config, double initialObjective) {
+        this.config = config;
+        this.bestObjective = initialObjective;
+        history.addLast(new CheckPoint(initialObjective, 0.0));
+    }
+
+    public synchronized void observe(double objective, double timeSeconds, long iteration) {
+        if (objective <= bestObjective) {
+            return;
+        }
+        bestObjective = objective;
+        lastImprovementSeconds = timeSeconds;
+        lastImprovementIteration = iteration;
+        if (config.windowSeconds() > 0) {
+            history.addLast(new CheckPoint(objective, timeSeconds));
+        }
+    }
+
+    public synchronized Optional<StopReason> check(double elapsedSeconds, long iteration) {
+        var stagnationSeconds = config.stagnationSeconds();
+        if (stagnationSeconds > 0 && elapsedSeconds - lastImprovementSeconds >= stagnationSeconds) {
+            return Optional.of(StopReason.STAGNATION);
+        }
+        var stagnationIterations = config.stagnationIterations();
+        if (stagnationIterations > 0
+                && iteration - lastImprovementIteration >= stagnationIterations) {
+            return Optional.of(StopReason.STAGNATION);
+        }
+        if (config.windowSeconds() > 0 && elapsedSeconds >= config.windowSeconds()) {
+            var windowStart = elapsedSeconds - config.windowSeconds();
+            while (history.size() > 1 && secondTime() <= windowStart) {
+                history.removeFirst();
+            }
+            var before = history.getFirst().getObjective();
+            if (before > 0
+                    && (bestObjective - before) / before < config.minRelativeImprovement()) {
+                return Optional.of(StopReason.SLOW_IMPROVEMENT);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private double secondTime() {
+        var iterator = history.iterator();
+        iterator.next();
+        return iterator.next().getTime();
+    }
+}
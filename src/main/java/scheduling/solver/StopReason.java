@@ -0,0 +1,18 @@
+package scheduling.solver;
+
+// Why a run ended; recorded in the result information of every solver.
+public enum StopReason {
+    TIME_LIMIT,
+    ITERATION_BUDGET,
+    EVALUATION_BUDGET,
+    GENERATION_BUDGET,
+    WORK_LIMIT,
+    TARGET_REACHED,
+    // No improvement for the configured number of seconds or iterations.
+    STAGNATION,
+    // Relative improvement over the window fell below the threshold.
+    SLOW_IMPROVEMENT,
+    STOP_REQUESTED,
+    // The solver finished on its own: a fixed epoch count or a proven MIP optimum.
+    COMPLETED,
+}
@@ -0,0 +1,62 @@
+package scheduling.solver.heuristic;
+
+import java.time.Duration;
+
+// Cooperative cancellation token for search phases. A deadline expires when its
+// System.nanoTime instant has passed or the current thread was interrupted.
+//
+// Checking costs one nanoTime call, so tight loops use shouldStop with their own
+// evaluation counter to check only every CHECK_INTERVAL candidates. Instances are
+// immutable and can be shared between threads.
+public final class Deadline {
+
+    public static final int CHECK_INTERVAL = 64;
+
+    // Never expires on time, but still honours interrupts.
+    public static final Deadline NONE = new Deadline(0, false);
+
+    private final long deadlineNanos;
+    private final boolean bounded;
+
+    private Deadline(long deadlineNanos, boolean bounded) {
+        this.deadlineNanos = deadlineNanos;
+        this.bounded = bounded;
+    }
+
+    public static Deadline atNanos(long deadlineNanos) {
+        return new Deadline(deadlineNanos, true);
+    }
+
+    public static Deadline after(Duration duration) {
+        return atNanos(System.nanoTime() + duration.toNanos());
+    }
+
+    public static Deadline afterMillis(long millis) {
+        return after(Duration.ofMillis(millis));
+    }
+
+    public boolean isExpired() {
+        return Thread.currentThread().isInterrupted()
+                || (bounded && System.nanoTime() - deadlineNanos >= 0);
+    }
+
+    // True when evaluations is a multiple of CHECK_INTERVAL and the deadline expired.
+    public boolean shouldStop(long evaluations) {
+        return evaluations % CHECK_INTERVAL == 0 && isExpired();
+    }
+
+    // The earlier of the two deadlines.
+    public Deadline min(Deadline other) {
+        if (!bounded) {
+            return other;
+        }
+        if (!other.bounded) {
+            return this;
+        }
+        return other.deadlineNanos - deadlineNanos < 0 ? other : this;
+    }
+
+    public long remainingNanos() {
+        return bounded ? Math.max(deadlineNanos - System.nanoTime(), 0) : Long.MAX_VALUE;
+    }
+}
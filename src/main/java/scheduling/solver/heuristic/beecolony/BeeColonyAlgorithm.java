@@ -2,55 +2,142 @@ package scheduling.solver.heuristic.beecolony;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 import lombok.RequiredArgsConstructor;
 import scheduling.model.Problem;
 import scheduling.solver.CheckPoint;
+import scheduling.solver.EarlyStopMonitor;
 import scheduling.solver.SolverSolution;
+import scheduling.solver.StopReason;
+import scheduling.solver.heuristic.Deadline;
 import scheduling.solver.heuristic.HeuristicAlgorithm;
+import scheduling.solver.heuristic.beecolony.move.MoveSelectorConfig;
 import scheduling.solver.heuristic.beecolony.move.NeighborhoodFunction;
+import scheduling.solver.heuristic.beecolony.statistics.ColonyStatistics;
+import scheduling.solver.heuristic.beecolony.statistics.GenerationSample;
 import scheduling.solver.heuristic.beecolony.vrp.VrpConverter;
 import scheduling.solver.heuristic.beecolony.vrp.VrpProblem;
 import scheduling.solver.heuristic.grasp.construction.GreedyConstruction;
+import scheduling.solver.heuristic.grasp.vnd.VND;
+import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
 
 @RequiredArgsConstructor
 public class BeeColonyAlgorithm implements HeuristicAlgorithm<BeeColonyInformation> {
 
+    // Generations between population samples; the last generation is always sampled.
+    private static final int SAMPLE_INTERVAL = 10;
+
     private final BeeColonyConfig config;
     private final Random random;
 
     @Override
     public SolverSolution<BeeColonyInformation> run(Problem problem) {
+        var workers = Math.min(config.threads(), config.populationSize());
+        var pool =
+                workers > 1
+                        ? Optional.of(new ForkJoinPool(workers))
+                        : Optional.<ForkJoinPool>empty();
+        try {
+            return run(problem, pool);
+        } finally {
+            pool.ifPresent(ForkJoinPool::close);
+        }
+    }
+
+    private SolverSolution<BeeColonyInformation> run(Problem problem, Optional<ForkJoinPool> pool) {
         var vrpProblem = VrpConverter.convert(problem);
         var evaluator = new FitnessEvaluator(vrpProblem);
-        var neighborhoodFunction = new NeighborhoodFunction();
+        var hybrid = config.hybrid();
+        var polisher = new VND(hybrid.getVnd().withFreshSelector(), random);
+        // Seeding, the bee phases and the generation loop all count the time limit
+        // from here, so the loop stops as soon as the phases stop searching.
+        long startTime = System.currentTimeMillis();
+        var deadline = Deadline.afterMillis(config.timeLimitSeconds() * 1000L);
 
-        var population = initializePopulation(problem, vrpProblem, evaluator);
-        var totalFitness = calculateTotalFitness(population);
+        var initializationStats = new PhaseStatistics();
+        var employedStats = new PhaseStatistics();
+        var onlookerStats = new PhaseStatistics();
+        var polishStats = new PhaseStatistics();
+        var generationSamples = new ArrayList<GenerationSample>();
+
+        var initStart = System.nanoTime();
+        var population = initializePopulation(problem, vrpProblem, evaluator, pool, deadline);
+        initializationStats.record(
+                System.nanoTime() - initStart, findBest(population).getFitness());
+        var hives = partition(population);
         var bestSolution = findBest(population);
         var checkPoints = new ArrayList<CheckPoint>();
-        long startTime = System.currentTimeMillis();
 
         checkPoints.add(createCheckPoint(bestSolution.getFitness(), startTime));
 
         double temperature = config.initialTemperature();
         int generation = 0;
 
-        while (elapsedSeconds(startTime) < config.timeLimitSeconds()) {
-            generation++;
+        var earlyStop = new EarlyStopMonitor(config.earlyStop(), bestSolution.getFitness());
+        StopReason stopReason;
 
-            totalFitness =
-                    employedBeePhase(
-                            population, neighborhoodFunction, evaluator, totalFitness, temperature);
+        while (true) {
+            var stop =
+                    checkStop(
+                            earlyStop,
+                            deadline,
+                            elapsedSeconds(startTime),
+                            generation,
+                            bestSolution.getFitness());
+            if (stop.isPresent()) {
+                stopReason = stop.get();
+                break;
+            }
+            generation++;
 
-            totalFitness =
-                    onlookerBeePhase(
-                            population, neighborhoodFunction, evaluator, totalFitness, temperature);
+            var phaseTemperature = temperature;
+            var phaseStart = System.nanoTime();
+            var bestBefore = findBest(population).getFitness();
+            runPhase(
+                    pool,
+                    hives,
+                    hive ->
+                            employedBeePhase(
+                                    population,
+                                    hive,
+                                    evaluator,
+                                    phaseTemperature,
+                                    deadline));
+            var afterEmployed = findBest(population).getFitness();
+            employedStats.record(System.nanoTime() - phaseStart, afterEmployed - bestBefore);
 
+            phaseStart = System.nanoTime();
+            onlookerBeePhase(pool, population, hives, evaluator, phaseTemperature, deadline);
             var currentBest = findBest(population);
+            onlookerStats.record(
+                    System.nanoTime() - phaseStart, currentBest.getFitness() - afterEmployed);
+
+            if (hybrid.polishesAt(generation)) {
+                phaseStart = System.nanoTime();
+                var beforePolish = currentBest.getFitness();
+                currentBest =
+                        polishBest(population, hives, vrpProblem, evaluator, polisher, deadline);
+                polishStats.record(
+                        System.nanoTime() - phaseStart, currentBest.getFitness() - beforePolish);
+            }
+
+            hives.forEach(hive -> hive.neighborhoods.update());
+
+            if (generation % SAMPLE_INTERVAL == 0) {
+                generationSamples.add(
+                        sampleGeneration(population, generation, startTime, phaseTemperature));
+            }
             if (currentBest.getFitness() > bestSolution.getFitness()) {
                 bestSolution = currentBest;
                 checkPoints.add(createCheckPoint(bestSolution.getFitness(), startTime));
+                earlyStop.observe(bestSolution.getFitness(), elapsedSeconds(startTime), generation);
             }
 
             if (generation % config.coolingInterval() == 0) {
@@ -58,89 +145,269 @@ public class BeeColonyAlgorithm implements HeuristicAlgorithm<BeeColonyInformati
             }
         }
 
+        if (generation % SAMPLE_INTERVAL != 0) {
+            generationSamples.add(sampleGeneration(population, generation, startTime, temperature));
+        }
+        var colonyStats = new ColonyStatistics();
+        hives.forEach(hive -> colonyStats.merge(hive.statistics));
+        var searchSeconds =
+                (employedStats.getTotalTimeNanos() + onlookerStats.getTotalTimeNanos()) / 1e9;
+
         var solution = SolutionStringConverter.toSolution(bestSolution, vrpProblem);
-        return new SolverSolution<>(solution, checkPoints, new BeeColonyInformation());
+        var info =
+                new BeeColonyInformation(
+                        config,
+                        generation,
+                        stopReason,
+                        initializationStats,
+                        employedStats,
+                        onlookerStats,
+                        polishStats,
+                        colonyStats,
+                        searchSeconds > 0 ? colonyStats.getTotalEvaluations() / searchSeconds : 0.0,
+                        List.copyOf(generationSamples));
+        return new SolverSolution<>(solution, checkPoints, info);
+    }
+
+    // The first criterion that ends the search: time limit, target revenue,
+    // generation budget, then the early-stop policy.
+    private Optional<StopReason> checkStop(
+            EarlyStopMonitor earlyStop,
+            Deadline deadline,
+            double elapsedSeconds,
+            int generation,
+            double bestFitness) {
+        var budget = config.budget();
+        if (deadline.isExpired()) {
+            return Optional.of(StopReason.TIME_LIMIT);
+        }
+        if (budget.targetReached(bestFitness)) {
+            return Optional.of(StopReason.TARGET_REACHED);
+        }
+        if (budget.generationsExhausted(generation)) {
+            return Optional.of(StopReason.GENERATION_BUDGET);
+        }
+        return earlyStop.check(elapsedSeconds, generation);
     }
 
     private List<BeeColonySolution> initializePopulation(
-            Problem problem, VrpProblem vrpProblem, FitnessEvaluator evaluator) {
+            Problem problem,
+            VrpProblem vrpProblem,
+            FitnessEvaluator evaluator,
+            Optional<ForkJoinPool> pool,
+            Deadline deadline) {
+        if (config.hybrid().isGraspSeeding()) {
+            return seedWithGrasp(problem, vrpProblem, evaluator, pool, deadline);
+        }
         var population = new ArrayList<BeeColonySolution>();
         for (int i = 0; i < config.populationSize(); i++) {
             var graspSolution = new GreedyConstruction(problem, 0.5, random, 0.5, 2.0).solve();
             var solString = SolutionStringConverter.toSolutionString(graspSolution, vrpProblem);
-            var fitness = evaluator.evaluate(solString);
-            population.add(new BeeColonySolution(solString, fitness));
+            population.add(evaluator.decode(solString));
+        }
+        return population;
+    }
+
+    // Builds each bee with GRASP construction and VND from its own seed, drawn in
+    // order from the seeded Random, so the population does not depend on how the
+    // pool schedules the bees.
+    private List<BeeColonySolution> seedWithGrasp(
+            Problem problem,
+            VrpProblem vrpProblem,
+            FitnessEvaluator evaluator,
+            Optional<ForkJoinPool> pool,
+            Deadline deadline) {
+        var vnd = config.hybrid().getVnd();
+        var seeds = new ArrayList<Supplier<BeeColonySolution>>(config.populationSize());
+        for (int i = 0; i < config.populationSize(); i++) {
+            var beeRandom = new Random(random.nextLong());
+            seeds.add(
+                    () -> {
+                        var constructed =
+                                new GreedyConstruction(problem, 0.5, beeRandom, 0.5, 2.0)
+                                        .solve(deadline);
+                        var local =
+                                new VND(vnd.withFreshSelector(), beeRandom)
+                                        .search(constructed, deadline);
+                        return evaluator.decode(
+                                SolutionStringConverter.toSolutionString(local, vrpProblem));
+                    });
+        }
+        var population = new ArrayList<BeeColonySolution>(seeds.size());
+        if (pool.isEmpty()) {
+            seeds.forEach(seed -> population.add(seed.get()));
+            return population;
         }
+        var tasks = new ArrayList<ForkJoinTask<BeeColonySolution>>(seeds.size());
+        for (var seed : seeds) {
+            tasks.add(pool.get().submit(seed::get));
+        }
+        tasks.forEach(task -> population.add(task.join()));
         return population;
     }
 
-    private double employedBeePhase(
+    // Runs VND on the colony's best bee and puts the result in its place when it is
+    // better. Returns the best bee afterwards.
+    private BeeColonySolution polishBest(
             List<BeeColonySolution> population,
-            NeighborhoodFunction neighborhoodFunction,
+            List<Hive> hives,
+            VrpProblem vrpProblem,
             FitnessEvaluator evaluator,
-            double totalFitness,
-            double temperature) {
-        for (int i = 0; i < population.size(); i++) {
-            var sol = population.get(i);
-            var newString = neighborhoodFunction.apply(sol.getSolutionString(), random);
-            var newFitness = evaluator.evaluate(newString);
-            var newSol = new BeeColonySolution(newString, newFitness);
+            VND polisher,
+            Deadline deadline) {
+        var best = findBest(population);
+        var bestIndex = population.indexOf(best);
+        var start = SolutionStringConverter.toGraspSolution(best, vrpProblem);
+        var polished = polisher.search(start, deadline);
+        var candidate =
+                evaluator.decode(SolutionStringConverter.toSolutionString(polished, vrpProblem));
+        if (candidate.getFitness() <= best.getFitness()) {
+            return best;
+        }
+        accept(population, ownerOf(hives, bestIndex), bestIndex, candidate);
+        return population.get(bestIndex);
+    }
 
-            totalFitness = tryAccept(population, i, sol, newSol, totalFitness, temperature);
+    // Splits the population into one contiguous hive per thread, each with its own
+    // SplittableRandom stream split from the seeded Random, so a run is reproducible
+    // for a given seed and thread count. With one thread the single hive draws from
+    // the Random directly.
+    private List<Hive> partition(List<BeeColonySolution> population) {
+        var size = population.size();
+        var count = Math.min(config.threads(), size);
+        if (count <= 1) {
+            return List.of(new Hive(population, 0, size, random, config.moveSelector()));
+        }
+        var streams = new SplittableRandom(random.nextLong());
+        var hives = new ArrayList<Hive>(count);
+        for (int w = 0; w < count; w++) {
+            var from = w * size / count;
+            var to = (w + 1) * size / count;
+            hives.add(new Hive(population, from, to, streams.split(), config.moveSelector()));
         }
-        return totalFitness;
+        return hives;
     }
 
-    private double onlookerBeePhase(
+    private static void runPhase(
+            Optional<ForkJoinPool> pool, List<Hive> hives, Consumer<Hive> phase) {
+        if (pool.isEmpty()) {
+            hives.forEach(phase);
+            return;
+        }
+        var tasks = new ArrayList<ForkJoinTask<?>>(hives.size());
+        for (var hive : hives) {
+            tasks.add(pool.get().submit(() -> phase.accept(hive)));
+        }
+        tasks.forEach(ForkJoinTask::join);
+    }
+
+    private void employedBeePhase(
             List<BeeColonySolution> population,
-            NeighborhoodFunction neighborhoodFunction,
+            Hive hive,
             FitnessEvaluator evaluator,
-            double totalFitness,
-            double temperature) {
-        for (int i = 0; i < population.size(); i++) {
-            var beeIndex = selectEmployedBee(population, totalFitness);
-            var sol = population.get(beeIndex);
-            var newString = neighborhoodFunction.apply(sol.getSolutionString(), random);
-            var newFitness = evaluator.evaluate(newString);
-            var newSol = new BeeColonySolution(newString, newFitness);
+            double temperature,
+            Deadline deadline) {
+        for (int i = hive.from; i < hive.to && !deadline.isExpired(); i++) {
+            tryMove(population, hive, i, evaluator, temperature);
+        }
+    }
 
-            totalFitness = tryAccept(population, beeIndex, sol, newSol, totalFitness, temperature);
+    // Onlookers choose bees from the whole colony by fitness. A single hive draws
+    // from its wheel as it updates. With several hives each hive draws its onlookers'
+    // targets from a wheel snapshotted before the phase, and every target is then
+    // searched by the hive that owns it, so hives still only write to their own
+    // slice. Targets reach their owner in hive order, which keeps a run reproducible
+    // for a given seed and thread count.
+    private void onlookerBeePhase(
+            Optional<ForkJoinPool> pool,
+            List<BeeColonySolution> population,
+            List<Hive> hives,
+            FitnessEvaluator evaluator,
+            double temperature,
+            Deadline deadline) {
+        if (hives.size() == 1) {
+            var hive = hives.getFirst();
+            for (int i = hive.from; i < hive.to && !deadline.isExpired(); i++) {
+                var target = hive.random.nextDouble() * hive.wheel.total();
+                var beeIndex = hive.from + hive.wheel.select(target);
+                tryMove(population, hive, beeIndex, evaluator, temperature);
+            }
+            return;
         }
-        return totalFitness;
+        var weights = new double[population.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = population.get(i).getFitness();
+        }
+        var wheel = new RouletteWheel(weights);
+        var total = wheel.total();
+        for (var hive : hives) {
+            for (int i = hive.from; i < hive.to; i++) {
+                var beeIndex = wheel.select(hive.random.nextDouble() * total);
+                ownerOf(hives, beeIndex).onlookerTargets.add(beeIndex);
+            }
+        }
+        runPhase(
+                pool,
+                hives,
+                hive -> {
+                    for (var beeIndex : hive.onlookerTargets) {
+                        if (deadline.isExpired()) {
+                            break;
+                        }
+                        tryMove(population, hive, beeIndex, evaluator, temperature);
+                    }
+                    hive.onlookerTargets.clear();
+                });
     }
 
-    private double tryAccept(
+    private static Hive ownerOf(List<Hive> hives, int index) {
+        for (var hive : hives) {
+            if (index < hive.to) {
+                return hive;
+            }
+        }
+        throw new IllegalArgumentException("index outside the population: " + index);
+    }
+
+    // Applies a move to the bee's string in place and evaluates it from the bee's
+    // cached routes into the evaluator's workspace. The population only gets a copy
+    // of the string and routes when the candidate is accepted; the move is reverted
+    // either way. The hive's move selector is credited with the candidate's gain
+    // over the move's span.
+    private void tryMove(
             List<BeeColonySolution> population,
+            Hive hive,
             int index,
-            BeeColonySolution oldSol,
-            BeeColonySolution newSol,
-            double totalFitness,
+            FitnessEvaluator evaluator,
             double temperature) {
-        double delta = (newSol.getFitness() - oldSol.getFitness()) / oldSol.getFitness();
+        var sol = population.get(index);
+        var string = sol.getSolutionString();
+        var applied = hive.neighborhoods.applyInPlace(string, hive.random);
+        var candidate = evaluator.evaluate(sol, string, applied.low(), applied.high());
+        hive.neighborhoods.reportResult(
+                applied.move(),
+                Math.max(0.0, candidate.getFitness() - sol.getFitness()),
+                applied.span());
+        hive.statistics.recordEvaluation(FitnessEvaluator.isInvalid(candidate.getFitness()));
+        var operatorStats = hive.statistics.getOrCreateOperatorStatistics(applied.move().type());
 
+        double delta = (candidate.getFitness() - sol.getFitness()) / sol.getFitness();
         if (delta >= 0) {
-            population.set(index, newSol);
-            return totalFitness + newSol.getFitness() - oldSol.getFitness();
+            operatorStats.recordImproving();
+            accept(population, hive, index, candidate);
+        } else if (hive.random.nextDouble() < Math.exp(delta / temperature)) {
+            operatorStats.recordAnnealed();
+            accept(population, hive, index, candidate);
+        } else {
+            operatorStats.recordRejected();
         }
-
-        if (random.nextDouble() < Math.exp(delta / temperature)) {
-            population.set(index, newSol);
-            return totalFitness + newSol.getFitness() - oldSol.getFitness();
-        }
-
-        return totalFitness;
+        applied.revert(string);
     }
 
-    private int selectEmployedBee(List<BeeColonySolution> population, double totalFitness) {
-        double r = random.nextDouble() * totalFitness;
-        double currentSum = 0;
-        for (int i = 0; i < population.size(); i++) {
-            currentSum += population.get(i).getFitness();
-            if (currentSum >= r) {
-                return i;
-            }
-        }
-        return population.size() - 1;
+    private static void accept(
+            List<BeeColonySolution> population, Hive hive, int index, BeeColonySolution candidate) {
+        population.set(index, candidate.detach());
+        hive.wheel.update(index - hive.from, candidate.getFitness());
     }
 
     private BeeColonySolution findBest(List<BeeColonySolution> population) {
@@ -153,12 +420,26 @@ public class BeeColonyAlgorithm implements HeuristicAlgorithm<BeeColonyInformati
         return best;
     }
 
-    private double calculateTotalFitness(List<BeeColonySolution> population) {
-        double total = 0;
+    private GenerationSample sampleGeneration(
+            List<BeeColonySolution> population,
+            int generation,
+            long startTimeMillis,
+            double temperature) {
+        double best = Double.NEGATIVE_INFINITY;
+        double worst = Double.POSITIVE_INFINITY;
+        double sum = 0.0;
         for (var sol : population) {
-            total += sol.getFitness();
+            best = Math.max(best, sol.getFitness());
+            worst = Math.min(worst, sol.getFitness());
+            sum += sol.getFitness();
         }
-        return total;
+        return new GenerationSample(
+                generation,
+                elapsedSeconds(startTimeMillis),
+                best,
+                sum / population.size(),
+                worst,
+                temperature);
     }
 
     private CheckPoint createCheckPoint(double objective, long startTimeMillis) {
@@ -168,4 +449,34 @@ public class BeeColonyAlgorithm implements HeuristicAlgorithm<BeeColonyInformati
     private double elapsedSeconds(long startTimeMillis) {
         return (System.currentTimeMillis() - startTimeMillis) / 1000.0;
     }
+
+    // Contiguous slice [from, to) of the population with the random stream, fitness
+    // roulette and move selector used by the worker that searches it, and the bees
+    // of the slice that onlookers of any hive chose in the current phase.
+    private static final class Hive {
+        private final int from;
+        private final int to;
+        private final RandomGenerator random;
+        private final RouletteWheel wheel;
+        private final NeighborhoodFunction neighborhoods;
+        private final ColonyStatistics statistics = new ColonyStatistics();
+        private final List<Integer> onlookerTargets = new ArrayList<>();
+
+        Hive(
+                List<BeeColonySolution> population,
+                int from,
+                int to,
+                RandomGenerator random,
+                MoveSelectorConfig moveSelector) {
+            this.from = from;
+            this.to = to;
+            this.random = random;
+            this.neighborhoods = new NeighborhoodFunction(moveSelector);
+            var weights = new double[to - from];
+            for (int i = from; i < to; i++) {
+                weights[i - from] = population.get(i).getFitness();
+            }
+            this.wheel = new RouletteWheel(weights);
+        }
+    }
 }
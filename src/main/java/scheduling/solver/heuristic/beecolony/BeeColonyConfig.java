@@ -1,18 +1,48 @@
 package scheduling.solver.heuristic.beecolony;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import lombok.Builder;
+import scheduling.solver.Budget;
+import scheduling.solver.EarlyStopConfig;
 import scheduling.solver.RunInfo;
+import scheduling.solver.heuristic.beecolony.move.MoveSelection;
+import scheduling.solver.heuristic.beecolony.move.MoveSelectorConfig;
 
+@Builder
 public record BeeColonyConfig(
         RunInfo runInfo,
         int populationSize,
         double initialTemperature,
         double coolingCoefficient,
         int coolingInterval,
-        int timeLimitSeconds) {
+        int timeLimitSeconds,
+        Budget budget,
+        EarlyStopConfig earlyStop,
+        int threads,
+        MoveSelectorConfig moveSelector,
+        HybridConfig hybrid) {
+
+    public BeeColonyConfig {
+        checkArgument(
+                budget.iterations() == 0 && budget.evaluations() == 0,
+                "bee colony supports only generation and target budgets");
+        checkArgument(threads >= 1, "threads must be at least 1");
+    }
+
+    // Lombok fills in the setters; the fields below start at a single-threaded run
+    // with uniform moves and no budget, early stop or hybrid phases.
+    public static class BeeColonyConfigBuilder {
+        private Budget budget = Budget.NONE;
+        private EarlyStopConfig earlyStop = EarlyStopConfig.NONE;
+        private int threads = 1;
+        private MoveSelectorConfig moveSelector = MoveSelectorConfig.UNIFORM;
+        private HybridConfig hybrid = HybridConfig.NONE;
+    }
 
     public String stringDesc() {
         return "BeeColony["
@@ -27,6 +57,13 @@ public record BeeColonyConfig(
                 + coolingInterval
                 + ", time="
                 + timeLimitSeconds
+                + (budget.isLimited() ? ", " + budget.stringDesc() : "")
+                + (earlyStop.isEnabled() ? ", " + earlyStop.stringDesc() : "")
+                + (threads > 1 ? ", threads=" + threads : "")
+                + (moveSelector.selection() != MoveSelection.UNIFORM
+                        ? ", moves=" + moveSelector.stringDesc()
+                        : "")
+                + (hybrid.isEnabled() ? ", " + hybrid.stringDesc() : "")
                 + "]";
     }
 
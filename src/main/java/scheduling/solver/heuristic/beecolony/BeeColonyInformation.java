@@ -1,3 +1,37 @@
 package scheduling.solver.heuristic.beecolony;
 
-public record BeeColonyInformation() {}
+import java.util.List;
+import scheduling.solver.StopReason;
+import scheduling.solver.heuristic.beecolony.statistics.ColonyStatistics;
+import scheduling.solver.heuristic.beecolony.statistics.GenerationSample;
+import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
+
+// Phase revenue gains are the change in the population's best fitness over the
+// phase; the initialization gain is the best fitness of the initial population.
+// Polishing is only recorded in hybrid runs with a polish interval.
+public record BeeColonyInformation(
+        BeeColonyConfig config,
+        int generations,
+        StopReason stopReason,
+        PhaseStatistics initializationStatistics,
+        PhaseStatistics employedStatistics,
+        PhaseStatistics onlookerStatistics,
+        PhaseStatistics polishStatistics,
+        ColonyStatistics colonyStatistics,
+        double evaluationsPerSecond,
+        List<GenerationSample> generationSamples) {
+
+    public BeeColonyInformation(BeeColonyConfig config, int generations, StopReason stopReason) {
+        this(
+                config,
+                generations,
+                stopReason,
+                new PhaseStatistics(),
+                new PhaseStatistics(),
+                new PhaseStatistics(),
+                new PhaseStatistics(),
+                new ColonyStatistics(),
+                0.0,
+                List.of());
+    }
+}
@@ -1,11 +1,35 @@
 package scheduling.solver.heuristic.beecolony;
 
+import java.util.Optional;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 @Getter
-@RequiredArgsConstructor
 public class BeeColonySolution {
     private final int[] solutionString;
     private final double fitness;
+
+    // Per-route results kept by FitnessEvaluator for delta evaluation of neighbours.
+    @Getter(AccessLevel.PACKAGE)
+    private final Optional<RouteDecoding> decoding;
+
+    public BeeColonySolution(int[] solutionString, double fitness) {
+        this.solutionString = solutionString;
+        this.fitness = fitness;
+        this.decoding = Optional.empty();
+    }
+
+    BeeColonySolution(int[] solutionString, double fitness, RouteDecoding decoding) {
+        this.solutionString = solutionString;
+        this.fitness = fitness;
+        this.decoding = Optional.of(decoding);
+    }
+
+    // Copy that owns its string and routes, for a candidate evaluated on a string
+    // that an in-place move is about to revert and on the evaluator's reused routes.
+    public BeeColonySolution detach() {
+        return decoding
+                .map(d -> new BeeColonySolution(solutionString.clone(), fitness, d.copy()))
+                .orElseGet(() -> new BeeColonySolution(solutionString.clone(), fitness));
+    }
 }
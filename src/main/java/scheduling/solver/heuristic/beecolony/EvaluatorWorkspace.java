@@ -0,0 +1,72 @@
+package scheduling.solver.heuristic.beecolony;
+
+import java.util.Arrays;
+import scheduling.solver.heuristic.beecolony.vrp.VrpProblem;
+
+// Scratch state for one thread's fitness evaluations, allocated once and reused.
+//
+// Routes are decoded one at a time into a single buffer sized to the largest
+// number of commercials any vehicle can hold, so appends never grow an array.
+// Hours that received airtime are recorded in touchedHours, and resetHours clears
+// just those.
+final class EvaluatorWorkspace {
+
+    private final int[] route;
+    private final int[] hourUtilizations;
+    private final int[] touchedHours;
+    private int touchedCount;
+    private final RouteDecoding scratch;
+    private final RouteDecoding candidate;
+
+    EvaluatorWorkspace(VrpProblem vrpProblem) {
+        var problem = vrpProblem.getProblem();
+        var vehicles = vrpProblem.getVehicles();
+        var numCustomers = vrpProblem.getCustomers().length;
+        var capacity = 0;
+        for (var vehicle : vehicles) {
+            var maxCount = problem.getInventory(vehicle.id()).getMaxCommercialCount();
+            capacity = Math.max(capacity, Math.min(maxCount, numCustomers));
+        }
+        this.route = new int[capacity];
+        this.hourUtilizations = new int[Arrays.stream(problem.getHours()).max().orElse(0) + 1];
+        this.touchedHours = new int[hourUtilizations.length];
+        this.scratch = new RouteDecoding(vehicles.length);
+        this.candidate = new RouteDecoding(vehicles.length);
+    }
+
+    int[] route() {
+        return route;
+    }
+
+    // Decoding reused by evaluations whose per-route results are not kept.
+    RouteDecoding scratch() {
+        return scratch;
+    }
+
+    // Decoding of the last in-place candidate, kept apart from scratch so that a
+    // full evaluation between evaluating and accepting a candidate leaves it intact.
+    RouteDecoding candidate() {
+        return candidate;
+    }
+
+    void resetHours() {
+        for (int i = 0; i < touchedCount; i++) {
+            hourUtilizations[touchedHours[i]] = 0;
+        }
+        touchedCount = 0;
+    }
+
+    int hourUtilization(int hour) {
+        return hourUtilizations[hour];
+    }
+
+    void addHourUtilization(int hour, int amount) {
+        if (amount == 0) {
+            return;
+        }
+        if (hourUtilizations[hour] == 0) {
+            touchedHours[touchedCount++] = hour;
+        }
+        hourUtilizations[hour] += amount;
+    }
+}
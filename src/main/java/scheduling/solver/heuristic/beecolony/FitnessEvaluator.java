@@ -1,80 +1,205 @@
 package scheduling.solver.heuristic.beecolony;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import java.util.Arrays;
-import lombok.RequiredArgsConstructor;
 import scheduling.model.Problem;
 import scheduling.model.enums.AttentionType;
+import scheduling.solver.heuristic.beecolony.vrp.ArcFeasibility;
 import scheduling.solver.heuristic.beecolony.vrp.VrpProblem;
 
-@RequiredArgsConstructor
+// Decodes a solution string and returns its revenue, or INVALID_FITNESS when the
+// decoded routes violate an attention constraint.
+//
+// Routes are decoded into a per-thread EvaluatorWorkspace, so evaluate(int[])
+// allocates nothing and the evaluator can be shared between threads. decode and
+// evaluate(parent, neighbour) also keep the per-route results on the returned
+// solution, and the latter re-decodes only the routes a move changed plus any
+// later routes whose incoming hour utilization changed. The in-place variant
+// decodes into the workspace as well, so a rejected candidate allocates nothing.
 public class FitnessEvaluator {
 
     private static final double INVALID_FITNESS = 1e-9;
 
     private final VrpProblem vrpProblem;
+    private final ThreadLocal<EvaluatorWorkspace> workspaces;
+
+    public FitnessEvaluator(VrpProblem vrpProblem) {
+        this.vrpProblem = vrpProblem;
+        this.workspaces = ThreadLocal.withInitial(() -> new EvaluatorWorkspace(vrpProblem));
+    }
+
+    static boolean isInvalid(double fitness) {
+        return fitness == INVALID_FITNESS;
+    }
 
     public double evaluate(int[] solutionString) {
-        var problem = vrpProblem.getProblem();
-        var vehicles = vrpProblem.getVehicles();
-        var distance = vrpProblem.getDistance();
-        var depotId = vrpProblem.getDepot().id();
-        var hours = problem.getHours();
+        var workspace = workspaces.get();
+        var decoding = workspace.scratch();
+        decodeAll(solutionString, decoding, workspace);
+        return decoding.fitness(INVALID_FITNESS);
+    }
 
-        double fitness = 0.0;
-        var perInventory = new int[vehicles.length][];
-        for (int i = 0; i < vehicles.length; i++) {
-            perInventory[i] = new int[0];
+    public BeeColonySolution decode(int[] solutionString) {
+        var decoding = new RouteDecoding(vrpProblem.getVehicles().length);
+        decodeAll(solutionString, decoding, workspaces.get());
+        return new BeeColonySolution(solutionString, decoding.fitness(INVALID_FITNESS), decoding);
+    }
+
+    // Equal to decode(neighbour). Falls back to a full decode when the parent has no
+    // cached routes or the neighbour moved a depot across an unchanged route.
+    public BeeColonySolution evaluate(BeeColonySolution parent, int[] neighbour) {
+        var parentString = parent.getSolutionString();
+        var cached = parent.getDecoding();
+        if (cached.isEmpty() || parentString.length != neighbour.length) {
+            return decode(neighbour);
+        }
+        var low = Arrays.mismatch(parentString, neighbour);
+        if (low < 0) {
+            return new BeeColonySolution(neighbour, parent.getFitness(), cached.get());
         }
+        var decoding = new RouteDecoding(vrpProblem.getVehicles().length);
+        return evaluate(parent, neighbour, low, lastMismatch(parentString, neighbour), decoding);
+    }
 
-        int vehicleIndex = 0;
-        int lastNodeId = depotId;
-        int time = 0;
-        var hourUtilizations = new int[Arrays.stream(hours).max().orElse(0) + 1];
-        var commercialCounts = new int[vehicles.length];
-
-        for (int nodeId : solutionString) {
-            if (nodeId == depotId) {
-                vehicleIndex++;
-                lastNodeId = depotId;
-                time = 0;
+    // Like evaluate(parent, neighbour) when the caller knows the neighbour differs
+    // from the parent only within [low, high]. The neighbour may be the parent's own
+    // string modified in place; only the parent's cached routes are read.
+    //
+    // The result's routes live in this thread's workspace and are overwritten by the
+    // next call, so detach a candidate before keeping it or using it as a parent.
+    public BeeColonySolution evaluate(
+            BeeColonySolution parent, int[] neighbour, int low, int high) {
+        return evaluate(parent, neighbour, low, high, workspaces.get().candidate());
+    }
+
+    private BeeColonySolution evaluate(
+            BeeColonySolution parent, int[] neighbour, int low, int high, RouteDecoding decoding) {
+        var cached = parent.getDecoding();
+        if (cached.isEmpty()) {
+            return decode(neighbour);
+        }
+        var parentDecoding = cached.get();
+        checkArgument(parentDecoding != decoding, "Detach a candidate before using it as a parent");
+        var firstRoute = parentDecoding.routeOf(low);
+        var lastRoute = parentDecoding.routeOf(high);
+
+        var workspace = workspaces.get();
+        decoding.copyFrom(parentDecoding);
+        workspace.resetHours();
+        for (int route = 0; route < firstRoute; route++) {
+            workspace.addHourUtilization(hourOf(route), decoding.hourUsage(route));
+        }
+
+        var route = firstRoute;
+        var start = decoding.start(firstRoute);
+        for (int pos = start; route <= lastRoute; pos++) {
+            if (pos == neighbour.length && route < lastRoute) {
+                return decode(neighbour);
+            }
+            if (pos < neighbour.length && neighbour[pos] != vrpProblem.getDepot().id()) {
+                continue;
+            }
+            decodeRoute(neighbour, start, pos, route, decoding, workspace);
+            route++;
+            start = pos + 1;
+        }
+        if (decoding.end(lastRoute) != parentDecoding.end(lastRoute)) {
+            return decode(neighbour);
+        }
+
+        for (route = lastRoute + 1; route < decoding.routeCount(); route++) {
+            if (workspace.hourUtilization(hourOf(route)) == decoding.hourIn(route)) {
+                workspace.addHourUtilization(hourOf(route), decoding.hourUsage(route));
                 continue;
             }
+            var end = decoding.end(route);
+            decodeRoute(neighbour, decoding.start(route), end, route, decoding, workspace);
+        }
+        return new BeeColonySolution(neighbour, decoding.fitness(INVALID_FITNESS), decoding);
+    }
 
-            var vehicleId = vehicles[vehicleIndex].id();
-            var customer = vrpProblem.getCustomers()[nodeId];
-            var hour = vehicles[vehicleIndex].hour();
+    private void decodeAll(int[] solutionString, RouteDecoding decoding, EvaluatorWorkspace ws) {
+        var depotId = vrpProblem.getDepot().id();
+        decoding.clear();
+        ws.resetHours();
+        var route = 0;
+        var start = 0;
+        for (int pos = 0; pos <= solutionString.length; pos++) {
+            if (pos < solutionString.length && solutionString[pos] != depotId) {
+                continue;
+            }
+            decodeRoute(solutionString, start, pos, route, decoding, ws);
+            route++;
+            start = pos + 1;
+        }
+    }
+
+    // Decodes positions [start, end) as the route of vehicle `route`, records the
+    // result and adds the route's airtime to its hour.
+    private void decodeRoute(
+            int[] solutionString,
+            int start,
+            int end,
+            int route,
+            RouteDecoding decoding,
+            EvaluatorWorkspace workspace) {
+        var problem = vrpProblem.getProblem();
+        var customers = vrpProblem.getCustomers();
+        var arcs = vrpProblem.getArcFeasibility();
+        var vehicleId = vrpProblem.getVehicles()[route].id();
+        var hour = hourOf(route);
+        var hourIn = workspace.hourUtilization(hour);
+        var sequence = workspace.route();
+
+        double revenue = 0.0;
+        int lastNodeId = vrpProblem.getDepot().id();
+        int time = 0;
+        int count = 0;
+
+        for (int pos = start; pos < end; pos++) {
+            var nodeId = solutionString[pos];
+            var serviceTime = customers[nodeId].serviceTime();
 
             if (isExcluded(
                     problem,
-                    distance,
+                    arcs,
                     vehicleId,
                     lastNodeId,
                     nodeId,
                     time,
-                    customer.serviceTime(),
-                    hourUtilizations[hour],
-                    commercialCounts[vehicleId])) {
+                    serviceTime,
+                    hourIn + time,
+                    count)) {
                 continue;
             }
 
-            fitness += problem.getRevenue(nodeId, vehicleId, time);
-            perInventory[vehicleId] = append(perInventory[vehicleId], nodeId);
-            time += customer.serviceTime();
-            hourUtilizations[hour] += customer.serviceTime();
-            commercialCounts[vehicleId]++;
+            revenue += problem.getRevenue(nodeId, vehicleId, time);
+            sequence[count++] = nodeId;
+            time += serviceTime;
             lastNodeId = nodeId;
         }
 
-        if (!isAttentionFeasible(problem, perInventory)) {
-            return INVALID_FITNESS;
-        }
+        var feasible = isAttentionFeasible(problem, vehicleId, sequence, count);
+        decoding.set(route, end, revenue, hourIn, time, feasible);
+        workspace.addHourUtilization(hour, time);
+    }
 
-        return fitness;
+    private int hourOf(int route) {
+        return vrpProblem.getVehicles()[route].hour();
+    }
+
+    private static int lastMismatch(int[] a, int[] b) {
+        var pos = a.length - 1;
+        while (a[pos] == b[pos]) {
+            pos--;
+        }
+        return pos;
     }
 
     private boolean isExcluded(
             Problem problem,
-            double[][][] distance,
+            ArcFeasibility arcs,
             int vehicleId,
             int lastNodeId,
             int nodeId,
@@ -88,7 +213,7 @@ public class FitnessEvaluator {
         if (hourUtilization + serviceTime > Problem.HOURLY_BROADCAST_LIMIT) {
             return true;
         }
-        if (Double.isInfinite(distance[vehicleId][lastNodeId][nodeId])) {
+        if (!arcs.isFeasible(vehicleId, lastNodeId, nodeId)) {
             return true;
         }
         if (time + serviceTime > vrpProblem.getVehicles()[vehicleId].timeLimit()) {
@@ -100,23 +225,14 @@ public class FitnessEvaluator {
         return false;
     }
 
-    private static int[] append(int[] values, int value) {
-        var result = Arrays.copyOf(values, values.length + 1);
-        result[values.length] = value;
-        return result;
-    }
-
-    private boolean isAttentionFeasible(Problem problem, int[][] perInventory) {
-        for (int invId = 0; invId < perInventory.length; invId++) {
-            var sequence = perInventory[invId];
-            var sequenceLength = sequence.length;
-            for (int position = 0; position < sequenceLength; position++) {
-                if (!AttentionType.anySatisfied(
-                        problem.getAttentionTypes(sequence[position], invId),
-                        position,
-                        sequenceLength)) {
-                    return false;
-                }
+    private static boolean isAttentionFeasible(
+            Problem problem, int invId, int[] sequence, int sequenceLength) {
+        for (int position = 0; position < sequenceLength; position++) {
+            if (!AttentionType.anySatisfied(
+                    problem.getAttentionTypes(sequence[position], invId),
+                    position,
+                    sequenceLength)) {
+                return false;
             }
         }
         return true;
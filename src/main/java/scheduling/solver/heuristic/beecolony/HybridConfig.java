@@ -0,0 +1,58 @@
+package scheduling.solver.heuristic.beecolony;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
+import scheduling.solver.heuristic.grasp.vnd.selector.SequentialSelector;
+import scheduling.solver.heuristic.grasp.vnd.strategy.FirstImprovingStrategy;
+
+// GRASP steps mixed into the bee colony.
+//
+// - graspSeeding: build each initial bee with GRASP construction followed by VND,
+//   in parallel on the colony's threads, instead of construction alone
+// - polishInterval: generations between polishing the best bee with VND and
+//   reinjecting the result (0 = never)
+// - vnd: local search used for both
+@Getter
+public class HybridConfig {
+
+    // Never run: NONE neither seeds nor polishes.
+    private static final VNDConfig NO_LOCAL_SEARCH =
+            new VNDConfig(new FirstImprovingStrategy(), List.of(), new SequentialSelector(), 0.0);
+
+    public static final HybridConfig NONE = new HybridConfig(false, 0, NO_LOCAL_SEARCH);
+
+    private final boolean graspSeeding;
+    private final int polishInterval;
+    private final VNDConfig vnd;
+
+    public HybridConfig(boolean graspSeeding, int polishInterval, VNDConfig vnd) {
+        checkArgument(polishInterval >= 0, "polishInterval must be non-negative");
+        this.graspSeeding = graspSeeding;
+        this.polishInterval = polishInterval;
+        this.vnd = Objects.requireNonNull(vnd);
+    }
+
+    @JsonIgnore
+    public boolean isEnabled() {
+        return graspSeeding || polishInterval > 0;
+    }
+
+    public boolean polishesAt(int generation) {
+        return polishInterval > 0 && generation % polishInterval == 0;
+    }
+
+    public String stringDesc() {
+        return "HYBRID[seed="
+                + graspSeeding
+                + ", polish="
+                + polishInterval
+                + ", "
+                + vnd.stringDesc()
+                + "]";
+    }
+}
@@ -0,0 +1,59 @@
+package scheduling.solver.heuristic.beecolony;
+
+// Fitness-proportional selection over a fixed number of slots, backed by a Fenwick
+// tree so that both select and update take O(log n).
+final class RouletteWheel {
+
+    private final double[] weights;
+    private final double[] tree;
+    private final int topStep;
+
+    RouletteWheel(double[] weights) {
+        var n = weights.length;
+        this.weights = weights.clone();
+        this.tree = new double[n + 1];
+        for (int i = 1; i <= n; i++) {
+            tree[i] += weights[i - 1];
+            var parent = i + (i & -i);
+            if (parent <= n) {
+                tree[parent] += tree[i];
+            }
+        }
+        this.topStep = n == 0 ? 0 : Integer.highestOneBit(n);
+    }
+
+    int size() {
+        return weights.length;
+    }
+
+    double total() {
+        double sum = 0.0;
+        for (int i = weights.length; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    void update(int slot, double weight) {
+        var delta = weight - weights[slot];
+        weights[slot] = weight;
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // The first slot whose cumulative weight reaches target, where target is drawn
+    // from [0, total()).
+    int select(double target) {
+        var pos = 0;
+        var remaining = target;
+        for (int step = topStep; step > 0; step >>= 1) {
+            var next = pos + step;
+            if (next < tree.length && tree[next] < remaining) {
+                pos = next;
+                remaining -= tree[next];
+            }
+        }
+        return Math.min(pos, weights.length - 1);
+    }
+}
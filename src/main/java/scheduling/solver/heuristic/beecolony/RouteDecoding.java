@@ -0,0 +1,103 @@
+package scheduling.solver.heuristic.beecolony;
+
+import java.util.Arrays;
+
+// Per-route results of decoding one solution string. Route k is the depot-delimited
+// segment served by vehicle k and spans positions [start(k), end(k)), where end(k)
+// is the position of its closing depot or the string length.
+//
+// A route's decode depends only on its segment and on the hour utilization left by
+// earlier routes in the same hour (hourIn), so a neighbour can reuse every route
+// whose segment and hourIn are unchanged.
+final class RouteDecoding {
+
+    private final int[] ends;
+    private final double[] revenues;
+    private final int[] hourIns;
+    private final int[] hourUsages;
+    private final boolean[] feasible;
+    private int routeCount;
+
+    RouteDecoding(int capacity) {
+        this.ends = new int[capacity];
+        this.revenues = new double[capacity];
+        this.hourIns = new int[capacity];
+        this.hourUsages = new int[capacity];
+        this.feasible = new boolean[capacity];
+    }
+
+    private RouteDecoding(RouteDecoding other) {
+        this.ends = other.ends.clone();
+        this.revenues = other.revenues.clone();
+        this.hourIns = other.hourIns.clone();
+        this.hourUsages = other.hourUsages.clone();
+        this.feasible = other.feasible.clone();
+        this.routeCount = other.routeCount;
+    }
+
+    RouteDecoding copy() {
+        return new RouteDecoding(this);
+    }
+
+    // Overwrites this decoding with other's routes without allocating; both must
+    // have the same capacity.
+    void copyFrom(RouteDecoding other) {
+        System.arraycopy(other.ends, 0, ends, 0, other.routeCount);
+        System.arraycopy(other.revenues, 0, revenues, 0, other.routeCount);
+        System.arraycopy(other.hourIns, 0, hourIns, 0, other.routeCount);
+        System.arraycopy(other.hourUsages, 0, hourUsages, 0, other.routeCount);
+        System.arraycopy(other.feasible, 0, feasible, 0, other.routeCount);
+        routeCount = other.routeCount;
+    }
+
+    void clear() {
+        routeCount = 0;
+    }
+
+    void set(int route, int end, double revenue, int hourIn, int hourUsage, boolean isFeasible) {
+        ends[route] = end;
+        revenues[route] = revenue;
+        hourIns[route] = hourIn;
+        hourUsages[route] = hourUsage;
+        feasible[route] = isFeasible;
+        routeCount = Math.max(routeCount, route + 1);
+    }
+
+    int routeCount() {
+        return routeCount;
+    }
+
+    int start(int route) {
+        return route == 0 ? 0 : ends[route - 1] + 1;
+    }
+
+    int end(int route) {
+        return ends[route];
+    }
+
+    int hourIn(int route) {
+        return hourIns[route];
+    }
+
+    int hourUsage(int route) {
+        return hourUsages[route];
+    }
+
+    // The route containing the position; a closing depot belongs to its route.
+    int routeOf(int position) {
+        var index = Arrays.binarySearch(ends, 0, routeCount, position);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    // Routes are summed in order so that full and delta decodes round identically.
+    double fitness(double invalidFitness) {
+        double total = 0.0;
+        for (int route = 0; route < routeCount; route++) {
+            if (!feasible[route]) {
+                return invalidFitness;
+            }
+            total += revenues[route];
+        }
+        return total;
+    }
+}
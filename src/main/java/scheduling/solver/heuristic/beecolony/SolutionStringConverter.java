@@ -12,6 +12,7 @@ import scheduling.model.Inventory;
 import scheduling.model.Problem;
 import scheduling.model.enums.AttentionType;
 import scheduling.solver.Solution;
+import scheduling.solver.heuristic.beecolony.vrp.ArcFeasibility;
 import scheduling.solver.heuristic.beecolony.vrp.VrpProblem;
 import scheduling.solver.heuristic.grasp.GraspSolution;
 
@@ -37,7 +38,7 @@ public final class SolutionStringConverter {
     public static Solution toSolution(BeeColonySolution beeSolution, VrpProblem vrpProblem) {
         var problem = vrpProblem.getProblem();
         var vehicles = vrpProblem.getVehicles();
-        var distance = vrpProblem.getDistance();
+        var arcs = vrpProblem.getArcFeasibility();
         var depotId = vrpProblem.getDepot().id();
         var inventories = problem.getInventories();
         var hours = problem.getHours();
@@ -73,7 +74,7 @@ public final class SolutionStringConverter {
 
             if (isExcluded(
                     problem,
-                    distance,
+                    arcs,
                     vehicleId,
                     lastNodeId,
                     nodeId,
@@ -106,9 +107,21 @@ public final class SolutionStringConverter {
         return new Solution(builder.build(), totalRevenue);
     }
 
+    // The schedule toSolution reports, as a GraspSolution for GRASP local search.
+    public static GraspSolution toGraspSolution(
+            BeeColonySolution beeSolution, VrpProblem vrpProblem) {
+        var problem = vrpProblem.getProblem();
+        var sequences = new int[problem.getInventories().length][];
+        for (var entry : toSolution(beeSolution, vrpProblem).getAssignments().entrySet()) {
+            sequences[entry.getKey().getId()] =
+                    entry.getValue().stream().mapToInt(Commercial::getId).toArray();
+        }
+        return GraspSolution.fromSequences(problem, sequences);
+    }
+
     private static boolean isExcluded(
             Problem problem,
-            double[][][] distance,
+            ArcFeasibility arcs,
             int vehicleId,
             int lastNodeId,
             int nodeId,
@@ -122,7 +135,7 @@ public final class SolutionStringConverter {
         if (hourUtilization + serviceTime > Problem.HOURLY_BROADCAST_LIMIT) {
             return true;
         }
-        if (Double.isInfinite(distance[vehicleId][lastNodeId][nodeId])) {
+        if (!arcs.isFeasible(vehicleId, lastNodeId, nodeId)) {
             return true;
         }
         if (time + serviceTime > problem.getInventory(vehicleId).getDuration()) {
@@ -0,0 +1,85 @@
+package scheduling.solver.heuristic.beecolony.move;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+// Picks moves in proportion to the fitness gain they produced per unit of
+// evaluation cost, with every move kept at or above minProbability. The cost is
+// the move's span rather than wall-clock time, so a seeded run picks the same
+// moves every time.
+//
+// Each update folds the rates observed since the previous update into an
+// exponentially smoothed rate, so the probabilities follow the search as the
+// useful moves change over a run. Until some move has produced a gain the
+// selection is uniform.
+public class AdaptiveMoveSelector implements MoveSelector {
+
+    private static final double REACTION = 0.3;
+
+    private final double minProbability;
+    private final List<BeeColonyMove> moves;
+    private final double[] probabilities;
+    private final double[] rates;
+    private final double[] gains;
+    private final long[] costs;
+
+    public AdaptiveMoveSelector(double minProbability, List<BeeColonyMove> moves) {
+        checkArgument(
+                minProbability >= 0 && minProbability * moves.size() <= 1,
+                "minProbability must be in [0, 1 / number of moves]");
+        this.minProbability = minProbability;
+        this.moves = List.copyOf(moves);
+        this.probabilities = new double[moves.size()];
+        Arrays.fill(probabilities, 1.0 / moves.size());
+        this.rates = new double[moves.size()];
+        this.gains = new double[moves.size()];
+        this.costs = new long[moves.size()];
+    }
+
+    @Override
+    public BeeColonyMove select(List<BeeColonyMove> moves, RandomGenerator random) {
+        var rand = random.nextDouble();
+        var cumulative = 0.0;
+        for (int i = 0; i < probabilities.length; i++) {
+            cumulative += probabilities[i];
+            if (rand <= cumulative) {
+                return moves.get(i);
+            }
+        }
+        return moves.get(probabilities.length - 1);
+    }
+
+    @Override
+    public void reportResult(BeeColonyMove move, double fitnessGain, int cost) {
+        var idx = moves.indexOf(move);
+        gains[idx] += fitnessGain;
+        costs[idx] += cost;
+    }
+
+    @Override
+    public void update() {
+        for (int i = 0; i < rates.length; i++) {
+            if (costs[i] > 0) {
+                var observed = gains[i] / costs[i];
+                rates[i] = (1 - REACTION) * rates[i] + REACTION * observed;
+            }
+            gains[i] = 0.0;
+            costs[i] = 0;
+        }
+        var total = Arrays.stream(rates).sum();
+        if (total <= 0) {
+            return;
+        }
+        var n = rates.length;
+        for (int i = 0; i < n; i++) {
+            probabilities[i] = minProbability + (1 - minProbability * n) * rates[i] / total;
+        }
+    }
+
+    double probability(int index) {
+        return probabilities[index];
+    }
+}
@@ -0,0 +1,25 @@
+package scheduling.solver.heuristic.beecolony.move;
+
+// A move applied in place, with the two positions it was drawn with. Every bee
+// move only changes positions between first and second, and reverting it restores
+// the string in O(second - first).
+public record AppliedMove(BeeColonyMove move, int first, int second) {
+
+    public int low() {
+        return Math.min(first, second);
+    }
+
+    public int high() {
+        return Math.max(first, second);
+    }
+
+    // Positions between low and high inclusive. The routes a delta evaluation
+    // re-decodes are the ones this window covers, so it stands in for the move's cost.
+    public int span() {
+        return high() - low() + 1;
+    }
+
+    public void revert(int[] solutionString) {
+        move.revert(solutionString, first, second);
+    }
+}
@@ -1,7 +1,18 @@
 package scheduling.solver.heuristic.beecolony.move;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public interface BeeColonyMove {
-    int[] apply(int[] solutionString, Random random);
+
+    MoveType type();
+
+    AppliedMove applyInPlace(int[] solutionString, RandomGenerator random);
+
+    void revert(int[] solutionString, int first, int second);
+
+    default int[] apply(int[] solutionString, RandomGenerator random) {
+        var result = solutionString.clone();
+        applyInPlace(result, random);
+        return result;
+    }
 }
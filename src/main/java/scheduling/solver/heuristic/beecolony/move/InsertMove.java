@@ -1,31 +1,45 @@
 package scheduling.solver.heuristic.beecolony.move;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class InsertMove implements BeeColonyMove {
 
     @Override
-    public int[] apply(int[] solutionString, Random random) {
-        var indices = random.ints(0, solutionString.length).distinct().limit(2).toArray();
-        var from = indices[0];
-        var to = indices[1];
-        var element = solutionString[from];
-        var result = new int[solutionString.length];
+    public MoveType type() {
+        return MoveType.INSERT;
+    }
+
+    @Override
+    public AppliedMove applyInPlace(int[] solutionString, RandomGenerator random) {
+        if (solutionString.length < 2) {
+            return new AppliedMove(this, 0, 0);
+        }
+        var from = random.nextInt(solutionString.length);
+        var to = random.nextInt(solutionString.length - 1);
+        if (to >= from) {
+            to++;
+        }
+        insert(solutionString, from, to);
+        return new AppliedMove(this, from, to);
+    }
 
+    // The element now at `second` goes back to `first`.
+    @Override
+    public void revert(int[] solutionString, int first, int second) {
+        if (first != second) {
+            insert(solutionString, second, first);
+        }
+    }
+
+    // Removes the element at from and reinserts it at to, shifting the elements
+    // in between by one.
+    private static void insert(int[] solutionString, int from, int to) {
+        var element = solutionString[from];
         if (from < to) {
-            System.arraycopy(solutionString, 0, result, 0, from);
-            System.arraycopy(solutionString, from + 1, result, from, to - from);
-            result[to] = element;
-            System.arraycopy(
-                    solutionString, to + 1, result, to + 1, solutionString.length - to - 1);
+            System.arraycopy(solutionString, from + 1, solutionString, from, to - from);
         } else {
-            System.arraycopy(solutionString, 0, result, 0, to);
-            result[to] = element;
-            System.arraycopy(solutionString, to, result, to + 1, from - to);
-            System.arraycopy(
-                    solutionString, from + 1, result, from + 1, solutionString.length - from - 1);
+            System.arraycopy(solutionString, to, solutionString, to + 1, from - to);
         }
-
-        return result;
+        solutionString[to] = element;
     }
 }
@@ -1,21 +1,35 @@
 package scheduling.solver.heuristic.beecolony.move;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class InversionMove implements BeeColonyMove {
 
     @Override
-    public int[] apply(int[] solutionString, Random random) {
+    public MoveType type() {
+        return MoveType.INVERSION;
+    }
+
+    @Override
+    public AppliedMove applyInPlace(int[] solutionString, RandomGenerator random) {
+        if (solutionString.length < 2) {
+            return new AppliedMove(this, 0, 0);
+        }
         var low = random.nextInt(solutionString.length - 1);
         var high = random.nextInt(low + 1, solutionString.length);
-        var result = solutionString.clone();
+        reverse(solutionString, low, high);
+        return new AppliedMove(this, low, high);
+    }
 
+    @Override
+    public void revert(int[] solutionString, int first, int second) {
+        reverse(solutionString, first, second);
+    }
+
+    private static void reverse(int[] solutionString, int low, int high) {
         for (int i = low, j = high; i < j; i++, j--) {
-            var temp = result[i];
-            result[i] = result[j];
-            result[j] = temp;
+            var temp = solutionString[i];
+            solutionString[i] = solutionString[j];
+            solutionString[j] = temp;
         }
-
-        return result;
     }
 }
@@ -0,0 +1,6 @@
+package scheduling.solver.heuristic.beecolony.move;
+
+public enum MoveSelection {
+    UNIFORM,
+    ADAPTIVE,
+}
@@ -0,0 +1,16 @@
+package scheduling.solver.heuristic.beecolony.move;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+public interface MoveSelector {
+
+    BeeColonyMove select(List<BeeColonyMove> moves, RandomGenerator random);
+
+    // fitnessGain is the candidate's improvement over its parent, 0 when it was
+    // not better; cost is the applied move's span, a deterministic measure of the
+    // work spent evaluating it.
+    default void reportResult(BeeColonyMove move, double fitnessGain, int cost) {}
+
+    default void update() {}
+}
@@ -0,0 +1,37 @@
+package scheduling.solver.heuristic.beecolony.move;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.List;
+
+// How NeighborhoodFunction picks a move. minProbability is the floor every move
+// keeps under ADAPTIVE selection and is ignored by UNIFORM. The floors of all moves
+// must fit in a total probability of 1.
+public record MoveSelectorConfig(MoveSelection selection, double minProbability) {
+
+    public static final MoveSelectorConfig UNIFORM =
+            new MoveSelectorConfig(MoveSelection.UNIFORM, 0.0);
+
+    public MoveSelectorConfig {
+        checkArgument(
+                minProbability >= 0 && minProbability < 1, "minProbability must be in [0, 1)");
+        checkArgument(
+                minProbability * NeighborhoodFunction.MOVES.size() <= 1,
+                "minProbability must be at most 1 / %s, one over the number of moves",
+                NeighborhoodFunction.MOVES.size());
+    }
+
+    public MoveSelector create(List<BeeColonyMove> moves) {
+        return switch (selection) {
+            case UNIFORM -> new UniformMoveSelector();
+            case ADAPTIVE -> new AdaptiveMoveSelector(minProbability, moves);
+        };
+    }
+
+    public String stringDesc() {
+        return switch (selection) {
+            case UNIFORM -> "UNIFORM";
+            case ADAPTIVE -> "ADAPTIVE(min=" + minProbability + ")";
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package scheduling.solver.heuristic.beecolony.move;
+
+public enum MoveType {
+    INSERT,
+    SWAP,
+    INVERSION,
+}
@@ -1,15 +1,37 @@
 package scheduling.solver.heuristic.beecolony.move;
 
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class NeighborhoodFunction {
 
-    private final List<BeeColonyMove> moves =
+    // Moves are stateless, so every neighborhood function shares them.
+    static final List<BeeColonyMove> MOVES =
             List.of(new InsertMove(), new SwapMove(), new InversionMove());
 
-    public int[] apply(int[] solutionString, Random random) {
-        var index = random.nextInt(moves.size());
-        return moves.get(index).apply(solutionString, random);
+    private final MoveSelector selector;
+
+    public NeighborhoodFunction() {
+        this(MoveSelectorConfig.UNIFORM);
+    }
+
+    public NeighborhoodFunction(MoveSelectorConfig selectorConfig) {
+        this.selector = selectorConfig.create(MOVES);
+    }
+
+    public int[] apply(int[] solutionString, RandomGenerator random) {
+        return selector.select(MOVES, random).apply(solutionString, random);
+    }
+
+    public AppliedMove applyInPlace(int[] solutionString, RandomGenerator random) {
+        return selector.select(MOVES, random).applyInPlace(solutionString, random);
+    }
+
+    public void reportResult(BeeColonyMove move, double fitnessGain, int cost) {
+        selector.reportResult(move, fitnessGain, cost);
+    }
+
+    public void update() {
+        selector.update();
     }
 }
@@ -1,19 +1,38 @@
 package scheduling.solver.heuristic.beecolony.move;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class SwapMove implements BeeColonyMove {
 
     @Override
-    public int[] apply(int[] solutionString, Random random) {
-        var indices = random.ints(0, solutionString.length).distinct().limit(2).toArray();
-        var i = indices[0];
-        var j = indices[1];
-        var result = solutionString.clone();
+    public MoveType type() {
+        return MoveType.SWAP;
+    }
+
+    @Override
+    public AppliedMove applyInPlace(int[] solutionString, RandomGenerator random) {
+        if (solutionString.length < 2) {
+            return new AppliedMove(this, 0, 0);
+        }
+        var i = random.nextInt(solutionString.length);
+        var j = random.nextInt(solutionString.length - 1);
+        if (j >= i) {
+            j++;
+        }
+        swap(solutionString, i, j);
+        return new AppliedMove(this, i, j);
+    }
 
-        result[i] = solutionString[j];
-        result[j] = solutionString[i];
+    @Override
+    public void revert(int[] solutionString, int first, int second) {
+        if (first != second) {
+            swap(solutionString, first, second);
+        }
+    }
 
-        return result;
+    private static void swap(int[] solutionString, int i, int j) {
+        var temp = solutionString[i];
+        solutionString[i] = solutionString[j];
+        solutionString[j] = temp;
     }
 }
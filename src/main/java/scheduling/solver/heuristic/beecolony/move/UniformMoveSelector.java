@@ -0,0 +1,12 @@
+package scheduling.solver.heuristic.beecolony.move;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+public class UniformMoveSelector implements MoveSelector {
+
+    @Override
+    public BeeColonyMove select(List<BeeColonyMove> moves, RandomGenerator random) {
+        return moves.get(random.nextInt(moves.size()));
+    }
+}
@@ -0,0 +1,41 @@
+package scheduling.solver.heuristic.beecolony.statistics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+import scheduling.solver.heuristic.beecolony.move.MoveType;
+
+// Move evaluation counters of one hive. Each worker only touches its own hive's
+// instance, and the instances are merged once the run ends.
+@Getter
+public class ColonyStatistics {
+
+    private final Map<MoveType, OperatorStatistics> operatorStatistics =
+            new EnumMap<>(MoveType.class);
+    private long totalEvaluations;
+    // Candidates whose decoded routes violated an attention constraint.
+    private long invalidEvaluations;
+
+    public OperatorStatistics getOrCreateOperatorStatistics(MoveType type) {
+        return operatorStatistics.computeIfAbsent(type, k -> new OperatorStatistics());
+    }
+
+    public void recordEvaluation(boolean invalid) {
+        totalEvaluations++;
+        if (invalid) {
+            invalidEvaluations++;
+        }
+    }
+
+    public double getInvalidShare() {
+        return totalEvaluations == 0 ? 0.0 : (double) invalidEvaluations / totalEvaluations;
+    }
+
+    public void merge(ColonyStatistics other) {
+        totalEvaluations += other.totalEvaluations;
+        invalidEvaluations += other.invalidEvaluations;
+        for (var entry : other.operatorStatistics.entrySet()) {
+            getOrCreateOperatorStatistics(entry.getKey()).merge(entry.getValue());
+        }
+    }
+}
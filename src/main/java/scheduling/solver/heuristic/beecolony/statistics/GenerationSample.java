@@ -0,0 +1,11 @@
+package scheduling.solver.heuristic.beecolony.statistics;
+
+// Population fitness and annealing temperature at the end of a generation, with
+// the elapsed time in seconds.
+public record GenerationSample(
+        int generation,
+        double time,
+        double bestFitness,
+        double averageFitness,
+        double worstFitness,
+        double temperature) {}
@@ -0,0 +1,53 @@
+package scheduling.solver.heuristic.beecolony.statistics;
+
+import lombok.Getter;
+
+// Outcome counts of one bee move type. A candidate is improving when its fitness is
+// at least the bee's, SA-accepted when it is worse but passed the annealing test,
+// and rejected otherwise.
+@Getter
+public class OperatorStatistics {
+
+    private long attemptCount;
+    private long improvingCount;
+    private long annealedCount;
+    private long rejectedCount;
+
+    public void recordImproving() {
+        attemptCount++;
+        improvingCount++;
+    }
+
+    public void recordAnnealed() {
+        attemptCount++;
+        annealedCount++;
+    }
+
+    public void recordRejected() {
+        attemptCount++;
+        rejectedCount++;
+    }
+
+    public double getImprovingRate() {
+        return rate(improvingCount);
+    }
+
+    public double getAnnealedRate() {
+        return rate(annealedCount);
+    }
+
+    public double getRejectedRate() {
+        return rate(rejectedCount);
+    }
+
+    public void merge(OperatorStatistics other) {
+        attemptCount += other.attemptCount;
+        improvingCount += other.improvingCount;
+        annealedCount += other.annealedCount;
+        rejectedCount += other.rejectedCount;
+    }
+
+    private double rate(long count) {
+        return attemptCount == 0 ? 0.0 : (double) count / attemptCount;
+    }
+}
@@ -0,0 +1,67 @@
+package scheduling.solver.heuristic.beecolony.vrp;
+
+import java.util.BitSet;
+import scheduling.model.Problem;
+import scheduling.model.enums.AttentionType;
+
+// Whether a vehicle may travel directly from one node to another, computed on demand
+// instead of materialising a vehicles x nodes x nodes distance cube.
+//
+// Suitability and groups are read from the Problem and the customers; the only
+// precomputed state is two bitsets per vehicle marking customers whose sole
+// attention type is F1 (must open the route) or L1 (must close it), so memory is
+// O(vehicles * customers) bits.
+public class ArcFeasibility {
+
+    private final Problem problem;
+    private final Customer[] customers;
+    private final int depotId;
+    private final BitSet[] firstOnly;
+    private final BitSet[] lastOnly;
+
+    public ArcFeasibility(Problem problem, Customer[] customers, Depot depot) {
+        this.problem = problem;
+        this.customers = customers;
+        this.depotId = depot.id();
+        var numVehicles = problem.getInventories().length;
+        this.firstOnly = new BitSet[numVehicles];
+        this.lastOnly = new BitSet[numVehicles];
+        for (int v = 0; v < numVehicles; v++) {
+            firstOnly[v] = new BitSet(customers.length);
+            lastOnly[v] = new BitSet(customers.length);
+            for (int c = 0; c < customers.length; c++) {
+                if (!problem.isSuitable(c, v)) {
+                    continue;
+                }
+                var types = problem.getAttentionTypes(c, v);
+                if (types.length != 1) {
+                    continue;
+                }
+                if (types[0] == AttentionType.F1) {
+                    firstOnly[v].set(c);
+                } else if (types[0] == AttentionType.L1) {
+                    lastOnly[v].set(c);
+                }
+            }
+        }
+    }
+
+    public boolean isFeasible(int vehicleId, int fromId, int toId) {
+        if (toId == depotId) {
+            return true;
+        }
+        if (fromId == depotId) {
+            return problem.isSuitable(toId, vehicleId);
+        }
+        if (fromId == toId) {
+            return false;
+        }
+        if (!problem.isSuitable(fromId, vehicleId) || !problem.isSuitable(toId, vehicleId)) {
+            return false;
+        }
+        if (customers[fromId].group() == customers[toId].group()) {
+            return false;
+        }
+        return !lastOnly[vehicleId].get(fromId) && !firstOnly[vehicleId].get(toId);
+    }
+}
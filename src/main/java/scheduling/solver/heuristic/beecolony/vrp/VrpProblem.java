@@ -11,6 +11,6 @@ public class VrpProblem {
     private final Customer[] customers;
     private final Vehicle[] vehicles;
     private final Depot depot;
-    private final double[][][] distance;
+    private final ArcFeasibility arcFeasibility;
     private final Problem problem;
 }
@@ -0,0 +1,237 @@
+package scheduling.solver.heuristic.grasp;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import scheduling.model.Problem;
+import scheduling.solver.EarlyStopMonitor;
+import scheduling.solver.SolverSolution;
+import scheduling.solver.StopReason;
+import scheduling.solver.heuristic.Deadline;
+import scheduling.solver.heuristic.grasp.elitepool.DiversitySample;
+import scheduling.solver.heuristic.grasp.elitepool.ElitePool;
+import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
+import scheduling.solver.heuristic.grasp.vnd.statistics.SearchStatistics;
+
+// Multi-threaded GRASP whose result depends only on the seed, the thread count and
+// the epoch budget of the config.
+//
+// Workers run a fixed number of iterations per epoch against a private copy of the
+// elite pool taken at the previous barrier. At each barrier the candidates of all
+// workers are merged into the shared pool and offered to the incumbent in worker
+// order, then the next epoch starts from the merged pool. The time limit is not
+// used; path relinking features that depend on measured time are rejected.
+// Evaluation and target budgets and iteration-based stagnation are checked at the
+// barriers only, which keeps the result independent of thread timing; the epoch
+// budget replaces an iteration one and time-based early stopping is rejected.
+@Slf4j
+public class DeterministicGraspAlgorithm extends GraspAlgorithm {
+
+    private final Random random;
+    private final int threadCount;
+    private final EpochConfig epochConfig;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Random is intentionally shared")
+    public DeterministicGraspAlgorithm(GraspConfig config, Random random, int threadCount) {
+        super(config);
+        Objects.requireNonNull(random);
+        checkArgument(threadCount > 0, "threadCount must be positive");
+        checkArgument(
+                config.getEpochConfig().isEnabled(), "deterministic mode needs an epoch budget");
+        var prConfig = config.getPathRelinkingConfig();
+        checkArgument(
+                prConfig.getTimeBudgetMillis() == 0
+                        && !prConfig.isAdaptive()
+                        && !prConfig.isEvolutionary(),
+                "deterministic mode does not support time-based path relinking");
+        checkArgument(
+                !config.getIslandConfig().isEnabled(),
+                "deterministic mode does not support islands");
+        checkArgument(
+                config.getLearningMode() == LearningMode.PER_THREAD,
+                "deterministic mode does not support shared learning");
+        checkArgument(
+                config.getBudget().iterations() == 0,
+                "deterministic mode is bounded by its epoch budget, not an iteration budget");
+        checkArgument(
+                !config.getEarlyStopConfig().isTimeBased(),
+                "deterministic mode does not support time-based early stopping");
+        this.random = random;
+        this.threadCount = threadCount;
+        this.epochConfig = config.getEpochConfig();
+    }
+
+    @Override
+    public SolverSolution<GraspInformation> run(Problem problem) {
+        var config = getConfig();
+        var elitePool =
+                new ElitePool(config.getElitePoolSize(), problem, config.getElitePoolConfig());
+
+        var startTimeMillis = System.currentTimeMillis();
+
+        var initial = buildInitialSolution(problem, random);
+        elitePool.add(initial);
+
+        var incumbent = new Incumbent(initial, elapsedSeconds(startTimeMillis));
+        var diversitySamples = new ArrayList<DiversitySample>();
+        var baseSeed = random.nextLong();
+        var workers = GraspWorker.create(config, threadCount, 1, baseSeed);
+        var earlyStop = newEarlyStopMonitor(initial.getTotalRevenue());
+        var stopReason = StopReason.COMPLETED;
+
+        log.info(
+                "Starting deterministic GRASP with {} threads, {}",
+                threadCount,
+                epochConfig.stringDesc());
+        var executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            for (int epoch = 1; epoch <= epochConfig.getEpochs(); epoch++) {
+                var candidates = runEpoch(executor, problem, elitePool, workers);
+                var iterations = (long) epoch * threadCount * epochConfig.getIterationsPerEpoch();
+                for (var workerCandidates : candidates) {
+                    for (var candidate : workerCandidates) {
+                        elitePool.add(candidate);
+                        if (incumbent.offer(candidate, elapsedSeconds(startTimeMillis))) {
+                            earlyStop.observe(candidate.getTotalRevenue(), 0.0, iterations);
+                        }
+                    }
+                }
+                diversitySamples.add(sampleDiversity(elitePool, startTimeMillis));
+                logProgress(epoch, startTimeMillis, incumbent);
+                var stop = checkBarrier(earlyStop, iterations, workers, incumbent);
+                if (stop.isPresent()) {
+                    stopReason = stop.get();
+                    log.info("Search stopped ({}) after epoch {}", stopReason, epoch);
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var aggregateSearch = new SearchStatistics();
+        var aggregateConstruction = new PhaseStatistics();
+        var aggregateLocalSearch = new PhaseStatistics();
+        var aggregatePathRelinking = new PhaseStatistics();
+        for (var worker : workers) {
+            aggregateSearch.merge(worker.getVnd().getStatistics());
+            aggregateConstruction.merge(worker.getConstructionStats());
+            aggregateLocalSearch.merge(worker.getLocalSearchStats());
+            aggregatePathRelinking.merge(worker.getPathRelinkingStats());
+        }
+
+        var elapsed = elapsedSeconds(startTimeMillis);
+        log.info(
+                "Deterministic GRASP finished {} iterations in {}s | Rate: {}/s",
+                aggregateConstruction.getCallCount(),
+                String.format("%.1f", elapsed),
+                String.format("%.1f", aggregateConstruction.getCallCount() / elapsed));
+
+        var solution = SolutionConverter.toSolution(problem, incumbent.getBest());
+        var info =
+                new GraspInformation(
+                        config,
+                        aggregateSearch,
+                        aggregateConstruction,
+                        aggregateLocalSearch,
+                        aggregatePathRelinking,
+                        new PhaseStatistics(),
+                        List.copyOf(diversitySamples),
+                        stopReason);
+        return new SolverSolution<>(solution, incumbent.getCheckPoints(), info);
+    }
+
+    // Runs one epoch on every worker and returns their candidates in worker order.
+    private List<List<GraspSolution>> runEpoch(
+            ExecutorService executor,
+            Problem problem,
+            ElitePool elitePool,
+            List<GraspWorker> workers) {
+        var snapshot = elitePool.getSolutions();
+        var tasks = new ArrayList<Callable<List<GraspSolution>>>(workers.size());
+        for (var worker : workers) {
+            tasks.add(() -> runWorkerEpoch(problem, snapshot, worker));
+        }
+        try {
+            var results = new ArrayList<List<GraspSolution>>(workers.size());
+            for (var future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<GraspSolution> runWorkerEpoch(
+            Problem problem, List<GraspSolution> snapshot, GraspWorker worker) {
+        var config = getConfig();
+        var localPool =
+                new ElitePool(config.getElitePoolSize(), problem, config.getElitePoolConfig());
+        snapshot.forEach(localPool::add);
+
+        var candidates = new ArrayList<GraspSolution>(epochConfig.getIterationsPerEpoch());
+        for (int i = 0; i < epochConfig.getIterationsPerEpoch(); i++) {
+            candidates.add(
+                    runIteration(
+                            problem,
+                            localPool,
+                            worker.getAlphaGen(),
+                            worker.getVnd(),
+                            worker.getRandom(),
+                            worker.getConstructionStats(),
+                            worker.getLocalSearchStats(),
+                            worker.getPathRelinkingStats(),
+                            Deadline.NONE));
+            worker.completeIteration(config.getUpdateInterval());
+        }
+        return candidates;
+    }
+
+    // Stop criteria that only depend on counts and revenues, in the order of
+    // checkStop; no time is measured.
+    private Optional<StopReason> checkBarrier(
+            EarlyStopMonitor earlyStop,
+            long iterations,
+            List<GraspWorker> workers,
+            Incumbent incumbent) {
+        var budget = getConfig().getBudget();
+        if (budget.targetReached(incumbent.getBestRevenue())) {
+            return Optional.of(StopReason.TARGET_REACHED);
+        }
+        if (budget.evaluationsExhausted(evaluations(workers))) {
+            return Optional.of(StopReason.EVALUATION_BUDGET);
+        }
+        return earlyStop.check(0.0, iterations);
+    }
+
+    private static long evaluations(List<GraspWorker> workers) {
+        var total = 0L;
+        for (var worker : workers) {
+            total += worker.getVnd().getStatistics().getTotalEvaluations();
+        }
+        return total;
+    }
+
+    private void logProgress(int epoch, long startTimeMillis, Incumbent incumbent) {
+        log.info(
+                "Elapsed: {}s | Epoch: {}/{} | Best: {}",
+                String.format("%.1f", elapsedSeconds(startTimeMillis)),
+                epoch,
+                epochConfig.getEpochs(),
+                String.format("%.2f", incumbent.getBestRevenue()));
+    }
+}
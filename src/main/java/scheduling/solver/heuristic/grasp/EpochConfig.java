@@ -0,0 +1,38 @@
+package scheduling.solver.heuristic.grasp;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+// - epochs: number of synchronized epochs; the run stops after the last one
+//   (0 = free-running, no epochs)
+// - iterationsPerEpoch: GRASP iterations each worker runs between two barriers
+@Getter
+public class EpochConfig {
+
+    public static final EpochConfig NONE = new EpochConfig(0, 1);
+
+    private final int epochs;
+    private final int iterationsPerEpoch;
+
+    public EpochConfig(int epochs, int iterationsPerEpoch) {
+        checkArgument(epochs >= 0, "epochs must be non-negative");
+        checkArgument(iterationsPerEpoch > 0, "iterationsPerEpoch must be positive");
+        this.epochs = epochs;
+        this.iterationsPerEpoch = iterationsPerEpoch;
+    }
+
+    @JsonIgnore
+    public boolean isEnabled() {
+        return epochs > 0;
+    }
+
+    public long totalIterations(int threadCount) {
+        return (long) epochs * iterationsPerEpoch * threadCount;
+    }
+
+    public String stringDesc() {
+        return "EPOCH[n=" + epochs + ", iters=" + iterationsPerEpoch + "]";
+    }
+}
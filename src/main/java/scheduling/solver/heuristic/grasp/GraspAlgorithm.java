@@ -1,15 +1,21 @@
 package scheduling.solver.heuristic.grasp;
 
+import java.util.Optional;
 import java.util.Random;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import scheduling.model.Problem;
 import scheduling.solver.CheckPoint;
+import scheduling.solver.EarlyStopMonitor;
+import scheduling.solver.StopReason;
+import scheduling.solver.heuristic.Deadline;
 import scheduling.solver.heuristic.HeuristicAlgorithm;
+import scheduling.solver.heuristic.grasp.construction.AlphaGenerator;
 import scheduling.solver.heuristic.grasp.construction.GreedyConstruction;
-import scheduling.solver.heuristic.grasp.construction.ReactiveAlphaGenerator;
+import scheduling.solver.heuristic.grasp.elitepool.DiversitySample;
 import scheduling.solver.heuristic.grasp.elitepool.ElitePool;
+import scheduling.solver.heuristic.grasp.pathrelinking.EvolutionaryPathRelinking;
 import scheduling.solver.heuristic.grasp.pathrelinking.MixedPathRelinking;
 import scheduling.solver.heuristic.grasp.vnd.VND;
 import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
@@ -17,6 +23,8 @@ import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
 @RequiredArgsConstructor
 public abstract class GraspAlgorithm implements HeuristicAlgorithm<GraspInformation> {
 
+    private static final int ADAPTIVE_RELINKING_WARMUP = 10;
+
     @Getter(AccessLevel.PROTECTED)
     private final GraspConfig config;
 
@@ -26,23 +34,34 @@ public abstract class GraspAlgorithm implements HeuristicAlgorithm<GraspInformat
                 .solve();
     }
 
+    // One construction, local search and optional relinking step. When the deadline
+    // cuts the construction short, the partial schedule is returned without local
+    // search, alpha feedback or a place in the elite pool, since its revenue says
+    // nothing about the alpha it was built with.
     protected GraspSolution runIteration(
             Problem problem,
             ElitePool elitePool,
-            ReactiveAlphaGenerator alphaGen,
+            AlphaGenerator alphaGen,
             VND vnd,
             Random random,
             PhaseStatistics constructionStats,
             PhaseStatistics localSearchStats,
-            PhaseStatistics pathRelinkingStats) {
+            PhaseStatistics pathRelinkingStats,
+            Deadline deadline) {
         var alpha = alphaGen.generateAlpha(random);
-        var constructed = runConstruction(problem, alpha, random, constructionStats);
-        var afterVnd = runLocalSearch(vnd, constructed, localSearchStats);
+        var constructed = runConstruction(problem, alpha, random, constructionStats, deadline);
+        if (deadline.isExpired()) {
+            return constructed;
+        }
+        var afterVnd = runLocalSearch(vnd, constructed, localSearchStats, deadline);
         alphaGen.feedback(alpha, afterVnd.getTotalRevenue());
-        if (elitePool.size() >= 2) {
+        if (elitePool.size() >= 2
+                && !deadline.isExpired()
+                && shouldRelink(random, localSearchStats, pathRelinkingStats)) {
             var prResult =
-                    runPathRelinking(problem, elitePool, random, afterVnd, pathRelinkingStats);
-            afterVnd = runLocalSearch(vnd, prResult, localSearchStats);
+                    runPathRelinking(
+                            problem, elitePool, random, afterVnd, pathRelinkingStats, deadline);
+            afterVnd = runLocalSearch(vnd, prResult, localSearchStats, deadline);
         }
 
         elitePool.add(afterVnd);
@@ -53,12 +72,81 @@ public abstract class GraspAlgorithm implements HeuristicAlgorithm<GraspInformat
         return new CheckPoint(objective, elapsedSeconds(startTimeMillis));
     }
 
+    protected DiversitySample sampleDiversity(ElitePool elitePool, long startTimeMillis) {
+        return new DiversitySample(
+                elapsedSeconds(startTimeMillis), elitePool.size(), elitePool.getDiversity());
+    }
+
     protected double elapsedSeconds(long startTimeMillis) {
         return (System.currentTimeMillis() - startTimeMillis) / 1000.0;
     }
 
+    // Time available to the GRASP iterations; the rest of the time limit is
+    // reserved for evolutionary relinking when it is enabled.
+    protected double searchTimeLimitSeconds() {
+        var reserved = config.getPathRelinkingConfig().getEvolutionaryFraction();
+        return config.getTimeLimitSeconds() * (1.0 - reserved);
+    }
+
+    protected EarlyStopMonitor newEarlyStopMonitor(double initialRevenue) {
+        return new EarlyStopMonitor(config.getEarlyStopConfig(), initialRevenue);
+    }
+
+    // The first criterion that ends the search, checked in order: the search time
+    // limit, the target revenue, the iteration and evaluation budgets and finally
+    // the early-stop policy.
+    protected Optional<StopReason> checkStop(
+            EarlyStopMonitor earlyStop,
+            double elapsedSeconds,
+            long iterations,
+            long evaluations,
+            double bestRevenue) {
+        var budget = config.getBudget();
+        if (elapsedSeconds >= searchTimeLimitSeconds()) {
+            return Optional.of(StopReason.TIME_LIMIT);
+        }
+        if (budget.targetReached(bestRevenue)) {
+            return Optional.of(StopReason.TARGET_REACHED);
+        }
+        if (budget.iterationsExhausted(iterations)) {
+            return Optional.of(StopReason.ITERATION_BUDGET);
+        }
+        if (budget.evaluationsExhausted(evaluations)) {
+            return Optional.of(StopReason.EVALUATION_BUDGET);
+        }
+        return earlyStop.check(elapsedSeconds, iterations);
+    }
+
+    // Deadline at which the search time of a run started at startTimeMillis ends.
+    protected Deadline searchDeadline(long startTimeMillis) {
+        var elapsedMillis = System.currentTimeMillis() - startTimeMillis;
+        return Deadline.afterMillis((long) (searchTimeLimitSeconds() * 1000) - elapsedMillis);
+    }
+
+    protected GraspSolution runEvolutionaryRelinking(
+            Problem problem,
+            ElitePool elitePool,
+            long seed,
+            int threadCount,
+            long startTimeMillis,
+            PhaseStatistics evolutionaryStats) {
+        var elapsedMillis = System.currentTimeMillis() - startTimeMillis;
+        var remainingMillis = Math.max(config.getTimeLimitSeconds() * 1000L - elapsedMillis, 0);
+        var deadlineNanos = System.nanoTime() + remainingMillis * 1_000_000L;
+        return new EvolutionaryPathRelinking(
+                        problem,
+                        config.getVndConfig(),
+                        config.getPathRelinkingConfig(),
+                        threadCount)
+                .run(elitePool, seed, deadlineNanos, evolutionaryStats);
+    }
+
     private GraspSolution runConstruction(
-            Problem problem, double alpha, Random random, PhaseStatistics constructionStats) {
+            Problem problem,
+            double alpha,
+            Random random,
+            PhaseStatistics constructionStats,
+            Deadline deadline) {
         var startNanos = System.nanoTime();
         var constructed =
                 new GreedyConstruction(
@@ -67,17 +155,20 @@ public abstract class GraspAlgorithm implements HeuristicAlgorithm<GraspInformat
                                 random,
                                 config.getLowerBound(),
                                 config.getUpperBound())
-                        .solve();
+                        .solve(deadline);
         var elapsedNanos = System.nanoTime() - startNanos;
         constructionStats.record(elapsedNanos, constructed.getTotalRevenue());
         return constructed;
     }
 
     private GraspSolution runLocalSearch(
-            VND vnd, GraspSolution constructed, PhaseStatistics localSearchStats) {
+            VND vnd,
+            GraspSolution constructed,
+            PhaseStatistics localSearchStats,
+            Deadline deadline) {
         var revenueBefore = constructed.getTotalRevenue();
         var startNanos = System.nanoTime();
-        var afterVnd = vnd.search(constructed);
+        var afterVnd = vnd.search(constructed, deadline);
         var elapsedNanos = System.nanoTime() - startNanos;
         localSearchStats.record(elapsedNanos, afterVnd.getTotalRevenue() - revenueBefore);
         return afterVnd;
@@ -88,13 +179,44 @@ public abstract class GraspAlgorithm implements HeuristicAlgorithm<GraspInformat
             ElitePool elitePool,
             Random random,
             GraspSolution afterVnd,
-            PhaseStatistics pathRelinkingStats) {
+            PhaseStatistics pathRelinkingStats,
+            Deadline deadline) {
         var revenueBefore = afterVnd.getTotalRevenue();
         var startNanos = System.nanoTime();
-        var guide = elitePool.getRandomGuide(random);
-        var prResult = new MixedPathRelinking(problem, afterVnd, guide, random).relink();
+        var guide = elitePool.getGuide(afterVnd, random);
+        var prResult =
+                new MixedPathRelinking(
+                                problem,
+                                afterVnd,
+                                guide,
+                                random,
+                                config.getPathRelinkingConfig())
+                        .relink(deadline);
         var elapsedNanos = System.nanoTime() - startNanos;
         pathRelinkingStats.record(elapsedNanos, prResult.getTotalRevenue() - revenueBefore);
         return prResult;
     }
+
+    // Adaptive relinking runs with probability proportional to its measured gain per
+    // millisecond relative to local search, floored at the configured minimum.
+    private boolean shouldRelink(
+            Random random, PhaseStatistics localSearchStats, PhaseStatistics pathRelinkingStats) {
+        var prConfig = config.getPathRelinkingConfig();
+        if (!prConfig.isAdaptive()
+                || pathRelinkingStats.getCallCount() < ADAPTIVE_RELINKING_WARMUP) {
+            return true;
+        }
+        var localSearchRate = gainPerMilli(localSearchStats);
+        if (localSearchRate <= 0) {
+            return true;
+        }
+        var ratio = gainPerMilli(pathRelinkingStats) / localSearchRate;
+        var probability = Math.clamp(ratio, prConfig.getMinProbability(), 1.0);
+        return random.nextDouble() < probability;
+    }
+
+    private static double gainPerMilli(PhaseStatistics statistics) {
+        var millis = Math.max(statistics.getTotalTimeNanos() / 1e6, 1e-3);
+        return statistics.getTotalRevenueGain() / millis;
+    }
 }
@@ -7,8 +7,14 @@ import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Objects;
+import lombok.Builder;
 import lombok.Getter;
+import scheduling.solver.Budget;
+import scheduling.solver.EarlyStopConfig;
 import scheduling.solver.RunInfo;
+import scheduling.solver.heuristic.grasp.elitepool.ElitePoolConfig;
+import scheduling.solver.heuristic.grasp.island.IslandConfig;
+import scheduling.solver.heuristic.grasp.pathrelinking.PathRelinkingConfig;
 import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
 
 @Getter
@@ -21,15 +27,30 @@ public class GraspConfig {
     private final double lowerBound;
     private final double upperBound;
     private final int updateInterval;
+    private final PathRelinkingConfig pathRelinkingConfig;
+    private final ElitePoolConfig elitePoolConfig;
+    private final IslandConfig islandConfig;
+    private final LearningMode learningMode;
+    private final Budget budget;
+    private final EarlyStopConfig earlyStopConfig;
+    private final EpochConfig epochConfig;
 
-    public GraspConfig(
+    @Builder
+    private GraspConfig(
             RunInfo runInfo,
             int timeLimitSeconds,
             int elitePoolSize,
             VNDConfig vndConfig,
             double lowerBound,
             double upperBound,
-            int updateInterval) {
+            int updateInterval,
+            PathRelinkingConfig pathRelinkingConfig,
+            ElitePoolConfig elitePoolConfig,
+            IslandConfig islandConfig,
+            LearningMode learningMode,
+            Budget budget,
+            EarlyStopConfig earlyStopConfig,
+            EpochConfig epochConfig) {
         this.runInfo = Objects.requireNonNull(runInfo);
         checkArgument(timeLimitSeconds > 0, "timeLimitSeconds must be positive");
         checkArgument(elitePoolSize > 0, "elitePoolSize must be positive");
@@ -40,6 +61,26 @@ public class GraspConfig {
         this.lowerBound = lowerBound;
         this.upperBound = upperBound;
         this.updateInterval = updateInterval;
+        this.pathRelinkingConfig = Objects.requireNonNull(pathRelinkingConfig);
+        this.elitePoolConfig = Objects.requireNonNull(elitePoolConfig);
+        this.islandConfig = Objects.requireNonNull(islandConfig);
+        this.learningMode = Objects.requireNonNull(learningMode);
+        this.budget = Objects.requireNonNull(budget);
+        checkArgument(budget.generations() == 0, "GRASP does not support a generation budget");
+        this.earlyStopConfig = Objects.requireNonNull(earlyStopConfig);
+        this.epochConfig = Objects.requireNonNull(epochConfig);
+    }
+
+    // Lombok fills in the setters; the fields below start at the settings of a plain
+    // GRASP run, so callers only set what they change.
+    public static class GraspConfigBuilder {
+        private PathRelinkingConfig pathRelinkingConfig = PathRelinkingConfig.FULL;
+        private ElitePoolConfig elitePoolConfig = ElitePoolConfig.DEFAULT;
+        private IslandConfig islandConfig = IslandConfig.SHARED;
+        private LearningMode learningMode = LearningMode.PER_THREAD;
+        private Budget budget = Budget.NONE;
+        private EarlyStopConfig earlyStopConfig = EarlyStopConfig.NONE;
+        private EpochConfig epochConfig = EpochConfig.NONE;
     }
 
     public String stringDesc() {
@@ -56,6 +97,13 @@ public class GraspConfig {
                 + updateInterval
                 + ", "
                 + vndConfig.stringDesc()
+                + (pathRelinkingConfig.isFull() ? "" : ", " + pathRelinkingConfig.stringDesc())
+                + (elitePoolConfig.isDefault() ? "" : ", " + elitePoolConfig.stringDesc())
+                + (islandConfig.isEnabled() ? ", " + islandConfig.stringDesc() : "")
+                + (learningMode == LearningMode.SHARED ? ", learn=SHARED" : "")
+                + (budget.isLimited() ? ", " + budget.stringDesc() : "")
+                + (earlyStopConfig.isEnabled() ? ", " + earlyStopConfig.stringDesc() : "")
+                + (epochConfig.isEnabled() ? ", " + epochConfig.stringDesc() : "")
                 + "]";
     }
 
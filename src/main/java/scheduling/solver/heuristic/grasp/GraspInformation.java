@@ -1,7 +1,10 @@
 package scheduling.solver.heuristic.grasp;
 
+import java.util.List;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import scheduling.solver.StopReason;
+import scheduling.solver.heuristic.grasp.elitepool.DiversitySample;
 import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
 import scheduling.solver.heuristic.grasp.vnd.statistics.SearchStatistics;
 
@@ -14,4 +17,7 @@ public class GraspInformation {
     private final PhaseStatistics constructionStatistics;
     private final PhaseStatistics localSearchStatistics;
     private final PhaseStatistics pathRelinkingStatistics;
+    private final PhaseStatistics evolutionaryStatistics;
+    private final List<DiversitySample> diversitySamples;
+    private final StopReason stopReason;
 }
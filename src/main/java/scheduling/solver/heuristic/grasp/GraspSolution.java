@@ -1,5 +1,6 @@
 package scheduling.solver.heuristic.grasp;
 
+import java.util.Arrays;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import scheduling.model.Problem;
@@ -34,6 +35,51 @@ public class GraspSolution {
         return new Builder(this, problem);
     }
 
+    // Rebuilds start times, revenues, durations and assignments from the
+    // per-inventory sequences alone. The sequence arrays are shared, not copied.
+    public static GraspSolution fromSequences(Problem problem, int[][] sequences) {
+        var numInv = sequences.length;
+        var numComm = problem.getCommercials().length;
+        var maxHour = Arrays.stream(problem.getHours()).max().orElse(0);
+        var startTimes = new int[numInv][];
+        var revenues = new double[numInv][];
+        var totalDurationOfHour = new int[maxHour + 1];
+        var totalInvDuration = new int[numInv];
+        var assignedInvId = new int[numComm];
+        var assignedPos = new int[numComm];
+        Arrays.fill(assignedInvId, -1);
+        Arrays.fill(assignedPos, -1);
+        var totalRevenue = 0.0;
+
+        for (int invId = 0; invId < numInv; invId++) {
+            var sequence = sequences[invId];
+            startTimes[invId] = new int[sequence.length];
+            revenues[invId] = new double[sequence.length];
+            var time = 0;
+            for (int pos = 0; pos < sequence.length; pos++) {
+                var commId = sequence[pos];
+                startTimes[invId][pos] = time;
+                revenues[invId][pos] = problem.getRevenue(commId, invId, time);
+                totalRevenue += revenues[invId][pos];
+                time += problem.getCommercial(commId).getDuration();
+                assignedInvId[commId] = invId;
+                assignedPos[commId] = pos;
+            }
+            totalInvDuration[invId] = time;
+            totalDurationOfHour[problem.getInventory(invId).getHour()] += time;
+        }
+
+        return new GraspSolution(
+                sequences,
+                startTimes,
+                revenues,
+                totalRevenue,
+                totalDurationOfHour,
+                totalInvDuration,
+                assignedInvId,
+                assignedPos);
+    }
+
     public static class Builder {
 
         private final GraspSolution original;
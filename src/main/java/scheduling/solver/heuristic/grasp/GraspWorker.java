@@ -0,0 +1,93 @@
+package scheduling.solver.heuristic.grasp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.AccessLevel;
+import lombok.Getter;
+import scheduling.solver.heuristic.grasp.construction.AlphaGenerator;
+import scheduling.solver.heuristic.grasp.construction.ReactiveAlphaGenerator;
+import scheduling.solver.heuristic.grasp.construction.SharedAlphaGenerator;
+import scheduling.solver.heuristic.grasp.vnd.VND;
+import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
+import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
+
+// Per-thread GRASP state of the parallel algorithms. It is created by the
+// coordinating thread before the worker starts, so its statistics can be read
+// after the worker finished or was cancelled.
+@Getter(AccessLevel.PACKAGE)
+final class GraspWorker {
+
+    private final Random random;
+    private final AlphaGenerator alphaGen;
+    private final VNDConfig vndConfig;
+    private final VND vnd;
+    private final PhaseStatistics constructionStats = new PhaseStatistics();
+    private final PhaseStatistics localSearchStats = new PhaseStatistics();
+    private final PhaseStatistics pathRelinkingStats = new PhaseStatistics();
+    @Getter(AccessLevel.NONE)
+    private int localIteration;
+    @Getter(AccessLevel.NONE)
+    private long reportedEvaluations;
+
+    // Worker with its own alpha generator and a fresh selector.
+    GraspWorker(VNDConfig vndConfig, long seed) {
+        this(vndConfig.withFreshSelector(), new ReactiveAlphaGenerator(), seed);
+    }
+
+    // Worker using the given selector and alpha generator, which may be shared.
+    GraspWorker(VNDConfig vndConfig, AlphaGenerator alphaGen, long seed) {
+        this.random = new Random(seed);
+        this.alphaGen = alphaGen;
+        this.vndConfig = vndConfig;
+        this.vnd = new VND(vndConfig, random);
+    }
+
+    // Creates threadCount workers with seeds baseSeed + 1, baseSeed + 2, ... Under
+    // SHARED learning the workers of one island use one selector and one alpha
+    // generator; workers are assigned to islands round-robin as in Archipelago.
+    static List<GraspWorker> create(
+            GraspConfig config, int threadCount, int islandCount, long baseSeed) {
+        var workers = new ArrayList<GraspWorker>(threadCount);
+        if (config.getLearningMode() == LearningMode.PER_THREAD) {
+            for (int t = 0; t < threadCount; t++) {
+                workers.add(new GraspWorker(config.getVndConfig(), baseSeed + t + 1));
+            }
+            return workers;
+        }
+        var sharedVndConfigs = new ArrayList<VNDConfig>(islandCount);
+        var sharedAlphaGens = new ArrayList<AlphaGenerator>(islandCount);
+        for (int island = 0; island < islandCount; island++) {
+            sharedVndConfigs.add(config.getVndConfig().withSharedSelector());
+            sharedAlphaGens.add(new SharedAlphaGenerator());
+        }
+        for (int t = 0; t < threadCount; t++) {
+            var island = t % islandCount;
+            workers.add(
+                    new GraspWorker(
+                            sharedVndConfigs.get(island),
+                            sharedAlphaGens.get(island),
+                            baseSeed + t + 1));
+        }
+        return workers;
+    }
+
+    // Counts a finished iteration and returns the worker-local iteration number,
+    // updating the adaptive selector and alpha generator every updateInterval.
+    int completeIteration(int updateInterval) {
+        localIteration++;
+        if (localIteration % updateInterval == 0) {
+            vndConfig.getSelector().update();
+            alphaGen.update();
+        }
+        return localIteration;
+    }
+
+    // VND candidate evaluations since the previous call, for a shared budget count.
+    long takeNewEvaluations() {
+        var total = vnd.getStatistics().getTotalEvaluations();
+        var delta = total - reportedEvaluations;
+        reportedEvaluations = total;
+        return delta;
+    }
+}
@@ -0,0 +1,73 @@
+package scheduling.solver.heuristic.grasp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import scheduling.solver.CheckPoint;
+
+// Global best solution shared by GRASP worker threads.
+//
+// The solution, its revenue and the checkpoint trace are published together as
+// one immutable snapshot and replaced with compare-and-set only when a candidate
+// strictly improves the revenue, so readers never block and the trace only holds
+// global improvements. The trace is a persistent linked list, so an improvement
+// allocates a single node.
+public class Incumbent {
+
+    private record Trace(CheckPoint checkPoint, Optional<Trace> previous) {}
+
+    private record Snapshot(GraspSolution solution, Trace trace) {}
+
+    private final AtomicReference<Snapshot> current;
+
+    public Incumbent(GraspSolution initial, double timeSeconds) {
+        var checkPoint = new CheckPoint(initial.getTotalRevenue(), timeSeconds);
+        var trace = new Trace(checkPoint, Optional.empty());
+        this.current = new AtomicReference<>(new Snapshot(initial, trace));
+    }
+
+    // Publishes candidate if it beats the current best and returns whether it did.
+    // Checkpoint times never decrease, even when offers race.
+    public boolean offer(GraspSolution candidate, double timeSeconds) {
+        while (true) {
+            var snapshot = current.get();
+            if (candidate.getTotalRevenue() <= snapshot.solution().getTotalRevenue()) {
+                return false;
+            }
+            var time = Math.max(timeSeconds, snapshot.trace().checkPoint().getTime());
+            var checkPoint = new CheckPoint(candidate.getTotalRevenue(), time);
+            var trace = new Trace(checkPoint, Optional.of(snapshot.trace()));
+            var next = new Snapshot(candidate, trace);
+            if (current.compareAndSet(snapshot, next)) {
+                return true;
+            }
+        }
+    }
+
+    public GraspSolution getBest() {
+        return current.get().solution();
+    }
+
+    public double getBestRevenue() {
+        return current.get().solution().getTotalRevenue();
+    }
+
+    // Time of the most recent improvement.
+    public double getBestTime() {
+        return current.get().trace().checkPoint().getTime();
+    }
+
+    // Improvements in chronological order.
+    public List<CheckPoint> getCheckPoints() {
+        var result = new ArrayList<CheckPoint>();
+        var trace = Optional.of(current.get().trace());
+        while (trace.isPresent()) {
+            result.add(trace.get().checkPoint());
+            trace = trace.get().previous();
+        }
+        Collections.reverse(result);
+        return result;
+    }
+}
@@ -0,0 +1,9 @@
+package scheduling.solver.heuristic.grasp;
+
+// How the parallel GRASP workers learn alpha and neighborhood probabilities.
+public enum LearningMode {
+    // every worker has its own alpha generator and selector
+    PER_THREAD,
+    // all workers of a run feed and read one alpha generator and one selector
+    SHARED,
+}
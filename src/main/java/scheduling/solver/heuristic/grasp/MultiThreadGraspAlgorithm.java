@@ -3,6 +3,7 @@ package scheduling.solver.heuristic.grasp;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -10,19 +11,20 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 import lombok.extern.slf4j.Slf4j;
 import scheduling.model.Problem;
-import scheduling.solver.CheckPoint;
+import scheduling.solver.EarlyStopMonitor;
 import scheduling.solver.SolverSolution;
-import scheduling.solver.heuristic.grasp.construction.ReactiveAlphaGenerator;
+import scheduling.solver.StopReason;
+import scheduling.solver.heuristic.grasp.elitepool.DiversitySample;
 import scheduling.solver.heuristic.grasp.elitepool.ElitePool;
-import scheduling.solver.heuristic.grasp.vnd.VND;
+import scheduling.solver.heuristic.grasp.island.Archipelago;
 import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
 import scheduling.solver.heuristic.grasp.vnd.statistics.SearchStatistics;
 
@@ -30,201 +32,490 @@ import scheduling.solver.heuristic.grasp.vnd.statistics.SearchStatistics;
 public class MultiThreadGraspAlgorithm extends GraspAlgorithm {
 
     private static final int LOG_INTERVAL = 100;
+    // How often a worker parked by the thread scaler checks whether it may resume.
+    private static final long IDLE_NANOS = 10_000_000;
+    // Platform threads: the workers are CPU-bound and never block.
+    private static final ThreadFactory WORKER_THREADS =
+            Thread.ofPlatform().name("grasp-worker-", 0).factory();
 
     private final Random random;
     private final int threadCount;
-
-    private record ThreadResult(
-            Optional<GraspSolution> best,
-            SearchStatistics searchStatistics,
-            PhaseStatistics constructionStatistics,
-            PhaseStatistics localSearchStatistics,
-            PhaseStatistics pathRelinkingStatistics) {}
+    private final boolean autoThreads;
+    // Workers with an index at or above this count stay parked; only below
+    // threadCount when the thread count is chosen automatically.
+    private volatile int activeThreads;
+    private volatile Optional<Incumbent> incumbent = Optional.empty();
+    private volatile Optional<Archipelago> activeArchipelago = Optional.empty();
+    private volatile Optional<SearchControl> activeControl = Optional.empty();
+    // Guards publishing a run to inject and the solutions injected while no run was
+    // in progress, which the next run receives when it starts.
+    private final Object injectionLock = new Object();
+    private final List<GraspSolution> pendingInjections = new ArrayList<>();
+    private volatile boolean stopRequested;
 
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Random is intentionally shared")
     public MultiThreadGraspAlgorithm(GraspConfig config, Random random, int threadCount) {
+        this(config, random, threadCount, false);
+    }
+
+    public MultiThreadGraspAlgorithm(GraspConfig config, Random random) {
+        this(config, random, Runtime.getRuntime().availableProcessors());
+    }
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Random is intentionally shared")
+    private MultiThreadGraspAlgorithm(
+            GraspConfig config, Random random, int threadCount, boolean autoThreads) {
         super(config);
         Objects.requireNonNull(random);
         checkArgument(threadCount > 0, "threadCount must be positive");
+        checkArgument(
+                !autoThreads || config.getIslandConfig().getIslandCount() <= 1,
+                "automatic thread count does not support islands");
         this.random = random;
         this.threadCount = threadCount;
+        this.autoThreads = autoThreads;
+        this.activeThreads = threadCount;
     }
 
-    public MultiThreadGraspAlgorithm(GraspConfig config, Random random) {
-        this(config, random, Runtime.getRuntime().availableProcessors());
+    // Starts workers for up to maxThreads threads but lets a ThreadScaler decide
+    // from measured throughput how many of them run, see runScaler. Islands are
+    // rejected: parked workers would leave whole islands without a running worker.
+    public static MultiThreadGraspAlgorithm withAutoThreads(
+            GraspConfig config, Random random, int maxThreads) {
+        return new MultiThreadGraspAlgorithm(config, random, maxThreads, true);
+    }
+
+    public static MultiThreadGraspAlgorithm withAutoThreads(GraspConfig config, Random random) {
+        return withAutoThreads(config, random, Runtime.getRuntime().availableProcessors());
+    }
+
+    // Global best of the current (or last) run, readable while workers are running.
+    public Optional<GraspSolution> currentBest() {
+        return incumbent.map(Incumbent::getBest);
+    }
+
+    // The best members of the current run's island elite pools, at most limit of
+    // them, highest revenue first. Empty when no run is in progress.
+    public List<GraspSolution> currentElite(int limit) {
+        var runArchipelago = activeArchipelago;
+        if (runArchipelago.isEmpty()) {
+            return List.of();
+        }
+        return runArchipelago.get().getPools().stream()
+                .flatMap(pool -> pool.getSolutions().stream())
+                .sorted(Comparator.comparingDouble(GraspSolution::getTotalRevenue).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    // Makes workers stop after their current iteration, as if the time limit was
+    // reached. Sticky: a later run stops immediately.
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    // Offers a solution found elsewhere to the search: it may become the incumbent
+    // and is queued for every island's elite pool. Solutions injected before the
+    // run has built its initial solution are held back until it starts searching.
+    public void inject(GraspSolution solution) {
+        synchronized (injectionLock) {
+            var runControl = activeControl;
+            var runArchipelago = activeArchipelago;
+            if (runControl.isEmpty() || runArchipelago.isEmpty()) {
+                pendingInjections.add(solution);
+                return;
+            }
+            deliver(runArchipelago.get(), runControl.get(), solution);
+        }
+    }
+
+    private static void deliver(
+            Archipelago archipelago, SearchControl control, GraspSolution solution) {
+        control.offer(solution);
+        for (int island = 0; island < archipelago.size(); island++) {
+            archipelago.deliver(island, solution);
+        }
+    }
+
+    // Publishes the run to inject and hands it the solutions that arrived earlier.
+    private void activate(Archipelago archipelago, SearchControl control) {
+        synchronized (injectionLock) {
+            this.activeArchipelago = Optional.of(archipelago);
+            this.activeControl = Optional.of(control);
+            for (var solution : pendingInjections) {
+                deliver(archipelago, control, solution);
+            }
+            pendingInjections.clear();
+        }
+    }
+
+    private void deactivate() {
+        synchronized (injectionLock) {
+            this.activeArchipelago = Optional.empty();
+            this.activeControl = Optional.empty();
+        }
     }
 
     @Override
     public SolverSolution<GraspInformation> run(Problem problem) {
         var config = getConfig();
-        var elitePool =
-                ElitePool.threadSafe(config.getElitePoolSize(), problem.getCommercials().length);
+        var archipelago = buildArchipelago(problem);
 
         var startTimeMillis = System.currentTimeMillis();
 
         var initial = buildInitialSolution(problem, random);
-        elitePool.add(initial);
-
-        var checkPoints =
-                Collections.synchronizedList(
-                        new ArrayList<>(
-                                List.of(
-                                        createCheckPoint(
-                                                initial.getTotalRevenue(), startTimeMillis))));
+        for (var pool : archipelago.getPools()) {
+            pool.add(initial);
+        }
+
+        var incumbent = new Incumbent(initial, elapsedSeconds(startTimeMillis));
+        this.incumbent = Optional.of(incumbent);
+        this.activeThreads = autoThreads ? 1 : threadCount;
+        var diversitySamples = Collections.synchronizedList(new ArrayList<DiversitySample>());
         var totalIterations = new AtomicInteger(0);
+        var control = new SearchControl(incumbent, startTimeMillis);
+        activate(archipelago, control);
         var baseSeed = random.nextLong();
 
-        log.info("Starting multi-threaded GRASP with {} threads", threadCount);
-        var executor = Executors.newFixedThreadPool(threadCount);
-        var futures =
-                submitTasks(
-                        executor,
-                        problem,
-                        elitePool,
-                        totalIterations,
-                        checkPoints,
-                        startTimeMillis,
-                        baseSeed);
-        executor.shutdown();
-        awaitTermination(executor, config.getTimeLimitSeconds() + 60);
-
-        var best = initial;
+        log.info(
+                "Starting multi-threaded GRASP with {}{} threads on {} island(s)",
+                autoThreads ? "up to " : "",
+                threadCount,
+                archipelago.size());
+        var workers = GraspWorker.create(config, threadCount, archipelago.size(), baseSeed);
+        runWorkers(
+                problem,
+                archipelago,
+                workers,
+                control,
+                totalIterations,
+                diversitySamples,
+                startTimeMillis);
+        deactivate();
+        var stopReason = control.stopReason();
+        log.info("Search stopped ({}) after {} iterations", stopReason, totalIterations.get());
+
         var aggregateSearch = new SearchStatistics();
         var aggregateConstruction = new PhaseStatistics();
         var aggregateLocalSearch = new PhaseStatistics();
         var aggregatePathRelinking = new PhaseStatistics();
+        var evolutionaryStats = new PhaseStatistics();
+        for (var worker : workers) {
+            aggregateSearch.merge(worker.getVnd().getStatistics());
+            aggregateConstruction.merge(worker.getConstructionStats());
+            aggregateLocalSearch.merge(worker.getLocalSearchStats());
+            aggregatePathRelinking.merge(worker.getPathRelinkingStats());
+        }
 
-        for (var future : futures) {
-            try {
-                var result = future.get();
-                if (result.best().isPresent()
-                        && result.best().get().getTotalRevenue() > best.getTotalRevenue()) {
-                    best = result.best().get();
-                }
-                aggregateSearch.merge(result.searchStatistics());
-                aggregateConstruction.merge(result.constructionStatistics());
-                aggregateLocalSearch.merge(result.localSearchStatistics());
-                aggregatePathRelinking.merge(result.pathRelinkingStatistics());
-            } catch (ExecutionException e) {
-                throw new RuntimeException(e.getCause());
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            }
+        var elitePool = mergeIslands(problem, archipelago);
+        diversitySamples.add(sampleDiversity(elitePool, startTimeMillis));
+
+        if (config.getPathRelinkingConfig().isEvolutionary()) {
+            var relinked =
+                    runEvolutionaryRelinking(
+                            problem,
+                            elitePool,
+                            baseSeed,
+                            threadCount,
+                            startTimeMillis,
+                            evolutionaryStats);
+            incumbent.offer(relinked, elapsedSeconds(startTimeMillis));
         }
 
-        var sortedCheckPoints = new ArrayList<>(checkPoints);
-        sortedCheckPoints.sort(Comparator.comparingDouble(CheckPoint::getTime));
+        var sortedDiversitySamples = new ArrayList<>(diversitySamples);
+        sortedDiversitySamples.sort(Comparator.comparingDouble(DiversitySample::time));
 
-        var solution = SolutionConverter.toSolution(problem, best);
+        var solution = SolutionConverter.toSolution(problem, incumbent.getBest());
         var info =
                 new GraspInformation(
                         config,
                         aggregateSearch,
                         aggregateConstruction,
                         aggregateLocalSearch,
-                        aggregatePathRelinking);
-        return new SolverSolution<>(solution, sortedCheckPoints, info);
+                        aggregatePathRelinking,
+                        evolutionaryStats,
+                        List.copyOf(sortedDiversitySamples),
+                        stopReason);
+        return new SolverSolution<>(solution, incumbent.getCheckPoints(), info);
+    }
+
+    // Without islands all workers share one pool. Otherwise workers are assigned to
+    // islands round-robin and a pool is only made thread-safe when its island has
+    // more than one worker.
+    private Archipelago buildArchipelago(Problem problem) {
+        var config = getConfig();
+        var islandConfig = config.getIslandConfig();
+        var islandCount =
+                islandConfig.isEnabled() ? Math.min(islandConfig.getIslandCount(), threadCount) : 1;
+        var pools = new ArrayList<ElitePool>(islandCount);
+        for (int island = 0; island < islandCount; island++) {
+            var workers = threadCount / islandCount + (island < threadCount % islandCount ? 1 : 0);
+            pools.add(
+                    workers > 1
+                            ? ElitePool.threadSafe(
+                                    config.getElitePoolSize(),
+                                    problem,
+                                    config.getElitePoolConfig())
+                            : new ElitePool(
+                                    config.getElitePoolSize(),
+                                    problem,
+                                    config.getElitePoolConfig()));
+        }
+        return new Archipelago(pools, islandConfig);
+    }
+
+    // Combines the island pools into one pool for the evolutionary phase and the
+    // final diversity sample.
+    private ElitePool mergeIslands(Problem problem, Archipelago archipelago) {
+        if (archipelago.size() == 1) {
+            return archipelago.pool(0);
+        }
+        var config = getConfig();
+        var merged =
+                ElitePool.threadSafe(
+                        config.getElitePoolSize(), problem, config.getElitePoolConfig());
+        for (var pool : archipelago.getPools()) {
+            pool.getSolutions().forEach(merged::add);
+        }
+        return merged;
     }
 
-    private List<Future<ThreadResult>> submitTasks(
-            ExecutorService executor,
+    // Runs one GRASP loop per worker in a structured task scope. The scope is
+    // cancelled when a worker fails or the search time is up, which interrupts the
+    // remaining workers; they stop after their current iteration. A worker failure
+    // is rethrown, a timeout is not an error.
+    private void runWorkers(
             Problem problem,
-            ElitePool elitePool,
+            Archipelago archipelago,
+            List<GraspWorker> workers,
+            SearchControl control,
             AtomicInteger totalIterations,
-            List<CheckPoint> checkPoints,
-            long startTimeMillis,
-            long baseSeed) {
-        var futures = new ArrayList<Future<ThreadResult>>();
-        for (int t = 0; t < threadCount; t++) {
-            var seed = baseSeed + t + 1;
-            futures.add(
-                    executor.submit(
-                            () ->
-                                    runGraspLoop(
-                                            problem,
-                                            elitePool,
-                                            totalIterations,
-                                            checkPoints,
-                                            startTimeMillis,
-                                            seed)));
-        }
-        return futures;
-    }
-
-    private ThreadResult runGraspLoop(
+            List<DiversitySample> diversitySamples,
+            long startTimeMillis) {
+        var elapsedMillis = System.currentTimeMillis() - startTimeMillis;
+        var remainingMillis = (long) (searchTimeLimitSeconds() * 1000) - elapsedMillis;
+        var timeout = Duration.ofMillis(Math.max(remainingMillis, 1));
+        try (var scope =
+                StructuredTaskScope.open(
+                        StructuredTaskScope.Joiner.awaitAllSuccessfulOrThrow(),
+                        cf ->
+                                cf.withName("grasp-workers")
+                                        .withThreadFactory(WORKER_THREADS)
+                                        .withTimeout(timeout))) {
+            for (int t = 0; t < workers.size(); t++) {
+                var index = t;
+                var worker = workers.get(t);
+                scope.fork(
+                        () ->
+                                runGraspLoop(
+                                        problem,
+                                        archipelago,
+                                        index,
+                                        worker,
+                                        control,
+                                        totalIterations,
+                                        diversitySamples,
+                                        startTimeMillis));
+            }
+            if (autoThreads) {
+                scope.fork(() -> runScaler(archipelago, control, totalIterations));
+            }
+            scope.join();
+        } catch (StructuredTaskScope.TimeoutException e) {
+            control.stop(StopReason.TIME_LIMIT);
+            log.info("Search time limit reached, workers cancelled");
+        } catch (StructuredTaskScope.FailedException e) {
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void runGraspLoop(
             Problem problem,
-            ElitePool elitePool,
+            Archipelago archipelago,
+            int index,
+            GraspWorker worker,
+            SearchControl control,
             AtomicInteger totalIterations,
-            List<CheckPoint> checkPoints,
-            long startTimeMillis,
-            long seed) {
+            List<DiversitySample> diversitySamples,
+            long startTimeMillis) {
         var config = getConfig();
-        var threadRandom = new Random(seed);
-        var alphaGen = new ReactiveAlphaGenerator();
-        var threadVndConfig = config.getVndConfig().withFreshSelector();
-        var vnd = new VND(threadVndConfig, threadRandom);
-        var constructionStats = new PhaseStatistics();
-        var localSearchStats = new PhaseStatistics();
-        var pathRelinkingStats = new PhaseStatistics();
-
-        GraspSolution threadBest = null;
-        var localIteration = 0;
-
-        while (elapsedSeconds(startTimeMillis) < config.getTimeLimitSeconds()) {
+        var islandConfig = config.getIslandConfig();
+        var island = archipelago.islandOf(index);
+        var elitePool = archipelago.pool(island);
+        // The first worker of each island drives its migrations.
+        var isIslandLeader = index < archipelago.size();
+        var deadline = searchDeadline(startTimeMillis);
+
+        while (control.searching()) {
+            if (index >= activeThreads) {
+                LockSupport.parkNanos(IDLE_NANOS);
+                continue;
+            }
+            if (!control.claimIteration()) {
+                break;
+            }
+            archipelago.receive(island);
             var result =
                     runIteration(
                             problem,
                             elitePool,
-                            alphaGen,
-                            vnd,
-                            threadRandom,
-                            constructionStats,
-                            localSearchStats,
-                            pathRelinkingStats);
+                            worker.getAlphaGen(),
+                            worker.getVnd(),
+                            worker.getRandom(),
+                            worker.getConstructionStats(),
+                            worker.getLocalSearchStats(),
+                            worker.getPathRelinkingStats(),
+                            deadline);
 
             var iteration = totalIterations.incrementAndGet();
+            control.addEvaluations(worker.takeNewEvaluations());
+            control.offer(result);
 
-            if (threadBest == null || result.getTotalRevenue() > threadBest.getTotalRevenue()) {
-                threadBest = result;
-                checkPoints.add(createCheckPoint(result.getTotalRevenue(), startTimeMillis));
-            }
+            var localIteration = worker.completeIteration(config.getUpdateInterval());
 
-            localIteration++;
-            if (localIteration % config.getUpdateInterval() == 0) {
-                threadVndConfig.getSelector().update();
-                alphaGen.update();
+            if (isIslandLeader && localIteration % islandConfig.getMigrationInterval() == 0) {
+                archipelago.emigrate(island, worker.getRandom());
             }
 
             if (iteration % LOG_INTERVAL == 0) {
-                logProgress(iteration, startTimeMillis, threadBest.getTotalRevenue());
+                logProgress(iteration, startTimeMillis, control.incumbent);
+                diversitySamples.add(sampleDiversity(elitePool, startTimeMillis));
+            }
+        }
+    }
+
+    // Feeds one throughput measurement per window to a ThreadScaler and applies its
+    // decision. Windows are about 2% of the search time, between 50 ms and 1 s; a
+    // window is extended while fewer iterations than active workers completed.
+    private void runScaler(
+            Archipelago archipelago, SearchControl control, AtomicInteger totalIterations) {
+        var scaler = new ThreadScaler(threadCount);
+        var windowMillis = Math.clamp((long) (searchTimeLimitSeconds() * 20), 50L, 1000L);
+        var iterations = totalIterations.get();
+        var contention = contentionCount(archipelago);
+        var windowStart = System.nanoTime();
+        while (control.searching()) {
+            try {
+                Thread.sleep(windowMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
             }
+            var iterationDelta = totalIterations.get() - iterations;
+            var waited = (System.nanoTime() - windowStart) / 1_000_000;
+            if (iterationDelta < activeThreads && waited < 4 * windowMillis) {
+                continue;
+            }
+            var contentionDelta = contentionCount(archipelago) - contention;
+            var rate = iterationDelta / ((System.nanoTime() - windowStart) / 1e9);
+            var contentionRate = contentionDelta / (double) Math.max(iterationDelta, 1);
+            var wasCalibrating = scaler.isCalibrating();
+            var wasProbing = scaler.isProbing();
+            var measured = activeThreads;
+            activeThreads = scaler.record(rate, contentionRate);
+            log.debug(
+                    "Threads: {} | Rate: {}/s | Contention: {}/iteration",
+                    measured,
+                    String.format("%.1f", rate),
+                    String.format("%.2f", contentionRate));
+            if (wasCalibrating && !scaler.isCalibrating()) {
+                log.info("Thread calibration settled on {} of {}", activeThreads, threadCount);
+            } else if (wasProbing) {
+                log.info("Probed {} threads, continuing with {}", measured, activeThreads);
+            }
+            iterations = totalIterations.get();
+            contention = contentionCount(archipelago);
+            windowStart = System.nanoTime();
         }
+    }
 
-        return new ThreadResult(
-                Optional.ofNullable(threadBest),
-                vnd.getStatistics(),
-                constructionStats,
-                localSearchStats,
-                pathRelinkingStats);
+    private static long contentionCount(Archipelago archipelago) {
+        var total = 0L;
+        for (var pool : archipelago.getPools()) {
+            total += pool.getContentionCount();
+        }
+        return total;
     }
 
-    private void logProgress(int iteration, long startTimeMillis, double bestRevenue) {
+    private void logProgress(int iteration, long startTimeMillis, Incumbent incumbent) {
         var elapsed = elapsedSeconds(startTimeMillis);
         var rate = iteration / elapsed;
         log.info(
-                "Elapsed: {}s | Iteration: {} | Rate: {}/s | Best: {}",
+                "Elapsed: {}s | Iteration: {} | Rate: {}/s | Best: {} | Found at: {}s",
                 String.format("%.1f", elapsed),
                 iteration,
                 String.format("%.1f", rate),
-                String.format("%.2f", bestRevenue));
+                String.format("%.2f", incumbent.getBestRevenue()),
+                String.format("%.1f", incumbent.getBestTime()));
     }
 
-    private void awaitTermination(ExecutorService executor, long timeoutSeconds) {
-        try {
-            executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    // Stop state shared by the workers of one run. Iterations are claimed before
+    // they start, so an iteration budget is met exactly; evaluations are reported
+    // by each worker after its iteration. The first reason to stop is kept.
+    private final class SearchControl {
+
+        private final Incumbent incumbent;
+        private final long startTimeMillis;
+        private final EarlyStopMonitor earlyStop;
+        private final AtomicLong iterationTickets = new AtomicLong();
+        private final AtomicLong totalEvaluations = new AtomicLong();
+        private final AtomicReference<Optional<StopReason>> stopReason =
+                new AtomicReference<>(Optional.empty());
+
+        SearchControl(Incumbent incumbent, long startTimeMillis) {
+            this.incumbent = incumbent;
+            this.startTimeMillis = startTimeMillis;
+            this.earlyStop = newEarlyStopMonitor(incumbent.getBestRevenue());
+        }
+
+        boolean searching() {
+            if (stopRequested) {
+                stop(StopReason.STOP_REQUESTED);
+                return false;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            var reason =
+                    checkStop(
+                            earlyStop,
+                            elapsedSeconds(startTimeMillis),
+                            iterationTickets.get(),
+                            totalEvaluations.get(),
+                            incumbent.getBestRevenue());
+            reason.ifPresent(this::stop);
+            return reason.isEmpty();
+        }
+
+        boolean claimIteration() {
+            var claimed = iterationTickets.getAndIncrement();
+            if (getConfig().getBudget().iterationsExhausted(claimed)) {
+                stop(StopReason.ITERATION_BUDGET);
+                return false;
+            }
+            return true;
+        }
+
+        void addEvaluations(long evaluations) {
+            totalEvaluations.addAndGet(evaluations);
+        }
+
+        void offer(GraspSolution solution) {
+            var time = elapsedSeconds(startTimeMillis);
+            if (incumbent.offer(solution, time)) {
+                earlyStop.observe(solution.getTotalRevenue(), time, iterationTickets.get());
+            }
+        }
+
+        void stop(StopReason reason) {
+            stopReason.compareAndSet(Optional.empty(), Optional.of(reason));
+        }
+
+        StopReason stopReason() {
+            return stopReason.get().orElse(StopReason.TIME_LIMIT);
         }
     }
 }
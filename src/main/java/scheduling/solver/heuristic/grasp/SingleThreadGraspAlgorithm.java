@@ -2,12 +2,15 @@ package scheduling.solver.heuristic.grasp;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import lombok.extern.slf4j.Slf4j;
 import scheduling.model.Problem;
 import scheduling.solver.CheckPoint;
 import scheduling.solver.SolverSolution;
+import scheduling.solver.StopReason;
 import scheduling.solver.heuristic.grasp.construction.ReactiveAlphaGenerator;
+import scheduling.solver.heuristic.grasp.elitepool.DiversitySample;
 import scheduling.solver.heuristic.grasp.elitepool.ElitePool;
 import scheduling.solver.heuristic.grasp.vnd.VND;
 import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
@@ -30,11 +33,14 @@ public class SingleThreadGraspAlgorithm extends GraspAlgorithm {
         var config = getConfig();
         var vnd = new VND(config.getVndConfig(), random);
         var alphaGen = new ReactiveAlphaGenerator();
-        var elitePool = new ElitePool(config.getElitePoolSize(), problem.getCommercials().length);
+        var elitePool =
+                new ElitePool(config.getElitePoolSize(), problem, config.getElitePoolConfig());
         var constructionStats = new PhaseStatistics();
         var localSearchStats = new PhaseStatistics();
         var pathRelinkingStats = new PhaseStatistics();
+        var evolutionaryStats = new PhaseStatistics();
         var checkPoints = new ArrayList<CheckPoint>();
+        var diversitySamples = new ArrayList<DiversitySample>();
 
         var startTimeMillis = System.currentTimeMillis();
 
@@ -44,8 +50,23 @@ public class SingleThreadGraspAlgorithm extends GraspAlgorithm {
 
         var bestFoundAtSeconds = 0.0;
         var iteration = 0;
-
-        while (elapsedSeconds(startTimeMillis) < config.getTimeLimitSeconds()) {
+        var deadline = searchDeadline(startTimeMillis);
+
+        var earlyStop = newEarlyStopMonitor(best.getTotalRevenue());
+        StopReason stopReason;
+
+        while (true) {
+            var stop =
+                    checkStop(
+                            earlyStop,
+                            elapsedSeconds(startTimeMillis),
+                            iteration,
+                            vnd.getStatistics().getTotalEvaluations(),
+                            best.getTotalRevenue());
+            if (stop.isPresent()) {
+                stopReason = stop.get();
+                break;
+            }
             iteration++;
 
             var result =
@@ -57,12 +78,14 @@ public class SingleThreadGraspAlgorithm extends GraspAlgorithm {
                             random,
                             constructionStats,
                             localSearchStats,
-                            pathRelinkingStats);
+                            pathRelinkingStats,
+                            deadline);
 
             if (result.getTotalRevenue() > best.getTotalRevenue()) {
                 best = result;
                 bestFoundAtSeconds = elapsedSeconds(startTimeMillis);
                 checkPoints.add(createCheckPoint(best.getTotalRevenue(), startTimeMillis));
+                earlyStop.observe(best.getTotalRevenue(), bestFoundAtSeconds, iteration);
             }
 
             if (iteration % config.getUpdateInterval() == 0) {
@@ -72,6 +95,25 @@ public class SingleThreadGraspAlgorithm extends GraspAlgorithm {
 
             if (iteration % LOG_INTERVAL == 0) {
                 logProgress(iteration, startTimeMillis, best.getTotalRevenue(), bestFoundAtSeconds);
+                diversitySamples.add(sampleDiversity(elitePool, startTimeMillis));
+            }
+        }
+
+        log.info("Search stopped ({}) after {} iterations", stopReason, iteration);
+        diversitySamples.add(sampleDiversity(elitePool, startTimeMillis));
+
+        if (config.getPathRelinkingConfig().isEvolutionary()) {
+            var relinked =
+                    runEvolutionaryRelinking(
+                            problem,
+                            elitePool,
+                            random.nextLong(),
+                            1,
+                            startTimeMillis,
+                            evolutionaryStats);
+            if (relinked.getTotalRevenue() > best.getTotalRevenue()) {
+                best = relinked;
+                checkPoints.add(createCheckPoint(best.getTotalRevenue(), startTimeMillis));
             }
         }
 
@@ -82,7 +124,10 @@ public class SingleThreadGraspAlgorithm extends GraspAlgorithm {
                         vnd.getStatistics(),
                         constructionStats,
                         localSearchStats,
-                        pathRelinkingStats);
+                        pathRelinkingStats,
+                        evolutionaryStats,
+                        List.copyOf(diversitySamples),
+                        stopReason);
         return new SolverSolution<>(solution, checkPoints, info);
     }
 
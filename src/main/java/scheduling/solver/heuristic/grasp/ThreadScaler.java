@@ -0,0 +1,89 @@
+package scheduling.solver.heuristic.grasp;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import lombok.Getter;
+
+// Chooses how many GRASP workers should run from measured throughput.
+//
+// Calibration doubles the thread count from 1 up to maxThreads and keeps going
+// only while each step raises iterations per second by at least MIN_GAIN and
+// elite pool contention stays below MAX_CONTENTION; the best count measured is
+// then kept. Every REEVALUATE_WINDOWS windows the neighbouring counts (half and
+// double, alternately) are probed for one window and adopted if they beat the
+// current throughput by MIN_GAIN. Measurements are fed in by the caller, one per
+// window, so the decisions do not depend on wall-clock time.
+final class ThreadScaler {
+
+    static final double MIN_GAIN = 0.05;
+    // Contended elite pool lock acquisitions per iteration.
+    static final double MAX_CONTENTION = 0.5;
+    static final int REEVALUATE_WINDOWS = 20;
+
+    private final int maxThreads;
+    @Getter private int activeThreads = 1;
+    @Getter private boolean calibrating = true;
+    private int bestThreads = 1;
+    private double bestRate;
+    private int steadyWindows;
+    @Getter private boolean probing;
+    private boolean probeUp = true;
+
+    ThreadScaler(int maxThreads) {
+        checkArgument(maxThreads > 0, "maxThreads must be positive");
+        this.maxThreads = maxThreads;
+        if (maxThreads == 1) {
+            calibrating = false;
+        }
+    }
+
+    // Records the throughput measured with activeThreads workers over the last
+    // window and returns the count to use for the next one.
+    int record(double iterationsPerSecond, double contentionPerIteration) {
+        if (calibrating) {
+            calibrate(iterationsPerSecond, contentionPerIteration);
+        } else if (probing) {
+            endProbe(iterationsPerSecond);
+        } else {
+            steady(iterationsPerSecond);
+        }
+        return activeThreads;
+    }
+
+    private void calibrate(double rate, double contention) {
+        var improves = activeThreads == 1 || rate > bestRate * (1 + MIN_GAIN);
+        if (improves) {
+            bestThreads = activeThreads;
+            bestRate = rate;
+        }
+        if (improves && contention <= MAX_CONTENTION && activeThreads < maxThreads) {
+            activeThreads = Math.min(activeThreads * 2, maxThreads);
+            return;
+        }
+        calibrating = false;
+        activeThreads = bestThreads;
+    }
+
+    private void steady(double rate) {
+        bestRate = rate;
+        if (++steadyWindows < REEVALUATE_WINDOWS) {
+            return;
+        }
+        steadyWindows = 0;
+        var candidate = probeUp ? Math.min(bestThreads * 2, maxThreads) : bestThreads / 2;
+        probeUp = !probeUp;
+        if (candidate >= 1 && candidate != bestThreads) {
+            probing = true;
+            activeThreads = candidate;
+        }
+    }
+
+    private void endProbe(double rate) {
+        probing = false;
+        if (rate > bestRate * (1 + MIN_GAIN)) {
+            bestThreads = activeThreads;
+            bestRate = rate;
+        }
+        activeThreads = bestThreads;
+    }
+}
@@ -0,0 +1,32 @@
+package scheduling.solver.heuristic.grasp;
+
+import java.io.ByteArrayOutputStream;
+
+// Unsigned LEB128 encoding of non-negative ints: 7 bits per byte, high bit set
+// on every byte except the last.
+public final class Varints {
+
+    private Varints() {}
+
+    public static void write(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    // Reads the varint at offset[0] and advances offset[0] past it.
+    public static int read(byte[] data, int[] offset) {
+        var value = 0;
+        var shift = 0;
+        while (true) {
+            var b = data[offset[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+}
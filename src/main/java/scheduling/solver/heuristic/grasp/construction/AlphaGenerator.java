@@ -0,0 +1,12 @@
+package scheduling.solver.heuristic.grasp.construction;
+
+import java.util.Random;
+
+public interface AlphaGenerator {
+
+    double generateAlpha(Random random);
+
+    void feedback(double alpha, double quality);
+
+    void update();
+}
@@ -10,6 +10,7 @@ import java.util.Random;
 import java.util.Set;
 import scheduling.model.Problem;
 import scheduling.model.enums.AttentionType;
+import scheduling.solver.heuristic.Deadline;
 import scheduling.solver.heuristic.grasp.GraspSolution;
 
 public class GreedyConstruction {
@@ -28,6 +29,7 @@ public class GreedyConstruction {
     private int[] totalDurationOfHour;
     private double[] randomFactor;
     private Set<Integer> unassigned;
+    private long evaluations;
 
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Random is intentionally shared")
     public GreedyConstruction(
@@ -50,10 +52,16 @@ public class GreedyConstruction {
     }
 
     public GraspSolution solve() {
+        return solve(Deadline.NONE);
+    }
+
+    // When the deadline expires the partial schedule built so far is returned; it
+    // is feasible, it just leaves more commercials unassigned.
+    public GraspSolution solve(Deadline deadline) {
         initializeState();
 
         while (true) {
-            var candidate = selectCandidate();
+            var candidate = selectCandidate(deadline);
             if (candidate.isEmpty()) {
                 break;
             }
@@ -77,15 +85,21 @@ public class GreedyConstruction {
             randomFactor[c] = random.nextDouble(lowerBound, upperBound);
         }
         unassigned = buildUnassignedSet();
+        evaluations = 0;
     }
 
-    private Optional<Candidate> selectCandidate() {
+    // Returns empty when no candidate is feasible or the deadline expired while
+    // scoring.
+    private Optional<Candidate> selectCandidate(Deadline deadline) {
         var bestScore = Double.NEGATIVE_INFINITY;
         var worstScore = Double.POSITIVE_INFINITY;
         var candidates = new ArrayList<Candidate>();
 
         for (int commId : unassigned) {
             for (int invId : problem.getSuitableInventories(commId)) {
+                if (deadline.shouldStop(++evaluations)) {
+                    return Optional.empty();
+                }
                 if (!isFeasible(commId, invId)) {
                     continue;
                 }
@@ -3,10 +3,10 @@ package scheduling.solver.heuristic.grasp.construction;
 import java.util.Arrays;
 import java.util.Random;
 
-public class ReactiveAlphaGenerator {
+public class ReactiveAlphaGenerator implements AlphaGenerator {
 
-    private static final double MIN_PROBABILITY = 0.05;
-    private static final double[] DEFAULT_ALPHAS = {0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9};
+    static final double MIN_PROBABILITY = 0.05;
+    static final double[] DEFAULT_ALPHAS = {0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9};
 
     private final double[] alphaValues;
     private final double[] probabilities;
@@ -24,6 +24,7 @@ public class ReactiveAlphaGenerator {
         Arrays.fill(probabilities, 1.0 / n);
     }
 
+    @Override
     public double generateAlpha(Random random) {
         var rand = random.nextDouble();
         var cumulative = 0.0;
@@ -38,11 +39,13 @@ public class ReactiveAlphaGenerator {
         return alphaValues[alphaValues.length - 1];
     }
 
+    @Override
     public void feedback(double alpha, double quality) {
         var idx = findAlphaIndex(alpha);
         totalQuality[idx] += quality;
     }
 
+    @Override
     public void update() {
         recalculateProbabilities();
     }
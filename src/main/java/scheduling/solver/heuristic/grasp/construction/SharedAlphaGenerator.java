@@ -0,0 +1,106 @@
+package scheduling.solver.heuristic.grasp.construction;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.DoubleAdder;
+
+// Reactive alpha generator shared by all workers of a parallel run.
+//
+// Feedback is summed in one DoubleAdder per alpha value, whose striped cells let
+// workers report without contending. update recomputes the probabilities and
+// publishes them as a new array through a volatile field; while one worker is
+// publishing, concurrent updates are skipped instead of waiting. Readers always
+// see a complete probability vector.
+public class SharedAlphaGenerator implements AlphaGenerator {
+
+    private final double[] alphaValues;
+    private final DoubleAdder[] totalQuality;
+    private final AtomicBoolean publishing = new AtomicBoolean();
+    private volatile double[] probabilities;
+
+    public SharedAlphaGenerator() {
+        this(ReactiveAlphaGenerator.DEFAULT_ALPHAS);
+    }
+
+    public SharedAlphaGenerator(double[] alphaValues) {
+        this.alphaValues = alphaValues.clone();
+        var n = alphaValues.length;
+        this.totalQuality = new DoubleAdder[n];
+        for (int i = 0; i < n; i++) {
+            totalQuality[i] = new DoubleAdder();
+        }
+        var uniform = new double[n];
+        Arrays.fill(uniform, 1.0 / n);
+        this.probabilities = uniform;
+    }
+
+    @Override
+    public double generateAlpha(Random random) {
+        var snapshot = probabilities;
+        var rand = random.nextDouble();
+        var cumulative = 0.0;
+
+        for (int i = 0; i < alphaValues.length; i++) {
+            cumulative += snapshot[i];
+            if (rand <= cumulative) {
+                return alphaValues[i];
+            }
+        }
+
+        return alphaValues[alphaValues.length - 1];
+    }
+
+    @Override
+    public void feedback(double alpha, double quality) {
+        totalQuality[findAlphaIndex(alpha)].add(quality);
+    }
+
+    @Override
+    public void update() {
+        if (!publishing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            probabilities = recalculateProbabilities();
+        } finally {
+            publishing.set(false);
+        }
+    }
+
+    double[] getProbabilities() {
+        return probabilities.clone();
+    }
+
+    private int findAlphaIndex(double alpha) {
+        for (int i = 0; i < alphaValues.length; i++) {
+            if (Math.abs(alphaValues[i] - alpha) < 0.001) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Alpha not found: " + alpha);
+    }
+
+    private double[] recalculateProbabilities() {
+        var n = totalQuality.length;
+        var quality = new double[n];
+        var totalGain = 0.0;
+        for (int i = 0; i < n; i++) {
+            quality[i] = totalQuality[i].sum();
+            totalGain += quality[i];
+        }
+        if (totalGain <= 0) {
+            return probabilities;
+        }
+
+        var next = new double[n];
+        for (int i = 0; i < n; i++) {
+            next[i] =
+                    ReactiveAlphaGenerator.MIN_PROBABILITY
+                            + (1 - ReactiveAlphaGenerator.MIN_PROBABILITY * n)
+                                    * quality[i]
+                                    / totalGain;
+        }
+        return next;
+    }
+}
@@ -0,0 +1,61 @@
+package scheduling.solver.heuristic.grasp.distributed;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+
+// Framed, bidirectional link to a peer. Sends are synchronized so reader and
+// reporter threads can share the connection; receive is meant for one thread.
+final class Connection implements Closeable {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+
+    Connection(Socket socket) throws IOException {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    static Connection connect(String host, int port) throws IOException {
+        return new Connection(new Socket(host, port));
+    }
+
+    synchronized void send(MessageType type, byte[] payload) throws IOException {
+        new Frame(type, payload).write(out);
+    }
+
+    void send(MessageType type) throws IOException {
+        send(type, EMPTY);
+    }
+
+    Frame receive() throws IOException {
+        return Frame.read(in);
+    }
+
+    // Receives the next frame and fails unless it has the expected type.
+    Frame expect(MessageType type) throws IOException {
+        var frame = receive();
+        if (frame.getType() != type) {
+            throw new IOException("Expected " + type + " but received " + frame.getType());
+        }
+        return frame;
+    }
+
+    String peer() {
+        return String.valueOf(socket.getRemoteSocketAddress());
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
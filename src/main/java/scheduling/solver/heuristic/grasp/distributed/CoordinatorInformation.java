@@ -0,0 +1,17 @@
+package scheduling.solver.heuristic.grasp.distributed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CoordinatorInformation {
+
+    private final int workers;
+    // SOLUTION and DONE frames received from all workers.
+    private final int solutionsReceived;
+    // Improvements of the global incumbent forwarded to the other workers.
+    private final int broadcasts;
+    // ELITE frames forwarded to the other workers.
+    private final int eliteBroadcasts;
+}
@@ -0,0 +1,41 @@
+package scheduling.solver.heuristic.grasp.distributed;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// One protocol message: a 4-byte big-endian payload length, a 1-byte message
+// type and the payload.
+@Getter
+@RequiredArgsConstructor
+@SuppressFBWarnings(
+        value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"},
+        justification = "Payloads are not modified after framing")
+final class Frame {
+
+    static final int MAX_PAYLOAD_BYTES = 64 << 20;
+
+    private final MessageType type;
+    private final byte[] payload;
+
+    static Frame read(DataInputStream in) throws IOException {
+        var length = in.readInt();
+        if (length < 0 || length > MAX_PAYLOAD_BYTES) {
+            throw new IOException("Invalid frame length " + length);
+        }
+        var type = MessageType.fromCode(in.readByte());
+        var payload = new byte[length];
+        in.readFully(payload);
+        return new Frame(type, payload);
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(payload.length);
+        out.writeByte(type.code());
+        out.write(payload);
+        out.flush();
+    }
+}
@@ -0,0 +1,285 @@
+package scheduling.solver.heuristic.grasp.distributed;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import scheduling.model.Problem;
+import scheduling.solver.FeasibilityCheck;
+import scheduling.solver.SolverSolution;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.Incumbent;
+import scheduling.solver.heuristic.grasp.SolutionConverter;
+import scheduling.solver.heuristic.grasp.Varints;
+
+// Coordinator of a distributed GRASP run over TCP.
+//
+// Waits for workerCount workers, gives each a distinct seed and then relays
+// solutions: every improvement of the global incumbent reported by one worker is
+// forwarded to all others, which inject it into their elite pools, and so is
+// every batch of elite members a worker shares. Workers stop at
+// their own time limit; when the coordinator's time limit is reached first it
+// sends STOP and waits a short grace period for the final DONE frames. The time
+// spent waiting for workers to connect counts against the time limit.
+@Slf4j
+public class GraspCoordinator {
+
+    private static final long GRACE_MILLIS = 5_000;
+    private static final ThreadFactory READER_THREADS =
+            Thread.ofPlatform().daemon().name("grasp-coordinator-", 0).factory();
+
+    private final Problem problem;
+    private final int workerCount;
+    private final int timeLimitSeconds;
+    private final long seed;
+    private final byte[] fingerprint;
+    private final ServerSocket serverSocket;
+    private final AtomicInteger solutionsReceived = new AtomicInteger();
+    private final AtomicInteger broadcasts = new AtomicInteger();
+    private final AtomicInteger eliteBroadcasts = new AtomicInteger();
+
+    // Binds immediately so workers can connect before run is called; port 0 picks
+    // a free port, see getLocalPort.
+    public GraspCoordinator(
+            Problem problem, int port, int workerCount, int timeLimitSeconds, long seed) {
+        checkArgument(workerCount > 0, "workerCount must be positive");
+        checkArgument(timeLimitSeconds > 0, "timeLimitSeconds must be positive");
+        this.problem = problem;
+        this.workerCount = workerCount;
+        this.timeLimitSeconds = timeLimitSeconds;
+        this.seed = seed;
+        this.fingerprint = InstanceFingerprint.of(problem);
+        try {
+            this.serverSocket = new ServerSocket(port);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int getLocalPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public SolverSolution<CoordinatorInformation> run() {
+        var startTimeMillis = System.currentTimeMillis();
+        var deadlineMillis = startTimeMillis + timeLimitSeconds * 1000L;
+        // Any worker report beats the empty schedule.
+        var empty = new int[problem.getInventories().length][0];
+        var incumbent = new Incumbent(GraspSolution.fromSequences(problem, empty), 0.0);
+        var connections = new ArrayList<Connection>(workerCount);
+        var finished = new CountDownLatch(workerCount);
+        try (serverSocket) {
+            log.info("Coordinator listening on port {}", getLocalPort());
+            for (int i = 0; i < workerCount; i++) {
+                connections.add(accept(deadlineMillis));
+            }
+            for (int i = 0; i < workerCount; i++) {
+                var start = ByteBuffer.allocate(Long.BYTES).putLong(seed + i).array();
+                connections.get(i).send(MessageType.START, start);
+            }
+            for (var connection : connections) {
+                READER_THREADS
+                        .newThread(
+                                () ->
+                                        relay(
+                                                connection,
+                                                connections,
+                                                incumbent,
+                                                finished,
+                                                startTimeMillis))
+                        .start();
+            }
+            var remainingMillis = deadlineMillis - System.currentTimeMillis();
+            if (!finished.await(Math.max(remainingMillis, 0), TimeUnit.MILLISECONDS)) {
+                log.info("Global time limit reached, stopping workers");
+                for (var connection : connections) {
+                    sendQuietly(connection, MessageType.STOP);
+                }
+                if (!finished.await(GRACE_MILLIS, TimeUnit.MILLISECONDS)) {
+                    log.warn("{} worker(s) did not report a final solution", finished.getCount());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            connections.forEach(GraspCoordinator::closeQuietly);
+        }
+
+        log.info(
+                "Coordinator finished | Best: {} | Solutions received: {} | Broadcasts: {}"
+                        + " | Elite broadcasts: {}",
+                String.format("%.2f", incumbent.getBestRevenue()),
+                solutionsReceived.get(),
+                broadcasts.get(),
+                eliteBroadcasts.get());
+        var solution = SolutionConverter.toSolution(problem, incumbent.getBest());
+        var info =
+                new CoordinatorInformation(
+                        workerCount,
+                        solutionsReceived.get(),
+                        broadcasts.get(),
+                        eliteBroadcasts.get());
+        return new SolverSolution<>(solution, incumbent.getCheckPoints(), info);
+    }
+
+    private Connection accept(long deadlineMillis) throws IOException {
+        var remainingMillis = deadlineMillis - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+            throw new IOException("Time limit reached while waiting for workers");
+        }
+        serverSocket.setSoTimeout((int) Math.min(remainingMillis, Integer.MAX_VALUE));
+        Connection connection;
+        try {
+            connection = new Connection(serverSocket.accept());
+        } catch (SocketTimeoutException e) {
+            throw new IOException("Time limit reached while waiting for workers", e);
+        }
+        try {
+            checkHello(connection);
+        } catch (IOException e) {
+            closeQuietly(connection);
+            throw e;
+        }
+        log.info("Worker connected from {}", connection.peer());
+        return connection;
+    }
+
+    // Rejects workers that loaded a different instance: solutions are exchanged as
+    // bare sequences and only make sense against the same Problem. The dimensions
+    // are compared first only to give a more useful message.
+    private void checkHello(Connection connection) throws IOException {
+        var hello = connection.expect(MessageType.HELLO).getPayload();
+        var offset = new int[] {0};
+        int numComm;
+        int numInv;
+        try {
+            numComm = Varints.read(hello, offset);
+            numInv = Varints.read(hello, offset);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Truncated HELLO", e);
+        }
+        var expectedComm = problem.getCommercials().length;
+        var expectedInv = problem.getInventories().length;
+        if (numComm != expectedComm || numInv != expectedInv) {
+            throw new IOException(
+                    String.format(
+                            "Worker instance has %d commercials and %d inventories, expected"
+                                    + " %d and %d",
+                            numComm,
+                            numInv,
+                            expectedComm,
+                            expectedInv));
+        }
+        var received = Arrays.copyOfRange(hello, offset[0], hello.length);
+        if (!Arrays.equals(received, fingerprint)) {
+            throw new IOException("Worker instance data differs from the coordinator's");
+        }
+    }
+
+    static byte[] helloPayload(Problem problem) {
+        var out = new ByteArrayOutputStream();
+        Varints.write(out, problem.getCommercials().length);
+        Varints.write(out, problem.getInventories().length);
+        out.writeBytes(InstanceFingerprint.of(problem));
+        return out.toByteArray();
+    }
+
+    // Reads one worker's frames until its DONE frame or disconnect. A worker that
+    // sends a malformed or infeasible solution is dropped.
+    private void relay(
+            Connection source,
+            List<Connection> connections,
+            Incumbent incumbent,
+            CountDownLatch finished,
+            long startTimeMillis) {
+        try {
+            while (true) {
+                var frame = source.receive();
+                if (frame.getType() == MessageType.ELITE) {
+                    // Decoded only to reject bad batches before relaying them.
+                    for (var member : SolutionCodec.decodeAll(frame.getPayload(), problem)) {
+                        checkFeasible(member);
+                    }
+                    broadcast(source, connections, MessageType.ELITE, frame.getPayload());
+                    eliteBroadcasts.incrementAndGet();
+                    continue;
+                }
+                if (frame.getType() != MessageType.SOLUTION
+                        && frame.getType() != MessageType.DONE) {
+                    throw new IOException("Unexpected " + frame.getType() + " from worker");
+                }
+                var solution = SolutionCodec.decode(frame.getPayload(), problem);
+                checkFeasible(solution);
+                solutionsReceived.incrementAndGet();
+                var elapsed = (System.currentTimeMillis() - startTimeMillis) / 1000.0;
+                if (incumbent.offer(solution, elapsed)) {
+                    broadcast(source, connections, MessageType.SOLUTION, frame.getPayload());
+                    broadcasts.incrementAndGet();
+                }
+                if (frame.getType() == MessageType.DONE) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Lost worker {}: {}", source.peer(), e.getMessage());
+            closeQuietly(source);
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    // The codec only guarantees a partial assignment; capacity, hourly, group and
+    // attention limits are checked here so a bad schedule is neither kept nor
+    // relayed.
+    private void checkFeasible(GraspSolution solution) throws IOException {
+        try {
+            FeasibilityCheck.check(problem, solution);
+        } catch (IllegalStateException e) {
+            throw new IOException("Infeasible solution: " + e.getMessage(), e);
+        }
+    }
+
+    private static void broadcast(
+            Connection source, List<Connection> connections, MessageType type, byte[] payload) {
+        for (var connection : connections) {
+            if (connection != source) {
+                try {
+                    connection.send(type, payload);
+                } catch (IOException e) {
+                    log.debug("Skipping broadcast to {}: {}", connection.peer(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void sendQuietly(Connection connection, MessageType type) {
+        try {
+            connection.send(type);
+        } catch (IOException e) {
+            log.debug("Could not send {} to {}: {}", type, connection.peer(), e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (IOException e) {
+            log.debug("Could not close {}: {}", connection.peer(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package scheduling.solver.heuristic.grasp.distributed;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import scheduling.model.Problem;
+
+// SHA-256 over the instance data that solutions are rebuilt from: the commercials,
+// the inventories with their hours and the suitability matrix. Two nodes that
+// loaded the same instance file get the same fingerprint whatever the file is
+// called; editing a duration, price or suitability changes it.
+final class InstanceFingerprint {
+
+    private InstanceFingerprint() {}
+
+    static byte[] of(Problem problem) {
+        var commercials = problem.getCommercials();
+        var inventories = problem.getInventories();
+        var buffer =
+                ByteBuffer.allocate(
+                        2 * Integer.BYTES
+                                + commercials.length * (4 * Integer.BYTES + Double.BYTES)
+                                + inventories.length * 4 * Integer.BYTES
+                                + commercials.length * inventories.length);
+        buffer.putInt(commercials.length).putInt(inventories.length);
+        for (var commercial : commercials) {
+            buffer.putInt(commercial.getGroup())
+                    .putInt(commercial.getAudienceType())
+                    .putInt(commercial.getDuration())
+                    .putInt(commercial.getPricingType().ordinal())
+                    .putDouble(commercial.getPrice());
+        }
+        for (var inventory : inventories) {
+            buffer.putInt(inventory.getDuration())
+                    .putInt(inventory.getDurationInMinutes())
+                    .putInt(inventory.getHour())
+                    .putInt(inventory.getMaxCommercialCount());
+        }
+        for (int commId = 0; commId < commercials.length; commId++) {
+            for (int invId = 0; invId < inventories.length; invId++) {
+                buffer.put((byte) (problem.isSuitable(commId, invId) ? 1 : 0));
+            }
+        }
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(buffer.array());
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("SHA-256 not available", e);
+        }
+    }
+}
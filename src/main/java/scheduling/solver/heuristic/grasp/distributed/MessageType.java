@@ -0,0 +1,35 @@
+package scheduling.solver.heuristic.grasp.distributed;
+
+import java.io.IOException;
+
+// Frame types of the coordinator/worker protocol. The wire code is the ordinal, so
+// new types must be appended.
+//
+// HELLO   worker -> coordinator  varint numCommercials, varint numInventories,
+//                                32-byte InstanceFingerprint
+// START   coordinator -> worker  8-byte seed for the worker's search
+// SOLUTION both directions       encoded solution (see SolutionCodec)
+// STOP    coordinator -> worker  empty, the global time limit is reached
+// DONE    worker -> coordinator  encoded final best of the worker
+// ELITE   both directions        encoded list of a worker's best elite members
+enum MessageType {
+    HELLO,
+    START,
+    SOLUTION,
+    STOP,
+    DONE,
+    ELITE;
+
+    private static final MessageType[] VALUES = values();
+
+    byte code() {
+        return (byte) ordinal();
+    }
+
+    static MessageType fromCode(byte code) throws IOException {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IOException("Unknown message type " + code);
+        }
+        return VALUES[code];
+    }
+}
@@ -0,0 +1,114 @@
+package scheduling.solver.heuristic.grasp.distributed;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import scheduling.model.Problem;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.Varints;
+
+// Wire form of a GraspSolution: the inventory count, then for each inventory its
+// sequence length and commercial ids, all as varints. Everything else is
+// recomputed from the Problem, which both sides load from the same instance. A
+// list of solutions is its size followed by the solutions back to back.
+final class SolutionCodec {
+
+    private SolutionCodec() {}
+
+    static byte[] encode(GraspSolution solution) {
+        var out = new ByteArrayOutputStream();
+        write(out, solution);
+        return out.toByteArray();
+    }
+
+    static byte[] encodeAll(List<GraspSolution> solutions) {
+        var out = new ByteArrayOutputStream();
+        Varints.write(out, solutions.size());
+        for (var solution : solutions) {
+            write(out, solution);
+        }
+        return out.toByteArray();
+    }
+
+    private static void write(ByteArrayOutputStream out, GraspSolution solution) {
+        var sequences = solution.getSequences();
+        Varints.write(out, sequences.length);
+        for (var sequence : sequences) {
+            Varints.write(out, sequence.length);
+            for (int commId : sequence) {
+                Varints.write(out, commId);
+            }
+        }
+    }
+
+    static GraspSolution decode(byte[] data, Problem problem) throws IOException {
+        try {
+            return read(data, new int[] {0}, problem);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Truncated solution", e);
+        }
+    }
+
+    static List<GraspSolution> decodeAll(byte[] data, Problem problem) throws IOException {
+        try {
+            var offset = new int[] {0};
+            var count = Varints.read(data, offset);
+            // Every solution takes at least one byte.
+            if (count < 0 || count > data.length - offset[0]) {
+                throw new IOException("Invalid solution count " + count);
+            }
+            var solutions = new ArrayList<GraspSolution>(count);
+            for (int i = 0; i < count; i++) {
+                solutions.add(read(data, offset, problem));
+            }
+            return solutions;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Truncated solution", e);
+        }
+    }
+
+    // Rejects anything that is not a partial assignment of this problem's
+    // commercials: unknown or negative ids, commercials placed twice, and
+    // sequences longer than their inventory, whose start times would fall outside
+    // the revenue matrix. Other constraints are left to FeasibilityCheck.
+    private static GraspSolution read(byte[] data, int[] offset, Problem problem)
+            throws IOException {
+        var numInv = problem.getInventories().length;
+        var numComm = problem.getCommercials().length;
+        var encodedInv = Varints.read(data, offset);
+        if (encodedInv != numInv) {
+            throw new IOException(
+                    "Solution has " + encodedInv + " inventories, expected " + numInv);
+        }
+        var placed = new boolean[numComm];
+        var placedCount = 0;
+        var sequences = new int[numInv][];
+        for (int invId = 0; invId < numInv; invId++) {
+            var length = Varints.read(data, offset);
+            if (length < 0 || length > numComm - placedCount) {
+                throw new IOException("Invalid sequence length " + length);
+            }
+            var sequence = new int[length];
+            var duration = 0;
+            for (int pos = 0; pos < sequence.length; pos++) {
+                var commId = Varints.read(data, offset);
+                if (commId < 0 || commId >= numComm) {
+                    throw new IOException("Unknown commercial " + commId);
+                }
+                if (placed[commId]) {
+                    throw new IOException("Commercial " + commId + " is placed twice");
+                }
+                placed[commId] = true;
+                sequence[pos] = commId;
+                duration += problem.getCommercial(commId).getDuration();
+            }
+            if (duration > problem.getInventory(invId).getDuration()) {
+                throw new IOException("Inventory " + invId + " overruns its duration");
+            }
+            placedCount += length;
+            sequences[invId] = sequence;
+        }
+        return GraspSolution.fromSequences(problem, sequences);
+    }
+}
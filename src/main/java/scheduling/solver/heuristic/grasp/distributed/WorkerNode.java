@@ -0,0 +1,152 @@
+package scheduling.solver.heuristic.grasp.distributed;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.function.LongFunction;
+import lombok.extern.slf4j.Slf4j;
+import scheduling.model.Problem;
+import scheduling.solver.SolverSolution;
+import scheduling.solver.heuristic.grasp.GraspInformation;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.MultiThreadGraspAlgorithm;
+
+// Worker process of a distributed GRASP run.
+//
+// Connects to the coordinator, builds its algorithm from the seed it is given and
+// runs it locally. A reporter thread sends the local incumbent whenever it
+// improves on the best revenue known to this node and, less often, the best
+// members of its elite pools. A listener thread injects the solutions and elite
+// members relayed by the coordinator and honours STOP. The final best is sent as
+// DONE when the local run ends.
+@Slf4j
+public class WorkerNode {
+
+    private static final long REPORT_INTERVAL_MILLIS = 200;
+    // Elite members are shared every this many reports, at most ELITE_SHARE_SIZE
+    // at a time.
+    private static final int ELITE_INTERVAL_REPORTS = 5;
+    private static final int ELITE_SHARE_SIZE = 3;
+
+    private final Problem problem;
+    private final LongFunction<MultiThreadGraspAlgorithm> algorithmFactory;
+    private final String host;
+    private final int port;
+    // Best revenue sent to or received from the coordinator, so that injected
+    // solutions are not echoed back.
+    private final DoubleAccumulator knownRevenue =
+            new DoubleAccumulator(Math::max, Double.NEGATIVE_INFINITY);
+
+    public WorkerNode(
+            Problem problem,
+            LongFunction<MultiThreadGraspAlgorithm> algorithmFactory,
+            String host,
+            int port) {
+        this.problem = problem;
+        this.algorithmFactory = algorithmFactory;
+        this.host = host;
+        this.port = port;
+    }
+
+    public SolverSolution<GraspInformation> run() {
+        try (var connection = Connection.connect(host, port)) {
+            connection.send(MessageType.HELLO, GraspCoordinator.helloPayload(problem));
+            var start = connection.expect(MessageType.START);
+            var seed = ByteBuffer.wrap(start.getPayload()).getLong();
+            log.info("Connected to coordinator {}:{}, seed {}", host, port, seed);
+
+            var algorithm = algorithmFactory.apply(seed);
+            var listener =
+                    Thread.ofPlatform()
+                            .daemon()
+                            .name("grasp-node-listener")
+                            .start(() -> listen(connection, algorithm));
+            var reporter =
+                    Thread.ofPlatform()
+                            .daemon()
+                            .name("grasp-node-reporter")
+                            .start(() -> report(connection, algorithm));
+            var result = algorithm.run(problem);
+            reporter.interrupt();
+            reporter.join();
+
+            var best = algorithm.currentBest().orElseThrow();
+            connection.send(MessageType.DONE, SolutionCodec.encode(best));
+            listener.join(REPORT_INTERVAL_MILLIS);
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void listen(Connection connection, MultiThreadGraspAlgorithm algorithm) {
+        try {
+            while (true) {
+                var frame = connection.receive();
+                switch (frame.getType()) {
+                    case SOLUTION -> {
+                        var solution = SolutionCodec.decode(frame.getPayload(), problem);
+                        knownRevenue.accumulate(solution.getTotalRevenue());
+                        algorithm.inject(solution);
+                    }
+                    case ELITE -> {
+                        for (var member : SolutionCodec.decodeAll(frame.getPayload(), problem)) {
+                            knownRevenue.accumulate(member.getTotalRevenue());
+                            algorithm.inject(member);
+                        }
+                    }
+                    case STOP -> {
+                        log.info("Coordinator requested stop");
+                        algorithm.requestStop();
+                        return;
+                    }
+                    default -> throw new IOException("Unexpected " + frame.getType());
+                }
+            }
+        } catch (IOException e) {
+            // The coordinator closes the connection once it has our DONE frame.
+            log.debug("Listener stopped: {}", e.getMessage());
+            algorithm.requestStop();
+        }
+    }
+
+    private void report(Connection connection, MultiThreadGraspAlgorithm algorithm) {
+        List<Double> sharedElite = List.of();
+        try {
+            for (int reports = 1; !Thread.currentThread().isInterrupted(); reports++) {
+                Thread.sleep(REPORT_INTERVAL_MILLIS);
+                var best = algorithm.currentBest();
+                if (best.isPresent() && best.get().getTotalRevenue() > knownRevenue.get()) {
+                    knownRevenue.accumulate(best.get().getTotalRevenue());
+                    connection.send(MessageType.SOLUTION, SolutionCodec.encode(best.get()));
+                }
+                if (reports % ELITE_INTERVAL_REPORTS == 0) {
+                    sharedElite = shareElite(connection, algorithm, sharedElite);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Could not report to coordinator: {}", e.getMessage());
+        }
+    }
+
+    // Sends the best elite members unless their revenues match the last batch sent,
+    // and returns the revenues of the batch now known to the coordinator.
+    private static List<Double> shareElite(
+            Connection connection, MultiThreadGraspAlgorithm algorithm, List<Double> shared)
+            throws IOException {
+        var elite = algorithm.currentElite(ELITE_SHARE_SIZE);
+        var revenues = elite.stream().map(GraspSolution::getTotalRevenue).toList();
+        if (elite.isEmpty() || revenues.equals(shared)) {
+            return shared;
+        }
+        connection.send(MessageType.ELITE, SolutionCodec.encodeAll(elite));
+        return revenues;
+    }
+}
@@ -0,0 +1,110 @@
+package scheduling.solver.heuristic.grasp.elitepool;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import lombok.Getter;
+import scheduling.model.Problem;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.Varints;
+
+// Elite member stored as its per-inventory sequences only.
+//
+// Each inventory is written as a varint header followed by the commercial ids
+// as varints. A header of 0 means the sequence equals the reference sequence
+// (the pool's best member when this one was encoded); otherwise it is the
+// sequence length + 1. Start times, revenues, durations and assignment arrays
+// are recomputed from the Problem on decode.
+final class CompactSolution implements EliteMember {
+
+    private static final int SAME_AS_REFERENCE = 0;
+
+    private final byte[] data;
+    private final int[][] reference;
+    private final Problem problem;
+    @Getter private final double totalRevenue;
+
+    private CompactSolution(
+            byte[] data, int[][] reference, Problem problem, double totalRevenue) {
+        this.data = data;
+        this.reference = reference;
+        this.problem = problem;
+        this.totalRevenue = totalRevenue;
+    }
+
+    // The reference arrays are shared, not copied: GraspSolution sequences are
+    // never modified in place.
+    static CompactSolution encode(GraspSolution solution, int[][] reference, Problem problem) {
+        var sequences = solution.getSequences();
+        var out = new ByteArrayOutputStream();
+        for (int invId = 0; invId < sequences.length; invId++) {
+            var sequence = sequences[invId];
+            if (Arrays.equals(sequence, reference[invId])) {
+                Varints.write(out, SAME_AS_REFERENCE);
+                continue;
+            }
+            Varints.write(out, sequence.length + 1);
+            for (int commId : sequence) {
+                Varints.write(out, commId);
+            }
+        }
+        return new CompactSolution(
+                out.toByteArray(), reference, problem, solution.getTotalRevenue());
+    }
+
+    // Walks the encoded (commercial, inventory) pairs instead of decoding an
+    // assignment array. Commercials this member leaves out add to the distance
+    // when the other solution places them.
+    @Override
+    public int distanceTo(int[] assignedInvId, int assignedCount, int numCommercials) {
+        var placed = 0;
+        var same = 0;
+        var placedByBoth = 0;
+        var offset = new int[] {0};
+        for (int invId = 0; invId < reference.length; invId++) {
+            var header = Varints.read(data, offset);
+            if (header == SAME_AS_REFERENCE) {
+                for (int commId : reference[invId]) {
+                    var other = assignedInvId[commId];
+                    same += other == invId ? 1 : 0;
+                    placedByBoth += other >= 0 ? 1 : 0;
+                }
+                placed += reference[invId].length;
+                continue;
+            }
+            for (int pos = 0; pos < header - 1; pos++) {
+                var other = assignedInvId[Varints.read(data, offset)];
+                same += other == invId ? 1 : 0;
+                placedByBoth += other >= 0 ? 1 : 0;
+            }
+            placed += header - 1;
+        }
+        return (placed - same) + (assignedCount - placedByBoth);
+    }
+
+    @Override
+    public GraspSolution solution() {
+        return GraspSolution.fromSequences(problem, decodeSequences());
+    }
+
+    int encodedSize() {
+        return data.length;
+    }
+
+    private int[][] decodeSequences() {
+        var sequences = new int[reference.length][];
+        var offset = new int[] {0};
+        for (int invId = 0; invId < sequences.length; invId++) {
+            var header = Varints.read(data, offset);
+            if (header == SAME_AS_REFERENCE) {
+                sequences[invId] = reference[invId];
+                continue;
+            }
+            var sequence = new int[header - 1];
+            for (int pos = 0; pos < sequence.length; pos++) {
+                sequence[pos] = Varints.read(data, offset);
+            }
+            sequences[invId] = sequence;
+        }
+        return sequences;
+    }
+}
@@ -0,0 +1,4 @@
+package scheduling.solver.heuristic.grasp.elitepool;
+
+// Mean pairwise distance of the elite pool at a point in time (seconds).
+public record DiversitySample(double time, int poolSize, double diversity) {}
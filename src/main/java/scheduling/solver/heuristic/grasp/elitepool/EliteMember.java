@@ -0,0 +1,15 @@
+package scheduling.solver.heuristic.grasp.elitepool;
+
+import scheduling.solver.heuristic.grasp.GraspSolution;
+
+// Storage form of an elite pool member.
+interface EliteMember {
+
+    double getTotalRevenue();
+
+    // Number of commercials whose inventory differs from assignedInvId, where
+    // assignedCount is how many entries of assignedInvId are not -1.
+    int distanceTo(int[] assignedInvId, int assignedCount, int numCommercials);
+
+    GraspSolution solution();
+}
@@ -3,25 +3,69 @@ package scheduling.solver.heuristic.grasp.elitepool;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
+import scheduling.model.Problem;
 import scheduling.solver.heuristic.grasp.GraspSolution;
-import scheduling.solver.heuristic.grasp.pathrelinking.PathRelinkingUtils;
 
+// Pairwise distances between members are cached in a matrix. Each add or guide
+// selection computes at most one distance per member; replacing a member only
+// rewrites its row and column.
+//
+// With compact storage, members are kept as CompactSolution encoded against the
+// best member's sequences and rebuilt from the Problem only when read. Distances
+// are computed from the encoding, so add and getGuide decode at most the guide.
 public class ElitePool {
 
-    private final ArrayList<GraspSolution> solutions = new ArrayList<>();
+    private final ArrayList<EliteMember> members = new ArrayList<>();
     private final int maxSize;
     private final int numCommercials;
+    private final Optional<Problem> problem;
+    private final ElitePoolConfig config;
+    private final int[][] distances;
+    private int[][] bestSequences = new int[0][];
+    private double bestRevenue = Double.NEGATIVE_INFINITY;
+    private long changeCount;
 
     public ElitePool(int maxSize, int numCommercials) {
+        this(maxSize, numCommercials, ElitePoolConfig.DEFAULT);
+    }
+
+    public ElitePool(int maxSize, int numCommercials, ElitePoolConfig config) {
+        this(maxSize, numCommercials, Optional.empty(), config);
+    }
+
+    public ElitePool(int maxSize, Problem problem, ElitePoolConfig config) {
+        this(maxSize, problem.getCommercials().length, Optional.of(problem), config);
+    }
+
+    ElitePool(
+            int maxSize, int numCommercials, Optional<Problem> problem, ElitePoolConfig config) {
         checkArgument(maxSize > 0, "maxSize must be positive");
         checkArgument(numCommercials >= 0, "numCommercials must be non-negative");
+        checkArgument(
+                !config.isCompact() || problem.isPresent(),
+                "compact storage requires the problem");
         this.maxSize = maxSize;
         this.numCommercials = numCommercials;
+        this.problem = problem;
+        this.config = Objects.requireNonNull(config);
+        this.distances = new int[maxSize][maxSize];
     }
 
     public static ElitePool threadSafe(int maxSize, int numCommercials) {
-        return new ThreadSafeElitePool(maxSize, numCommercials);
+        return threadSafe(maxSize, numCommercials, ElitePoolConfig.DEFAULT);
+    }
+
+    public static ElitePool threadSafe(int maxSize, int numCommercials, ElitePoolConfig config) {
+        return new ThreadSafeElitePool(maxSize, numCommercials, Optional.empty(), config);
+    }
+
+    public static ElitePool threadSafe(int maxSize, Problem problem, ElitePoolConfig config) {
+        return new ThreadSafeElitePool(
+                maxSize, problem.getCommercials().length, Optional.of(problem), config);
     }
 
     public void add(GraspSolution candidate) {
@@ -29,50 +73,190 @@ public class ElitePool {
     }
 
     public GraspSolution getRandomGuide(Random random) {
-        return solutions.get(random.nextInt(solutions.size()));
+        return solutionAt(random.nextInt(members.size()));
+    }
+
+    // Under DIVERSITY, guides are drawn with probability proportional to their
+    // distance from the solution being relinked; otherwise uniformly.
+    public GraspSolution getGuide(GraspSolution from, Random random) {
+        if (config.getPolicy() != ReplacementPolicy.DIVERSITY) {
+            return getRandomGuide(random);
+        }
+        var weights = distancesTo(from);
+        var total = 0L;
+        for (var weight : weights) {
+            total += weight;
+        }
+        if (total == 0) {
+            return getRandomGuide(random);
+        }
+        var target = random.nextLong(total);
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return solutionAt(i);
+            }
+        }
+        return solutionAt(members.size() - 1);
     }
 
     public int size() {
-        return solutions.size();
+        return members.size();
+    }
+
+    public List<GraspSolution> getSolutions() {
+        var result = new ArrayList<GraspSolution>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            result.add(solutionAt(i));
+        }
+        return List.copyOf(result);
+    }
+
+    // Incremented whenever a member is added or replaced.
+    public long getChangeCount() {
+        return changeCount;
+    }
+
+    // Lock acquisitions that had to wait for another thread; always 0 unless the
+    // pool is thread-safe.
+    public long getContentionCount() {
+        return 0;
+    }
+
+    // Mean pairwise distance between members, 0 for fewer than two members.
+    public double getDiversity() {
+        var size = members.size();
+        if (size < 2) {
+            return 0.0;
+        }
+        var sum = 0L;
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                sum += distances[i][j];
+            }
+        }
+        return sum / (size * (size - 1) / 2.0);
+    }
+
+    private GraspSolution solutionAt(int index) {
+        return members.get(index).solution();
     }
 
     private void addInternal(GraspSolution candidate) {
-        var duplicateIndex = findDuplicateIndex(candidate);
+        var candidateDistances = distancesTo(candidate);
+        var duplicateIndex = findDuplicateIndex(candidateDistances);
         if (duplicateIndex >= 0) {
-            if (candidate.getTotalRevenue() > solutions.get(duplicateIndex).getTotalRevenue()) {
-                solutions.set(duplicateIndex, candidate);
+            if (candidate.getTotalRevenue() > members.get(duplicateIndex).getTotalRevenue()) {
+                members.set(duplicateIndex, toMember(candidate));
+                changeCount++;
             }
             return;
         }
 
-        if (solutions.size() < maxSize) {
-            solutions.add(candidate);
+        if (config.getPolicy() == ReplacementPolicy.DIVERSITY
+                && !isDiverseOrBest(candidate, candidateDistances)) {
             return;
         }
 
-        var worstIndex = findWorstIndex();
-        if (candidate.getTotalRevenue() <= solutions.get(worstIndex).getTotalRevenue()) {
+        if (members.size() < maxSize) {
+            members.add(toMember(candidate));
+            store(members.size() - 1, candidateDistances);
+            changeCount++;
             return;
         }
 
-        solutions.set(worstIndex, candidate);
+        var replaceIndex =
+                config.getPolicy() == ReplacementPolicy.DIVERSITY
+                        ? findMostSimilarWorseIndex(candidate, candidateDistances)
+                        : findWorstIndex();
+        if (replaceIndex < 0
+                || candidate.getTotalRevenue() <= members.get(replaceIndex).getTotalRevenue()) {
+            return;
+        }
+
+        members.set(replaceIndex, toMember(candidate));
+        store(replaceIndex, candidateDistances);
+        changeCount++;
+    }
+
+    private EliteMember toMember(GraspSolution candidate) {
+        if (!config.isCompact()) {
+            return new FullMember(candidate);
+        }
+        if (candidate.getTotalRevenue() > bestRevenue) {
+            bestRevenue = candidate.getTotalRevenue();
+            bestSequences = candidate.getSequences();
+        }
+        return CompactSolution.encode(candidate, bestSequences, problem.orElseThrow());
+    }
+
+    private int[] distancesTo(GraspSolution candidate) {
+        var candidateInv = candidate.getAssignedInvId();
+        var assignedCount = 0;
+        for (int commId = 0; commId < numCommercials; commId++) {
+            assignedCount += candidateInv[commId] >= 0 ? 1 : 0;
+        }
+        var result = new int[members.size()];
+        for (int i = 0; i < members.size(); i++) {
+            result[i] = members.get(i).distanceTo(candidateInv, assignedCount, numCommercials);
+        }
+        return result;
     }
 
-    private int findDuplicateIndex(GraspSolution candidate) {
-        for (int i = 0; i < solutions.size(); i++) {
-            if (PathRelinkingUtils.distance(candidate, solutions.get(i), numCommercials) == 0) {
+    private void store(int index, int[] candidateDistances) {
+        for (int i = 0; i < candidateDistances.length; i++) {
+            if (i != index) {
+                distances[index][i] = candidateDistances[i];
+                distances[i][index] = candidateDistances[i];
+            }
+        }
+        distances[index][index] = 0;
+    }
+
+    private static int findDuplicateIndex(int[] candidateDistances) {
+        for (int i = 0; i < candidateDistances.length; i++) {
+            if (candidateDistances[i] == 0) {
                 return i;
             }
         }
         return -1;
     }
 
+    private boolean isDiverseOrBest(GraspSolution candidate, int[] candidateDistances) {
+        var isBest = true;
+        var minDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < members.size(); i++) {
+            if (members.get(i).getTotalRevenue() >= candidate.getTotalRevenue()) {
+                isBest = false;
+            }
+            minDistance = Math.min(minDistance, candidateDistances[i]);
+        }
+        return isBest || minDistance >= config.getMinDistance();
+    }
+
+    private int findMostSimilarWorseIndex(GraspSolution candidate, int[] candidateDistances) {
+        var index = -1;
+        for (int i = 0; i < members.size(); i++) {
+            var revenue = members.get(i).getTotalRevenue();
+            if (revenue >= candidate.getTotalRevenue()) {
+                continue;
+            }
+            if (index < 0
+                    || candidateDistances[i] < candidateDistances[index]
+                    || (candidateDistances[i] == candidateDistances[index]
+                            && revenue < members.get(index).getTotalRevenue())) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
     private int findWorstIndex() {
         var worstIndex = 0;
-        var worstRevenue = solutions.getFirst().getTotalRevenue();
-        for (int i = 1; i < solutions.size(); i++) {
-            if (solutions.get(i).getTotalRevenue() < worstRevenue) {
-                worstRevenue = solutions.get(i).getTotalRevenue();
+        var worstRevenue = members.getFirst().getTotalRevenue();
+        for (int i = 1; i < members.size(); i++) {
+            if (members.get(i).getTotalRevenue() < worstRevenue) {
+                worstRevenue = members.get(i).getTotalRevenue();
                 worstIndex = i;
             }
         }
@@ -0,0 +1,44 @@
+package scheduling.solver.heuristic.grasp.elitepool;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.Objects;
+import lombok.Getter;
+
+// - policy: which member a better candidate replaces when the pool is full
+// - minDistance: DIVERSITY only; candidates closer than this to a member are
+//   rejected unless they improve on the best member
+// - compact: store members as encoded sequences (see CompactSolution) and
+//   rebuild full solutions only when they are read; does not affect the search
+@Getter
+public class ElitePoolConfig {
+
+    public static final ElitePoolConfig DEFAULT = new ElitePoolConfig(ReplacementPolicy.WORST, 1);
+
+    private final ReplacementPolicy policy;
+    private final int minDistance;
+    private final boolean compact;
+
+    public ElitePoolConfig(ReplacementPolicy policy, int minDistance) {
+        this(policy, minDistance, false);
+    }
+
+    public ElitePoolConfig(ReplacementPolicy policy, int minDistance, boolean compact) {
+        checkArgument(minDistance >= 1, "minDistance must be at least 1");
+        this.policy = Objects.requireNonNull(policy);
+        this.minDistance = minDistance;
+        this.compact = compact;
+    }
+
+    @JsonIgnore
+    public boolean isDefault() {
+        return policy == ReplacementPolicy.WORST;
+    }
+
+    public String stringDesc() {
+        return policy == ReplacementPolicy.WORST
+                ? "EP[WORST]"
+                : "EP[DIVERSITY, minDist=" + minDistance + "]";
+    }
+}
@@ -0,0 +1,18 @@
+package scheduling.solver.heuristic.grasp.elitepool;
+
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.pathrelinking.PathRelinkingUtils;
+
+record FullMember(GraspSolution solution) implements EliteMember {
+
+    @Override
+    public double getTotalRevenue() {
+        return solution.getTotalRevenue();
+    }
+
+    @Override
+    public int distanceTo(int[] assignedInvId, int assignedCount, int numCommercials) {
+        return PathRelinkingUtils.distance(
+                assignedInvId, solution.getAssignedInvId(), numCommercials);
+    }
+}
@@ -0,0 +1,8 @@
+package scheduling.solver.heuristic.grasp.elitepool;
+
+public enum ReplacementPolicy {
+    // replace the member with the lowest revenue
+    WORST,
+    // replace the most similar member with lower revenue
+    DIVERSITY,
+}
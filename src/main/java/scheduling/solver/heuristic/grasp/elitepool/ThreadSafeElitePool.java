@@ -1,21 +1,27 @@
 package scheduling.solver.heuristic.grasp.elitepool;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import scheduling.model.Problem;
 import scheduling.solver.heuristic.grasp.GraspSolution;
 
 class ThreadSafeElitePool extends ElitePool {
 
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongAdder contended = new LongAdder();
 
-    ThreadSafeElitePool(int maxSize, int numCommercials) {
-        super(maxSize, numCommercials);
+    ThreadSafeElitePool(
+            int maxSize, int numCommercials, Optional<Problem> problem, ElitePoolConfig config) {
+        super(maxSize, numCommercials, problem, config);
     }
 
     @Override
     public void add(GraspSolution candidate) {
-        lock.writeLock().lock();
+        lockWrite();
         try {
             super.add(candidate);
         } finally {
@@ -25,7 +31,7 @@ class ThreadSafeElitePool extends ElitePool {
 
     @Override
     public GraspSolution getRandomGuide(Random random) {
-        lock.readLock().lock();
+        lockRead();
         try {
             return super.getRandomGuide(random);
         } finally {
@@ -33,13 +39,72 @@ class ThreadSafeElitePool extends ElitePool {
         }
     }
 
+    @Override
+    public GraspSolution getGuide(GraspSolution from, Random random) {
+        lockRead();
+        try {
+            return super.getGuide(from, random);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     @Override
     public int size() {
-        lock.readLock().lock();
+        lockRead();
         try {
             return super.size();
         } finally {
             lock.readLock().unlock();
         }
     }
+
+    @Override
+    public List<GraspSolution> getSolutions() {
+        lockRead();
+        try {
+            return super.getSolutions();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public double getDiversity() {
+        lockRead();
+        try {
+            return super.getDiversity();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long getChangeCount() {
+        lockRead();
+        try {
+            return super.getChangeCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long getContentionCount() {
+        return contended.sum();
+    }
+
+    private void lockRead() {
+        if (!lock.readLock().tryLock()) {
+            contended.increment();
+            lock.readLock().lock();
+        }
+    }
+
+    private void lockWrite() {
+        if (!lock.writeLock().tryLock()) {
+            contended.increment();
+            lock.writeLock().lock();
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package scheduling.solver.heuristic.grasp.island;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.elitepool.ElitePool;
+
+// Set of islands, each with a private elite pool and an inbox of migrants.
+//
+// Emigration only enqueues copies of the best members into the target inbox, so an
+// island never touches another island's pool; migrants are added by the receiving
+// island's own workers the next time they call receive.
+public class Archipelago {
+
+    private final List<ElitePool> pools;
+    private final List<Queue<GraspSolution>> inboxes;
+    private final IslandConfig config;
+
+    public Archipelago(List<ElitePool> pools, IslandConfig config) {
+        checkArgument(!pools.isEmpty(), "at least one island is required");
+        this.pools = List.copyOf(pools);
+        this.config = config;
+        this.inboxes = new ArrayList<>(pools.size());
+        for (int i = 0; i < pools.size(); i++) {
+            inboxes.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    public int size() {
+        return pools.size();
+    }
+
+    public int islandOf(int worker) {
+        return worker % pools.size();
+    }
+
+    public ElitePool pool(int island) {
+        return pools.get(island);
+    }
+
+    public List<ElitePool> getPools() {
+        return pools;
+    }
+
+    // Queues an external solution for the island; it is added on its next receive.
+    public void deliver(int island, GraspSolution solution) {
+        inboxes.get(island).add(solution);
+    }
+
+    // Adds pending migrants to the island's pool and returns how many were drained.
+    public int receive(int island) {
+        var inbox = inboxes.get(island);
+        var pool = pools.get(island);
+        var received = 0;
+        for (var migrant = inbox.poll(); migrant != null; migrant = inbox.poll()) {
+            pool.add(migrant);
+            received++;
+        }
+        return received;
+    }
+
+    // Sends the island's best migrationSize members to its neighbour. Returns the
+    // target island, or -1 when there is no other island.
+    public int emigrate(int island, Random random) {
+        if (pools.size() < 2) {
+            return -1;
+        }
+        var target = target(island, random);
+        var inbox = inboxes.get(target);
+        pools.get(island).getSolutions().stream()
+                .sorted(Comparator.comparingDouble(GraspSolution::getTotalRevenue).reversed())
+                .limit(config.getMigrationSize())
+                .forEach(inbox::add);
+        return target;
+    }
+
+    private int target(int island, Random random) {
+        var n = pools.size();
+        return switch (config.getTopology()) {
+            case RING -> (island + 1) % n;
+            case RANDOM -> (island + 1 + random.nextInt(n - 1)) % n;
+        };
+    }
+}
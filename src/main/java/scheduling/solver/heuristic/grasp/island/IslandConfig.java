@@ -0,0 +1,51 @@
+package scheduling.solver.heuristic.grasp.island;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.Objects;
+import lombok.Getter;
+
+// - islandCount: number of private elite pools; workers are assigned round-robin
+//   (0 = all workers share one pool)
+// - migrationInterval: iterations of an island's lead worker between migrations
+// - migrationSize: number of best members sent per migration
+// - topology: where migrants go
+@Getter
+public class IslandConfig {
+
+    public static final IslandConfig SHARED = new IslandConfig(0, 100, 1, MigrationTopology.RING);
+
+    private final int islandCount;
+    private final int migrationInterval;
+    private final int migrationSize;
+    private final MigrationTopology topology;
+
+    public IslandConfig(
+            int islandCount, int migrationInterval, int migrationSize, MigrationTopology topology) {
+        checkArgument(islandCount >= 0, "islandCount must be non-negative");
+        checkArgument(migrationInterval > 0, "migrationInterval must be positive");
+        checkArgument(migrationSize > 0, "migrationSize must be positive");
+        this.islandCount = islandCount;
+        this.migrationInterval = migrationInterval;
+        this.migrationSize = migrationSize;
+        this.topology = Objects.requireNonNull(topology);
+    }
+
+    @JsonIgnore
+    public boolean isEnabled() {
+        return islandCount > 0;
+    }
+
+    public String stringDesc() {
+        return "ISL[n="
+                + islandCount
+                + ", every="
+                + migrationInterval
+                + ", k="
+                + migrationSize
+                + ", "
+                + topology
+                + "]";
+    }
+}
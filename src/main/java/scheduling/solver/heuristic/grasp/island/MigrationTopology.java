@@ -0,0 +1,8 @@
+package scheduling.solver.heuristic.grasp.island;
+
+public enum MigrationTopology {
+    // island i sends to island (i + 1) mod n
+    RING,
+    // island i sends to a uniformly chosen other island
+    RANDOM,
+}
@@ -0,0 +1,112 @@
+package scheduling.solver.heuristic.grasp.pathrelinking;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import scheduling.model.Problem;
+import scheduling.solver.heuristic.Deadline;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.elitepool.ElitePool;
+import scheduling.solver.heuristic.grasp.vnd.VND;
+import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
+import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
+
+// Post-optimization over the elite pool: every pair of elite solutions is relinked
+// and the result improved by VND, in parallel. The results are offered back to the
+// pool and the process repeats on the new pool until a generation adds no new
+// elite solution or the deadline passes.
+@Slf4j
+public class EvolutionaryPathRelinking {
+
+    private final Problem problem;
+    private final VNDConfig vndConfig;
+    private final PathRelinkingConfig config;
+    private final int threadCount;
+
+    public EvolutionaryPathRelinking(
+            Problem problem, VNDConfig vndConfig, PathRelinkingConfig config, int threadCount) {
+        checkArgument(threadCount > 0, "threadCount must be positive");
+        this.problem = problem;
+        this.vndConfig = vndConfig;
+        this.config = config;
+        this.threadCount = threadCount;
+    }
+
+    // Returns the best pool member once no generation improves the pool or the
+    // deadline (System.nanoTime based) is reached. Each generation is recorded as
+    // one call in statistics with the gain of the best pool member.
+    public GraspSolution run(
+            ElitePool elitePool, long seed, long deadlineNanos, PhaseStatistics statistics) {
+        var random = new Random(seed);
+        var deadline = Deadline.atNanos(deadlineNanos);
+        var executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            var generation = 0;
+            var changed = true;
+            while (changed && elitePool.size() >= 2) {
+                if (deadline.isExpired()) {
+                    break;
+                }
+                var startNanos = System.nanoTime();
+                var changeCountBefore = elitePool.getChangeCount();
+                var members = elitePool.getSolutions();
+                var tasks = buildTasks(members, random, deadline);
+                // Every pair stops at the deadline with its best-so-far solution, so
+                // all results are kept.
+                for (var result : executor.invokeAll(tasks)) {
+                    elitePool.add(result.get());
+                }
+                var after = elitePool.getSolutions();
+                changed = elitePool.getChangeCount() != changeCountBefore;
+                generation++;
+                statistics.record(System.nanoTime() - startNanos, best(after) - best(members));
+                log.info(
+                        "Evolutionary PR generation {} | pairs: {} | best: {}",
+                        generation,
+                        tasks.size(),
+                        String.format("%.2f", best(after)));
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return elitePool.getSolutions().stream()
+                .max(Comparator.comparingDouble(GraspSolution::getTotalRevenue))
+                .orElseThrow();
+    }
+
+    private List<Callable<GraspSolution>> buildTasks(
+            List<GraspSolution> members, Random random, Deadline deadline) {
+        var tasks = new ArrayList<Callable<GraspSolution>>();
+        for (int i = 0; i < members.size(); i++) {
+            for (int j = i + 1; j < members.size(); j++) {
+                var first = members.get(i);
+                var second = members.get(j);
+                var taskSeed = random.nextLong();
+                tasks.add(() -> relinkPair(first, second, new Random(taskSeed), deadline));
+            }
+        }
+        return tasks;
+    }
+
+    private GraspSolution relinkPair(
+            GraspSolution first, GraspSolution second, Random random, Deadline deadline) {
+        var relinked =
+                new MixedPathRelinking(problem, first, second, random, config).relink(deadline);
+        return new VND(vndConfig.withFreshSelector(), random).search(relinked, deadline);
+    }
+
+    private static double best(List<GraspSolution> solutions) {
+        return solutions.stream().mapToDouble(GraspSolution::getTotalRevenue).max().orElse(0.0);
+    }
+}
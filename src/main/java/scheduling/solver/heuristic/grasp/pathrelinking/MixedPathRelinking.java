@@ -3,17 +3,20 @@ package scheduling.solver.heuristic.grasp.pathrelinking;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Random;
 import scheduling.model.Problem;
+import scheduling.solver.heuristic.Deadline;
 import scheduling.solver.heuristic.grasp.GraspSolution;
 
 public class MixedPathRelinking {
 
+    private static final int INITIAL_SIDE = 0;
+
     private final Problem problem;
     private final GraspSolution initialSolution;
     private final GraspSolution guidingSolution;
     private final Random random;
+    private final PathRelinkingConfig config;
 
-    private GraspSolution current;
-    private GraspSolution guiding;
+    private int movingSide;
     private boolean lastMoveFromCurrentNull;
     private boolean lastMoveFromGuidingNull;
     private boolean isDirectionTowardsGuiding;
@@ -24,28 +27,47 @@ public class MixedPathRelinking {
             GraspSolution initialSolution,
             GraspSolution guidingSolution,
             Random random) {
+        this(problem, initialSolution, guidingSolution, random, PathRelinkingConfig.FULL);
+    }
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Random is intentionally shared")
+    public MixedPathRelinking(
+            Problem problem,
+            GraspSolution initialSolution,
+            GraspSolution guidingSolution,
+            Random random,
+            PathRelinkingConfig config) {
         this.problem = problem;
         this.initialSolution = initialSolution;
         this.guidingSolution = guidingSolution;
         this.random = random;
-        this.current = initialSolution;
-        this.guiding = guidingSolution;
+        this.config = config;
     }
 
     public GraspSolution relink() {
-        current = initialSolution;
-        guiding = guidingSolution;
+        return relink(Deadline.NONE);
+    }
+
+    // Stops at the earlier of the deadline and the configured time budget and
+    // returns the best solution on the path so far.
+    public GraspSolution relink(Deadline deadline) {
+        var engine = new RelinkingEngine(problem, initialSolution, guidingSolution);
+        movingSide = INITIAL_SIDE;
         lastMoveFromCurrentNull = false;
         lastMoveFromGuidingNull = false;
         isDirectionTowardsGuiding = true;
 
         var bestSolution = initialSolution;
-        var dist = PathRelinkingUtils.distance(current, guiding, problem.getCommercials().length);
-        while (dist > 1) {
-            var target = guiding;
-            var moveOpt = PathRelinkingUtils.selectMove(problem, current, target, random);
+        var stepLimit = config.stepLimit(engine.distance());
+        var stepDeadline =
+                config.getTimeBudgetMillis() > 0
+                        ? deadline.min(Deadline.afterMillis(config.getTimeBudgetMillis()))
+                        : deadline;
+        var steps = 0;
+        while (engine.distance() > 1 && steps < stepLimit && !stepDeadline.isExpired()) {
+            var stepped = engine.step(movingSide, random);
 
-            if (moveOpt.isEmpty()) {
+            if (stepped.isEmpty()) {
                 swapDirection(true);
                 if (lastMoveFromCurrentNull && lastMoveFromGuidingNull) {
                     break;
@@ -53,12 +75,11 @@ public class MixedPathRelinking {
                 continue;
             }
 
-            current = moveOpt.get().apply();
-            dist--;
-            if (current.getTotalRevenue() > bestSolution.getTotalRevenue()) {
-                bestSolution = current;
+            if (stepped.get().getTotalRevenue() > bestSolution.getTotalRevenue()) {
+                bestSolution = stepped.get();
             }
 
+            steps++;
             swapDirection(false);
         }
 
@@ -66,9 +87,7 @@ public class MixedPathRelinking {
     }
 
     private void swapDirection(boolean moveWasNull) {
-        var temp = current;
-        current = guiding;
-        guiding = temp;
+        movingSide = 1 - movingSide;
         if (isDirectionTowardsGuiding) {
             lastMoveFromCurrentNull = moveWasNull;
         } else {
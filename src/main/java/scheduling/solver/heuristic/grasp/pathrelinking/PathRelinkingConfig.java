@@ -0,0 +1,96 @@
+package scheduling.solver.heuristic.grasp.pathrelinking;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+// Limits for a single relinking run and for how often relinking is attempted.
+// - maxSteps: stop after this many moves (0 = unlimited)
+// - timeBudgetMillis: stop once this much time was spent (0 = unlimited)
+// - endpointFraction: mixed relinking walks from both endpoints, so each side
+//   explores this fraction of the initial distance (0.5 = the whole path)
+// - adaptive: relink with a probability given by relinking gain per millisecond
+//   relative to local search gain per millisecond, floored at minProbability
+// - evolutionaryFraction: share of the time limit reserved at the end for
+//   evolutionary relinking over the elite pool (0 = disabled)
+@Getter
+public class PathRelinkingConfig {
+
+    public static final PathRelinkingConfig FULL = new PathRelinkingConfig(0, 0, 0.5, false, 1.0);
+
+    private final int maxSteps;
+    private final long timeBudgetMillis;
+    private final double endpointFraction;
+    private final boolean adaptive;
+    private final double minProbability;
+    private final double evolutionaryFraction;
+
+    public PathRelinkingConfig(
+            int maxSteps,
+            long timeBudgetMillis,
+            double endpointFraction,
+            boolean adaptive,
+            double minProbability) {
+        this(maxSteps, timeBudgetMillis, endpointFraction, adaptive, minProbability, 0.0);
+    }
+
+    public PathRelinkingConfig(
+            int maxSteps,
+            long timeBudgetMillis,
+            double endpointFraction,
+            boolean adaptive,
+            double minProbability,
+            double evolutionaryFraction) {
+        checkArgument(maxSteps >= 0, "maxSteps must be non-negative");
+        checkArgument(timeBudgetMillis >= 0, "timeBudgetMillis must be non-negative");
+        checkArgument(
+                endpointFraction > 0 && endpointFraction <= 0.5,
+                "endpointFraction must be in (0, 0.5]");
+        checkArgument(
+                minProbability > 0 && minProbability <= 1, "minProbability must be in (0, 1]");
+        checkArgument(
+                evolutionaryFraction >= 0 && evolutionaryFraction < 1,
+                "evolutionaryFraction must be in [0, 1)");
+        this.maxSteps = maxSteps;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.endpointFraction = endpointFraction;
+        this.adaptive = adaptive;
+        this.minProbability = minProbability;
+        this.evolutionaryFraction = evolutionaryFraction;
+    }
+
+    @JsonIgnore
+    public boolean isFull() {
+        return maxSteps == 0
+                && timeBudgetMillis == 0
+                && endpointFraction >= 0.5
+                && !adaptive
+                && !isEvolutionary();
+    }
+
+    @JsonIgnore
+    public boolean isEvolutionary() {
+        return evolutionaryFraction > 0;
+    }
+
+    int stepLimit(int initialDistance) {
+        var limit = (int) Math.ceil(2 * endpointFraction * initialDistance);
+        if (maxSteps > 0) {
+            limit = Math.min(limit, maxSteps);
+        }
+        return limit;
+    }
+
+    public String stringDesc() {
+        return "PR[steps="
+                + maxSteps
+                + ", budget="
+                + timeBudgetMillis
+                + "ms, frac="
+                + endpointFraction
+                + (adaptive ? ", adaptive(min=" + minProbability + ")" : "")
+                + (isEvolutionary() ? ", evo=" + evolutionaryFraction : "")
+                + "]";
+    }
+}
@@ -73,8 +73,10 @@ public final class PathRelinkingUtils {
     }
 
     public static int distance(GraspSolution a, GraspSolution b, int numCommercials) {
-        var assignedInA = a.getAssignedInvId();
-        var assignedInB = b.getAssignedInvId();
+        return distance(a.getAssignedInvId(), b.getAssignedInvId(), numCommercials);
+    }
+
+    public static int distance(int[] assignedInA, int[] assignedInB, int numCommercials) {
         var dist = 0;
         for (int commId = 0; commId < numCommercials; commId++) {
             if (assignedInA[commId] == assignedInB[commId]) {
@@ -0,0 +1,191 @@
+package scheduling.solver.heuristic.grasp.pathrelinking;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.Random;
+import scheduling.model.Problem;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.move.InsertMove;
+import scheduling.solver.heuristic.grasp.move.Move;
+import scheduling.solver.heuristic.grasp.move.RemoveMove;
+import scheduling.solver.heuristic.grasp.move.TransferMove;
+
+// Incremental state for relinking two solutions towards each other.
+//
+// The difference set (commercials assigned to different inventories in the two
+// endpoints) is kept across steps. Each endpoint ("side") caches, per commercial
+// in the difference set, the feasible target positions of the move that would
+// align that commercial with the other side:
+// - assigned in both: TransferMove positions in the destination inventory
+// - assigned only here: the RemoveMove position (a single entry)
+// - assigned only there: InsertMove positions in the destination inventory
+//
+// A move only changes the assignment of the moved commercial, so the other side
+// merely loses that commercial from the difference set. On the moving side only
+// the cached entries whose source/destination inventory was rebuilt, or whose
+// destination hour changed total duration, are re-validated.
+//
+// Selection iterates commercials in ascending id and positions in ascending
+// order with reservoir sampling, which draws exactly like
+// PathRelinkingUtils.selectMove on the same state.
+class RelinkingEngine {
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final Problem problem;
+    private final BitSet difference;
+    private final Side[] sides;
+
+    RelinkingEngine(Problem problem, GraspSolution first, GraspSolution second) {
+        this.problem = problem;
+        var numComm = problem.getCommercials().length;
+        this.difference = new BitSet(numComm);
+        var firstInv = first.getAssignedInvId();
+        var secondInv = second.getAssignedInvId();
+        for (int commId = 0; commId < numComm; commId++) {
+            if (firstInv[commId] != secondInv[commId]) {
+                difference.set(commId);
+            }
+        }
+        this.sides = new Side[] {new Side(first, numComm), new Side(second, numComm)};
+    }
+
+    int distance() {
+        return difference.cardinality();
+    }
+
+    GraspSolution solution(int side) {
+        return sides[side].solution;
+    }
+
+    // Moves the given side one step towards the other side and returns the new
+    // solution of that side, or empty if no feasible aligning move exists.
+    Optional<GraspSolution> step(int side, Random random) {
+        var moving = sides[side];
+        var target = sides[1 - side].solution;
+        refresh(moving, target);
+
+        var selectedComm = -1;
+        var selectedPos = -1;
+        var count = 0;
+        for (int commId = difference.nextSetBit(0);
+                commId >= 0;
+                commId = difference.nextSetBit(commId + 1)) {
+            for (int pos : moving.positions[commId]) {
+                count++;
+                if (random.nextInt(count) == 0) {
+                    selectedComm = commId;
+                    selectedPos = pos;
+                }
+            }
+        }
+        if (selectedComm < 0) {
+            return Optional.empty();
+        }
+
+        var move = buildMove(moving.solution, target, selectedComm, selectedPos);
+        var before = moving.solution;
+        var after = move.apply();
+        moving.solution = after;
+        difference.clear(selectedComm);
+        moving.positions[selectedComm] = NO_POSITIONS;
+        markTouched(moving, before, after, target, selectedComm);
+        return Optional.of(after);
+    }
+
+    private void refresh(Side side, GraspSolution target) {
+        var stale = side.stale;
+        for (int commId = stale.nextSetBit(0);
+                commId >= 0;
+                commId = stale.nextSetBit(commId + 1)) {
+            if (difference.get(commId)) {
+                side.positions[commId] = feasiblePositions(side.solution, target, commId);
+            }
+        }
+        stale.clear();
+    }
+
+    private void markTouched(
+            Side side, GraspSolution before, GraspSolution after, GraspSolution target, int moved) {
+        var fromInv = before.getAssignedInvId()[moved];
+        var toInv = after.getAssignedInvId()[moved];
+        var fromHour = fromInv >= 0 ? problem.getInventory(fromInv).getHour() : -1;
+        var toHour = toInv >= 0 ? problem.getInventory(toInv).getHour() : -1;
+        var hourChanged = fromHour != toHour;
+
+        var currentInv = after.getAssignedInvId();
+        var targetInv = target.getAssignedInvId();
+        for (int commId = difference.nextSetBit(0);
+                commId >= 0;
+                commId = difference.nextSetBit(commId + 1)) {
+            var source = currentInv[commId];
+            var dest = targetInv[commId];
+            if (isTouched(source, fromInv, toInv) || isTouched(dest, fromInv, toInv)) {
+                side.stale.set(commId);
+                continue;
+            }
+            if (hourChanged && dest >= 0) {
+                var destHour = problem.getInventory(dest).getHour();
+                if (destHour == fromHour || destHour == toHour) {
+                    side.stale.set(commId);
+                }
+            }
+        }
+    }
+
+    private static boolean isTouched(int invId, int fromInv, int toInv) {
+        return invId >= 0 && (invId == fromInv || invId == toInv);
+    }
+
+    private int[] feasiblePositions(GraspSolution current, GraspSolution target, int commId) {
+        var currentInv = current.getAssignedInvId()[commId];
+        var targetInv = target.getAssignedInvId()[commId];
+        if (targetInv < 0) {
+            var pos = current.getAssignedPos()[commId];
+            var move = new RemoveMove(problem, current, currentInv, pos);
+            return move.checkFeasibility() ? new int[] {pos} : NO_POSITIONS;
+        }
+
+        var toSeqLen = current.getSequences()[targetInv].length;
+        var feasible = new int[toSeqLen + 1];
+        var count = 0;
+        for (int pos = 0; pos <= toSeqLen; pos++) {
+            if (buildMove(current, target, commId, pos).checkFeasibility()) {
+                feasible[count++] = pos;
+            }
+        }
+        if (count == 0) {
+            return NO_POSITIONS;
+        }
+        return count == feasible.length ? feasible : Arrays.copyOf(feasible, count);
+    }
+
+    private Move buildMove(GraspSolution current, GraspSolution target, int commId, int pos) {
+        var currentInv = current.getAssignedInvId()[commId];
+        var targetInv = target.getAssignedInvId()[commId];
+        if (targetInv < 0) {
+            return new RemoveMove(problem, current, currentInv, pos);
+        }
+        if (currentInv < 0) {
+            return new InsertMove(problem, current, targetInv, pos, commId);
+        }
+        var fromPos = current.getAssignedPos()[commId];
+        return new TransferMove(problem, current, currentInv, fromPos, targetInv, pos);
+    }
+
+    private static final class Side {
+
+        private final int[][] positions;
+        private final BitSet stale;
+        private GraspSolution solution;
+
+        Side(GraspSolution solution, int numComm) {
+            this.solution = solution;
+            this.positions = new int[numComm][];
+            Arrays.fill(positions, NO_POSITIONS);
+            this.stale = new BitSet(numComm);
+            stale.set(0, numComm);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package scheduling.solver.heuristic.grasp.vnd;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Iterator;
 import java.util.Random;
 import lombok.Getter;
+import scheduling.solver.heuristic.Deadline;
 import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.move.Move;
 import scheduling.solver.heuristic.grasp.vnd.statistics.SearchStatistics;
 
 public class VND {
@@ -20,11 +23,17 @@ public class VND {
     }
 
     public GraspSolution search(GraspSolution initial) {
+        return search(initial, Deadline.NONE);
+    }
+
+    // Returns the current local optimum candidate when the deadline expires; every
+    // applied move is improving, so this is the best solution found so far.
+    public GraspSolution search(GraspSolution initial, Deadline deadline) {
         var current = initial;
         var noImprovementCount = 0;
         var neighborhoodCount = config.getNeighborhoods().size();
 
-        while (noImprovementCount < neighborhoodCount) {
+        while (noImprovementCount < neighborhoodCount && !deadline.isExpired()) {
             statistics.recordIteration();
             var neighborhood = config.getSelector().select(config.getNeighborhoods(), random);
 
@@ -36,9 +45,10 @@ public class VND {
             var moveStats = statistics.getOrCreateMoveStatistics(neighborhood.type());
 
             var startTime = System.nanoTime();
-            var candidates = neighborhood.generateMoves(current, random);
-            var selectedMove = config.getStrategy().selectMove(candidates);
+            var candidates = new CountingIterable(neighborhood.generateMoves(current, random));
+            var selectedMove = config.getStrategy().selectMove(candidates, deadline);
             var elapsed = System.nanoTime() - startTime;
+            statistics.recordEvaluations(candidates.count);
 
             if (selectedMove.isPresent()) {
                 var move = selectedMove.get();
@@ -58,4 +68,33 @@ public class VND {
 
         return current;
     }
+
+    // Counts the candidates a strategy pulls, so evaluation budgets do not depend
+    // on how each strategy scans its neighbourhood.
+    private static final class CountingIterable implements Iterable<Move> {
+
+        private final Iterable<Move> candidates;
+        private long count;
+
+        CountingIterable(Iterable<Move> candidates) {
+            this.candidates = candidates;
+        }
+
+        @Override
+        public Iterator<Move> iterator() {
+            var iterator = candidates.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Move next() {
+                    count++;
+                    return iterator.next();
+                }
+            };
+        }
+    }
 }
@@ -47,6 +47,11 @@ public class VNDConfig {
                 strategy, neighborhoods, selector.freshInstance(), neighborhoodSkipProbability);
     }
 
+    public VNDConfig withSharedSelector() {
+        return new VNDConfig(
+                strategy, neighborhoods, selector.sharedInstance(), neighborhoodSkipProbability);
+    }
+
     public String stringDesc() {
         return "VND["
                 + strategy.stringDesc()
@@ -1,10 +1,23 @@
 package scheduling.solver.heuristic.grasp.vnd.neighborhood;
 
+import scheduling.model.Problem;
+
 public enum NeighborhoodType {
     INSERT,
     INTER_SWAP,
     INTRA_SWAP,
     OUT_OF_POOL_SWAP,
     SHIFT,
-    TRANSFER,
+    TRANSFER;
+
+    public Neighborhood create(Problem problem) {
+        return switch (this) {
+            case INSERT -> new InsertNeighborhood(problem);
+            case INTER_SWAP -> new InterSwapNeighborhood(problem);
+            case INTRA_SWAP -> new IntraSwapNeighborhood(problem);
+            case OUT_OF_POOL_SWAP -> new OutOfPoolSwapNeighborhood(problem);
+            case SHIFT -> new ShiftNeighborhood(problem);
+            case TRANSFER -> new TransferNeighborhood(problem);
+        };
+    }
 }
@@ -56,6 +56,11 @@ public class AdaptiveSelector implements NeighborhoodSelector {
         return new AdaptiveSelector(minProbability, neighborhoods);
     }
 
+    @Override
+    public NeighborhoodSelector sharedInstance() {
+        return new SharedAdaptiveSelector(minProbability, neighborhoods);
+    }
+
     private int selectByProbability(Random random) {
         var rand = random.nextDouble();
         var cumulative = 0.0;
@@ -17,4 +17,10 @@ public interface NeighborhoodSelector {
     default NeighborhoodSelector freshInstance() {
         return this;
     }
+
+    // Instance to be used by all workers of a parallel run at once. Learning
+    // selectors return one that pools the feedback of every worker.
+    default NeighborhoodSelector sharedInstance() {
+        return freshInstance();
+    }
 }
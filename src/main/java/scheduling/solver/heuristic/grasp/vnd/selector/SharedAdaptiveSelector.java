@@ -0,0 +1,110 @@
+package scheduling.solver.heuristic.grasp.vnd.selector;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.DoubleAdder;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
+
+// AdaptiveSelector whose evidence is pooled across all workers of a parallel run.
+//
+// Gains are summed in one DoubleAdder per neighborhood and the probabilities are
+// published as a new array through a volatile field on update; concurrent
+// updates are skipped while one worker is publishing.
+public class SharedAdaptiveSelector implements NeighborhoodSelector {
+
+    private final double minProbability;
+    private final List<Neighborhood> neighborhoods;
+    private final DoubleAdder[] gains;
+    private final IdentityHashMap<Neighborhood, Integer> indexMap;
+    private final AtomicBoolean publishing = new AtomicBoolean();
+    private volatile double[] probabilities;
+
+    public SharedAdaptiveSelector(double minProbability, List<Neighborhood> neighborhoods) {
+        Preconditions.checkArgument(
+                minProbability >= 0 && minProbability < 1, "minProbability must be in [0, 1)");
+        this.minProbability = minProbability;
+        this.neighborhoods = List.copyOf(neighborhoods);
+        this.gains = new DoubleAdder[neighborhoods.size()];
+        this.indexMap = new IdentityHashMap<>();
+        for (int i = 0; i < neighborhoods.size(); i++) {
+            gains[i] = new DoubleAdder();
+            indexMap.put(neighborhoods.get(i), i);
+        }
+        var uniform = new double[neighborhoods.size()];
+        Arrays.fill(uniform, 1.0 / neighborhoods.size());
+        this.probabilities = uniform;
+    }
+
+    @Override
+    public String stringDesc() {
+        return "SHARED_ADAPTIVE(min=" + minProbability + ")";
+    }
+
+    @Override
+    public Neighborhood select(List<Neighborhood> neighborhoods, Random random) {
+        return neighborhoods.get(selectByProbability(random));
+    }
+
+    @Override
+    public void reportResult(Neighborhood neighborhood, double revenueGain) {
+        var idx = Objects.requireNonNull(indexMap.get(neighborhood));
+        gains[idx].add(revenueGain);
+    }
+
+    @Override
+    public void update() {
+        if (!publishing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            probabilities = recalculateProbabilities();
+        } finally {
+            publishing.set(false);
+        }
+    }
+
+    @Override
+    public NeighborhoodSelector sharedInstance() {
+        return this;
+    }
+
+    double[] getProbabilities() {
+        return probabilities.clone();
+    }
+
+    private int selectByProbability(Random random) {
+        var snapshot = probabilities;
+        var rand = random.nextDouble();
+        var cumulative = 0.0;
+        for (int i = 0; i < snapshot.length; i++) {
+            cumulative += snapshot[i];
+            if (rand <= cumulative) {
+                return i;
+            }
+        }
+        return snapshot.length - 1;
+    }
+
+    private double[] recalculateProbabilities() {
+        var n = gains.length;
+        var sums = new double[n];
+        var total = 0.0;
+        for (int i = 0; i < n; i++) {
+            sums[i] = gains[i].sum();
+            total += sums[i];
+        }
+        if (total <= 0) {
+            return probabilities;
+        }
+        var next = new double[n];
+        for (int i = 0; i < n; i++) {
+            next[i] = minProbability + (1 - minProbability * n) * sums[i] / total;
+        }
+        return next;
+    }
+}
@@ -12,6 +12,9 @@ public class SearchStatistics {
             new EnumMap<>(NeighborhoodType.class);
     private int totalIterations;
     private int totalImprovements;
+    // Candidate moves handed to the search strategy, including the ones it
+    // rejected as infeasible.
+    private long totalEvaluations;
 
     public MoveStatistics getOrCreateMoveStatistics(NeighborhoodType type) {
         return moveStatistics.computeIfAbsent(type, k -> new MoveStatistics());
@@ -25,9 +28,14 @@ public class SearchStatistics {
         totalImprovements++;
     }
 
+    public void recordEvaluations(long evaluations) {
+        totalEvaluations += evaluations;
+    }
+
     public void merge(SearchStatistics other) {
         this.totalIterations += other.totalIterations;
         this.totalImprovements += other.totalImprovements;
+        this.totalEvaluations += other.totalEvaluations;
         for (var entry : other.moveStatistics.entrySet()) {
             getOrCreateMoveStatistics(entry.getKey()).merge(entry.getValue());
         }
@@ -1,6 +1,7 @@
 package scheduling.solver.heuristic.grasp.vnd.strategy;
 
 import java.util.Optional;
+import scheduling.solver.heuristic.Deadline;
 import scheduling.solver.heuristic.grasp.move.Move;
 
 public class BestImprovingStrategy implements SearchStrategy {
@@ -11,11 +12,15 @@ public class BestImprovingStrategy implements SearchStrategy {
     }
 
     @Override
-    public Optional<Move> selectMove(Iterable<Move> candidates) {
+    public Optional<Move> selectMove(Iterable<Move> candidates, Deadline deadline) {
         Move bestMove = null;
         var bestGain = 0.0;
+        var evaluations = 0L;
 
         for (Move move : candidates) {
+            if (deadline.shouldStop(++evaluations)) {
+                break;
+            }
             if (!move.checkFeasibility()) {
                 continue;
             }
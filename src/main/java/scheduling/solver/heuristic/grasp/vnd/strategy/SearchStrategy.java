@@ -1,11 +1,18 @@
 package scheduling.solver.heuristic.grasp.vnd.strategy;
 
 import java.util.Optional;
+import scheduling.solver.heuristic.Deadline;
 import scheduling.solver.heuristic.grasp.move.Move;
 
 public interface SearchStrategy {
 
-    Optional<Move> selectMove(Iterable<Move> candidates);
+    default Optional<Move> selectMove(Iterable<Move> candidates) {
+        return selectMove(candidates, Deadline.NONE);
+    }
+
+    // Stops scanning candidates once the deadline expires and returns the best
+    // improving move seen so far, if any.
+    Optional<Move> selectMove(Iterable<Move> candidates, Deadline deadline);
 
     String stringDesc();
 }
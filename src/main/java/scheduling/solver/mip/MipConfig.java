@@ -6,14 +6,45 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import lombok.Builder;
+import scheduling.solver.EarlyStopConfig;
 
-public record MipConfig(String instanceName, int timeLimitSeconds) {
+// targetRevenue stops the solver once an incumbent reaches it (Gurobi BestObjStop).
+// workLimit bounds the run in Gurobi work units, which unlike seconds do not
+// depend on the machine. 0 disables either criterion. earlyStop aborts the solve
+// from a callback once the incumbent stagnates. modelNames gives variables and
+// constraints Gurobi names, which only matter for debugging or LP export.
+// formulation picks how start times are linked to earlier slots.
+@Builder
+public record MipConfig(
+        String instanceName,
+        int timeLimitSeconds,
+        double targetRevenue,
+        double workLimit,
+        EarlyStopConfig earlyStop,
+        boolean modelNames,
+        MipFormulation formulation) {
     public MipConfig {
         checkArgument(timeLimitSeconds > 0, "timeLimitSeconds must be positive");
+        checkArgument(targetRevenue >= 0, "targetRevenue must be non-negative");
+        checkArgument(workLimit >= 0, "workLimit must be non-negative");
+    }
+
+    // Lombok fills in the setters; the fields below start at a plain time-limited
+    // solve of the direct formulation.
+    public static class MipConfigBuilder {
+        private EarlyStopConfig earlyStop = EarlyStopConfig.NONE;
+        private MipFormulation formulation = MipFormulation.DIRECT;
     }
 
     public String stringDesc() {
-        return "MIP[time=" + timeLimitSeconds + "]";
+        return "MIP[time="
+                + timeLimitSeconds
+                + (targetRevenue > 0 ? ", target=" + targetRevenue : "")
+                + (workLimit > 0 ? ", work=" + workLimit : "")
+                + (earlyStop.isEnabled() ? ", " + earlyStop.stringDesc() : "")
+                + (formulation != MipFormulation.DIRECT ? ", form=" + formulation : "")
+                + "]";
     }
 
     public Path outputPath(Path baseDir) {
@@ -0,0 +1,13 @@
+package scheduling.solver.mip;
+
+// How the continuous-time model links start times to the slots before them.
+//
+// - DIRECT: every start-time and time-window row spells out the sums over earlier
+//   slots and over a commercial's slots (the formulation from the paper)
+// - CUMULATIVE: adds one cumulative-duration variable per (inventory, slot) and one
+//   start time and assignment variable per (commercial, inventory), so those rows
+//   reference a single variable instead of a long sum
+public enum MipFormulation {
+    DIRECT,
+    CUMULATIVE
+}
@@ -1,5 +1,7 @@
 package scheduling.solver.mip;
 
+import scheduling.solver.StopReason;
+
 public record MipInformation(
         MipConfig config,
         int statusCode,
@@ -9,4 +11,32 @@ public record MipInformation(
         double mipGap,
         double runtimeSeconds,
         double nodeCount,
-        int solutionCount) {}
+        int solutionCount,
+        StopReason stopReason,
+        ModelBuildStatistics buildStatistics) {
+
+    public MipInformation(
+            MipConfig config,
+            int statusCode,
+            String status,
+            double objectiveValue,
+            double objectiveBound,
+            double mipGap,
+            double runtimeSeconds,
+            double nodeCount,
+            int solutionCount,
+            StopReason stopReason) {
+        this(
+                config,
+                statusCode,
+                status,
+                objectiveValue,
+                objectiveBound,
+                mipGap,
+                runtimeSeconds,
+                nodeCount,
+                solutionCount,
+                stopReason,
+                new ModelBuildStatistics());
+    }
+}
@@ -0,0 +1,41 @@
+package scheduling.solver.mip;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+
+// Rows and wall time per variable and constraint family while a model is built,
+// in the order the families were added. A family's time covers generating its
+// rows and the batched call that adds them to Gurobi. The model size is the
+// variable, constraint and nonzero count Gurobi reports once the model is built.
+public class ModelBuildStatistics {
+
+    private final Map<String, FamilyStatistics> families = new LinkedHashMap<>();
+    @Getter private long numVars;
+    @Getter private long numConstrs;
+    @Getter private long numNonZeros;
+
+    public void record(String family, long rows, long timeNanos) {
+        families.merge(
+                family,
+                new FamilyStatistics(rows, timeNanos),
+                (a, b) -> new FamilyStatistics(a.rows() + b.rows(), a.timeNanos() + b.timeNanos()));
+    }
+
+    public void recordModelSize(long numVars, long numConstrs, long numNonZeros) {
+        this.numVars = numVars;
+        this.numConstrs = numConstrs;
+        this.numNonZeros = numNonZeros;
+    }
+
+    public Map<String, FamilyStatistics> getFamilies() {
+        return Collections.unmodifiableMap(families);
+    }
+
+    public long getTotalTimeNanos() {
+        return families.values().stream().mapToLong(FamilyStatistics::timeNanos).sum();
+    }
+
+    public record FamilyStatistics(long rows, long timeNanos) {}
+}
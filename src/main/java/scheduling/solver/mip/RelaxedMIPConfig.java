@@ -6,21 +6,45 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import scheduling.solver.EarlyStopConfig;
 
+// modelNames gives variables and constraints Gurobi names, which only matter for
+// debugging or LP export.
 public record RelaxedMIPConfig(
-        String instanceName, RelaxedMIPReturnMode returnMode, double mipGap) {
+        String instanceName,
+        RelaxedMIPReturnMode returnMode,
+        double mipGap,
+        EarlyStopConfig earlyStop,
+        boolean modelNames) {
     public static final double DEFAULT_MIP_GAP = 1.0e-4;
 
     public RelaxedMIPConfig(String instanceName, RelaxedMIPReturnMode returnMode) {
         this(instanceName, returnMode, DEFAULT_MIP_GAP);
     }
 
+    public RelaxedMIPConfig(String instanceName, RelaxedMIPReturnMode returnMode, double mipGap) {
+        this(instanceName, returnMode, mipGap, EarlyStopConfig.NONE);
+    }
+
+    public RelaxedMIPConfig(
+            String instanceName,
+            RelaxedMIPReturnMode returnMode,
+            double mipGap,
+            EarlyStopConfig earlyStop) {
+        this(instanceName, returnMode, mipGap, earlyStop, false);
+    }
+
     public RelaxedMIPConfig {
         checkArgument(mipGap > 0, "mipGap must be positive");
     }
 
     public String stringDesc() {
-        return "RelaxedMIP[return=" + returnMode + ",gap=" + mipGap + "]";
+        return "RelaxedMIP[return="
+                + returnMode
+                + ",gap="
+                + mipGap
+                + (earlyStop.isEnabled() ? "," + earlyStop.stringDesc() : "")
+                + "]";
     }
 
     public Path outputPath(Path baseDir) {
@@ -1,5 +1,7 @@
 package scheduling.solver.mip;
 
+import scheduling.solver.StopReason;
+
 public record RelaxedMIPInformation(
         RelaxedMIPConfig config,
         int statusCode,
@@ -10,4 +12,34 @@ public record RelaxedMIPInformation(
         double mipGap,
         double runtimeSeconds,
         double nodeCount,
-        int solutionCount) {}
+        int solutionCount,
+        StopReason stopReason,
+        ModelBuildStatistics buildStatistics) {
+
+    public RelaxedMIPInformation(
+            RelaxedMIPConfig config,
+            int statusCode,
+            String status,
+            double relaxedIncumbentValue,
+            double relaxedUpperBound,
+            double realizedRevenue,
+            double mipGap,
+            double runtimeSeconds,
+            double nodeCount,
+            int solutionCount,
+            StopReason stopReason) {
+        this(
+                config,
+                statusCode,
+                status,
+                relaxedIncumbentValue,
+                relaxedUpperBound,
+                realizedRevenue,
+                mipGap,
+                runtimeSeconds,
+                nodeCount,
+                solutionCount,
+                stopReason,
+                new ModelBuildStatistics());
+    }
+}
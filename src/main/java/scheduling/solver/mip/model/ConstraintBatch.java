@@ -0,0 +1,66 @@
+package scheduling.solver.mip.model;
+
+import com.gurobi.gurobi.GRBConstr;
+import com.gurobi.gurobi.GRBException;
+import com.gurobi.gurobi.GRBLinExpr;
+import com.gurobi.gurobi.GRBModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+
+// Rows of one constraint family, added with a single addConstrs call. Every row is
+// stored as expression-sense-constant with the constants moved to the right-hand
+// side. Names are only built for named models.
+final class ConstraintBatch {
+
+    @Getter private final String family;
+    @Getter private final long startNanos = System.nanoTime();
+    private final boolean named;
+    private final List<GRBLinExpr> expressions = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private char[] senses = new char[16];
+    private double[] rhs = new double[16];
+
+    ConstraintBatch(String family, boolean named) {
+        this.family = family;
+        this.named = named;
+    }
+
+    void add(GRBLinExpr lhs, char sense, double rhsValue, String prefix, int... indices) {
+        var size = expressions.size();
+        if (size == senses.length) {
+            senses = Arrays.copyOf(senses, size * 2);
+            rhs = Arrays.copyOf(rhs, size * 2);
+        }
+        var constant = lhs.getConstant();
+        if (constant != 0) {
+            lhs.addConstant(-constant);
+        }
+        expressions.add(lhs);
+        senses[size] = sense;
+        rhs[size] = rhsValue - constant;
+        if (named) {
+            names.add(ModelNames.of(prefix, indices));
+        }
+    }
+
+    // lhs sense rhs, stored as lhs - rhs sense 0; lhs is modified.
+    void add(GRBLinExpr lhs, char sense, GRBLinExpr rhsExpr, String prefix, int... indices) {
+        lhs.multAdd(-1.0, rhsExpr);
+        add(lhs, sense, 0.0, prefix, indices);
+    }
+
+    int size() {
+        return expressions.size();
+    }
+
+    GRBConstr[] addTo(GRBModel model) throws GRBException {
+        var size = expressions.size();
+        return model.addConstrs(
+                expressions.toArray(new GRBLinExpr[0]),
+                Arrays.copyOf(senses, size),
+                Arrays.copyOf(rhs, size),
+                named ? names.toArray(new String[0]) : null);
+    }
+}
@@ -3,25 +3,31 @@ package scheduling.solver.mip.model;
 import com.gurobi.gurobi.GRB;
 import com.gurobi.gurobi.GRBException;
 import com.gurobi.gurobi.GRBLinExpr;
-import com.gurobi.gurobi.GRBModel;
 import scheduling.model.Commercial;
 import scheduling.model.Inventory;
 import scheduling.model.Problem;
 import scheduling.model.enums.AttentionType;
+import scheduling.solver.mip.MipFormulation;
 
 class ContinuousTimeConstraints {
 
     private static final double EPSILON = 1;
     private static final int SEC_IN_MIN = 60;
 
-    private final GRBModel model;
+    private final ModelBuilder builder;
     private final Problem problem;
     private final ContinuousTimeVariables variables;
-
-    ContinuousTimeConstraints(GRBModel model, Problem problem, ContinuousTimeVariables variables) {
-        this.model = model;
+    private final MipFormulation formulation;
+
+    ContinuousTimeConstraints(
+            ModelBuilder builder,
+            Problem problem,
+            ContinuousTimeVariables variables,
+            MipFormulation formulation) {
+        this.builder = builder;
         this.problem = problem;
         this.variables = variables;
+        this.formulation = formulation;
     }
 
     void setConstraints() throws GRBException {
@@ -30,6 +36,10 @@ class ContinuousTimeConstraints {
         addSequentialSlotFilling();
         addBreakCapacity();
         addHourlyLimit();
+        if (formulation == MipFormulation.CUMULATIVE) {
+            addCumulativeDuration();
+            addCommercialAggregates();
+        }
         addStartTimeLinkage();
         addTimeWindowAssignment();
         addGroupNonConsecutivity();
@@ -40,6 +50,7 @@ class ContinuousTimeConstraints {
 
     // Eq. 2: Each commercial aired at most once
     private void addCommercialUniqueness() throws GRBException {
+        var rows = builder.constraints("uniqueness");
         for (Commercial comm : problem.getCommercials()) {
             int c = comm.getId();
             GRBLinExpr expr = new GRBLinExpr();
@@ -49,12 +60,14 @@ class ContinuousTimeConstraints {
                     expr.addTerm(1, variables.getO(c, invId, n));
                 }
             }
-            model.addConstr(expr, GRB.LESS_EQUAL, 1, "uniqueness_" + c);
+            rows.add(expr, GRB.LESS_EQUAL, 1, "uniqueness", c);
         }
+        builder.add(rows);
     }
 
     // Eq. 3: At most 1 commercial per slot
     private void addSlotExclusivity() throws GRBException {
+        var rows = builder.constraints("slot_excl");
         for (Inventory inv : problem.getInventories()) {
             int i = inv.getId();
             for (int n = 0; n < inv.getMaxCommercialCount(); n++) {
@@ -62,13 +75,15 @@ class ContinuousTimeConstraints {
                 for (int commId : problem.getSuitableCommercials(i)) {
                     expr.addTerm(1, variables.getO(commId, i, n));
                 }
-                model.addConstr(expr, GRB.LESS_EQUAL, 1, "slot_excl_" + i + "_" + n);
+                rows.add(expr, GRB.LESS_EQUAL, 1, "slot_excl", i, n);
             }
         }
+        builder.add(rows);
     }
 
     // Eq. 4: Slot n+1 occupied only if slot n is
     private void addSequentialSlotFilling() throws GRBException {
+        var rows = builder.constraints("seq_fill");
         for (Inventory inv : problem.getInventories()) {
             int i = inv.getId();
             for (int n = 0; n < inv.getMaxCommercialCount() - 1; n++) {
@@ -81,13 +96,15 @@ class ContinuousTimeConstraints {
                 for (int commId : problem.getSuitableCommercials(i)) {
                     rhs.addTerm(1, variables.getO(commId, i, n + 1));
                 }
-                model.addConstr(lhs, GRB.GREATER_EQUAL, rhs, "seq_fill_" + i + "_" + n);
+                rows.add(lhs, GRB.GREATER_EQUAL, rhs, "seq_fill", i, n);
             }
         }
+        builder.add(rows);
     }
 
     // Eq. 5: Total duration within break capacity
     private void addBreakCapacity() throws GRBException {
+        var rows = builder.constraints("break_cap");
         for (Inventory inv : problem.getInventories()) {
             int i = inv.getId();
             GRBLinExpr expr = new GRBLinExpr();
@@ -97,12 +114,14 @@ class ContinuousTimeConstraints {
                     expr.addTerm(duration, variables.getO(commId, i, n));
                 }
             }
-            model.addConstr(expr, GRB.LESS_EQUAL, inv.getDuration(), "break_cap_" + i);
+            rows.add(expr, GRB.LESS_EQUAL, inv.getDuration(), "break_cap", i);
         }
+        builder.add(rows);
     }
 
     // Eq. 6: Hourly broadcast duration limit
     private void addHourlyLimit() throws GRBException {
+        var rows = builder.constraints("hourly_limit");
         for (int hour : problem.getHours()) {
             GRBLinExpr expr = new GRBLinExpr();
             for (Inventory inv : problem.getInventories()) {
@@ -117,13 +136,14 @@ class ContinuousTimeConstraints {
                     }
                 }
             }
-            model.addConstr(
-                    expr, GRB.LESS_EQUAL, Problem.HOURLY_BROADCAST_LIMIT, "hourly_limit_" + hour);
+            rows.add(expr, GRB.LESS_EQUAL, Problem.HOURLY_BROADCAST_LIMIT, "hourly_limit", hour);
         }
+        builder.add(rows);
     }
 
     // Eq. 7, 8, 9: Link O to continuous start time S
     private void addStartTimeLinkage() throws GRBException {
+        var rows = builder.constraints("start_link");
         for (Commercial comm : problem.getCommercials()) {
             int c = comm.getId();
             for (int invId : problem.getSuitableInventories(c)) {
@@ -137,14 +157,13 @@ class ContinuousTimeConstraints {
 
                     GRBLinExpr rhs7 = new GRBLinExpr();
                     rhs7.addTerm(inv.getDuration(), variables.getO(c, invId, n));
-                    model.addConstr(
-                            lhs7, GRB.LESS_EQUAL, rhs7, "start_ub_" + c + "_" + invId + "_" + n);
+                    rows.add(lhs7, GRB.LESS_EQUAL, rhs7, "start_ub", c, invId, n);
 
                     if (n == 0) {
                         // Eq 8 for n=0: S[c][i][0] <= 0 (empty sum on RHS)
                         GRBLinExpr lhs8 = new GRBLinExpr();
                         lhs8.addTerm(1, variables.getS(c, invId, 0));
-                        model.addConstr(lhs8, GRB.LESS_EQUAL, 0, "start_zero_" + c + "_" + invId);
+                        rows.add(lhs8, GRB.LESS_EQUAL, 0, "start_zero", c, invId);
                         continue; // Eq 9 for n=0 is redundant (S >= 0 from domain)
                     }
 
@@ -152,45 +171,78 @@ class ContinuousTimeConstraints {
                     GRBLinExpr lhs8 = new GRBLinExpr();
                     lhs8.addTerm(1, variables.getS(c, invId, n));
 
-                    GRBLinExpr rhs8 = new GRBLinExpr();
-                    for (int commPrimeId : problem.getSuitableCommercials(invId)) {
-                        int commDuration = problem.getCommercial(commPrimeId).getDuration();
-                        for (int m = 0; m < n; m++) {
-                            rhs8.addTerm(commDuration, variables.getO(commPrimeId, invId, m));
-                        }
-                    }
-                    model.addConstr(
-                            lhs8,
-                            GRB.LESS_EQUAL,
-                            rhs8,
-                            "start_link_ub_" + c + "_" + invId + "_" + n);
+                    GRBLinExpr rhs8 = priorDuration(invId, n);
+                    rows.add(lhs8, GRB.LESS_EQUAL, rhs8, "start_link_ub", c, invId, n);
 
                     // Eq. 9: S[c][i][n] >= Σ_{c',m<n} duration(c') * O[c'][i][m] - duration(i) * (1
                     // - O[c][i][n])
                     GRBLinExpr lhs9 = new GRBLinExpr();
                     lhs9.addTerm(1, variables.getS(c, invId, n));
 
-                    GRBLinExpr rhs9 = new GRBLinExpr();
-                    for (int commPrimeId : problem.getSuitableCommercials(invId)) {
-                        int commDuration = problem.getCommercial(commPrimeId).getDuration();
-                        for (int m = 0; m < n; m++) {
-                            rhs9.addTerm(commDuration, variables.getO(commPrimeId, invId, m));
-                        }
-                    }
+                    GRBLinExpr rhs9 = priorDuration(invId, n);
                     rhs9.addConstant(-inv.getDuration());
                     rhs9.addTerm(inv.getDuration(), variables.getO(c, invId, n));
-                    model.addConstr(
-                            lhs9,
-                            GRB.GREATER_EQUAL,
-                            rhs9,
-                            "start_link_lb_" + c + "_" + invId + "_" + n);
+                    rows.add(lhs9, GRB.GREATER_EQUAL, rhs9, "start_link_lb", c, invId, n);
+                }
+            }
+        }
+        builder.add(rows);
+    }
+
+    // Cumulative formulation: D[i][1] = sum_c' duration(c') * O[c'][i][0] and
+    // D[i][n] = D[i][n-1] + sum_c' duration(c') * O[c'][i][n-1]
+    private void addCumulativeDuration() throws GRBException {
+        var rows = builder.constraints("cum_dur");
+        for (Inventory inv : problem.getInventories()) {
+            int i = inv.getId();
+            for (int n = 1; n < inv.getMaxCommercialCount(); n++) {
+                GRBLinExpr lhs = new GRBLinExpr();
+                lhs.addTerm(1, variables.getD(i, n));
+
+                GRBLinExpr rhs = new GRBLinExpr();
+                if (n > 1) {
+                    rhs.addTerm(1, variables.getD(i, n - 1));
+                }
+                for (int commId : problem.getSuitableCommercials(i)) {
+                    int duration = problem.getCommercial(commId).getDuration();
+                    rhs.addTerm(duration, variables.getO(commId, i, n - 1));
+                }
+                rows.add(lhs, GRB.EQUAL, rhs, "cum_dur", i, n);
+            }
+        }
+        builder.add(rows);
+    }
+
+    // Cumulative formulation: T[c][i] = sum_n S[c][i][n] and A[c][i] = sum_n O[c][i][n]
+    private void addCommercialAggregates() throws GRBException {
+        var rows = builder.constraints("aggregate");
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                int maxSlots = problem.getInventory(invId).getMaxCommercialCount();
+
+                GRBLinExpr startLhs = new GRBLinExpr();
+                startLhs.addTerm(1, variables.getT(c, invId));
+
+                GRBLinExpr startRhs = new GRBLinExpr();
+                GRBLinExpr assignedRhs = new GRBLinExpr();
+                for (int n = 0; n < maxSlots; n++) {
+                    startRhs.addTerm(1, variables.getS(c, invId, n));
+                    assignedRhs.addTerm(1, variables.getO(c, invId, n));
                 }
+                rows.add(startLhs, GRB.EQUAL, startRhs, "start_sum", c, invId);
+
+                GRBLinExpr assignedLhs = new GRBLinExpr();
+                assignedLhs.addTerm(1, variables.getA(c, invId));
+                rows.add(assignedLhs, GRB.EQUAL, assignedRhs, "assign_sum", c, invId);
             }
         }
+        builder.add(rows);
     }
 
     // Eq. 10, 11, 12: Link S to time window indicator Z
     private void addTimeWindowAssignment() throws GRBException {
+        var rows = builder.constraints("time_window");
         for (Commercial comm : problem.getCommercials()) {
             int c = comm.getId();
             for (int invId : problem.getSuitableInventories(c)) {
@@ -199,45 +251,36 @@ class ContinuousTimeConstraints {
                 int numWindows = inv.getDurationInMinutes();
 
                 for (int w = 1; w <= numWindows; w++) {
-                    String suffix = c + "_" + invId + "_" + w;
-
                     // Eq. 10: sum_n S <= SEC_IN_MIN * w + duration(i) * (1 - Z) - EPSILON
-                    GRBLinExpr lhs10 = new GRBLinExpr();
-                    for (int n = 0; n < maxSlots; n++) {
-                        lhs10.addTerm(1, variables.getS(c, invId, n));
-                    }
+                    GRBLinExpr lhs10 = startTime(c, invId, maxSlots);
 
                     GRBLinExpr rhs10 = new GRBLinExpr();
                     rhs10.addConstant(SEC_IN_MIN * w + inv.getDuration() - EPSILON);
                     rhs10.addTerm(-inv.getDuration(), variables.getZ(c, invId, w));
-                    model.addConstr(lhs10, GRB.LESS_EQUAL, rhs10, "tw_ub_" + suffix);
+                    rows.add(lhs10, GRB.LESS_EQUAL, rhs10, "tw_ub", c, invId, w);
 
                     // Eq. 11: sum_n S >= SEC_IN_MIN * (w - 1) * Z
-                    GRBLinExpr lhs11 = new GRBLinExpr();
-                    for (int n = 0; n < maxSlots; n++) {
-                        lhs11.addTerm(1, variables.getS(c, invId, n));
-                    }
+                    GRBLinExpr lhs11 = startTime(c, invId, maxSlots);
 
                     GRBLinExpr rhs11 = new GRBLinExpr();
                     rhs11.addTerm(SEC_IN_MIN * (w - 1), variables.getZ(c, invId, w));
-                    model.addConstr(lhs11, GRB.GREATER_EQUAL, rhs11, "tw_lb_" + suffix);
+                    rows.add(lhs11, GRB.GREATER_EQUAL, rhs11, "tw_lb", c, invId, w);
 
                     // Eq. 12: sum_n O >= Z
-                    GRBLinExpr lhs12 = new GRBLinExpr();
-                    for (int n = 0; n < maxSlots; n++) {
-                        lhs12.addTerm(1, variables.getO(c, invId, n));
-                    }
+                    GRBLinExpr lhs12 = assigned(c, invId, maxSlots);
 
                     GRBLinExpr rhs12 = new GRBLinExpr();
                     rhs12.addTerm(1, variables.getZ(c, invId, w));
-                    model.addConstr(lhs12, GRB.GREATER_EQUAL, rhs12, "tw_link_" + suffix);
+                    rows.add(lhs12, GRB.GREATER_EQUAL, rhs12, "tw_link", c, invId, w);
                 }
             }
         }
+        builder.add(rows);
     }
 
     // Eq. 13, 14: Same-group commercials not consecutive
     private void addGroupNonConsecutivity() throws GRBException {
+        var rows = builder.constraints("no_consec");
         for (Inventory inv : problem.getInventories()) {
             int i = inv.getId();
             int[] suitableComms = problem.getSuitableCommercials(i);
@@ -257,29 +300,23 @@ class ContinuousTimeConstraints {
                         GRBLinExpr expr13 = new GRBLinExpr();
                         expr13.addTerm(1, variables.getO(c1, i, n));
                         expr13.addTerm(1, variables.getO(c2, i, n + 1));
-                        model.addConstr(
-                                expr13,
-                                GRB.LESS_EQUAL,
-                                1,
-                                "no_consec_" + c1 + "_" + c2 + "_" + i + "_" + n);
+                        rows.add(expr13, GRB.LESS_EQUAL, 1, "no_consec", c1, c2, i, n);
 
                         // Eq. 14: O[c2][i][n] + O[c1][i][n+1] <= 1
                         GRBLinExpr expr14 = new GRBLinExpr();
                         expr14.addTerm(1, variables.getO(c2, i, n));
                         expr14.addTerm(1, variables.getO(c1, i, n + 1));
-                        model.addConstr(
-                                expr14,
-                                GRB.LESS_EQUAL,
-                                1,
-                                "no_consec_" + c2 + "_" + c1 + "_" + i + "_" + n);
+                        rows.add(expr14, GRB.LESS_EQUAL, 1, "no_consec", c2, c1, i, n);
                     }
                 }
             }
         }
+        builder.add(rows);
     }
 
     // Eq. 15: At least one flag satisfied if scheduled
     private void addFlagSatisfaction() throws GRBException {
+        var rows = builder.constraints("flag_sat");
         for (Commercial comm : problem.getCommercials()) {
             int c = comm.getId();
             for (int invId : problem.getSuitableInventories(c)) {
@@ -303,13 +340,15 @@ class ContinuousTimeConstraints {
                     sumO.addTerm(1, variables.getO(c, invId, n));
                 }
 
-                model.addConstr(sumY, GRB.GREATER_EQUAL, sumO, "flag_sat_" + c + "_" + invId);
+                rows.add(sumY, GRB.GREATER_EQUAL, sumO, "flag_sat", c, invId);
             }
         }
+        builder.add(rows);
     }
 
     // Eq. 16: First-type flag position enforcement
     private void addFirstTypeFlags() throws GRBException {
+        var rows = builder.constraints("f_flag");
         for (Commercial comm : problem.getCommercials()) {
             int c = comm.getId();
             for (int invId : problem.getSuitableInventories(c)) {
@@ -333,19 +372,17 @@ class ContinuousTimeConstraints {
                         GRBLinExpr rhs16 = new GRBLinExpr();
                         rhs16.addConstant(1);
                         rhs16.addTerm(-1, variables.getY(c, invId, f));
-                        model.addConstr(
-                                lhs16,
-                                GRB.LESS_EQUAL,
-                                rhs16,
-                                "f_flag_" + c + "_" + invId + "_" + f + "_" + n);
+                        rows.add(lhs16, GRB.LESS_EQUAL, rhs16, "f_flag", c, invId, f, n);
                     }
                 }
             }
         }
+        builder.add(rows);
     }
 
     // Eq. 17, 18: Last-type flag position enforcement
     private void addLastTypeFlags() throws GRBException {
+        var rows = builder.constraints("l_flag");
         for (Commercial comm : problem.getCommercials()) {
             int c = comm.getId();
             for (int invId : problem.getSuitableInventories(c)) {
@@ -363,8 +400,6 @@ class ContinuousTimeConstraints {
                     int bigM = maxSlots;
 
                     for (int n = 0; n < maxSlots; n++) {
-                        String suffix = c + "_" + invId + "_" + f + "_" + n;
-
                         // Eq. 17: A_n^i <= (maxP-1) + bigM*(2 - O[c][i][n] - y[c][i][f])
                         GRBLinExpr lhs17 = new GRBLinExpr();
                         for (int commPrime : problem.getSuitableCommercials(invId)) {
@@ -377,7 +412,7 @@ class ContinuousTimeConstraints {
                         rhs17.addConstant((maxP - 1) + 2 * bigM);
                         rhs17.addTerm(-bigM, variables.getO(c, invId, n));
                         rhs17.addTerm(-bigM, variables.getY(c, invId, f));
-                        model.addConstr(lhs17, GRB.LESS_EQUAL, rhs17, "l_flag_ub_" + suffix);
+                        rows.add(lhs17, GRB.LESS_EQUAL, rhs17, "l_flag_ub", c, invId, f, n);
 
                         // Eq. 18: A_n^i >= (minP-1) - bigM*(2 - O[c][i][n] - y[c][i][f])
                         GRBLinExpr lhs18 = new GRBLinExpr();
@@ -391,11 +426,54 @@ class ContinuousTimeConstraints {
                         rhs18.addConstant((minP - 1) - 2 * bigM);
                         rhs18.addTerm(bigM, variables.getO(c, invId, n));
                         rhs18.addTerm(bigM, variables.getY(c, invId, f));
-                        model.addConstr(lhs18, GRB.GREATER_EQUAL, rhs18, "l_flag_lb_" + suffix);
+                        rows.add(lhs18, GRB.GREATER_EQUAL, rhs18, "l_flag_lb", c, invId, f, n);
                     }
                 }
             }
         }
+        builder.add(rows);
+    }
+
+    // sum_{c',m<n} duration(c') * O[c'][i][m], or D[i][n] in the cumulative formulation
+    private GRBLinExpr priorDuration(int invId, int n) {
+        GRBLinExpr expr = new GRBLinExpr();
+        if (formulation == MipFormulation.CUMULATIVE) {
+            expr.addTerm(1, variables.getD(invId, n));
+            return expr;
+        }
+        for (int commPrimeId : problem.getSuitableCommercials(invId)) {
+            int commDuration = problem.getCommercial(commPrimeId).getDuration();
+            for (int m = 0; m < n; m++) {
+                expr.addTerm(commDuration, variables.getO(commPrimeId, invId, m));
+            }
+        }
+        return expr;
+    }
+
+    // sum_n S[c][i][n], or T[c][i] in the cumulative formulation
+    private GRBLinExpr startTime(int c, int invId, int maxSlots) {
+        GRBLinExpr expr = new GRBLinExpr();
+        if (formulation == MipFormulation.CUMULATIVE) {
+            expr.addTerm(1, variables.getT(c, invId));
+            return expr;
+        }
+        for (int n = 0; n < maxSlots; n++) {
+            expr.addTerm(1, variables.getS(c, invId, n));
+        }
+        return expr;
+    }
+
+    // sum_n O[c][i][n], or A[c][i] in the cumulative formulation
+    private GRBLinExpr assigned(int c, int invId, int maxSlots) {
+        GRBLinExpr expr = new GRBLinExpr();
+        if (formulation == MipFormulation.CUMULATIVE) {
+            expr.addTerm(1, variables.getA(c, invId));
+            return expr;
+        }
+        for (int n = 0; n < maxSlots; n++) {
+            expr.addTerm(1, variables.getO(c, invId, n));
+        }
+        return expr;
     }
 
     private static boolean hasNonNFlags(AttentionType[] types) {
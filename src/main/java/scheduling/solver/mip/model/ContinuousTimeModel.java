@@ -1,7 +1,6 @@
 package scheduling.solver.mip.model;
 
 import com.gurobi.gurobi.GRB;
-import com.gurobi.gurobi.GRBCallback;
 import com.gurobi.gurobi.GRBEnv;
 import com.gurobi.gurobi.GRBException;
 import com.gurobi.gurobi.GRBModel;
@@ -15,9 +14,11 @@ import scheduling.model.Inventory;
 import scheduling.model.Problem;
 import scheduling.solver.Solution;
 import scheduling.solver.SolverSolution;
+import scheduling.solver.StopReason;
 import scheduling.solver.mip.MipConfig;
 import scheduling.solver.mip.MipInformation;
 import scheduling.solver.mip.MipModel;
+import scheduling.solver.mip.ModelBuildStatistics;
 
 @SuppressWarnings("NullAway.Init")
 public class ContinuousTimeModel implements MipModel {
@@ -27,7 +28,9 @@ public class ContinuousTimeModel implements MipModel {
     private GRBModel grbModel;
     private ContinuousTimeVariables variables;
     private Problem problem;
+    private final ModelBuildStatistics buildStatistics = new ModelBuildStatistics();
     private final MipCheckpointRecorder checkpointRecorder = new MipCheckpointRecorder();
+    private Optional<StopReason> earlyStopReason = Optional.empty();
 
     public ContinuousTimeModel(MipConfig config) {
         this.config = config;
@@ -39,24 +42,42 @@ public class ContinuousTimeModel implements MipModel {
         try {
             env = new GRBEnv();
             grbModel = new GRBModel(env);
+            var builder = new ModelBuilder(grbModel, config.modelNames(), buildStatistics);
 
-            variables = new ContinuousTimeVariables(grbModel, problem);
+            variables = new ContinuousTimeVariables(builder, problem, config.formulation());
             grbModel.update();
 
             new ContinuousTimeObjective(grbModel, problem, variables).setObjective();
-            new ContinuousTimeConstraints(grbModel, problem, variables).setConstraints();
+            new ContinuousTimeConstraints(builder, problem, variables, config.formulation())
+                    .setConstraints();
+            grbModel.update();
+            buildStatistics.recordModelSize(
+                    grbModel.get(GRB.IntAttr.NumVars),
+                    grbModel.get(GRB.IntAttr.NumConstrs),
+                    grbModel.get(GRB.IntAttr.NumNZs));
         } catch (GRBException e) {
             throw new RuntimeException("Failed to build MIP model", e);
         }
     }
 
+    ModelBuildStatistics buildStatistics() {
+        return buildStatistics;
+    }
+
     @Override
     public void optimize() {
-        var callback = new IncumbentCheckpointCallback(checkpointRecorder);
+        var callback = new IncumbentCheckpointCallback(checkpointRecorder, config.earlyStop());
         try {
             grbModel.set(GRB.DoubleParam.TimeLimit, config.timeLimitSeconds());
+            if (config.targetRevenue() > 0) {
+                grbModel.set(GRB.DoubleParam.BestObjStop, config.targetRevenue());
+            }
+            if (config.workLimit() > 0) {
+                grbModel.set(GRB.DoubleParam.WorkLimit, config.workLimit());
+            }
             grbModel.setCallback(callback);
             grbModel.optimize();
+            earlyStopReason = callback.getStopReason();
             callback.getFailure()
                     .ifPresent(
                             failure -> {
@@ -111,7 +132,9 @@ public class ContinuousTimeModel implements MipModel {
                             grbModel.get(GRB.DoubleAttr.MIPGap),
                             grbModel.get(GRB.DoubleAttr.Runtime),
                             grbModel.get(GRB.DoubleAttr.NodeCount),
-                            solCount);
+                            solCount,
+                            earlyStopReason.orElse(MipStatus.stopReason(statusCode)),
+                            buildStatistics);
             return new SolverSolution<>(solution, checkpointRecorder.snapshot(), mipInformation);
         } catch (GRBException e) {
             throw new RuntimeException("Failed to extract solution", e);
@@ -145,34 +168,4 @@ public class ContinuousTimeModel implements MipModel {
             }
         }
     }
-
-    private static class IncumbentCheckpointCallback extends GRBCallback {
-
-        private final MipCheckpointRecorder checkpointRecorder;
-        private Optional<GRBException> failure = Optional.empty();
-
-        IncumbentCheckpointCallback(MipCheckpointRecorder checkpointRecorder) {
-            this.checkpointRecorder = checkpointRecorder;
-        }
-
-        @Override
-        protected void callback() {
-            if (where != GRB.CB_MIPSOL) {
-                return;
-            }
-
-            try {
-                var objective = getDoubleInfo(GRB.CB_MIPSOL_OBJ);
-                var runtime = getDoubleInfo(GRB.CB_RUNTIME);
-                checkpointRecorder.record(objective, runtime);
-            } catch (GRBException e) {
-                failure = Optional.of(e);
-                abort();
-            }
-        }
-
-        Optional<GRBException> getFailure() {
-            return failure;
-        }
-    }
 }
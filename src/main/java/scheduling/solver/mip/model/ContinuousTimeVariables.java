@@ -4,21 +4,32 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.gurobi.gurobi.GRB;
 import com.gurobi.gurobi.GRBException;
-import com.gurobi.gurobi.GRBModel;
 import com.gurobi.gurobi.GRBVar;
+import java.util.Arrays;
 import scheduling.model.Commercial;
 import scheduling.model.Inventory;
 import scheduling.model.Problem;
 import scheduling.model.enums.AttentionType;
-
+import scheduling.solver.mip.MipFormulation;
+
+// Each family is added with one batch in (commercial, suitable inventory, index)
+// order and then sliced back into the per-commercial, per-inventory arrays.
+//
+// The cumulative formulation adds D (duration of the slots before slot n of an
+// inventory), T (start time of a commercial in an inventory) and A (whether the
+// commercial is placed in the inventory at all).
 class ContinuousTimeVariables {
 
     private final GRBVar[][][] orderingVars;
     private final GRBVar[][][] timeWindowVars;
     private final GRBVar[][][] startTimeVars;
     private final GRBVar[][][] flagVars;
+    private final GRBVar[][] cumulativeDurationVars;
+    private final GRBVar[][] commercialStartVars;
+    private final GRBVar[][] assignmentVars;
 
-    ContinuousTimeVariables(GRBModel model, Problem problem) throws GRBException {
+    ContinuousTimeVariables(ModelBuilder builder, Problem problem, MipFormulation formulation)
+            throws GRBException {
         int numComms = problem.getCommercials().length;
         int numInvs = problem.getInventories().length;
 
@@ -26,8 +37,19 @@ class ContinuousTimeVariables {
         timeWindowVars = new GRBVar[numComms][numInvs][];
         startTimeVars = new GRBVar[numComms][numInvs][];
         flagVars = new GRBVar[numComms][numInvs][];
-
-        createVariables(model, problem);
+        cumulativeDurationVars = new GRBVar[numInvs][];
+        commercialStartVars = new GRBVar[numComms][numInvs];
+        assignmentVars = new GRBVar[numComms][numInvs];
+
+        createOrderingVars(builder, problem);
+        createTimeWindowVars(builder, problem);
+        createStartTimeVars(builder, problem);
+        createFlagVars(builder, problem);
+        if (formulation == MipFormulation.CUMULATIVE) {
+            createCumulativeDurationVars(builder, problem);
+            createCommercialStartVars(builder, problem);
+            createAssignmentVars(builder, problem);
+        }
     }
 
     GRBVar getO(int commId, int invId, int slot) {
@@ -46,56 +68,169 @@ class ContinuousTimeVariables {
         return checkNotNull(flagVars[commId][invId][flagIndex]);
     }
 
-    private void createVariables(GRBModel model, Problem problem) throws GRBException {
+    // Slot 0 has nothing before it, so D starts at slot 1.
+    GRBVar getD(int invId, int slot) {
+        return checkNotNull(cumulativeDurationVars[invId][slot - 1]);
+    }
+
+    GRBVar getT(int commId, int invId) {
+        return checkNotNull(commercialStartVars[commId][invId]);
+    }
+
+    GRBVar getA(int commId, int invId) {
+        return checkNotNull(assignmentVars[commId][invId]);
+    }
+
+    private void createOrderingVars(ModelBuilder builder, Problem problem) throws GRBException {
+        var batch = builder.variables("O", GRB.BINARY);
         for (Commercial comm : problem.getCommercials()) {
             int c = comm.getId();
             for (int invId : problem.getSuitableInventories(c)) {
-                Inventory inv = problem.getInventory(invId);
-                int maxSlots = inv.getMaxCommercialCount();
-                int numWindows = inv.getDurationInMinutes();
+                for (int n = 0; n < problem.getInventory(invId).getMaxCommercialCount(); n++) {
+                    batch.add(1, "O", c, invId, n);
+                }
+            }
+        }
+        var vars = builder.add(batch);
+        var next = 0;
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                int maxSlots = problem.getInventory(invId).getMaxCommercialCount();
+                orderingVars[c][invId] = Arrays.copyOfRange(vars, next, next + maxSlots);
+                next += maxSlots;
+            }
+        }
+    }
 
-                createOrderingVars(model, c, invId, maxSlots);
-                createTimeWindowVars(model, c, invId, numWindows);
-                createStartTimeVars(model, c, invId, maxSlots, inv.getDuration());
-                createFlagVars(model, problem, c, invId);
+    private void createTimeWindowVars(ModelBuilder builder, Problem problem) throws GRBException {
+        var batch = builder.variables("Z", GRB.BINARY);
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                for (int w = 1; w <= problem.getInventory(invId).getDurationInMinutes(); w++) {
+                    batch.add(1, "Z", c, invId, w);
+                }
+            }
+        }
+        var vars = builder.add(batch);
+        var next = 0;
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                int numWindows = problem.getInventory(invId).getDurationInMinutes();
+                timeWindowVars[c][invId] = Arrays.copyOfRange(vars, next, next + numWindows);
+                next += numWindows;
             }
         }
     }
 
-    private void createOrderingVars(GRBModel model, int c, int i, int maxSlots)
-            throws GRBException {
-        orderingVars[c][i] = new GRBVar[maxSlots];
-        for (int n = 0; n < maxSlots; n++) {
-            orderingVars[c][i][n] = model.addVar(0, 1, 0, GRB.BINARY, "O_" + c + "_" + i + "_" + n);
+    private void createStartTimeVars(ModelBuilder builder, Problem problem) throws GRBException {
+        var batch = builder.variables("S", GRB.CONTINUOUS);
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                Inventory inv = problem.getInventory(invId);
+                for (int n = 0; n < inv.getMaxCommercialCount(); n++) {
+                    batch.add(inv.getDuration(), "S", c, invId, n);
+                }
+            }
+        }
+        var vars = builder.add(batch);
+        var next = 0;
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                int maxSlots = problem.getInventory(invId).getMaxCommercialCount();
+                startTimeVars[c][invId] = Arrays.copyOfRange(vars, next, next + maxSlots);
+                next += maxSlots;
+            }
         }
     }
 
-    private void createTimeWindowVars(GRBModel model, int c, int i, int numWindows)
+    // Flags of type N have no variable.
+    private void createFlagVars(ModelBuilder builder, Problem problem) throws GRBException {
+        var batch = builder.variables("y", GRB.BINARY);
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                AttentionType[] types = problem.getAttentionTypes(c, invId);
+                for (int f = 0; f < types.length; f++) {
+                    if (types[f] != AttentionType.N) {
+                        batch.add(1, "y", c, invId, f);
+                    }
+                }
+            }
+        }
+        var vars = builder.add(batch);
+        var next = 0;
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                AttentionType[] types = problem.getAttentionTypes(c, invId);
+                flagVars[c][invId] = new GRBVar[types.length];
+                for (int f = 0; f < types.length; f++) {
+                    if (types[f] != AttentionType.N) {
+                        flagVars[c][invId][f] = vars[next++];
+                    }
+                }
+            }
+        }
+    }
+
+    private void createCumulativeDurationVars(ModelBuilder builder, Problem problem)
             throws GRBException {
-        timeWindowVars[c][i] = new GRBVar[numWindows];
-        for (int w = 0; w < numWindows; w++) {
-            timeWindowVars[c][i][w] =
-                    model.addVar(0, 1, 0, GRB.BINARY, "Z_" + c + "_" + i + "_" + (w + 1));
+        var batch = builder.variables("D", GRB.CONTINUOUS);
+        for (Inventory inv : problem.getInventories()) {
+            for (int n = 1; n < inv.getMaxCommercialCount(); n++) {
+                batch.add(inv.getDuration(), "D", inv.getId(), n);
+            }
+        }
+        var vars = builder.add(batch);
+        var next = 0;
+        for (Inventory inv : problem.getInventories()) {
+            int numSlots = Math.max(0, inv.getMaxCommercialCount() - 1);
+            cumulativeDurationVars[inv.getId()] = Arrays.copyOfRange(vars, next, next + numSlots);
+            next += numSlots;
         }
     }
 
-    private void createStartTimeVars(GRBModel model, int c, int i, int maxSlots, int invDuration)
+    private void createCommercialStartVars(ModelBuilder builder, Problem problem)
             throws GRBException {
-        startTimeVars[c][i] = new GRBVar[maxSlots];
-        for (int n = 0; n < maxSlots; n++) {
-            startTimeVars[c][i][n] =
-                    model.addVar(0, invDuration, 0, GRB.CONTINUOUS, "S_" + c + "_" + i + "_" + n);
+        var batch = builder.variables("T", GRB.CONTINUOUS);
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                batch.add(problem.getInventory(invId).getDuration(), "T", c, invId);
+            }
+        }
+        var vars = builder.add(batch);
+        var next = 0;
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                commercialStartVars[c][invId] = vars[next++];
+            }
         }
     }
 
-    private void createFlagVars(GRBModel model, Problem problem, int c, int i) throws GRBException {
-        AttentionType[] types = problem.getAttentionTypes(c, i);
-        flagVars[c][i] = new GRBVar[types.length];
-        for (int f = 0; f < types.length; f++) {
-            if (types[f] == AttentionType.N) {
-                continue;
+    // A is the sum of binaries of which at most one is set, so it is integral
+    // without being declared binary.
+    private void createAssignmentVars(ModelBuilder builder, Problem problem) throws GRBException {
+        var batch = builder.variables("A", GRB.CONTINUOUS);
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                batch.add(1, "A", c, invId);
+            }
+        }
+        var vars = builder.add(batch);
+        var next = 0;
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                assignmentVars[c][invId] = vars[next++];
             }
-            flagVars[c][i][f] = model.addVar(0, 1, 0, GRB.BINARY, "y_" + c + "_" + i + "_" + f);
         }
     }
 }
@@ -0,0 +1,63 @@
+package scheduling.solver.mip.model;
+
+import com.gurobi.gurobi.GRB;
+import com.gurobi.gurobi.GRBCallback;
+import com.gurobi.gurobi.GRBException;
+import java.util.Optional;
+import scheduling.solver.EarlyStopConfig;
+import scheduling.solver.EarlyStopMonitor;
+import scheduling.solver.StopReason;
+
+// Records every new incumbent as a checkpoint and aborts the solve once the
+// early-stop policy is met. Iterations are explored branch-and-bound nodes, and the
+// policy is only checked after the first incumbent was found.
+class IncumbentCheckpointCallback extends GRBCallback {
+
+    private final MipCheckpointRecorder checkpointRecorder;
+    private final EarlyStopConfig earlyStopConfig;
+    private final EarlyStopMonitor earlyStop;
+    private boolean hasIncumbent;
+    private Optional<GRBException> failure = Optional.empty();
+    private Optional<StopReason> stopReason = Optional.empty();
+
+    IncumbentCheckpointCallback(
+            MipCheckpointRecorder checkpointRecorder, EarlyStopConfig earlyStopConfig) {
+        this.checkpointRecorder = checkpointRecorder;
+        this.earlyStopConfig = earlyStopConfig;
+        this.earlyStop = new EarlyStopMonitor(earlyStopConfig, Double.NEGATIVE_INFINITY);
+    }
+
+    @Override
+    protected void callback() {
+        try {
+            if (where == GRB.CB_MIPSOL) {
+                var objective = getDoubleInfo(GRB.CB_MIPSOL_OBJ);
+                var runtime = getDoubleInfo(GRB.CB_RUNTIME);
+                checkpointRecorder.record(objective, runtime);
+                var nodes = (long) getDoubleInfo(GRB.CB_MIPSOL_NODCNT);
+                earlyStop.observe(objective, runtime, nodes);
+                hasIncumbent = true;
+            } else if (where == GRB.CB_MIP && hasIncumbent && earlyStopConfig.isEnabled()) {
+                var runtime = getDoubleInfo(GRB.CB_RUNTIME);
+                var nodes = (long) getDoubleInfo(GRB.CB_MIP_NODCNT);
+                var reason = earlyStop.check(runtime, nodes);
+                if (reason.isPresent()) {
+                    stopReason = reason;
+                    abort();
+                }
+            }
+        } catch (GRBException e) {
+            failure = Optional.of(e);
+            abort();
+        }
+    }
+
+    Optional<GRBException> getFailure() {
+        return failure;
+    }
+
+    // The early-stop criterion that aborted the solve, if any.
+    Optional<StopReason> getStopReason() {
+        return stopReason;
+    }
+}
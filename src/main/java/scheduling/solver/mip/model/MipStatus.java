@@ -1,6 +1,7 @@
 package scheduling.solver.mip.model;
 
 import com.gurobi.gurobi.GRB;
+import scheduling.solver.StopReason;
 
 final class MipStatus {
 
@@ -30,4 +31,15 @@ final class MipStatus {
             default -> throw new IllegalArgumentException("Unknown Gurobi status: " + statusCode);
         };
     }
+
+    // Stop reason of a solve that was not aborted by the early-stop policy.
+    static StopReason stopReason(int statusCode) {
+        return switch (statusCode) {
+            case GRB.Status.TIME_LIMIT -> StopReason.TIME_LIMIT;
+            case GRB.Status.USER_OBJ_LIMIT -> StopReason.TARGET_REACHED;
+            case GRB.Status.WORK_LIMIT -> StopReason.WORK_LIMIT;
+            case GRB.Status.INTERRUPTED -> StopReason.STOP_REQUESTED;
+            default -> StopReason.COMPLETED;
+        };
+    }
 }
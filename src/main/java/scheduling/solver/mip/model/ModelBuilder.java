@@ -0,0 +1,40 @@
+package scheduling.solver.mip.model;
+
+import com.gurobi.gurobi.GRBException;
+import com.gurobi.gurobi.GRBModel;
+import com.gurobi.gurobi.GRBVar;
+import lombok.RequiredArgsConstructor;
+import scheduling.solver.mip.ModelBuildStatistics;
+
+// Adds the variable and constraint families of a model in batches, one Gurobi call
+// per family, and records how long each family took from opening its batch to
+// adding it.
+@RequiredArgsConstructor
+final class ModelBuilder {
+
+    private final GRBModel model;
+    private final boolean named;
+    private final ModelBuildStatistics statistics;
+
+    VariableBatch variables(String family, char type) {
+        return new VariableBatch(family, type, named);
+    }
+
+    ConstraintBatch constraints(String family) {
+        return new ConstraintBatch(family, named);
+    }
+
+    // Returns the batch's variables in the order they were added.
+    GRBVar[] add(VariableBatch batch) throws GRBException {
+        var vars = batch.addTo(model);
+        var elapsed = System.nanoTime() - batch.getStartNanos();
+        statistics.record(batch.getFamily(), batch.size(), elapsed);
+        return vars;
+    }
+
+    void add(ConstraintBatch batch) throws GRBException {
+        batch.addTo(model);
+        var elapsed = System.nanoTime() - batch.getStartNanos();
+        statistics.record(batch.getFamily(), batch.size(), elapsed);
+    }
+}
@@ -0,0 +1,17 @@
+package scheduling.solver.mip.model;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// Gurobi names of the form prefix_i_j_k, built only for named models.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ModelNames {
+
+    static String of(String prefix, int... indices) {
+        var sb = new StringBuilder(prefix);
+        for (int index : indices) {
+            sb.append('_').append(index);
+        }
+        return sb.toString();
+    }
+}
@@ -3,7 +3,6 @@ package scheduling.solver.mip.model;
 import com.gurobi.gurobi.GRB;
 import com.gurobi.gurobi.GRBException;
 import com.gurobi.gurobi.GRBLinExpr;
-import com.gurobi.gurobi.GRBModel;
 import scheduling.model.Commercial;
 import scheduling.model.Inventory;
 import scheduling.model.Problem;
@@ -11,12 +10,12 @@ import scheduling.model.enums.AttentionType;
 
 class RelaxedMIPConstraints {
 
-    private final GRBModel model;
+    private final ModelBuilder builder;
     private final Problem problem;
     private final RelaxedMIPVariables variables;
 
-    RelaxedMIPConstraints(GRBModel model, Problem problem, RelaxedMIPVariables variables) {
-        this.model = model;
+    RelaxedMIPConstraints(ModelBuilder builder, Problem problem, RelaxedMIPVariables variables) {
+        this.builder = builder;
         this.problem = problem;
         this.variables = variables;
     }
@@ -34,6 +33,7 @@ class RelaxedMIPConstraints {
     }
 
     private void addCommercialUniqueness() throws GRBException {
+        var rows = builder.constraints("uniqueness");
         for (Commercial comm : problem.getCommercials()) {
             int c = comm.getId();
             GRBLinExpr expr = new GRBLinExpr();
@@ -43,11 +43,13 @@ class RelaxedMIPConstraints {
                     expr.addTerm(1, variables.getO(c, invId, n));
                 }
             }
-            model.addConstr(expr, GRB.LESS_EQUAL, 1, "uniqueness_" + c);
+            rows.add(expr, GRB.LESS_EQUAL, 1, "uniqueness", c);
         }
+        builder.add(rows);
     }
 
     private void addSlotExclusivity() throws GRBException {
+        var rows = builder.constraints("slot_excl");
         for (Inventory inv : problem.getInventories()) {
             int i = inv.getId();
             for (int n = 0; n < inv.getMaxCommercialCount(); n++) {
@@ -55,12 +57,14 @@ class RelaxedMIPConstraints {
                 for (int commId : problem.getSuitableCommercials(i)) {
                     expr.addTerm(1, variables.getO(commId, i, n));
                 }
-                model.addConstr(expr, GRB.LESS_EQUAL, 1, "slot_excl_" + i + "_" + n);
+                rows.add(expr, GRB.LESS_EQUAL, 1, "slot_excl", i, n);
             }
         }
+        builder.add(rows);
     }
 
     private void addSequentialSlotFilling() throws GRBException {
+        var rows = builder.constraints("seq_fill");
         for (Inventory inv : problem.getInventories()) {
             int i = inv.getId();
             for (int n = 0; n < inv.getMaxCommercialCount() - 1; n++) {
@@ -73,12 +77,14 @@ class RelaxedMIPConstraints {
                 for (int commId : problem.getSuitableCommercials(i)) {
                     rhs.addTerm(1, variables.getO(commId, i, n + 1));
                 }
-                model.addConstr(lhs, GRB.GREATER_EQUAL, rhs, "seq_fill_" + i + "_" + n);
+                rows.add(lhs, GRB.GREATER_EQUAL, rhs, "seq_fill", i, n);
             }
         }
+        builder.add(rows);
     }
 
     private void addBreakCapacity() throws GRBException {
+        var rows = builder.constraints("break_cap");
         for (Inventory inv : problem.getInventories()) {
             int i = inv.getId();
             GRBLinExpr expr = new GRBLinExpr();
@@ -88,11 +94,13 @@ class RelaxedMIPConstraints {
                     expr.addTerm(duration, variables.getO(commId, i, n));
                 }
             }
-            model.addConstr(expr, GRB.LESS_EQUAL, inv.getDuration(), "break_cap_" + i);
+            rows.add(expr, GRB.LESS_EQUAL, inv.getDuration(), "break_cap", i);
         }
+        builder.add(rows);
     }
 
     private void addHourlyLimit() throws GRBException {
+        var rows = builder.constraints("hourly_limit");
         for (int hour : problem.getHours()) {
             GRBLinExpr expr = new GRBLinExpr();
             for (Inventory inv : problem.getInventories()) {
@@ -107,12 +115,13 @@ class RelaxedMIPConstraints {
                     }
                 }
             }
-            model.addConstr(
-                    expr, GRB.LESS_EQUAL, Problem.HOURLY_BROADCAST_LIMIT, "hourly_limit_" + hour);
+            rows.add(expr, GRB.LESS_EQUAL, Problem.HOURLY_BROADCAST_LIMIT, "hourly_limit", hour);
         }
+        builder.add(rows);
     }
 
     private void addGroupNonConsecutivity() throws GRBException {
+        var rows = builder.constraints("no_consec");
         for (Inventory inv : problem.getInventories()) {
             int i = inv.getId();
             int[] suitableComms = problem.getSuitableCommercials(i);
@@ -131,27 +140,21 @@ class RelaxedMIPConstraints {
                         GRBLinExpr expr13 = new GRBLinExpr();
                         expr13.addTerm(1, variables.getO(c1, i, n));
                         expr13.addTerm(1, variables.getO(c2, i, n + 1));
-                        model.addConstr(
-                                expr13,
-                                GRB.LESS_EQUAL,
-                                1,
-                                "no_consec_" + c1 + "_" + c2 + "_" + i + "_" + n);
+                        rows.add(expr13, GRB.LESS_EQUAL, 1, "no_consec", c1, c2, i, n);
 
                         GRBLinExpr expr14 = new GRBLinExpr();
                         expr14.addTerm(1, variables.getO(c2, i, n));
                         expr14.addTerm(1, variables.getO(c1, i, n + 1));
-                        model.addConstr(
-                                expr14,
-                                GRB.LESS_EQUAL,
-                                1,
-                                "no_consec_" + c2 + "_" + c1 + "_" + i + "_" + n);
+                        rows.add(expr14, GRB.LESS_EQUAL, 1, "no_consec", c2, c1, i, n);
                     }
                 }
             }
         }
+        builder.add(rows);
     }
 
     private void addFlagSatisfaction() throws GRBException {
+        var rows = builder.constraints("flag_sat");
         for (Commercial comm : problem.getCommercials()) {
             int c = comm.getId();
             for (int invId : problem.getSuitableInventories(c)) {
@@ -175,12 +178,14 @@ class RelaxedMIPConstraints {
                     sumO.addTerm(1, variables.getO(c, invId, n));
                 }
 
-                model.addConstr(sumY, GRB.GREATER_EQUAL, sumO, "flag_sat_" + c + "_" + invId);
+                rows.add(sumY, GRB.GREATER_EQUAL, sumO, "flag_sat", c, invId);
             }
         }
+        builder.add(rows);
     }
 
     private void addFirstTypeFlags() throws GRBException {
+        var rows = builder.constraints("f_flag");
         for (Commercial comm : problem.getCommercials()) {
             int c = comm.getId();
             for (int invId : problem.getSuitableInventories(c)) {
@@ -203,18 +208,16 @@ class RelaxedMIPConstraints {
                         GRBLinExpr rhs16 = new GRBLinExpr();
                         rhs16.addConstant(1);
                         rhs16.addTerm(-1, variables.getY(c, invId, f));
-                        model.addConstr(
-                                lhs16,
-                                GRB.LESS_EQUAL,
-                                rhs16,
-                                "f_flag_" + c + "_" + invId + "_" + f + "_" + n);
+                        rows.add(lhs16, GRB.LESS_EQUAL, rhs16, "f_flag", c, invId, f, n);
                     }
                 }
             }
         }
+        builder.add(rows);
     }
 
     private void addLastTypeFlags() throws GRBException {
+        var rows = builder.constraints("l_flag");
         for (Commercial comm : problem.getCommercials()) {
             int c = comm.getId();
             for (int invId : problem.getSuitableInventories(c)) {
@@ -232,8 +235,6 @@ class RelaxedMIPConstraints {
                     int bigM = maxSlots;
 
                     for (int n = 0; n < maxSlots; n++) {
-                        String suffix = c + "_" + invId + "_" + f + "_" + n;
-
                         GRBLinExpr lhs17 = new GRBLinExpr();
                         for (int commPrime : problem.getSuitableCommercials(invId)) {
                             for (int m = n + 1; m < maxSlots; m++) {
@@ -245,7 +246,7 @@ class RelaxedMIPConstraints {
                         rhs17.addConstant((maxP - 1) + 2 * bigM);
                         rhs17.addTerm(-bigM, variables.getO(c, invId, n));
                         rhs17.addTerm(-bigM, variables.getY(c, invId, f));
-                        model.addConstr(lhs17, GRB.LESS_EQUAL, rhs17, "l_flag_ub_" + suffix);
+                        rows.add(lhs17, GRB.LESS_EQUAL, rhs17, "l_flag_ub", c, invId, f, n);
 
                         GRBLinExpr lhs18 = new GRBLinExpr();
                         for (int commPrime : problem.getSuitableCommercials(invId)) {
@@ -258,11 +259,12 @@ class RelaxedMIPConstraints {
                         rhs18.addConstant((minP - 1) - 2 * bigM);
                         rhs18.addTerm(bigM, variables.getO(c, invId, n));
                         rhs18.addTerm(bigM, variables.getY(c, invId, f));
-                        model.addConstr(lhs18, GRB.GREATER_EQUAL, rhs18, "l_flag_lb_" + suffix);
+                        rows.add(lhs18, GRB.GREATER_EQUAL, rhs18, "l_flag_lb", c, invId, f, n);
                     }
                 }
             }
         }
+        builder.add(rows);
     }
 
     private static boolean hasNonNFlags(AttentionType[] types) {
@@ -1,7 +1,6 @@
 package scheduling.solver.mip.model;
 
 import com.gurobi.gurobi.GRB;
-import com.gurobi.gurobi.GRBCallback;
 import com.gurobi.gurobi.GRBEnv;
 import com.gurobi.gurobi.GRBException;
 import com.gurobi.gurobi.GRBModel;
@@ -15,6 +14,8 @@ import scheduling.model.Inventory;
 import scheduling.model.Problem;
 import scheduling.solver.Solution;
 import scheduling.solver.SolverSolution;
+import scheduling.solver.StopReason;
+import scheduling.solver.mip.ModelBuildStatistics;
 import scheduling.solver.mip.RelaxedMIPConfig;
 import scheduling.solver.mip.RelaxedMIPInformation;
 
@@ -26,7 +27,9 @@ public class RelaxedMIPModel implements AutoCloseable {
     private GRBModel grbModel;
     private RelaxedMIPVariables variables;
     private Problem problem;
+    private final ModelBuildStatistics buildStatistics = new ModelBuildStatistics();
     private final MipCheckpointRecorder checkpointRecorder = new MipCheckpointRecorder();
+    private Optional<StopReason> earlyStopReason = Optional.empty();
 
     public RelaxedMIPModel(RelaxedMIPConfig config) {
         this.config = config;
@@ -37,24 +40,31 @@ public class RelaxedMIPModel implements AutoCloseable {
         try {
             env = new GRBEnv();
             grbModel = new GRBModel(env);
+            var builder = new ModelBuilder(grbModel, config.modelNames(), buildStatistics);
 
-            variables = new RelaxedMIPVariables(grbModel, problem);
+            variables = new RelaxedMIPVariables(builder, problem);
             grbModel.update();
 
             new RelaxedMIPObjective(grbModel, problem, variables, config.returnMode())
                     .setObjective();
-            new RelaxedMIPConstraints(grbModel, problem, variables).setConstraints();
+            new RelaxedMIPConstraints(builder, problem, variables).setConstraints();
+            grbModel.update();
+            buildStatistics.recordModelSize(
+                    grbModel.get(GRB.IntAttr.NumVars),
+                    grbModel.get(GRB.IntAttr.NumConstrs),
+                    grbModel.get(GRB.IntAttr.NumNZs));
         } catch (GRBException e) {
             throw new RuntimeException("Failed to build relaxed MIP model", e);
         }
     }
 
     public void optimize() {
-        var callback = new IncumbentCheckpointCallback(checkpointRecorder);
+        var callback = new IncumbentCheckpointCallback(checkpointRecorder, config.earlyStop());
         try {
             grbModel.set(GRB.DoubleParam.MIPGap, config.mipGap());
             grbModel.setCallback(callback);
             grbModel.optimize();
+            earlyStopReason = callback.getStopReason();
             callback.getFailure()
                     .ifPresent(
                             failure -> {
@@ -110,7 +120,9 @@ public class RelaxedMIPModel implements AutoCloseable {
                             grbModel.get(GRB.DoubleAttr.MIPGap),
                             grbModel.get(GRB.DoubleAttr.Runtime),
                             grbModel.get(GRB.DoubleAttr.NodeCount),
-                            solCount);
+                            solCount,
+                            earlyStopReason.orElse(MipStatus.stopReason(statusCode)),
+                            buildStatistics);
             return new SolverSolution<>(
                     solution, checkpointRecorder.snapshot(), relaxedMIPInformation);
         } catch (GRBException e) {
@@ -131,34 +143,4 @@ public class RelaxedMIPModel implements AutoCloseable {
             }
         }
     }
-
-    private static class IncumbentCheckpointCallback extends GRBCallback {
-
-        private final MipCheckpointRecorder checkpointRecorder;
-        private Optional<GRBException> failure = Optional.empty();
-
-        IncumbentCheckpointCallback(MipCheckpointRecorder checkpointRecorder) {
-            this.checkpointRecorder = checkpointRecorder;
-        }
-
-        @Override
-        protected void callback() {
-            if (where != GRB.CB_MIPSOL) {
-                return;
-            }
-
-            try {
-                var objective = getDoubleInfo(GRB.CB_MIPSOL_OBJ);
-                var runtime = getDoubleInfo(GRB.CB_RUNTIME);
-                checkpointRecorder.record(objective, runtime);
-            } catch (GRBException e) {
-                failure = Optional.of(e);
-                abort();
-            }
-        }
-
-        Optional<GRBException> getFailure() {
-            return failure;
-        }
-    }
 }
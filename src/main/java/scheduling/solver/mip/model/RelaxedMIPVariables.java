@@ -4,26 +4,28 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.gurobi.gurobi.GRB;
 import com.gurobi.gurobi.GRBException;
-import com.gurobi.gurobi.GRBModel;
 import com.gurobi.gurobi.GRBVar;
+import java.util.Arrays;
 import scheduling.model.Commercial;
-import scheduling.model.Inventory;
 import scheduling.model.Problem;
 import scheduling.model.enums.AttentionType;
 
+// Each family is added with one batch in (commercial, suitable inventory, index)
+// order and then sliced back into the per-commercial, per-inventory arrays.
 class RelaxedMIPVariables {
 
     private final GRBVar[][][] orderingVars;
     private final GRBVar[][][] flagVars;
 
-    RelaxedMIPVariables(GRBModel model, Problem problem) throws GRBException {
+    RelaxedMIPVariables(ModelBuilder builder, Problem problem) throws GRBException {
         int numComms = problem.getCommercials().length;
         int numInvs = problem.getInventories().length;
 
         orderingVars = new GRBVar[numComms][numInvs][];
         flagVars = new GRBVar[numComms][numInvs][];
 
-        createVariables(model, problem);
+        createOrderingVars(builder, problem);
+        createFlagVars(builder, problem);
     }
 
     GRBVar getO(int commId, int invId, int slot) {
@@ -34,35 +36,55 @@ class RelaxedMIPVariables {
         return checkNotNull(flagVars[commId][invId][flagIndex]);
     }
 
-    private void createVariables(GRBModel model, Problem problem) throws GRBException {
+    private void createOrderingVars(ModelBuilder builder, Problem problem) throws GRBException {
+        var batch = builder.variables("O", GRB.BINARY);
         for (Commercial comm : problem.getCommercials()) {
             int c = comm.getId();
             for (int invId : problem.getSuitableInventories(c)) {
-                Inventory inv = problem.getInventory(invId);
-                int maxSlots = inv.getMaxCommercialCount();
-
-                createOrderingVars(model, c, invId, maxSlots);
-                createFlagVars(model, problem, c, invId);
+                for (int n = 0; n < problem.getInventory(invId).getMaxCommercialCount(); n++) {
+                    batch.add(1, "O", c, invId, n);
+                }
             }
         }
-    }
-
-    private void createOrderingVars(GRBModel model, int c, int i, int maxSlots)
-            throws GRBException {
-        orderingVars[c][i] = new GRBVar[maxSlots];
-        for (int n = 0; n < maxSlots; n++) {
-            orderingVars[c][i][n] = model.addVar(0, 1, 0, GRB.BINARY, "O_" + c + "_" + i + "_" + n);
+        var vars = builder.add(batch);
+        var next = 0;
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                int maxSlots = problem.getInventory(invId).getMaxCommercialCount();
+                orderingVars[c][invId] = Arrays.copyOfRange(vars, next, next + maxSlots);
+                next += maxSlots;
+            }
         }
     }
 
-    private void createFlagVars(GRBModel model, Problem problem, int c, int i) throws GRBException {
-        AttentionType[] types = problem.getAttentionTypes(c, i);
-        flagVars[c][i] = new GRBVar[types.length];
-        for (int f = 0; f < types.length; f++) {
-            if (types[f] == AttentionType.N) {
-                continue;
+    // Flags of type N have no variable.
+    private void createFlagVars(ModelBuilder builder, Problem problem) throws GRBException {
+        var batch = builder.variables("y", GRB.BINARY);
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                AttentionType[] types = problem.getAttentionTypes(c, invId);
+                for (int f = 0; f < types.length; f++) {
+                    if (types[f] != AttentionType.N) {
+                        batch.add(1, "y", c, invId, f);
+                    }
+                }
+            }
+        }
+        var vars = builder.add(batch);
+        var next = 0;
+        for (Commercial comm : problem.getCommercials()) {
+            int c = comm.getId();
+            for (int invId : problem.getSuitableInventories(c)) {
+                AttentionType[] types = problem.getAttentionTypes(c, invId);
+                flagVars[c][invId] = new GRBVar[types.length];
+                for (int f = 0; f < types.length; f++) {
+                    if (types[f] != AttentionType.N) {
+                        flagVars[c][invId][f] = vars[next++];
+                    }
+                }
             }
-            flagVars[c][i][f] = model.addVar(0, 1, 0, GRB.BINARY, "y_" + c + "_" + i + "_" + f);
         }
     }
 }
@@ -0,0 +1,54 @@
+package scheduling.solver.mip.model;
+
+import com.gurobi.gurobi.GRBException;
+import com.gurobi.gurobi.GRBModel;
+import com.gurobi.gurobi.GRBVar;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+
+// Variables of one family, created with a single addVars call. All share a type and
+// a lower bound of 0. Names are only built for named models.
+final class VariableBatch {
+
+    @Getter private final String family;
+    @Getter private final long startNanos = System.nanoTime();
+    private final char type;
+    private final boolean named;
+    private final List<String> names = new ArrayList<>();
+    private double[] upperBounds = new double[16];
+    private int size;
+
+    VariableBatch(String family, char type, boolean named) {
+        this.family = family;
+        this.type = type;
+        this.named = named;
+    }
+
+    void add(double upperBound, String prefix, int... indices) {
+        if (size == upperBounds.length) {
+            upperBounds = Arrays.copyOf(upperBounds, size * 2);
+        }
+        upperBounds[size++] = upperBound;
+        if (named) {
+            names.add(ModelNames.of(prefix, indices));
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Returns the variables in the order they were added.
+    GRBVar[] addTo(GRBModel model) throws GRBException {
+        var types = new char[size];
+        Arrays.fill(types, type);
+        return model.addVars(
+                new double[size],
+                Arrays.copyOf(upperBounds, size),
+                new double[size],
+                types,
+                named ? names.toArray(new String[0]) : null);
+    }
+}
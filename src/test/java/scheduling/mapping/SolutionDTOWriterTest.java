@@ -15,8 +15,16 @@ import scheduling.model.Commercial;
 import scheduling.model.Inventory;
 import scheduling.model.enums.PricingType;
 import scheduling.solver.CheckPoint;
+import scheduling.solver.RunInfo;
 import scheduling.solver.Solution;
 import scheduling.solver.SolverSolution;
+import scheduling.solver.StopReason;
+import scheduling.solver.heuristic.beecolony.BeeColonyConfig;
+import scheduling.solver.heuristic.beecolony.BeeColonyInformation;
+import scheduling.solver.heuristic.beecolony.move.MoveType;
+import scheduling.solver.heuristic.beecolony.statistics.ColonyStatistics;
+import scheduling.solver.heuristic.beecolony.statistics.GenerationSample;
+import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
 import scheduling.solver.mip.MipConfig;
 import scheduling.solver.mip.MipInformation;
 import scheduling.solver.mip.RelaxedMIPConfig;
@@ -71,7 +79,7 @@ class SolutionDTOWriterTest {
         var solution = new Solution(new LinkedHashMap<>(), 0.0);
         var mipInformation =
                 new MipInformation(
-                        new MipConfig("25", 7200),
+                        MipConfig.builder().instanceName("25").timeLimitSeconds(7200).build(),
                         2,
                         "OPTIMAL",
                         1200.0,
@@ -79,7 +87,8 @@ class SolutionDTOWriterTest {
                         0.0,
                         15.5,
                         42.0,
-                        3);
+                        3,
+                        StopReason.STAGNATION);
         var solverSolution = new SolverSolution<>(solution, List.of(), mipInformation);
 
         var outputPath = tempDir.resolve("solution.json");
@@ -99,6 +108,7 @@ class SolutionDTOWriterTest {
         assertEquals(15.5, additionalInformation.get("runtimeSeconds").asDouble(), 1e-10);
         assertEquals(42.0, additionalInformation.get("nodeCount").asDouble(), 1e-10);
         assertEquals(3, additionalInformation.get("solutionCount").asInt());
+        assertEquals("STAGNATION", additionalInformation.get("stopReason").asText());
     }
 
     @Test
@@ -115,7 +125,8 @@ class SolutionDTOWriterTest {
                         0.1,
                         15.5,
                         42.0,
-                        3);
+                        3,
+                        StopReason.COMPLETED);
         var solverSolution = new SolverSolution<>(solution, List.of(), relaxedMipInformation);
 
         var outputPath = tempDir.resolve("solution.json");
@@ -138,4 +149,54 @@ class SolutionDTOWriterTest {
         assertEquals(42.0, additionalInformation.get("nodeCount").asDouble(), 1e-10);
         assertEquals(3, additionalInformation.get("solutionCount").asInt());
     }
+
+    @Test
+    void writesBeeColonyInformationAsObject(@TempDir Path tempDir) throws IOException {
+        var solution = new Solution(new LinkedHashMap<>(), 500.0);
+        var employed = new PhaseStatistics();
+        employed.record(2_000_000L, 25.0);
+        var colony = new ColonyStatistics();
+        colony.recordEvaluation(true);
+        colony.recordEvaluation(false);
+        colony.getOrCreateOperatorStatistics(MoveType.SWAP).recordAnnealed();
+        var beeColonyInformation =
+                new BeeColonyInformation(
+                        BeeColonyConfig.builder()
+                                .runInfo(new RunInfo("25", 1))
+                                .populationSize(10)
+                                .initialTemperature(0.02)
+                                .coolingCoefficient(0.95)
+                                .coolingInterval(10)
+                                .timeLimitSeconds(60)
+                                .build(),
+                        20,
+                        StopReason.TIME_LIMIT,
+                        new PhaseStatistics(),
+                        employed,
+                        new PhaseStatistics(),
+                        new PhaseStatistics(),
+                        colony,
+                        1000.0,
+                        List.of(new GenerationSample(10, 1.5, 500.0, 400.0, 300.0, 0.02)));
+        var solverSolution = new SolverSolution<>(solution, List.of(), beeColonyInformation);
+
+        var outputPath = tempDir.resolve("solution.json");
+        SolutionDTOWriter.write(solverSolution, outputPath);
+
+        var tree = MAPPER.readTree(outputPath.toFile());
+        var additionalInformation = tree.get("additionalInformation");
+
+        assertEquals(20, additionalInformation.get("generations").asInt());
+        assertEquals("TIME_LIMIT", additionalInformation.get("stopReason").asText());
+        var employedNode = additionalInformation.get("employedStatistics");
+        assertEquals(2_000_000L, employedNode.get("totalTimeNanos").asLong());
+        var colonyNode = additionalInformation.get("colonyStatistics");
+        assertEquals(0.5, colonyNode.get("invalidShare").asDouble(), 1e-10);
+        var swapNode = colonyNode.get("operatorStatistics").get("SWAP");
+        assertEquals(1.0, swapNode.get("annealedRate").asDouble(), 1e-10);
+        assertEquals(1000.0, additionalInformation.get("evaluationsPerSecond").asDouble(), 1e-10);
+        var sample = additionalInformation.get("generationSamples").get(0);
+        assertEquals(400.0, sample.get("averageFitness").asDouble(), 1e-10);
+        assertEquals(0.02, sample.get("temperature").asDouble(), 1e-10);
+    }
 }
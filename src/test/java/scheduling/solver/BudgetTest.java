@@ -0,0 +1,48 @@
+package scheduling.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BudgetTest {
+
+    @Test
+    void noneLimitsNothing() {
+        assertFalse(Budget.NONE.isLimited());
+        assertFalse(Budget.NONE.iterationsExhausted(Long.MAX_VALUE));
+        assertFalse(Budget.NONE.evaluationsExhausted(Long.MAX_VALUE));
+        assertFalse(Budget.NONE.generationsExhausted(Long.MAX_VALUE));
+        assertFalse(Budget.NONE.targetReached(Double.MAX_VALUE));
+    }
+
+    @Test
+    void limitsAreInclusive() {
+        var budget = new Budget(10, 100, 5, 250.0);
+        assertTrue(budget.isLimited());
+        assertFalse(budget.iterationsExhausted(9));
+        assertTrue(budget.iterationsExhausted(10));
+        assertFalse(budget.evaluationsExhausted(99));
+        assertTrue(budget.evaluationsExhausted(100));
+        assertFalse(budget.generationsExhausted(4));
+        assertTrue(budget.generationsExhausted(5));
+        assertFalse(budget.targetReached(249.9));
+        assertTrue(budget.targetReached(250.0));
+    }
+
+    @Test
+    void negativeValuesThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new Budget(-1, 0, 0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new Budget(0, -1, 0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new Budget(0, 0, -1, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new Budget(0, 0, 0, -1.0));
+    }
+
+    @Test
+    void stringDescListsOnlyEnabledLimits() {
+        assertEquals("BUDGET[iter=10, target=250.0]", new Budget(10, 0, 0, 250.0).stringDesc());
+        assertEquals("BUDGET[evals=100, gen=5]", new Budget(0, 100, 5, 0.0).stringDesc());
+    }
+}
@@ -0,0 +1,44 @@
+package scheduling.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class EarlyStopConfigTest {
+
+    @Test
+    void noneIsDisabled() {
+        assertFalse(EarlyStopConfig.NONE.isEnabled());
+        assertFalse(EarlyStopConfig.NONE.isTimeBased());
+    }
+
+    @Test
+    void iterationStagnationIsNotTimeBased() {
+        var config = new EarlyStopConfig(0.0, 100, 0.0, 0.0);
+        assertTrue(config.isEnabled());
+        assertFalse(config.isTimeBased());
+    }
+
+    @Test
+    void windowAndThresholdMustBeSetTogether() {
+        assertThrows(IllegalArgumentException.class, () -> new EarlyStopConfig(0, 0, 60, 0));
+        assertThrows(IllegalArgumentException.class, () -> new EarlyStopConfig(0, 0, 0, 0.01));
+    }
+
+    @Test
+    void negativeValuesThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new EarlyStopConfig(-1, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new EarlyStopConfig(0, -1, 0, 0));
+    }
+
+    @Test
+    void stringDescListsOnlyEnabledCriteria() {
+        assertEquals(
+                "STOP[stall=30.0s, rate<0.001/60.0s]",
+                new EarlyStopConfig(30.0, 0, 60.0, 0.001).stringDesc());
+        assertEquals("STOP[stallIter=500]", new EarlyStopConfig(0.0, 500, 0.0, 0.0).stringDesc());
+    }
+}
@@ -0,0 +1,61 @@
+package scheduling.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class EarlyStopMonitorTest {
+
+    @Test
+    void disabledConfigNeverStops() {
+        var monitor = new EarlyStopMonitor(EarlyStopConfig.NONE, 100.0);
+        assertTrue(monitor.check(1e6, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void stopsAfterStagnationSeconds() {
+        var monitor = new EarlyStopMonitor(new EarlyStopConfig(10.0, 0, 0.0, 0.0), 100.0);
+        monitor.observe(110.0, 5.0, 3);
+
+        assertTrue(monitor.check(14.9, 10).isEmpty());
+        assertEquals(Optional.of(StopReason.STAGNATION), monitor.check(15.0, 10));
+    }
+
+    @Test
+    void stopsAfterStagnationIterations() {
+        var monitor = new EarlyStopMonitor(new EarlyStopConfig(0.0, 50, 0.0, 0.0), 100.0);
+        monitor.observe(110.0, 1.0, 20);
+
+        assertTrue(monitor.check(2.0, 69).isEmpty());
+        assertEquals(Optional.of(StopReason.STAGNATION), monitor.check(2.0, 70));
+    }
+
+    @Test
+    void nonImprovingObservationsDoNotResetStagnation() {
+        var monitor = new EarlyStopMonitor(new EarlyStopConfig(0.0, 50, 0.0, 0.0), 100.0);
+        monitor.observe(100.0, 1.0, 40);
+
+        assertEquals(Optional.of(StopReason.STAGNATION), monitor.check(2.0, 50));
+    }
+
+    @Test
+    void stopsWhenImprovementOverWindowIsTooSmall() {
+        var monitor = new EarlyStopMonitor(new EarlyStopConfig(0.0, 0, 10.0, 0.01), 100.0);
+        monitor.observe(150.0, 5.0, 1);
+
+        // Window [0, 10]: 100 -> 150 is well above 1%.
+        assertTrue(monitor.check(10.0, 3).isEmpty());
+
+        monitor.observe(151.0, 12.0, 2);
+        // Window [10, 20]: best was 150 at its start, 151 is less than 1% more.
+        assertEquals(Optional.of(StopReason.SLOW_IMPROVEMENT), monitor.check(20.0, 4));
+    }
+
+    @Test
+    void rateIsNotCheckedBeforeAFullWindow() {
+        var monitor = new EarlyStopMonitor(new EarlyStopConfig(0.0, 0, 10.0, 0.01), 100.0);
+        assertTrue(monitor.check(9.0, 1).isEmpty());
+    }
+}
@@ -0,0 +1,62 @@
+package scheduling.solver.heuristic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class DeadlineTest {
+
+    @Test
+    void noneNeverExpires() {
+        assertFalse(Deadline.NONE.isExpired());
+        assertEquals(Long.MAX_VALUE, Deadline.NONE.remainingNanos());
+    }
+
+    @Test
+    void pastDeadlineIsExpired() {
+        var deadline = Deadline.atNanos(System.nanoTime() - 1);
+
+        assertTrue(deadline.isExpired());
+        assertEquals(0, deadline.remainingNanos());
+    }
+
+    @Test
+    void futureDeadlineIsNotExpired() {
+        assertFalse(Deadline.after(Duration.ofHours(1)).isExpired());
+    }
+
+    @Test
+    void interruptExpiresEveryDeadline() {
+        Thread.currentThread().interrupt();
+        try {
+            assertTrue(Deadline.NONE.isExpired());
+            assertTrue(Deadline.after(Duration.ofHours(1)).isExpired());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void shouldStopOnlyChecksEveryInterval() {
+        var expired = Deadline.atNanos(System.nanoTime() - 1);
+
+        assertFalse(expired.shouldStop(1));
+        assertFalse(expired.shouldStop(Deadline.CHECK_INTERVAL - 1));
+        assertTrue(expired.shouldStop(Deadline.CHECK_INTERVAL));
+    }
+
+    @Test
+    void minPicksEarlierDeadline() {
+        var early = Deadline.after(Duration.ofMinutes(1));
+        var late = Deadline.after(Duration.ofHours(1));
+
+        assertSame(early, early.min(late));
+        assertSame(early, late.min(early));
+        assertSame(early, Deadline.NONE.min(early));
+        assertSame(early, early.min(Deadline.NONE));
+    }
+}
@@ -1,12 +1,14 @@
 package scheduling.solver.heuristic.beecolony;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 import org.junit.jupiter.api.Test;
 import scheduling.model.Commercial;
@@ -14,8 +16,24 @@ import scheduling.model.Inventory;
 import scheduling.model.Problem;
 import scheduling.model.enums.AttentionType;
 import scheduling.model.enums.PricingType;
+import scheduling.solver.Budget;
+import scheduling.solver.CheckPoint;
 import scheduling.solver.FeasibilityCheck;
 import scheduling.solver.RunInfo;
+import scheduling.solver.StopReason;
+import scheduling.solver.heuristic.beecolony.move.MoveSelection;
+import scheduling.solver.heuristic.beecolony.move.MoveSelectorConfig;
+import scheduling.solver.heuristic.beecolony.statistics.GenerationSample;
+import scheduling.solver.heuristic.beecolony.statistics.OperatorStatistics;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.move.Move;
+import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.InsertNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.NeighborhoodType;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.TransferNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.selector.SequentialSelector;
+import scheduling.solver.heuristic.grasp.vnd.strategy.FirstImprovingStrategy;
 
 class BeeColonyAlgorithmTest {
 
@@ -53,7 +71,15 @@ class BeeColonyAlgorithmTest {
         var problem =
                 buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
 
-        var config = new BeeColonyConfig(new RunInfo("test", 42), 5, 0.02, 0.95, 10, 2);
+        var config =
+                BeeColonyConfig.builder()
+                        .runInfo(new RunInfo("test", 42))
+                        .populationSize(5)
+                        .initialTemperature(0.02)
+                        .coolingCoefficient(0.95)
+                        .coolingInterval(10)
+                        .timeLimitSeconds(2)
+                        .build();
         var algorithm = new BeeColonyAlgorithm(config, new Random(42));
 
         var result = algorithm.run(problem);
@@ -93,7 +119,15 @@ class BeeColonyAlgorithmTest {
         var problem =
                 buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
 
-        var config = new BeeColonyConfig(new RunInfo("test", 42), 3, 0.02, 0.95, 10, 2);
+        var config =
+                BeeColonyConfig.builder()
+                        .runInfo(new RunInfo("test", 42))
+                        .populationSize(3)
+                        .initialTemperature(0.02)
+                        .coolingCoefficient(0.95)
+                        .coolingInterval(10)
+                        .timeLimitSeconds(2)
+                        .build();
         var algorithm = new BeeColonyAlgorithm(config, new Random(42));
 
         var result = algorithm.run(problem);
@@ -121,7 +155,15 @@ class BeeColonyAlgorithmTest {
         var problem =
                 buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
 
-        var config = new BeeColonyConfig(new RunInfo("test", 42), 3, 0.02, 0.95, 10, 2);
+        var config =
+                BeeColonyConfig.builder()
+                        .runInfo(new RunInfo("test", 42))
+                        .populationSize(3)
+                        .initialTemperature(0.02)
+                        .coolingCoefficient(0.95)
+                        .coolingInterval(10)
+                        .timeLimitSeconds(2)
+                        .build();
         var algorithm = new BeeColonyAlgorithm(config, new Random(42));
 
         var result = algorithm.run(problem);
@@ -129,6 +171,272 @@ class BeeColonyAlgorithmTest {
         assertDoesNotThrow(() -> FeasibilityCheck.check(problem, result.getBestSolution()));
     }
 
+    @Test
+    void stopsAfterGenerationBudget() {
+        var comm0 = new Commercial(0, 1, 0, 20, 3.0, PricingType.FIXED);
+        var comm1 = new Commercial(1, 2, 0, 30, 2.0, PricingType.FIXED);
+        var commercials = new Commercial[] {comm0, comm1};
+        var inventories = new Inventory[] {new Inventory(0, 100, 0, 10)};
+        var suitability = new boolean[][] {{true}, {true}};
+        var attentionTypes =
+                new AttentionType[][][] {{{AttentionType.N}}, {{AttentionType.N}}};
+        var revenueMatrix = buildUniformRevenueMatrix(2, 1, 101, 60.0);
+        var problem =
+                buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+
+        var budget = new Budget(0, 0, 15, 0.0);
+        var config =
+                BeeColonyConfig.builder()
+                        .runInfo(new RunInfo("test", 42))
+                        .populationSize(3)
+                        .initialTemperature(0.02)
+                        .coolingCoefficient(0.95)
+                        .coolingInterval(10)
+                        .timeLimitSeconds(60)
+                        .budget(budget)
+                        .build();
+        var algorithm = new BeeColonyAlgorithm(config, new Random(42));
+
+        var startNanos = System.nanoTime();
+        var result = algorithm.run(problem);
+        var elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        assertTrue(elapsedSeconds < 30.0, "Run should end long before the time limit");
+        assertEquals(15, result.getAdditionalInformation().generations());
+        assertEquals(StopReason.GENERATION_BUDGET, result.getAdditionalInformation().stopReason());
+        assertEquals(config, result.getAdditionalInformation().config());
+    }
+
+    @Test
+    void recordsColonyInstrumentation() {
+        var comm0 = new Commercial(0, 1, 0, 20, 3.0, PricingType.FIXED);
+        var comm1 = new Commercial(1, 2, 0, 30, 2.0, PricingType.FIXED);
+        var commercials = new Commercial[] {comm0, comm1};
+        var inventories = new Inventory[] {new Inventory(0, 100, 0, 10)};
+        var suitability = new boolean[][] {{true}, {true}};
+        var attentionTypes =
+                new AttentionType[][][] {{{AttentionType.N}}, {{AttentionType.N}}};
+        var revenueMatrix = buildUniformRevenueMatrix(2, 1, 101, 60.0);
+        var problem =
+                buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+
+        var budget = new Budget(0, 0, 15, 0.0);
+        var config =
+                BeeColonyConfig.builder()
+                        .runInfo(new RunInfo("test", 42))
+                        .populationSize(3)
+                        .initialTemperature(0.02)
+                        .coolingCoefficient(0.95)
+                        .coolingInterval(10)
+                        .timeLimitSeconds(60)
+                        .budget(budget)
+                        .build();
+        var info = new BeeColonyAlgorithm(config, new Random(42)).run(problem);
+        var stats = info.getAdditionalInformation();
+
+        assertEquals(1, stats.initializationStatistics().getCallCount());
+        assertEquals(15, stats.employedStatistics().getCallCount());
+        assertEquals(15, stats.onlookerStatistics().getCallCount());
+        assertEquals(90, stats.colonyStatistics().getTotalEvaluations());
+        var attempts =
+                stats.colonyStatistics().getOperatorStatistics().values().stream()
+                        .mapToLong(OperatorStatistics::getAttemptCount)
+                        .sum();
+        assertEquals(90, attempts);
+        assertTrue(stats.evaluationsPerSecond() > 0);
+
+        var samples = stats.generationSamples();
+        assertEquals(List.of(10, 15), samples.stream().map(GenerationSample::generation).toList());
+        for (var sample : samples) {
+            assertTrue(sample.worstFitness() <= sample.averageFitness());
+            assertTrue(sample.averageFitness() <= sample.bestFitness());
+        }
+        assertEquals(0.02, samples.getFirst().temperature(), 1e-12);
+    }
+
+    @Test
+    void parallelRunIsReproducibleForSeedAndThreadCount() {
+        var commercials = new Commercial[6];
+        for (int c = 0; c < commercials.length; c++) {
+            commercials[c] = new Commercial(c, c, 0, 20 + 5 * c, 1.0 + c, PricingType.FIXED);
+        }
+        var inventories =
+                new Inventory[] {new Inventory(0, 100, 8, 10), new Inventory(1, 100, 9, 10)};
+        var suitability = new boolean[6][2];
+        var attentionTypes = new AttentionType[6][2][];
+        for (int c = 0; c < commercials.length; c++) {
+            for (int i = 0; i < inventories.length; i++) {
+                suitability[c][i] = true;
+                attentionTypes[c][i] = new AttentionType[] {AttentionType.N};
+            }
+        }
+        var revenueMatrix = buildUniformRevenueMatrix(6, 2, 101, 40.0);
+        var problem =
+                buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+
+        var config =
+                BeeColonyConfig.builder()
+                        .runInfo(new RunInfo("test", 42))
+                        .populationSize(8)
+                        .initialTemperature(0.02)
+                        .coolingCoefficient(0.95)
+                        .coolingInterval(10)
+                        .timeLimitSeconds(60)
+                        .budget(new Budget(0, 0, 25, 0.0))
+                        .threads(4)
+                        .build();
+        var first = new BeeColonyAlgorithm(config, new Random(42)).run(problem);
+        var second = new BeeColonyAlgorithm(config, new Random(42)).run(problem);
+
+        assertEquals(
+                first.getBestSolution().getTotalRevenue(),
+                second.getBestSolution().getTotalRevenue());
+        assertEquals(
+                first.getCheckPoints().stream().map(CheckPoint::getObjective).toList(),
+                second.getCheckPoints().stream().map(CheckPoint::getObjective).toList());
+        assertEquals(25, first.getAdditionalInformation().generations());
+        assertDoesNotThrow(() -> FeasibilityCheck.check(problem, first.getBestSolution()));
+    }
+
+    @Test
+    void adaptiveMoveSelectionIsFeasibleAndReproducible() {
+        var commercials = new Commercial[6];
+        for (int c = 0; c < commercials.length; c++) {
+            commercials[c] = new Commercial(c, c, 0, 20 + 5 * c, 1.0 + c, PricingType.FIXED);
+        }
+        var inventories =
+                new Inventory[] {new Inventory(0, 100, 8, 10), new Inventory(1, 100, 9, 10)};
+        var suitability = new boolean[6][2];
+        var attentionTypes = new AttentionType[6][2][];
+        for (int c = 0; c < commercials.length; c++) {
+            for (int i = 0; i < inventories.length; i++) {
+                suitability[c][i] = true;
+                attentionTypes[c][i] = new AttentionType[] {AttentionType.N};
+            }
+        }
+        var revenueMatrix = buildUniformRevenueMatrix(6, 2, 101, 40.0);
+        var problem =
+                buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+
+        var config =
+                BeeColonyConfig.builder()
+                        .runInfo(new RunInfo("test", 42))
+                        .populationSize(8)
+                        .initialTemperature(0.02)
+                        .coolingCoefficient(0.95)
+                        .coolingInterval(10)
+                        .timeLimitSeconds(60)
+                        .budget(new Budget(0, 0, 25, 0.0))
+                        .threads(2)
+                        .moveSelector(new MoveSelectorConfig(MoveSelection.ADAPTIVE, 0.1))
+                        .build();
+        var result = new BeeColonyAlgorithm(config, new Random(42)).run(problem);
+        var rerun = new BeeColonyAlgorithm(config, new Random(42)).run(problem);
+
+        var info = result.getAdditionalInformation();
+
+        assertEquals(25, info.generations());
+        assertEquals(400, info.colonyStatistics().getTotalEvaluations());
+        assertDoesNotThrow(() -> FeasibilityCheck.check(problem, result.getBestSolution()));
+        assertEquals(
+                result.getCheckPoints().stream().map(CheckPoint::getObjective).toList(),
+                rerun.getCheckPoints().stream().map(CheckPoint::getObjective).toList());
+    }
+
+    @Test
+    void hybridRunSeedsWithGraspAndPolishesBestBee() {
+        var commercials = new Commercial[6];
+        for (int c = 0; c < commercials.length; c++) {
+            commercials[c] = new Commercial(c, c, 0, 20 + 5 * c, 1.0 + c, PricingType.FIXED);
+        }
+        var inventories =
+                new Inventory[] {new Inventory(0, 100, 8, 10), new Inventory(1, 100, 9, 10)};
+        var suitability = new boolean[6][2];
+        var attentionTypes = new AttentionType[6][2][];
+        for (int c = 0; c < commercials.length; c++) {
+            for (int i = 0; i < inventories.length; i++) {
+                suitability[c][i] = true;
+                attentionTypes[c][i] = new AttentionType[] {AttentionType.N};
+            }
+        }
+        var revenueMatrix = buildUniformRevenueMatrix(6, 2, 101, 40.0);
+        var problem =
+                buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+
+        List<Neighborhood> neighborhoods =
+                List.of(new InsertNeighborhood(problem), new TransferNeighborhood(problem));
+        var vnd =
+                new VNDConfig(
+                        new FirstImprovingStrategy(), neighborhoods, new SequentialSelector(), 0.0);
+        var config =
+                BeeColonyConfig.builder()
+                        .runInfo(new RunInfo("test", 42))
+                        .populationSize(6)
+                        .initialTemperature(0.02)
+                        .coolingCoefficient(0.95)
+                        .coolingInterval(10)
+                        .timeLimitSeconds(60)
+                        .budget(new Budget(0, 0, 10, 0.0))
+                        .threads(2)
+                        .hybrid(new HybridConfig(true, 5, vnd))
+                        .build();
+        var first = new BeeColonyAlgorithm(config, new Random(42)).run(problem);
+        var second = new BeeColonyAlgorithm(config, new Random(42)).run(problem);
+        var info = first.getAdditionalInformation();
+
+        assertEquals(2, info.polishStatistics().getCallCount());
+        assertEquals(10, info.generations());
+        assertEquals(
+                first.getBestSolution().getTotalRevenue(),
+                second.getBestSolution().getTotalRevenue());
+        assertDoesNotThrow(() -> FeasibilityCheck.check(problem, first.getBestSolution()));
+    }
+
+    @Test
+    void slowSeedingEndsTheRunAtTheTimeLimit() {
+        var commercials = new Commercial[6];
+        for (int c = 0; c < commercials.length; c++) {
+            commercials[c] = new Commercial(c, c, 0, 20 + 5 * c, 1.0 + c, PricingType.FIXED);
+        }
+        var inventories =
+                new Inventory[] {new Inventory(0, 100, 8, 10), new Inventory(1, 100, 9, 10)};
+        var suitability = new boolean[6][2];
+        var attentionTypes = new AttentionType[6][2][];
+        for (int c = 0; c < commercials.length; c++) {
+            for (int i = 0; i < inventories.length; i++) {
+                suitability[c][i] = true;
+                attentionTypes[c][i] = new AttentionType[] {AttentionType.N};
+            }
+        }
+        var revenueMatrix = buildUniformRevenueMatrix(6, 2, 101, 40.0);
+        var problem =
+                buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+
+        // Each seeded bee spends 400 ms in VND, so seeding four bees outlasts the
+        // one-second limit.
+        List<Neighborhood> neighborhoods = List.of(new SlowNeighborhood(400));
+        var vnd =
+                new VNDConfig(
+                        new FirstImprovingStrategy(), neighborhoods, new SequentialSelector(), 0.0);
+        var config =
+                BeeColonyConfig.builder()
+                        .runInfo(new RunInfo("test", 42))
+                        .populationSize(4)
+                        .initialTemperature(0.02)
+                        .coolingCoefficient(0.95)
+                        .coolingInterval(10)
+                        .timeLimitSeconds(1)
+                        .hybrid(new HybridConfig(true, 0, vnd))
+                        .build();
+        var result = new BeeColonyAlgorithm(config, new Random(42)).run(problem);
+        var info = result.getAdditionalInformation();
+
+        assertEquals(StopReason.TIME_LIMIT, info.stopReason());
+        assertTrue(info.generations() <= 1, "generations: " + info.generations());
+        assertTrue(info.generationSamples().size() <= 1);
+        assertDoesNotThrow(() -> FeasibilityCheck.check(problem, result.getBestSolution()));
+    }
+
     private double[][][] buildUniformRevenueMatrix(
             int numComms, int numInvs, int timeSlots, double value) {
         var matrix = new double[numComms][numInvs][timeSlots];
@@ -178,4 +486,23 @@ class BeeColonyAlgorithmTest {
                 new double[][][] {{{0.0}}},
                 revenueMatrix);
     }
+
+    // Finds no moves, but only after sleeping, to make local search slow.
+    private record SlowNeighborhood(long sleepMillis) implements Neighborhood {
+
+        @Override
+        public Iterable<Move> generateMoves(GraspSolution solution, Random random) {
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        }
+
+        @Override
+        public NeighborhoodType type() {
+            return NeighborhoodType.INSERT;
+        }
+    }
 }
@@ -1,20 +1,45 @@
 package scheduling.solver.heuristic.beecolony;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import scheduling.solver.Budget;
 import scheduling.solver.RunInfo;
+import scheduling.solver.heuristic.beecolony.move.MoveSelection;
+import scheduling.solver.heuristic.beecolony.move.MoveSelectorConfig;
+import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
+import scheduling.solver.heuristic.grasp.vnd.selector.SequentialSelector;
+import scheduling.solver.heuristic.grasp.vnd.strategy.FirstImprovingStrategy;
 
 class BeeColonyConfigTest {
 
     private static final RunInfo TEST_RUN_INFO = new RunInfo("test", 0);
 
+    private static BeeColonyConfig.BeeColonyConfigBuilder builder() {
+        return BeeColonyConfig.builder()
+                .runInfo(TEST_RUN_INFO)
+                .populationSize(50)
+                .initialTemperature(1.0)
+                .coolingCoefficient(0.99)
+                .coolingInterval(10)
+                .timeLimitSeconds(60);
+    }
+
     @Test
     void storesAllParameters() {
-        var config = new BeeColonyConfig(TEST_RUN_INFO, 20, 0.02, 0.95, 100, 60);
+        var config =
+                builder()
+                        .populationSize(20)
+                        .initialTemperature(0.02)
+                        .coolingCoefficient(0.95)
+                        .coolingInterval(100)
+                        .build();
         assertEquals(20, config.populationSize());
         assertEquals(0.02, config.initialTemperature());
         assertEquals(0.95, config.coolingCoefficient());
@@ -24,8 +49,7 @@ class BeeColonyConfigTest {
 
     @Test
     void stringDescAssemblesAllComponents() {
-        var config = new BeeColonyConfig(TEST_RUN_INFO, 50, 1.0, 0.99, 10, 60);
-        var desc = config.stringDesc();
+        var desc = builder().build().stringDesc();
         assertTrue(desc.contains("BeeColony["));
         assertTrue(desc.contains("Run[seed=0]"));
         assertTrue(desc.contains("pop=50"));
@@ -35,9 +59,58 @@ class BeeColonyConfigTest {
         assertTrue(desc.contains("time=60"));
     }
 
+    @Test
+    void stringDescIncludesLimitedBudget() {
+        var config = builder().budget(new Budget(0, 0, 500, 0.0)).build();
+        assertTrue(config.stringDesc().endsWith(", time=60, BUDGET[gen=500]]"));
+        assertFalse(builder().build().stringDesc().contains("BUDGET"));
+    }
+
+    @Test
+    void iterationBudgetThrows() {
+        var budget = new Budget(10, 0, 0, 0.0);
+        assertThrows(IllegalArgumentException.class, () -> builder().budget(budget).build());
+    }
+
+    @Test
+    void stringDescIncludesThreadsAboveOne() {
+        var config = builder().threads(4).build();
+        assertTrue(config.stringDesc().endsWith(", time=60, threads=4]"));
+        assertEquals(1, builder().build().threads());
+    }
+
+    @Test
+    void stringDescIncludesAdaptiveMoveSelectionOnly() {
+        var moves = new MoveSelectorConfig(MoveSelection.ADAPTIVE, 0.05);
+        var adaptive = builder().moveSelector(moves).build();
+        var uniform = builder().moveSelector(MoveSelectorConfig.UNIFORM).build();
+        assertTrue(adaptive.stringDesc().endsWith(", time=60, moves=ADAPTIVE(min=0.05)]"));
+        assertEquals(builder().build().stringDesc(), uniform.stringDesc());
+    }
+
+    @Test
+    void stringDescIncludesHybridOnlyWhenEnabled() {
+        var vnd =
+                new VNDConfig(
+                        new FirstImprovingStrategy(), List.of(), new SequentialSelector(), 0.0);
+        var config = builder().hybrid(new HybridConfig(true, 50, vnd)).build();
+        var expected = ", time=60, HYBRID[seed=true, polish=50, VND[FIRST, SEQ, skip=0.0]]]";
+        assertTrue(config.stringDesc().endsWith(expected));
+
+        var defaults = builder().build();
+        assertFalse(HybridConfig.NONE.isEnabled());
+        assertEquals(HybridConfig.NONE, defaults.hybrid());
+        assertFalse(defaults.stringDesc().contains("HYBRID"));
+    }
+
+    @Test
+    void zeroThreadsThrows() {
+        assertThrows(IllegalArgumentException.class, () -> builder().threads(0).build());
+    }
+
     @Test
     void outputPathUsesInstanceNameAndHash() {
-        var config = new BeeColonyConfig(new RunInfo("inst1", 0), 50, 1.0, 0.99, 10, 60);
+        var config = builder().runInfo(new RunInfo("inst1", 0)).build();
         var path = config.outputPath(Path.of("output"));
 
         assertEquals("inst1", path.getParent().getFileName().toString());
@@ -47,15 +120,15 @@ class BeeColonyConfigTest {
 
     @Test
     void outputPathDeterministic() {
-        var config1 = new BeeColonyConfig(new RunInfo("inst1", 0), 50, 1.0, 0.99, 10, 60);
-        var config2 = new BeeColonyConfig(new RunInfo("inst1", 0), 50, 1.0, 0.99, 10, 60);
+        var config1 = builder().runInfo(new RunInfo("inst1", 0)).build();
+        var config2 = builder().runInfo(new RunInfo("inst1", 0)).build();
         assertEquals(config1.outputPath(Path.of("out")), config2.outputPath(Path.of("out")));
     }
 
     @Test
     void outputPathDiffersForDifferentSeeds() {
-        var config1 = new BeeColonyConfig(new RunInfo("inst1", 0), 50, 1.0, 0.99, 10, 60);
-        var config2 = new BeeColonyConfig(new RunInfo("inst1", 1), 50, 1.0, 0.99, 10, 60);
+        var config1 = builder().runInfo(new RunInfo("inst1", 0)).build();
+        var config2 = builder().runInfo(new RunInfo("inst1", 1)).build();
         assertNotEquals(
                 config1.outputPath(Path.of("out")).getFileName(),
                 config2.outputPath(Path.of("out")).getFileName());
@@ -63,8 +136,8 @@ class BeeColonyConfigTest {
 
     @Test
     void outputPathDiffersForDifferentPopulationSize() {
-        var config1 = new BeeColonyConfig(TEST_RUN_INFO, 50, 1.0, 0.99, 10, 60);
-        var config2 = new BeeColonyConfig(TEST_RUN_INFO, 100, 1.0, 0.99, 10, 60);
+        var config1 = builder().build();
+        var config2 = builder().populationSize(100).build();
         assertNotEquals(
                 config1.outputPath(Path.of("out")).getFileName(),
                 config2.outputPath(Path.of("out")).getFileName());
@@ -72,8 +145,8 @@ class BeeColonyConfigTest {
 
     @Test
     void outputPathDiffersForDifferentTemperature() {
-        var config1 = new BeeColonyConfig(TEST_RUN_INFO, 50, 1.0, 0.99, 10, 60);
-        var config2 = new BeeColonyConfig(TEST_RUN_INFO, 50, 2.0, 0.99, 10, 60);
+        var config1 = builder().build();
+        var config2 = builder().initialTemperature(2.0).build();
         assertNotEquals(
                 config1.outputPath(Path.of("out")).getFileName(),
                 config2.outputPath(Path.of("out")).getFileName());
@@ -81,8 +154,8 @@ class BeeColonyConfigTest {
 
     @Test
     void outputPathDiffersForDifferentCoolingCoefficient() {
-        var config1 = new BeeColonyConfig(TEST_RUN_INFO, 50, 1.0, 0.99, 10, 60);
-        var config2 = new BeeColonyConfig(TEST_RUN_INFO, 50, 1.0, 0.95, 10, 60);
+        var config1 = builder().build();
+        var config2 = builder().coolingCoefficient(0.95).build();
         assertNotEquals(
                 config1.outputPath(Path.of("out")).getFileName(),
                 config2.outputPath(Path.of("out")).getFileName());
@@ -90,8 +163,8 @@ class BeeColonyConfigTest {
 
     @Test
     void outputPathDiffersForDifferentCoolingInterval() {
-        var config1 = new BeeColonyConfig(TEST_RUN_INFO, 50, 1.0, 0.99, 10, 60);
-        var config2 = new BeeColonyConfig(TEST_RUN_INFO, 50, 1.0, 0.99, 20, 60);
+        var config1 = builder().build();
+        var config2 = builder().coolingInterval(20).build();
         assertNotEquals(
                 config1.outputPath(Path.of("out")).getFileName(),
                 config2.outputPath(Path.of("out")).getFileName());
@@ -99,8 +172,8 @@ class BeeColonyConfigTest {
 
     @Test
     void outputPathDiffersForDifferentTimeLimit() {
-        var config1 = new BeeColonyConfig(TEST_RUN_INFO, 50, 1.0, 0.99, 10, 60);
-        var config2 = new BeeColonyConfig(TEST_RUN_INFO, 50, 1.0, 0.99, 10, 120);
+        var config1 = builder().build();
+        var config2 = builder().timeLimitSeconds(120).build();
         assertNotEquals(
                 config1.outputPath(Path.of("out")).getFileName(),
                 config2.outputPath(Path.of("out")).getFileName());
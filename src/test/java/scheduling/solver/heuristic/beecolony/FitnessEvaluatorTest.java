@@ -1,17 +1,21 @@
 package scheduling.solver.heuristic.beecolony;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import scheduling.model.Commercial;
 import scheduling.model.Inventory;
 import scheduling.model.Problem;
 import scheduling.model.enums.AttentionType;
 import scheduling.model.enums.PricingType;
+import scheduling.solver.heuristic.beecolony.move.NeighborhoodFunction;
 import scheduling.solver.heuristic.beecolony.vrp.VrpConverter;
+import scheduling.solver.heuristic.beecolony.vrp.VrpProblem;
 
 class FitnessEvaluatorTest {
 
@@ -245,6 +249,115 @@ class FitnessEvaluatorTest {
         assertTrue(fitness < 1.0);
     }
 
+    @Test
+    void repeatedEvaluationsDoNotShareRouteState() {
+        var comm0 = new Commercial(0, 1, 0, 10, 5.0, PricingType.FIXED);
+        var comm1 = new Commercial(1, 2, 0, 20, 3.0, PricingType.FIXED);
+        var inv0 = new Inventory(0, 100, 8, 1);
+        var inv1 = new Inventory(1, 100, 9, 1);
+        var commercials = new Commercial[] {comm0, comm1};
+        var inventories = new Inventory[] {inv0, inv1};
+        var suitability = new boolean[][] {{true, true}, {true, true}};
+        var attentionTypes =
+                new AttentionType[][][] {
+                    {{AttentionType.N}, {AttentionType.N}},
+                    {{AttentionType.N}, {AttentionType.N}}
+                };
+        var revenueMatrix = new double[][][] {{{50.0}, {0.0}}, {{0.0}, {60.0}}};
+        var problem =
+                buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+        var vrp = VrpConverter.convert(problem);
+        var depotId = vrp.getDepot().id();
+        var evaluator = new FitnessEvaluator(vrp);
+
+        assertEquals(110.0, evaluator.evaluate(new int[] {0, depotId, 1}));
+        assertEquals(50.0, evaluator.evaluate(new int[] {0, 1}));
+        assertEquals(110.0, evaluator.evaluate(new int[] {0, depotId, 1}));
+    }
+
+    @Test
+    void deltaEvaluationMatchesFullEvaluation() {
+        var random = new Random(7);
+        var vrp = VrpConverter.convert(buildRandomProblem(random));
+        var evaluator = new FitnessEvaluator(vrp);
+        var neighborhoodFunction = new NeighborhoodFunction();
+
+        var current = evaluator.decode(initialString(vrp));
+        for (int step = 0; step < 2000; step++) {
+            var neighbour = neighborhoodFunction.apply(current.getSolutionString(), random);
+            var delta = evaluator.evaluate(current, neighbour);
+            assertEquals(evaluator.evaluate(neighbour), delta.getFitness(), "step " + step);
+            assertEquals(evaluator.decode(neighbour).getFitness(), delta.getFitness());
+            current = delta;
+        }
+    }
+
+    @Test
+    void inPlaceDeltaEvaluationMatchesFullEvaluation() {
+        var random = new Random(11);
+        var vrp = VrpConverter.convert(buildRandomProblem(random));
+        var evaluator = new FitnessEvaluator(vrp);
+        var neighborhoodFunction = new NeighborhoodFunction();
+
+        var current = evaluator.decode(initialString(vrp));
+        for (int step = 0; step < 2000; step++) {
+            var string = current.getSolutionString();
+            var original = string.clone();
+            var applied = neighborhoodFunction.applyInPlace(string, random);
+            var candidate = evaluator.evaluate(current, string, applied.low(), applied.high());
+            assertEquals(evaluator.evaluate(string), candidate.getFitness(), "step " + step);
+
+            var accepted = candidate.detach();
+            applied.revert(string);
+            assertArrayEquals(original, string);
+            if (random.nextBoolean()) {
+                current = accepted;
+            }
+        }
+    }
+
+    private static int[] initialString(VrpProblem vrp) {
+        var numComms = vrp.getCustomers().length;
+        var string = new int[numComms + vrp.getVehicles().length - 1];
+        for (int pos = 0; pos < string.length; pos++) {
+            string[pos] = pos < numComms ? pos : vrp.getDepot().id();
+        }
+        return string;
+    }
+
+    private Problem buildRandomProblem(Random random) {
+        var numComms = 16;
+        var numInvs = 4;
+        var commercials = new Commercial[numComms];
+        for (int c = 0; c < numComms; c++) {
+            var duration = 60 + 30 * random.nextInt(4);
+            commercials[c] =
+                    new Commercial(c, random.nextInt(6), 0, duration, 1.0, PricingType.FIXED);
+        }
+        var inventories = new Inventory[numInvs];
+        for (int i = 0; i < numInvs; i++) {
+            inventories[i] = new Inventory(i, 420, 8 + i / 2, 5);
+        }
+        var suitability = new boolean[numComms][numInvs];
+        var attentionTypes = new AttentionType[numComms][numInvs][];
+        var choices = new AttentionType[] {AttentionType.N, AttentionType.F1, AttentionType.L1};
+        for (int c = 0; c < numComms; c++) {
+            for (int i = 0; i < numInvs; i++) {
+                suitability[c][i] = random.nextInt(5) > 0;
+                attentionTypes[c][i] = new AttentionType[] {choices[random.nextInt(10) / 8]};
+            }
+        }
+        var revenueMatrix = new double[numComms][numInvs][421];
+        for (var commSlice : revenueMatrix) {
+            for (var invSlice : commSlice) {
+                for (int t = 0; t < invSlice.length; t++) {
+                    invSlice[t] = random.nextDouble() * 100.0;
+                }
+            }
+        }
+        return buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+    }
+
     private double[][][] buildUniformRevenueMatrix(
             int numComms, int numInvs, int timeSlots, double value) {
         var matrix = new double[numComms][numInvs][timeSlots];
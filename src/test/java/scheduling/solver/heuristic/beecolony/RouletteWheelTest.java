@@ -0,0 +1,63 @@
+package scheduling.solver.heuristic.beecolony;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RouletteWheelTest {
+
+    @Test
+    void totalIsSumOfWeights() {
+        var wheel = new RouletteWheel(new double[] {1.0, 2.0, 3.0, 4.0, 5.0});
+        assertEquals(15.0, wheel.total(), 1e-12);
+    }
+
+    @Test
+    void selectReturnsFirstSlotReachingTarget() {
+        var wheel = new RouletteWheel(new double[] {1.0, 2.0, 3.0});
+        assertEquals(0, wheel.select(0.0));
+        assertEquals(0, wheel.select(1.0));
+        assertEquals(1, wheel.select(1.5));
+        assertEquals(2, wheel.select(3.5));
+        assertEquals(2, wheel.select(6.0));
+    }
+
+    @Test
+    void updateChangesSelectionAndTotal() {
+        var wheel = new RouletteWheel(new double[] {1.0, 1.0, 1.0});
+        wheel.update(1, 5.0);
+        assertEquals(7.0, wheel.total(), 1e-12);
+        assertEquals(1, wheel.select(5.5));
+        assertEquals(2, wheel.select(6.5));
+    }
+
+    @Test
+    void matchesLinearScanAfterRandomUpdates() {
+        var random = new Random(3);
+        var weights = new double[37];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = random.nextDouble() * 10.0;
+        }
+        var wheel = new RouletteWheel(weights);
+        for (int step = 0; step < 500; step++) {
+            var slot = random.nextInt(weights.length);
+            weights[slot] = random.nextDouble() * 10.0;
+            wheel.update(slot, weights[slot]);
+
+            var target = random.nextDouble() * wheel.total();
+            assertEquals(linearSelect(weights, target), wheel.select(target), "step " + step);
+        }
+    }
+
+    private static int linearSelect(double[] weights, double target) {
+        double sum = 0.0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            if (sum >= target) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
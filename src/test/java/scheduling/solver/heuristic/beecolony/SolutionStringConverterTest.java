@@ -87,6 +87,48 @@ class SolutionStringConverterTest {
         assertEquals(List.of(comm1), solution.getAssignments().get(inv1));
     }
 
+    @Test
+    void convertsSolutionStringToGraspSolutionAndBack() {
+        var comm0 = new Commercial(0, 1, 0, 10, 5.0, PricingType.FIXED);
+        var comm1 = new Commercial(1, 2, 0, 10, 5.0, PricingType.FIXED);
+        var comm2 = new Commercial(2, 3, 0, 20, 3.0, PricingType.FIXED);
+        var inv0 = new Inventory(0, 100, 8, 10);
+        var inv1 = new Inventory(1, 200, 9, 10);
+        var commercials = new Commercial[] {comm0, comm1, comm2};
+        var inventories = new Inventory[] {inv0, inv1};
+        var suitability = new boolean[][] {{true, true}, {true, false}, {true, true}};
+        var attentionTypes =
+                new AttentionType[][][] {
+                    {{AttentionType.N}, {AttentionType.N}},
+                    {{AttentionType.N}, {AttentionType.N}},
+                    {{AttentionType.N}, {AttentionType.N}}
+                };
+        var revenueMatrix = new double[3][2][201];
+        for (var commSlice : revenueMatrix) {
+            for (var invSlice : commSlice) {
+                Arrays.fill(invSlice, 10.0);
+            }
+        }
+        var problem =
+                buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+        var vrp = VrpConverter.convert(problem);
+        var depotId = vrp.getDepot().id();
+
+        // Commercial 1 is unsuitable for inventory 1 and is dropped on decoding
+        var beeSolution = new BeeColonySolution(new int[] {2, 0, depotId, 1}, 30.0);
+
+        var graspSolution = SolutionStringConverter.toGraspSolution(beeSolution, vrp);
+
+        assertArrayEquals(new int[][] {{2, 0}, {}}, graspSolution.getSequences());
+        assertEquals(
+                SolutionStringConverter.toSolution(beeSolution, vrp).getTotalRevenue(),
+                graspSolution.getTotalRevenue(),
+                1e-9);
+        assertArrayEquals(
+                new int[] {2, 0, depotId},
+                SolutionStringConverter.toSolutionString(graspSolution, vrp));
+    }
+
     @Test
     void toSolutionSkipsInfeasibleCustomers() {
         var comm0 = new Commercial(0, 1, 0, 10, 5.0, PricingType.FIXED);
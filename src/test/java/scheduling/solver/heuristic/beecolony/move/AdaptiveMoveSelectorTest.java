@@ -0,0 +1,89 @@
+package scheduling.solver.heuristic.beecolony.move;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveMoveSelectorTest {
+
+    private static final List<BeeColonyMove> MOVES =
+            List.of(new InsertMove(), new SwapMove(), new InversionMove());
+
+    @Test
+    void initialSelectionIsUniform() {
+        var selector = new AdaptiveMoveSelector(0.05, MOVES);
+        var random = new Random(42);
+
+        var counts = new HashMap<BeeColonyMove, Integer>();
+        for (int i = 0; i < 3000; i++) {
+            counts.merge(selector.select(MOVES, random), 1, Integer::sum);
+        }
+
+        for (var move : MOVES) {
+            var count = counts.getOrDefault(move, 0);
+            assertTrue(count > 800, "Expected roughly uniform: " + count);
+            assertTrue(count < 1200, "Expected roughly uniform: " + count);
+        }
+    }
+
+    @Test
+    void favoursMoveWithHigherGainPerCost() {
+        var selector = new AdaptiveMoveSelector(0.05, MOVES);
+        // Same gain, but the swap spanned a tenth of the positions
+        selector.reportResult(MOVES.get(0), 100.0, 1000);
+        selector.reportResult(MOVES.get(1), 100.0, 100);
+        selector.update();
+
+        assertTrue(selector.probability(1) > selector.probability(0));
+        assertEquals(0.05, selector.probability(2), 1e-9);
+        assertEquals(
+                1.0,
+                selector.probability(0) + selector.probability(1) + selector.probability(2),
+                1e-9);
+    }
+
+    @Test
+    void floorKeepsUnproductiveMovesSelectable() {
+        var selector = new AdaptiveMoveSelector(0.1, MOVES);
+        for (int i = 0; i < 20; i++) {
+            selector.reportResult(MOVES.get(0), 500.0, 100);
+            selector.reportResult(MOVES.get(1), 0.0, 100);
+            selector.reportResult(MOVES.get(2), 0.0, 100);
+            selector.update();
+        }
+
+        assertEquals(0.1, selector.probability(1), 1e-9);
+        assertEquals(0.1, selector.probability(2), 1e-9);
+        assertEquals(0.8, selector.probability(0), 1e-9);
+    }
+
+    @Test
+    void staysUniformWithoutAnyGain() {
+        var selector = new AdaptiveMoveSelector(0.05, MOVES);
+        for (var move : MOVES) {
+            selector.reportResult(move, 0.0, 100);
+        }
+        selector.update();
+
+        for (int i = 0; i < MOVES.size(); i++) {
+            assertEquals(1.0 / 3, selector.probability(i), 1e-9);
+        }
+    }
+
+    @Test
+    void floorAboveUniformShareThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveMoveSelector(0.4, MOVES));
+    }
+
+    @Test
+    void stringDescIncludesFloor() {
+        var config = new MoveSelectorConfig(MoveSelection.ADAPTIVE, 0.05);
+        assertEquals("ADAPTIVE(min=0.05)", config.stringDesc());
+        assertEquals("UNIFORM", MoveSelectorConfig.UNIFORM.stringDesc());
+    }
+}
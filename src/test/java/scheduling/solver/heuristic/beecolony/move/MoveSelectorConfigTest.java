@@ -0,0 +1,40 @@
+package scheduling.solver.heuristic.beecolony.move;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class MoveSelectorConfigTest {
+
+    @Test
+    void negativeFloorThrows() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new MoveSelectorConfig(MoveSelection.ADAPTIVE, -0.01));
+    }
+
+    @Test
+    void floorOfOneThrows() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new MoveSelectorConfig(MoveSelection.ADAPTIVE, 1.0));
+    }
+
+    @Test
+    void floorAboveUniformShareThrowsAtCreation() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new MoveSelectorConfig(MoveSelection.ADAPTIVE, 0.4));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new MoveSelectorConfig(MoveSelection.UNIFORM, 0.4));
+    }
+
+    @Test
+    void floorAtUniformShareIsAccepted() {
+        var floor = 1.0 / NeighborhoodFunction.MOVES.size();
+        var config = new MoveSelectorConfig(MoveSelection.ADAPTIVE, floor);
+        assertDoesNotThrow(() -> config.create(NeighborhoodFunction.MOVES));
+    }
+}
@@ -47,4 +47,23 @@ class SwapMoveTest {
         move.apply(input, new Random(42));
         assertArrayEquals(original, input);
     }
+
+    @Test
+    void inPlaceMatchesCopyAndRevertRestores() {
+        var move = new SwapMove();
+        var input = new int[] {0, 1, 2, 3, 4, 5, 6, 7};
+        for (int seed = 0; seed < 100; seed++) {
+            var expected = move.apply(input, new Random(seed));
+            var string = input.clone();
+            var applied = move.applyInPlace(string, new Random(seed));
+            assertArrayEquals(expected, string, "Seed " + seed);
+            for (int i = 0; i < input.length; i++) {
+                if (i < applied.low() || i > applied.high()) {
+                    assertEquals(input[i], string[i], "Seed " + seed);
+                }
+            }
+            applied.revert(string);
+            assertArrayEquals(input, string, "Seed " + seed);
+        }
+    }
 }
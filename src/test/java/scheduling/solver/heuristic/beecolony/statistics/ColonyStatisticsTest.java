@@ -0,0 +1,61 @@
+package scheduling.solver.heuristic.beecolony.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import scheduling.solver.heuristic.beecolony.move.MoveType;
+
+class ColonyStatisticsTest {
+
+    @Test
+    void initialValuesAreZero() {
+        var stats = new ColonyStatistics();
+
+        assertEquals(0, stats.getTotalEvaluations());
+        assertEquals(0.0, stats.getInvalidShare(), 1e-9);
+        assertTrue(stats.getOperatorStatistics().isEmpty());
+    }
+
+    @Test
+    void getOrCreateOperatorStatisticsReturnsSameInstance() {
+        var stats = new ColonyStatistics();
+
+        assertSame(
+                stats.getOrCreateOperatorStatistics(MoveType.SWAP),
+                stats.getOrCreateOperatorStatistics(MoveType.SWAP));
+    }
+
+    @Test
+    void invalidShareIsFractionOfEvaluations() {
+        var stats = new ColonyStatistics();
+
+        stats.recordEvaluation(true);
+        stats.recordEvaluation(false);
+        stats.recordEvaluation(false);
+        stats.recordEvaluation(false);
+
+        assertEquals(4, stats.getTotalEvaluations());
+        assertEquals(1, stats.getInvalidEvaluations());
+        assertEquals(0.25, stats.getInvalidShare(), 1e-9);
+    }
+
+    @Test
+    void mergeCombinesCountersAndOperators() {
+        var a = new ColonyStatistics();
+        a.recordEvaluation(false);
+        a.getOrCreateOperatorStatistics(MoveType.INSERT).recordImproving();
+        var b = new ColonyStatistics();
+        b.recordEvaluation(true);
+        b.getOrCreateOperatorStatistics(MoveType.INSERT).recordRejected();
+        b.getOrCreateOperatorStatistics(MoveType.INVERSION).recordAnnealed();
+
+        a.merge(b);
+
+        assertEquals(2, a.getTotalEvaluations());
+        assertEquals(1, a.getInvalidEvaluations());
+        assertEquals(2, a.getOperatorStatistics().get(MoveType.INSERT).getAttemptCount());
+        assertEquals(1, a.getOperatorStatistics().get(MoveType.INVERSION).getAnnealedCount());
+    }
+}
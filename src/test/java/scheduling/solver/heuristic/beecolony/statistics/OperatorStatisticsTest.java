@@ -0,0 +1,49 @@
+package scheduling.solver.heuristic.beecolony.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class OperatorStatisticsTest {
+
+    @Test
+    void initialRatesAreZero() {
+        var stats = new OperatorStatistics();
+
+        assertEquals(0, stats.getAttemptCount());
+        assertEquals(0.0, stats.getImprovingRate(), 1e-9);
+        assertEquals(0.0, stats.getAnnealedRate(), 1e-9);
+        assertEquals(0.0, stats.getRejectedRate(), 1e-9);
+    }
+
+    @Test
+    void ratesSplitAttemptsByOutcome() {
+        var stats = new OperatorStatistics();
+
+        stats.recordImproving();
+        stats.recordAnnealed();
+        stats.recordRejected();
+        stats.recordRejected();
+
+        assertEquals(4, stats.getAttemptCount());
+        assertEquals(0.25, stats.getImprovingRate(), 1e-9);
+        assertEquals(0.25, stats.getAnnealedRate(), 1e-9);
+        assertEquals(0.5, stats.getRejectedRate(), 1e-9);
+    }
+
+    @Test
+    void mergeAddsCounts() {
+        var a = new OperatorStatistics();
+        a.recordImproving();
+        var b = new OperatorStatistics();
+        b.recordRejected();
+        b.recordAnnealed();
+
+        a.merge(b);
+
+        assertEquals(3, a.getAttemptCount());
+        assertEquals(1, a.getImprovingCount());
+        assertEquals(1, a.getAnnealedCount());
+        assertEquals(1, a.getRejectedCount());
+    }
+}
@@ -1,6 +1,7 @@
 package scheduling.solver.heuristic.beecolony.vrp;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -47,7 +48,7 @@ class VrpConverterTest {
     }
 
     @Test
-    void distanceIsFeasibleBetweenCompatibleCustomers() {
+    void arcIsFeasibleBetweenCompatibleCustomers() {
         var comm0 = new Commercial(0, 1, 0, 10, 1.0, PricingType.FIXED);
         var comm1 = new Commercial(1, 2, 0, 20, 2.0, PricingType.FIXED);
         var inv0 = new Inventory(0, 100, 8, 10);
@@ -61,12 +62,12 @@ class VrpConverterTest {
 
         var vrp = VrpConverter.convert(problem);
 
-        assertEquals(0.0, vrp.getDistance()[0][0][1]);
-        assertEquals(0.0, vrp.getDistance()[0][1][0]);
+        assertTrue(vrp.getArcFeasibility().isFeasible(0, 0, 1));
+        assertTrue(vrp.getArcFeasibility().isFeasible(0, 1, 0));
     }
 
     @Test
-    void distanceIsInfiniteForSameGroup() {
+    void arcIsInfeasibleForSameGroup() {
         var comm0 = new Commercial(0, 1, 0, 10, 1.0, PricingType.FIXED);
         var comm1 = new Commercial(1, 1, 0, 20, 2.0, PricingType.FIXED);
         var inv0 = new Inventory(0, 100, 8, 10);
@@ -80,12 +81,12 @@ class VrpConverterTest {
 
         var vrp = VrpConverter.convert(problem);
 
-        assertTrue(Double.isInfinite(vrp.getDistance()[0][0][1]));
-        assertTrue(Double.isInfinite(vrp.getDistance()[0][1][0]));
+        assertFalse(vrp.getArcFeasibility().isFeasible(0, 0, 1));
+        assertFalse(vrp.getArcFeasibility().isFeasible(0, 1, 0));
     }
 
     @Test
-    void distanceIsInfiniteWhenNotSuitable() {
+    void arcIsInfeasibleWhenNotSuitable() {
         var comm0 = new Commercial(0, 1, 0, 10, 1.0, PricingType.FIXED);
         var comm1 = new Commercial(1, 2, 0, 20, 2.0, PricingType.FIXED);
         var inv0 = new Inventory(0, 100, 8, 10);
@@ -99,12 +100,12 @@ class VrpConverterTest {
 
         var vrp = VrpConverter.convert(problem);
 
-        assertTrue(Double.isInfinite(vrp.getDistance()[0][0][1]));
-        assertTrue(Double.isInfinite(vrp.getDistance()[0][1][0]));
+        assertFalse(vrp.getArcFeasibility().isFeasible(0, 0, 1));
+        assertFalse(vrp.getArcFeasibility().isFeasible(0, 1, 0));
     }
 
     @Test
-    void distanceIsInfiniteWhenFromHasLTypeAttention() {
+    void arcIsInfeasibleWhenFromHasLTypeAttention() {
         var comm0 = new Commercial(0, 1, 0, 10, 1.0, PricingType.FIXED);
         var comm1 = new Commercial(1, 2, 0, 20, 2.0, PricingType.FIXED);
         var inv0 = new Inventory(0, 100, 8, 10);
@@ -118,12 +119,12 @@ class VrpConverterTest {
 
         var vrp = VrpConverter.convert(problem);
 
-        assertTrue(Double.isInfinite(vrp.getDistance()[0][0][1]));
-        assertEquals(0.0, vrp.getDistance()[0][1][0]);
+        assertFalse(vrp.getArcFeasibility().isFeasible(0, 0, 1));
+        assertTrue(vrp.getArcFeasibility().isFeasible(0, 1, 0));
     }
 
     @Test
-    void distanceIsInfiniteWhenToHasF1Attention() {
+    void arcIsInfeasibleWhenToHasF1Attention() {
         var comm0 = new Commercial(0, 1, 0, 10, 1.0, PricingType.FIXED);
         var comm1 = new Commercial(1, 2, 0, 20, 2.0, PricingType.FIXED);
         var inv0 = new Inventory(0, 100, 8, 10);
@@ -137,12 +138,36 @@ class VrpConverterTest {
 
         var vrp = VrpConverter.convert(problem);
 
-        assertTrue(Double.isInfinite(vrp.getDistance()[0][0][1]));
-        assertEquals(0.0, vrp.getDistance()[0][1][0]);
+        assertFalse(vrp.getArcFeasibility().isFeasible(0, 0, 1));
+        assertTrue(vrp.getArcFeasibility().isFeasible(0, 1, 0));
     }
 
     @Test
-    void depotDistanceIsFeasibleForSuitableCustomer() {
+    void attentionRestrictionsArePerVehicle() {
+        var comm0 = new Commercial(0, 1, 0, 10, 1.0, PricingType.FIXED);
+        var comm1 = new Commercial(1, 2, 0, 20, 2.0, PricingType.FIXED);
+        var inv0 = new Inventory(0, 100, 8, 10);
+        var inv1 = new Inventory(1, 100, 9, 10);
+        var commercials = new Commercial[] {comm0, comm1};
+        var inventories = new Inventory[] {inv0, inv1};
+        var suitability = new boolean[][] {{true, true}, {true, true}};
+        var attentionTypes =
+                new AttentionType[][][] {
+                    {{AttentionType.L1}, {AttentionType.N}},
+                    {{AttentionType.N}, {AttentionType.N}}
+                };
+        var revenueMatrix = new double[][][] {{{0.0}, {0.0}}, {{0.0}, {0.0}}};
+        var problem =
+                buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+
+        var vrp = VrpConverter.convert(problem);
+
+        assertFalse(vrp.getArcFeasibility().isFeasible(0, 0, 1));
+        assertTrue(vrp.getArcFeasibility().isFeasible(1, 0, 1));
+    }
+
+    @Test
+    void depotArcIsFeasibleForSuitableCustomer() {
         var comm0 = new Commercial(0, 1, 0, 10, 1.0, PricingType.FIXED);
         var inv0 = new Inventory(0, 100, 8, 10);
         var commercials = new Commercial[] {comm0};
@@ -156,13 +181,13 @@ class VrpConverterTest {
         var vrp = VrpConverter.convert(problem);
         var depotId = vrp.getDepot().id();
 
-        assertEquals(0.0, vrp.getDistance()[0][depotId][0]);
-        assertEquals(0.0, vrp.getDistance()[0][0][depotId]);
-        assertEquals(0.0, vrp.getDistance()[0][depotId][depotId]);
+        assertTrue(vrp.getArcFeasibility().isFeasible(0, depotId, 0));
+        assertTrue(vrp.getArcFeasibility().isFeasible(0, 0, depotId));
+        assertTrue(vrp.getArcFeasibility().isFeasible(0, depotId, depotId));
     }
 
     @Test
-    void selfLoopIsInfinite() {
+    void selfLoopIsInfeasible() {
         var comm0 = new Commercial(0, 1, 0, 10, 1.0, PricingType.FIXED);
         var inv0 = new Inventory(0, 100, 8, 10);
         var commercials = new Commercial[] {comm0};
@@ -175,7 +200,7 @@ class VrpConverterTest {
 
         var vrp = VrpConverter.convert(problem);
 
-        assertTrue(Double.isInfinite(vrp.getDistance()[0][0][0]));
+        assertFalse(vrp.getArcFeasibility().isFeasible(0, 0, 0));
     }
 
     private Problem buildProblem(
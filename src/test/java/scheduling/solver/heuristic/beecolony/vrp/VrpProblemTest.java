@@ -12,14 +12,15 @@ class VrpProblemTest {
         var customers = new Customer[] {new Customer(0, 10, 0), new Customer(1, 20, 1)};
         var vehicles = new Vehicle[] {new Vehicle(0, 100, 0)};
         var depot = new Depot(2);
-        var distance = new double[1][3][3];
         var problem = buildStubProblem();
+        var arcFeasibility = new ArcFeasibility(problem, customers, depot);
 
-        var vrp = new VrpProblem(customers, vehicles, depot, distance, problem);
+        var vrp = new VrpProblem(customers, vehicles, depot, arcFeasibility, problem);
 
         assertEquals(2, vrp.getCustomers().length);
         assertEquals(1, vrp.getVehicles().length);
         assertEquals(2, vrp.getDepot().id());
+        assertEquals(arcFeasibility, vrp.getArcFeasibility());
         assertEquals(problem, vrp.getProblem());
     }
 
@@ -0,0 +1,189 @@
+package scheduling.solver.heuristic.grasp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import scheduling.model.Commercial;
+import scheduling.model.Inventory;
+import scheduling.model.Problem;
+import scheduling.model.enums.AttentionType;
+import scheduling.model.enums.PricingType;
+import scheduling.solver.Budget;
+import scheduling.solver.EarlyStopConfig;
+import scheduling.solver.RunInfo;
+import scheduling.solver.StopReason;
+import scheduling.solver.heuristic.grasp.elitepool.DiversitySample;
+import scheduling.solver.heuristic.grasp.pathrelinking.PathRelinkingConfig;
+import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.InsertNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
+import scheduling.solver.heuristic.grasp.vnd.selector.SequentialSelector;
+import scheduling.solver.heuristic.grasp.vnd.strategy.FirstImprovingStrategy;
+
+class DeterministicGraspAlgorithmTest {
+
+    private static final Commercial[] COMMERCIALS =
+            new Commercial[] {
+                new Commercial(0, 0, 0, 30, 10.0, PricingType.FIXED),
+                new Commercial(1, 1, 0, 30, 15.0, PricingType.FIXED),
+            };
+
+    private Problem buildSmallProblem() {
+        var revenueMatrix = new double[2][1][120];
+        for (int c = 0; c < 2; c++) {
+            for (int t = 0; t < 120; t++) {
+                revenueMatrix[c][0][t] = COMMERCIALS[c].getPrice();
+            }
+        }
+        var ratings = new double[1][2][1];
+        ratings[0][0][0] = 1.0;
+        ratings[0][1][0] = 1.0;
+        return new Problem(
+                COMMERCIALS,
+                new Inventory[] {new Inventory(0, 120, 1, 4)},
+                new int[] {1},
+                new boolean[][] {{true}, {true}},
+                new AttentionType[][][] {{{AttentionType.N}}, {{AttentionType.N}}},
+                new int[][] {{0}, {0}},
+                new int[][] {{0, 1}},
+                ratings,
+                revenueMatrix);
+    }
+
+    private VNDConfig buildVndConfig(Problem problem) {
+        List<Neighborhood> neighborhoods = List.of(new InsertNeighborhood(problem));
+        return new VNDConfig(
+                new FirstImprovingStrategy(), neighborhoods, new SequentialSelector(), 0.0);
+    }
+
+    private GraspConfig buildConfig(Problem problem, EpochConfig epochConfig) {
+        var vndConfig = buildVndConfig(problem);
+        return GraspConfig.builder()
+                .runInfo(new RunInfo("test", 0))
+                .timeLimitSeconds(1)
+                .elitePoolSize(5)
+                .vndConfig(vndConfig)
+                .lowerBound(0.0)
+                .upperBound(1.0)
+                .updateInterval(3)
+                .epochConfig(epochConfig)
+                .build();
+    }
+
+    @Test
+    void run_executesExactIterationBudget() {
+        var problem = buildSmallProblem();
+        var config = buildConfig(problem, new EpochConfig(3, 4));
+        var algorithm = new DeterministicGraspAlgorithm(config, new Random(42), 2);
+
+        var result = algorithm.run(problem);
+
+        var info = result.getAdditionalInformation();
+        assertEquals(24, info.getConstructionStatistics().getCallCount());
+        assertEquals(3, info.getDiversitySamples().size());
+        assertEquals(StopReason.COMPLETED, info.getStopReason());
+    }
+
+    @Test
+    void run_sameSeedAndThreadsGiveSameResult() {
+        var problem = buildSmallProblem();
+        var epochConfig = new EpochConfig(5, 10);
+
+        var first =
+                new DeterministicGraspAlgorithm(buildConfig(problem, epochConfig), new Random(7), 4)
+                        .run(problem);
+        var second =
+                new DeterministicGraspAlgorithm(buildConfig(problem, epochConfig), new Random(7), 4)
+                        .run(problem);
+
+        var firstInfo = first.getAdditionalInformation();
+        var secondInfo = second.getAdditionalInformation();
+        assertEquals(
+                first.getBestSolution().getTotalRevenue(),
+                second.getBestSolution().getTotalRevenue());
+        assertEquals(
+                firstInfo.getConstructionStatistics().getTotalRevenueGain(),
+                secondInfo.getConstructionStatistics().getTotalRevenueGain());
+        assertEquals(
+                firstInfo.getLocalSearchStatistics().getTotalRevenueGain(),
+                secondInfo.getLocalSearchStatistics().getTotalRevenueGain());
+        assertEquals(
+                firstInfo.getDiversitySamples().stream().map(DiversitySample::diversity).toList(),
+                secondInfo.getDiversitySamples().stream().map(DiversitySample::diversity).toList());
+    }
+
+    @Test
+    void constructor_rejectsTimeBasedPathRelinking() {
+        var problem = buildSmallProblem();
+        var config =
+                GraspConfig.builder()
+                        .runInfo(new RunInfo("test", 0))
+                        .timeLimitSeconds(1)
+                        .elitePoolSize(5)
+                        .vndConfig(buildVndConfig(problem))
+                        .lowerBound(0.0)
+                        .upperBound(1.0)
+                        .updateInterval(3)
+                        .pathRelinkingConfig(new PathRelinkingConfig(0, 50, 0.5, false, 1.0))
+                        .epochConfig(new EpochConfig(1, 1))
+                        .build();
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new DeterministicGraspAlgorithm(config, new Random(0), 2));
+    }
+
+    @Test
+    void constructor_rejectsSharedLearning() {
+        var problem = buildSmallProblem();
+        var config =
+                GraspConfig.builder()
+                        .runInfo(new RunInfo("test", 0))
+                        .timeLimitSeconds(1)
+                        .elitePoolSize(5)
+                        .vndConfig(buildVndConfig(problem))
+                        .lowerBound(0.0)
+                        .upperBound(1.0)
+                        .updateInterval(3)
+                        .learningMode(LearningMode.SHARED)
+                        .epochConfig(new EpochConfig(1, 1))
+                        .build();
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new DeterministicGraspAlgorithm(config, new Random(0), 2));
+    }
+
+    @Test
+    void constructor_rejectsTimeBasedEarlyStop() {
+        var problem = buildSmallProblem();
+        var config =
+                GraspConfig.builder()
+                        .runInfo(new RunInfo("test", 0))
+                        .timeLimitSeconds(1)
+                        .elitePoolSize(5)
+                        .vndConfig(buildVndConfig(problem))
+                        .lowerBound(0.0)
+                        .upperBound(1.0)
+                        .updateInterval(3)
+                        .earlyStopConfig(new EarlyStopConfig(10.0, 0, 0.0, 0.0))
+                        .epochConfig(new EpochConfig(1, 1))
+                        .build();
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new DeterministicGraspAlgorithm(config, new Random(0), 2));
+    }
+
+    @Test
+    void constructor_rejectsConfigWithoutEpochs() {
+        var config = buildConfig(buildSmallProblem(), EpochConfig.NONE);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new DeterministicGraspAlgorithm(config, new Random(0), 2));
+    }
+}
@@ -0,0 +1,34 @@
+package scheduling.solver.heuristic.grasp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class EpochConfigTest {
+
+    @Test
+    void totalIterationsCoversAllWorkers() {
+        assertEquals(120, new EpochConfig(10, 3).totalIterations(4));
+    }
+
+    @Test
+    void stringDescListsBudget() {
+        assertEquals("EPOCH[n=10, iters=3]", new EpochConfig(10, 3).stringDesc());
+    }
+
+    @Test
+    void zeroEpochsIsFreeRunning() {
+        assertFalse(EpochConfig.NONE.isEnabled());
+        assertFalse(new EpochConfig(0, 3).isEnabled());
+        assertTrue(new EpochConfig(1, 3).isEnabled());
+    }
+
+    @Test
+    void rejectsInvalidBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new EpochConfig(-1, 3));
+        assertThrows(IllegalArgumentException.class, () -> new EpochConfig(10, 0));
+    }
+}
@@ -14,6 +14,8 @@ import scheduling.model.enums.AttentionType;
 import scheduling.model.enums.PricingType;
 import scheduling.solver.RunInfo;
 import scheduling.solver.SolverSolution;
+import scheduling.solver.heuristic.Deadline;
+import scheduling.solver.heuristic.grasp.construction.AlphaGenerator;
 import scheduling.solver.heuristic.grasp.construction.ReactiveAlphaGenerator;
 import scheduling.solver.heuristic.grasp.elitepool.ElitePool;
 import scheduling.solver.heuristic.grasp.vnd.VND;
@@ -44,12 +46,13 @@ class GraspAlgorithmTest {
         public GraspSolution exposeRunIteration(
                 Problem problem,
                 ElitePool elitePool,
-                ReactiveAlphaGenerator alphaGen,
+                AlphaGenerator alphaGen,
                 VND vnd,
                 Random random,
                 PhaseStatistics constructionStats,
                 PhaseStatistics localSearchStats,
-                PhaseStatistics pathRelinkingStats) {
+                PhaseStatistics pathRelinkingStats,
+                Deadline deadline) {
             return runIteration(
                     problem,
                     elitePool,
@@ -58,7 +61,8 @@ class GraspAlgorithmTest {
                     random,
                     constructionStats,
                     localSearchStats,
-                    pathRelinkingStats);
+                    pathRelinkingStats,
+                    deadline);
         }
 
         public double exposeElapsedSeconds(long startTimeMillis) {
@@ -66,6 +70,16 @@ class GraspAlgorithmTest {
         }
     }
 
+    private static class RecordingAlphaGenerator extends ReactiveAlphaGenerator {
+        private int feedbackCount;
+
+        @Override
+        public void feedback(double alpha, double quality) {
+            feedbackCount++;
+            super.feedback(alpha, quality);
+        }
+    }
+
     private static final Commercial[] COMMERCIALS =
             new Commercial[] {
                 new Commercial(0, 0, 0, 30, 10.0, PricingType.FIXED),
@@ -102,7 +116,15 @@ class GraspAlgorithmTest {
 
     private GraspConfig buildConfig() {
         var vndConfig = buildVndConfig(buildSmallProblem());
-        return new GraspConfig(new RunInfo("test", 0), 60, 5, vndConfig, 0.99, 1.01, 100);
+        return GraspConfig.builder()
+                .runInfo(new RunInfo("test", 0))
+                .timeLimitSeconds(60)
+                .elitePoolSize(5)
+                .vndConfig(vndConfig)
+                .lowerBound(0.99)
+                .upperBound(1.01)
+                .updateInterval(100)
+                .build();
     }
 
     @Test
@@ -134,7 +156,16 @@ class GraspAlgorithmTest {
     void runIteration_returnsSolutionAndAddsToElitePool() {
         var problem = buildSmallProblem();
         var vndConfig = buildVndConfig(problem);
-        var config = new GraspConfig(new RunInfo("test", 0), 60, 5, vndConfig, 0.99, 1.01, 100);
+        var config =
+                GraspConfig.builder()
+                        .runInfo(new RunInfo("test", 0))
+                        .timeLimitSeconds(60)
+                        .elitePoolSize(5)
+                        .vndConfig(vndConfig)
+                        .lowerBound(0.99)
+                        .upperBound(1.01)
+                        .updateInterval(100)
+                        .build();
         var algorithm = new TestGraspAlgorithm(config);
         var elitePool = new ElitePool(5, problem.getCommercials().length);
         var vnd = new VND(vndConfig, new Random(42));
@@ -151,7 +182,8 @@ class GraspAlgorithmTest {
                         new Random(42),
                         constructionStats,
                         localSearchStats,
-                        pathRelinkingStats);
+                        pathRelinkingStats,
+                        Deadline.NONE);
 
         assertNotNull(result);
         assertTrue(result.getTotalRevenue() >= 0.0);
@@ -171,8 +203,7 @@ class GraspAlgorithmTest {
 
         var vndConfig = buildVndConfig(problem);
         var pathRelinkingStats = new PhaseStatistics();
-        new TestGraspAlgorithm(
-                        new GraspConfig(new RunInfo("test", 0), 60, 5, vndConfig, 0.99, 1.01, 100))
+        new TestGraspAlgorithm(buildConfig())
                 .exposeRunIteration(
                         problem,
                         elitePool,
@@ -181,11 +212,39 @@ class GraspAlgorithmTest {
                         new Random(3),
                         new PhaseStatistics(),
                         new PhaseStatistics(),
-                        pathRelinkingStats);
+                        pathRelinkingStats,
+                        Deadline.NONE);
 
         assertTrue(pathRelinkingStats.getCallCount() >= 1);
     }
 
+    @Test
+    void runIteration_cutShortByDeadlineSkipsFeedbackAndElitePool() {
+        var problem = buildSmallProblem();
+        var vndConfig = buildVndConfig(problem);
+        var elitePool = new ElitePool(5, problem.getCommercials().length);
+        var alphaGen = new RecordingAlphaGenerator();
+        var localSearchStats = new PhaseStatistics();
+
+        var result =
+                new TestGraspAlgorithm(buildConfig())
+                        .exposeRunIteration(
+                                problem,
+                                elitePool,
+                                alphaGen,
+                                new VND(vndConfig, new Random(42)),
+                                new Random(42),
+                                new PhaseStatistics(),
+                                localSearchStats,
+                                new PhaseStatistics(),
+                                Deadline.afterMillis(0));
+
+        assertNotNull(result);
+        assertEquals(0, elitePool.size());
+        assertEquals(0, alphaGen.feedbackCount);
+        assertEquals(0, localSearchStats.getCallCount());
+    }
+
     private GraspSolution buildEliteSolution(int numComm, int[] assignedInvId, double revenue) {
         return new GraspSolution(
                 new int[][] {{0}},
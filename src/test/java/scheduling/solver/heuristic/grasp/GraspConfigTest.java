@@ -8,7 +8,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import scheduling.solver.Budget;
+import scheduling.solver.EarlyStopConfig;
 import scheduling.solver.RunInfo;
+import scheduling.solver.heuristic.grasp.elitepool.ElitePoolConfig;
+import scheduling.solver.heuristic.grasp.elitepool.ReplacementPolicy;
+import scheduling.solver.heuristic.grasp.island.IslandConfig;
+import scheduling.solver.heuristic.grasp.island.MigrationTopology;
+import scheduling.solver.heuristic.grasp.pathrelinking.PathRelinkingConfig;
 import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
 import scheduling.solver.heuristic.grasp.vnd.selector.SequentialSelector;
 import scheduling.solver.heuristic.grasp.vnd.strategy.FirstImprovingStrategy;
@@ -22,10 +29,21 @@ class GraspConfigTest {
                 new FirstImprovingStrategy(), List.of(), new SequentialSelector(), 0.0);
     }
 
+    private GraspConfig.GraspConfigBuilder builder() {
+        return GraspConfig.builder()
+                .runInfo(TEST_RUN_INFO)
+                .timeLimitSeconds(60)
+                .elitePoolSize(10)
+                .vndConfig(buildVndConfig())
+                .lowerBound(0.8)
+                .upperBound(1.2)
+                .updateInterval(100);
+    }
+
     @Test
     void allFieldsStoredCorrectly() {
         var vndConfig = buildVndConfig();
-        var config = new GraspConfig(TEST_RUN_INFO, 60, 10, vndConfig, 0.8, 1.2, 100);
+        var config = builder().vndConfig(vndConfig).build();
 
         assertEquals(TEST_RUN_INFO, config.getRunInfo());
         assertEquals(60, config.getTimeLimitSeconds());
@@ -36,61 +54,158 @@ class GraspConfigTest {
         assertEquals(100, config.getUpdateInterval());
     }
 
+    @Test
+    void builderDefaultsToPlainGrasp() {
+        var config = builder().build();
+
+        assertEquals(PathRelinkingConfig.FULL, config.getPathRelinkingConfig());
+        assertEquals(ElitePoolConfig.DEFAULT, config.getElitePoolConfig());
+        assertEquals(IslandConfig.SHARED, config.getIslandConfig());
+        assertEquals(LearningMode.PER_THREAD, config.getLearningMode());
+        assertEquals(Budget.NONE, config.getBudget());
+        assertEquals(EarlyStopConfig.NONE, config.getEarlyStopConfig());
+        assertEquals(EpochConfig.NONE, config.getEpochConfig());
+    }
+
     @Test
     void nonPositiveTimeLimitSecondsThrows() {
-        var vndConfig = buildVndConfig();
         assertThrows(
-                IllegalArgumentException.class,
-                () -> new GraspConfig(TEST_RUN_INFO, 0, 10, vndConfig, 0.8, 1.2, 100));
+                IllegalArgumentException.class, () -> builder().timeLimitSeconds(0).build());
         assertThrows(
-                IllegalArgumentException.class,
-                () -> new GraspConfig(TEST_RUN_INFO, -1, 10, vndConfig, 0.8, 1.2, 100));
+                IllegalArgumentException.class, () -> builder().timeLimitSeconds(-1).build());
     }
 
     @Test
     void nonPositiveElitePoolSizeThrows() {
-        var vndConfig = buildVndConfig();
-        assertThrows(
-                IllegalArgumentException.class,
-                () -> new GraspConfig(TEST_RUN_INFO, 60, 0, vndConfig, 0.8, 1.2, 100));
-        assertThrows(
-                IllegalArgumentException.class,
-                () -> new GraspConfig(TEST_RUN_INFO, 60, -1, vndConfig, 0.8, 1.2, 100));
+        assertThrows(IllegalArgumentException.class, () -> builder().elitePoolSize(0).build());
+        assertThrows(IllegalArgumentException.class, () -> builder().elitePoolSize(-1).build());
     }
 
     @Test
     void nullVndConfigThrows() {
+        assertThrows(NullPointerException.class, () -> builder().vndConfig(null).build());
+    }
+
+    @Test
+    void missingRunInfoThrows() {
         assertThrows(
                 NullPointerException.class,
-                () -> new GraspConfig(TEST_RUN_INFO, 60, 10, null, 0.8, 1.2, 100));
+                () ->
+                        GraspConfig.builder()
+                                .timeLimitSeconds(60)
+                                .elitePoolSize(10)
+                                .vndConfig(buildVndConfig())
+                                .updateInterval(100)
+                                .build());
     }
 
     @Test
     void nonPositiveUpdateIntervalThrows() {
-        var vndConfig = buildVndConfig();
-        assertThrows(
-                IllegalArgumentException.class,
-                () -> new GraspConfig(TEST_RUN_INFO, 60, 10, vndConfig, 0.8, 1.2, 0));
-        assertThrows(
-                IllegalArgumentException.class,
-                () -> new GraspConfig(TEST_RUN_INFO, 60, 10, vndConfig, 0.8, 1.2, -1));
+        assertThrows(IllegalArgumentException.class, () -> builder().updateInterval(0).build());
+        assertThrows(IllegalArgumentException.class, () -> builder().updateInterval(-1).build());
     }
 
     @Test
     void stringDescAssemblesAllComponents() {
-        var vndConfig = buildVndConfig();
-        var config = new GraspConfig(TEST_RUN_INFO, 60, 10, vndConfig, 0.8, 1.2, 100);
+        var config = builder().build();
         var expected =
                 "GRASP[Run[seed=0], elitePool=10, alpha=[0.8,1.2], upd=100,"
                         + " VND[FIRST, SEQ, skip=0.0]]";
         assertEquals(expected, config.stringDesc());
     }
 
+    @Test
+    void stringDescIncludesNonDefaultPathRelinking() {
+        var prConfig = new PathRelinkingConfig(20, 5, 0.25, true, 0.1);
+        var config = builder().pathRelinkingConfig(prConfig).build();
+        var expected =
+                "GRASP[Run[seed=0], elitePool=10, alpha=[0.8,1.2], upd=100,"
+                        + " VND[FIRST, SEQ, skip=0.0],"
+                        + " PR[steps=20, budget=5ms, frac=0.25, adaptive(min=0.1)]]";
+        assertEquals(expected, config.stringDesc());
+    }
+
+    @Test
+    void stringDescIncludesNonDefaultElitePool() {
+        var config =
+                builder()
+                        .elitePoolConfig(new ElitePoolConfig(ReplacementPolicy.DIVERSITY, 4))
+                        .build();
+        var expected =
+                "GRASP[Run[seed=0], elitePool=10, alpha=[0.8,1.2], upd=100,"
+                        + " VND[FIRST, SEQ, skip=0.0], EP[DIVERSITY, minDist=4]]";
+        assertEquals(expected, config.stringDesc());
+    }
+
+    @Test
+    void stringDescIncludesEnabledIslands() {
+        var config =
+                builder()
+                        .islandConfig(new IslandConfig(4, 50, 2, MigrationTopology.RANDOM))
+                        .build();
+        var expected =
+                "GRASP[Run[seed=0], elitePool=10, alpha=[0.8,1.2], upd=100,"
+                        + " VND[FIRST, SEQ, skip=0.0], ISL[n=4, every=50, k=2, RANDOM]]";
+        assertEquals(expected, config.stringDesc());
+    }
+
+    @Test
+    void stringDescIncludesSharedLearning() {
+        var config = builder().learningMode(LearningMode.SHARED).build();
+        var expected =
+                "GRASP[Run[seed=0], elitePool=10, alpha=[0.8,1.2], upd=100,"
+                        + " VND[FIRST, SEQ, skip=0.0], learn=SHARED]";
+        assertEquals(expected, config.stringDesc());
+    }
+
+    @Test
+    void stringDescIncludesLimitedBudget() {
+        var config = builder().budget(new Budget(500, 0, 0, 1000.0)).build();
+        var expected =
+                "GRASP[Run[seed=0], elitePool=10, alpha=[0.8,1.2], upd=100,"
+                        + " VND[FIRST, SEQ, skip=0.0], BUDGET[iter=500, target=1000.0]]";
+        assertEquals(expected, config.stringDesc());
+    }
+
+    @Test
+    void stringDescIncludesEnabledEarlyStop() {
+        var config = builder().earlyStopConfig(new EarlyStopConfig(30.0, 0, 0.0, 0.0)).build();
+        var expected =
+                "GRASP[Run[seed=0], elitePool=10, alpha=[0.8,1.2], upd=100,"
+                        + " VND[FIRST, SEQ, skip=0.0], STOP[stall=30.0s]]";
+        assertEquals(expected, config.stringDesc());
+    }
+
+    @Test
+    void stringDescIncludesEnabledEpochs() {
+        var config = builder().epochConfig(new EpochConfig(20, 5)).build();
+        var expected =
+                "GRASP[Run[seed=0], elitePool=10, alpha=[0.8,1.2], upd=100,"
+                        + " VND[FIRST, SEQ, skip=0.0], EPOCH[n=20, iters=5]]";
+        assertEquals(expected, config.stringDesc());
+    }
+
+    @Test
+    void outputPathDiffersByEpochBudget() {
+        var base = Path.of("out");
+        var freeRunning = builder().build().outputPath(base);
+        var deterministic = builder().epochConfig(new EpochConfig(20, 5)).build().outputPath(base);
+        var longer = builder().epochConfig(new EpochConfig(40, 5)).build().outputPath(base);
+
+        assertNotEquals(freeRunning, deterministic);
+        assertNotEquals(deterministic, longer);
+    }
+
+    @Test
+    void generationBudgetThrows() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> builder().budget(new Budget(0, 0, 10, 0.0)).build());
+    }
+
     @Test
     void outputPathUsesInstanceNameAndHash() {
-        var vndConfig = buildVndConfig();
-        var runInfo = new RunInfo("inst1", 0);
-        var config = new GraspConfig(runInfo, 60, 10, vndConfig, 0.8, 1.2, 100);
+        var config = builder().runInfo(new RunInfo("inst1", 0)).build();
         var path = config.outputPath(Path.of("output"));
 
         assertEquals("inst1", path.getParent().getFileName().toString());
@@ -100,17 +215,15 @@ class GraspConfigTest {
 
     @Test
     void outputPathDeterministic() {
-        var vndConfig = buildVndConfig();
-        var config1 = new GraspConfig(new RunInfo("inst1", 0), 60, 10, vndConfig, 0.8, 1.2, 100);
-        var config2 = new GraspConfig(new RunInfo("inst1", 0), 60, 10, vndConfig, 0.8, 1.2, 100);
+        var config1 = builder().runInfo(new RunInfo("inst1", 0)).build();
+        var config2 = builder().runInfo(new RunInfo("inst1", 0)).build();
         assertEquals(config1.outputPath(Path.of("out")), config2.outputPath(Path.of("out")));
     }
 
     @Test
     void outputPathDiffersForDifferentSeeds() {
-        var vndConfig = buildVndConfig();
-        var config1 = new GraspConfig(new RunInfo("inst1", 0), 60, 10, vndConfig, 0.8, 1.2, 100);
-        var config2 = new GraspConfig(new RunInfo("inst1", 1), 60, 10, vndConfig, 0.8, 1.2, 100);
+        var config1 = builder().runInfo(new RunInfo("inst1", 0)).build();
+        var config2 = builder().runInfo(new RunInfo("inst1", 1)).build();
         assertNotEquals(
                 config1.outputPath(Path.of("out")).getFileName(),
                 config2.outputPath(Path.of("out")).getFileName());
@@ -118,9 +231,8 @@ class GraspConfigTest {
 
     @Test
     void outputPathDiffersForDifferentConfigs() {
-        var vndConfig = buildVndConfig();
-        var config1 = new GraspConfig(new RunInfo("inst1", 0), 60, 10, vndConfig, 0.8, 1.2, 100);
-        var config2 = new GraspConfig(new RunInfo("inst1", 0), 60, 5, vndConfig, 0.8, 1.2, 100);
+        var config1 = builder().runInfo(new RunInfo("inst1", 0)).build();
+        var config2 = builder().runInfo(new RunInfo("inst1", 0)).elitePoolSize(5).build();
         assertNotEquals(
                 config1.outputPath(Path.of("out")).getFileName(),
                 config2.outputPath(Path.of("out")).getFileName());
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import scheduling.solver.RunInfo;
+import scheduling.solver.StopReason;
+import scheduling.solver.heuristic.grasp.elitepool.DiversitySample;
 import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
 import scheduling.solver.heuristic.grasp.vnd.selector.SequentialSelector;
 import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
@@ -18,11 +20,22 @@ class GraspInformationTest {
         var vndConfig =
                 new VNDConfig(
                         new FirstImprovingStrategy(), List.of(), new SequentialSelector(), 0.0);
-        var config = new GraspConfig(new RunInfo("test", 0), 60, 5, vndConfig, 1.0, 1.0, 100);
+        var config =
+                GraspConfig.builder()
+                        .runInfo(new RunInfo("test", 0))
+                        .timeLimitSeconds(60)
+                        .elitePoolSize(5)
+                        .vndConfig(vndConfig)
+                        .lowerBound(1.0)
+                        .upperBound(1.0)
+                        .updateInterval(100)
+                        .build();
         var searchStatistics = new SearchStatistics();
         var constructionStatistics = new PhaseStatistics();
         var localSearchStatistics = new PhaseStatistics();
         var pathRelinkingStatistics = new PhaseStatistics();
+        var evolutionaryStatistics = new PhaseStatistics();
+        var diversitySamples = List.of(new DiversitySample(1.0, 2, 3.0));
 
         var info =
                 new GraspInformation(
@@ -30,12 +43,18 @@ class GraspInformationTest {
                         searchStatistics,
                         constructionStatistics,
                         localSearchStatistics,
-                        pathRelinkingStatistics);
+                        pathRelinkingStatistics,
+                        evolutionaryStatistics,
+                        diversitySamples,
+                        StopReason.TIME_LIMIT);
 
         assertSame(config, info.getConfig());
         assertSame(searchStatistics, info.getSearchStatistics());
         assertSame(constructionStatistics, info.getConstructionStatistics());
         assertSame(localSearchStatistics, info.getLocalSearchStatistics());
         assertSame(pathRelinkingStatistics, info.getPathRelinkingStatistics());
+        assertSame(evolutionaryStatistics, info.getEvolutionaryStatistics());
+        assertSame(diversitySamples, info.getDiversitySamples());
+        assertSame(StopReason.TIME_LIMIT, info.getStopReason());
     }
 }
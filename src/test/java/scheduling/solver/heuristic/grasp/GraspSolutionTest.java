@@ -1,6 +1,7 @@
 package scheduling.solver.heuristic.grasp;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -62,6 +63,20 @@ class GraspSolutionTest {
         assertArrayEquals(new int[] {-1, -1, -1}, solution.getAssignedPos());
     }
 
+    @Test
+    void fromSequencesRebuildsAllArrays() {
+        var sequences = new int[][] {{0, 1}, {2}};
+        var expected = buildSolution(problem, sequences);
+        var solution = GraspSolution.fromSequences(problem, sequences);
+        assertEquals(expected.getTotalRevenue(), solution.getTotalRevenue(), 1e-9);
+        assertArrayEquals(expected.getStartTimes(), solution.getStartTimes());
+        assertArrayEquals(expected.getRevenues(), solution.getRevenues());
+        assertArrayEquals(expected.getTotalDurationOfHour(), solution.getTotalDurationOfHour());
+        assertArrayEquals(expected.getTotalInvDuration(), solution.getTotalInvDuration());
+        assertArrayEquals(expected.getAssignedInvId(), solution.getAssignedInvId());
+        assertArrayEquals(expected.getAssignedPos(), solution.getAssignedPos());
+    }
+
     private static Problem buildProblem(Commercial[] commercials, Inventory[] inventories) {
         var numComm = commercials.length;
         var numInv = inventories.length;
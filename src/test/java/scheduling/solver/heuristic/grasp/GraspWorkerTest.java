@@ -0,0 +1,96 @@
+package scheduling.solver.heuristic.grasp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import scheduling.model.Commercial;
+import scheduling.model.Inventory;
+import scheduling.model.Problem;
+import scheduling.model.enums.AttentionType;
+import scheduling.model.enums.PricingType;
+import scheduling.solver.RunInfo;
+import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.InsertNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
+import scheduling.solver.heuristic.grasp.vnd.selector.AdaptiveSelector;
+import scheduling.solver.heuristic.grasp.vnd.strategy.FirstImprovingStrategy;
+
+class GraspWorkerTest {
+
+    private Problem buildProblem() {
+        var commercials =
+                new Commercial[] {
+                    new Commercial(0, 0, 0, 30, 10.0, PricingType.FIXED),
+                    new Commercial(1, 1, 0, 30, 15.0, PricingType.FIXED),
+                };
+        var revenueMatrix = new double[2][1][121];
+        for (var perInventory : revenueMatrix) {
+            Arrays.fill(perInventory[0], 10.0);
+        }
+        return new Problem(
+                commercials,
+                new Inventory[] {new Inventory(0, 120, 1, 4)},
+                new int[] {1},
+                new boolean[][] {{true}, {true}},
+                new AttentionType[][][] {{{AttentionType.N}}, {{AttentionType.N}}},
+                new int[][] {{0}, {0}},
+                new int[][] {{0, 1}},
+                new double[][][] {{{1.0}, {1.0}}},
+                revenueMatrix);
+    }
+
+    private GraspConfig buildConfig(LearningMode learningMode) {
+        List<Neighborhood> neighborhoods = List.of(new InsertNeighborhood(buildProblem()));
+        var vndConfig =
+                new VNDConfig(
+                        new FirstImprovingStrategy(),
+                        neighborhoods,
+                        new AdaptiveSelector(0.1, neighborhoods),
+                        0.0);
+        return GraspConfig.builder()
+                .runInfo(new RunInfo("test", 0))
+                .timeLimitSeconds(1)
+                .elitePoolSize(5)
+                .vndConfig(vndConfig)
+                .lowerBound(0.99)
+                .upperBound(1.01)
+                .updateInterval(10)
+                .learningMode(learningMode)
+                .build();
+    }
+
+    @Test
+    void create_sharedLearningSharesLearnersOnlyWithinAnIsland() {
+        var workers = GraspWorker.create(buildConfig(LearningMode.SHARED), 4, 2, 0L);
+
+        assertEquals(4, workers.size());
+        for (int t = 0; t < workers.size(); t++) {
+            var sameIsland = workers.get((t + 2) % 4);
+            var otherIsland = workers.get((t + 1) % 4);
+            assertSame(sameIsland.getAlphaGen(), workers.get(t).getAlphaGen());
+            assertSame(
+                    sameIsland.getVndConfig().getSelector(),
+                    workers.get(t).getVndConfig().getSelector());
+            assertNotSame(otherIsland.getAlphaGen(), workers.get(t).getAlphaGen());
+            assertNotSame(
+                    otherIsland.getVndConfig().getSelector(),
+                    workers.get(t).getVndConfig().getSelector());
+        }
+    }
+
+    @Test
+    void create_perThreadLearningGivesEachWorkerItsOwnLearners() {
+        var workers = GraspWorker.create(buildConfig(LearningMode.PER_THREAD), 3, 1, 0L);
+
+        for (int t = 0; t < workers.size(); t++) {
+            var next = workers.get((t + 1) % workers.size());
+            assertNotSame(next.getAlphaGen(), workers.get(t).getAlphaGen());
+            assertNotSame(
+                    next.getVndConfig().getSelector(), workers.get(t).getVndConfig().getSelector());
+        }
+    }
+}
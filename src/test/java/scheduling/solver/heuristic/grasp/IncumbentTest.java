@@ -0,0 +1,104 @@
+package scheduling.solver.heuristic.grasp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class IncumbentTest {
+
+    private GraspSolution buildSolution(double revenue) {
+        return new GraspSolution(
+                new int[0][],
+                new int[0][],
+                new double[0][],
+                revenue,
+                new int[0],
+                new int[0],
+                new int[0],
+                new int[0]);
+    }
+
+    @Test
+    void offer_acceptsOnlyStrictImprovements() {
+        var initial = buildSolution(100.0);
+        var incumbent = new Incumbent(initial, 0.0);
+
+        assertFalse(incumbent.offer(buildSolution(100.0), 1.0));
+        assertFalse(incumbent.offer(buildSolution(50.0), 1.0));
+        assertSame(initial, incumbent.getBest());
+
+        var better = buildSolution(150.0);
+        assertTrue(incumbent.offer(better, 2.0));
+        assertSame(better, incumbent.getBest());
+        assertEquals(150.0, incumbent.getBestRevenue());
+        assertEquals(2.0, incumbent.getBestTime());
+    }
+
+    @Test
+    void getCheckPoints_returnsImprovementsInOrder() {
+        var incumbent = new Incumbent(buildSolution(100.0), 0.0);
+        incumbent.offer(buildSolution(120.0), 1.0);
+        incumbent.offer(buildSolution(110.0), 2.0);
+        incumbent.offer(buildSolution(130.0), 3.0);
+
+        var checkPoints = incumbent.getCheckPoints();
+
+        assertEquals(3, checkPoints.size());
+        assertEquals(100.0, checkPoints.get(0).getObjective());
+        assertEquals(120.0, checkPoints.get(1).getObjective());
+        assertEquals(130.0, checkPoints.get(2).getObjective());
+        assertEquals(3.0, checkPoints.get(2).getTime());
+    }
+
+    @Test
+    void offer_checkPointTimesNeverDecrease() {
+        var incumbent = new Incumbent(buildSolution(100.0), 5.0);
+        incumbent.offer(buildSolution(120.0), 4.0);
+
+        assertEquals(5.0, incumbent.getBestTime());
+    }
+
+    @Test
+    void offer_concurrentOffersKeepGlobalMaximum() throws InterruptedException {
+        var incumbent = new Incumbent(buildSolution(0.0), 0.0);
+        var threadCount = 8;
+        var offersPerThread = 1000;
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            var offset = t;
+            var thread =
+                    new Thread(
+                            () -> {
+                                try {
+                                    start.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                    return;
+                                }
+                                for (int i = 0; i < offersPerThread; i++) {
+                                    var revenue = i * threadCount + offset;
+                                    incumbent.offer(buildSolution(revenue), i);
+                                }
+                            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(threadCount * offersPerThread - 1, incumbent.getBestRevenue());
+        var checkPoints = incumbent.getCheckPoints();
+        for (int i = 1; i < checkPoints.size(); i++) {
+            assertTrue(checkPoints.get(i).getObjective() > checkPoints.get(i - 1).getObjective());
+            assertTrue(checkPoints.get(i).getTime() >= checkPoints.get(i - 1).getTime());
+        }
+    }
+}
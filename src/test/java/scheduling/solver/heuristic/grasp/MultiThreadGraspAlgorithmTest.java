@@ -1,7 +1,9 @@
 package scheduling.solver.heuristic.grasp;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
@@ -12,7 +14,12 @@ import scheduling.model.Inventory;
 import scheduling.model.Problem;
 import scheduling.model.enums.AttentionType;
 import scheduling.model.enums.PricingType;
+import scheduling.solver.Budget;
 import scheduling.solver.RunInfo;
+import scheduling.solver.StopReason;
+import scheduling.solver.heuristic.grasp.island.IslandConfig;
+import scheduling.solver.heuristic.grasp.island.MigrationTopology;
+import scheduling.solver.heuristic.grasp.pathrelinking.PathRelinkingConfig;
 import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
 import scheduling.solver.heuristic.grasp.vnd.neighborhood.InsertNeighborhood;
 import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
@@ -28,10 +35,14 @@ class MultiThreadGraspAlgorithmTest {
             };
 
     private Problem buildSmallProblem() {
+        return buildSmallProblem(1.0);
+    }
+
+    private Problem buildSmallProblem(double priceFactor) {
         var revenueMatrix = new double[2][1][120];
         for (int c = 0; c < 2; c++) {
             for (int t = 0; t < 120; t++) {
-                revenueMatrix[c][0][t] = COMMERCIALS[c].getPrice();
+                revenueMatrix[c][0][t] = priceFactor * COMMERCIALS[c].getPrice();
             }
         }
         var ratings = new double[1][2][1];
@@ -57,7 +68,15 @@ class MultiThreadGraspAlgorithmTest {
 
     private GraspConfig buildConfig(Problem problem) {
         var vndConfig = buildVndConfig(problem);
-        return new GraspConfig(new RunInfo("test", 0), 1, 5, vndConfig, 0.99, 1.01, 100);
+        return GraspConfig.builder()
+                .runInfo(new RunInfo("test", 0))
+                .timeLimitSeconds(1)
+                .elitePoolSize(5)
+                .vndConfig(vndConfig)
+                .lowerBound(0.99)
+                .upperBound(1.01)
+                .updateInterval(100)
+                .build();
     }
 
     @Test
@@ -101,6 +120,58 @@ class MultiThreadGraspAlgorithmTest {
         }
     }
 
+    @Test
+    void run_checkpointsAreGlobalImprovements() {
+        var problem = buildSmallProblem();
+        var config = buildConfig(problem);
+        var algorithm = new MultiThreadGraspAlgorithm(config, new Random(42), 2);
+
+        var result = algorithm.run(problem);
+
+        var checkPoints = result.getCheckPoints();
+        for (int i = 1; i < checkPoints.size(); i++) {
+            assertTrue(
+                    checkPoints.get(i).getObjective() > checkPoints.get(i - 1).getObjective(),
+                    "Each checkpoint should improve on the previous one");
+        }
+        assertEquals(
+                checkPoints.getLast().getObjective(),
+                result.getBestSolution().getTotalRevenue(),
+                1e-6);
+    }
+
+    @Test
+    void currentBest_emptyBeforeRunAndSetAfter() {
+        var problem = buildSmallProblem();
+        var config = buildConfig(problem);
+        var algorithm = new MultiThreadGraspAlgorithm(config, new Random(42), 2);
+
+        assertTrue(algorithm.currentBest().isEmpty());
+        var result = algorithm.run(problem);
+
+        assertTrue(algorithm.currentBest().isPresent());
+        assertEquals(
+                result.getBestSolution().getTotalRevenue(),
+                algorithm.currentBest().get().getTotalRevenue(),
+                1e-6);
+    }
+
+    @Test
+    void inject_beforeRunIsDeliveredWhenTheRunStarts() {
+        var problem = buildSmallProblem();
+        var algorithm = new MultiThreadGraspAlgorithm(buildConfig(problem), new Random(42), 2);
+        // Same shape as the problem but priced ten times higher, so no solution the
+        // run finds itself can beat it.
+        var injected = new int[][] {{1, 0}};
+        var pricier = GraspSolution.fromSequences(buildSmallProblem(10.0), injected);
+
+        algorithm.inject(pricier);
+        algorithm.run(problem);
+
+        assertEquals(
+                pricier.getTotalRevenue(), algorithm.currentBest().orElseThrow().getTotalRevenue());
+    }
+
     @Test
     void run_defaultThreadCountConstructorWorks() {
         var problem = buildSmallProblem();
@@ -113,4 +184,148 @@ class MultiThreadGraspAlgorithmTest {
         assertNotNull(result.getBestSolution());
         assertTrue(result.getBestSolution().getTotalRevenue() >= 0.0);
     }
+
+    @Test
+    void run_withEvolutionaryRelinkingRecordsStatistics() {
+        var problem = buildSmallProblem();
+        var prConfig = new PathRelinkingConfig(0, 0, 0.5, false, 1.0, 0.5);
+        var config =
+                GraspConfig.builder()
+                        .runInfo(new RunInfo("test", 0))
+                        .timeLimitSeconds(1)
+                        .elitePoolSize(5)
+                        .vndConfig(buildVndConfig(problem))
+                        .lowerBound(0.99)
+                        .upperBound(1.01)
+                        .updateInterval(100)
+                        .pathRelinkingConfig(prConfig)
+                        .build();
+        var algorithm = new MultiThreadGraspAlgorithm(config, new Random(42), 2);
+
+        var result = algorithm.run(problem);
+
+        assertNotNull(result.getBestSolution());
+        assertNotNull(result.getAdditionalInformation().getEvolutionaryStatistics());
+    }
+
+    @Test
+    void run_withIslandsReturnsFeasibleResult() {
+        var problem = buildSmallProblem();
+        var config =
+                GraspConfig.builder()
+                        .runInfo(new RunInfo("test", 0))
+                        .timeLimitSeconds(1)
+                        .elitePoolSize(5)
+                        .vndConfig(buildVndConfig(problem))
+                        .lowerBound(0.99)
+                        .upperBound(1.01)
+                        .updateInterval(100)
+                        .islandConfig(new IslandConfig(2, 5, 1, MigrationTopology.RING))
+                        .build();
+        var algorithm = new MultiThreadGraspAlgorithm(config, new Random(42), 3);
+
+        var result = algorithm.run(problem);
+
+        assertNotNull(result.getBestSolution());
+        assertTrue(result.getBestSolution().getTotalRevenue() >= 0.0);
+        assertFalse(result.getAdditionalInformation().getDiversitySamples().isEmpty());
+    }
+
+    @Test
+    void run_stopsWorkersAtTimeLimitAndKeepsTheirStatistics() {
+        var problem = buildSmallProblem();
+        var config = buildConfig(problem);
+        var algorithm = new MultiThreadGraspAlgorithm(config, new Random(42), 4);
+
+        var startNanos = System.nanoTime();
+        var result = algorithm.run(problem);
+        var elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        assertTrue(elapsedSeconds < 3.0, "Run should end shortly after the 1s time limit");
+        var info = result.getAdditionalInformation();
+        assertTrue(info.getConstructionStatistics().getCallCount() > 0);
+        assertEquals(
+                info.getConstructionStatistics().getCallCount(),
+                info.getLocalSearchStatistics().getCallCount()
+                        - info.getPathRelinkingStatistics().getCallCount());
+    }
+
+    @Test
+    void run_withAutoThreadsCalibratesAndReturnsResult() {
+        var problem = buildSmallProblem();
+        var config = buildConfig(problem);
+        var algorithm = MultiThreadGraspAlgorithm.withAutoThreads(config, new Random(42), 4);
+
+        var result = algorithm.run(problem);
+
+        assertNotNull(result.getBestSolution());
+        assertTrue(result.getBestSolution().getTotalRevenue() >= 0.0);
+        var info = result.getAdditionalInformation();
+        assertTrue(info.getConstructionStatistics().getCallCount() > 0);
+    }
+
+    @Test
+    void withAutoThreads_rejectsIslands() {
+        var problem = buildSmallProblem();
+        var config =
+                GraspConfig.builder()
+                        .runInfo(new RunInfo("test", 0))
+                        .timeLimitSeconds(1)
+                        .elitePoolSize(5)
+                        .vndConfig(buildVndConfig(problem))
+                        .lowerBound(0.99)
+                        .upperBound(1.01)
+                        .updateInterval(10)
+                        .islandConfig(new IslandConfig(2, 10, 1, MigrationTopology.RING))
+                        .build();
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> MultiThreadGraspAlgorithm.withAutoThreads(config, new Random(42), 4));
+    }
+
+    @Test
+    void run_withSharedLearningReturnsResult() {
+        var problem = buildSmallProblem();
+        var config =
+                GraspConfig.builder()
+                        .runInfo(new RunInfo("test", 0))
+                        .timeLimitSeconds(1)
+                        .elitePoolSize(5)
+                        .vndConfig(buildVndConfig(problem))
+                        .lowerBound(0.99)
+                        .upperBound(1.01)
+                        .updateInterval(10)
+                        .learningMode(LearningMode.SHARED)
+                        .build();
+        var algorithm = new MultiThreadGraspAlgorithm(config, new Random(42), 4);
+
+        var result = algorithm.run(problem);
+
+        assertNotNull(result.getBestSolution());
+        assertFalse(result.getAdditionalInformation().getDiversitySamples().isEmpty());
+    }
+
+    @Test
+    void run_claimsExactlyTheIterationBudgetAcrossWorkers() {
+        var problem = buildSmallProblem();
+        var config =
+                GraspConfig.builder()
+                        .runInfo(new RunInfo("test", 0))
+                        .timeLimitSeconds(60)
+                        .elitePoolSize(5)
+                        .vndConfig(buildVndConfig(problem))
+                        .lowerBound(0.99)
+                        .upperBound(1.01)
+                        .updateInterval(10)
+                        .budget(new Budget(200, 0, 0, 0.0))
+                        .build();
+        var algorithm = new MultiThreadGraspAlgorithm(config, new Random(42), 4);
+
+        var result = algorithm.run(problem);
+
+        var info = result.getAdditionalInformation();
+        assertEquals(200, info.getConstructionStatistics().getCallCount());
+        assertEquals(StopReason.ITERATION_BUDGET, info.getStopReason());
+    }
 }
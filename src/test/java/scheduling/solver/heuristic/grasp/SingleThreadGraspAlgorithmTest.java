@@ -1,5 +1,6 @@
 package scheduling.solver.heuristic.grasp;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -12,7 +13,10 @@ import scheduling.model.Inventory;
 import scheduling.model.Problem;
 import scheduling.model.enums.AttentionType;
 import scheduling.model.enums.PricingType;
+import scheduling.solver.Budget;
+import scheduling.solver.EarlyStopConfig;
 import scheduling.solver.RunInfo;
+import scheduling.solver.StopReason;
 import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
 import scheduling.solver.heuristic.grasp.vnd.neighborhood.InsertNeighborhood;
 import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
@@ -57,7 +61,15 @@ class SingleThreadGraspAlgorithmTest {
 
     private GraspConfig buildConfig(Problem problem) {
         var vndConfig = buildVndConfig(problem);
-        return new GraspConfig(new RunInfo("test", 0), 1, 5, vndConfig, 0.99, 1.01, 100);
+        return GraspConfig.builder()
+                .runInfo(new RunInfo("test", 0))
+                .timeLimitSeconds(1)
+                .elitePoolSize(5)
+                .vndConfig(vndConfig)
+                .lowerBound(0.99)
+                .upperBound(1.01)
+                .updateInterval(100)
+                .build();
     }
 
     @Test
@@ -100,4 +112,92 @@ class SingleThreadGraspAlgorithmTest {
         assertNotNull(info.getLocalSearchStatistics());
         assertNotNull(info.getPathRelinkingStatistics());
     }
+
+    private GraspConfig buildBudgetConfig(Problem problem, Budget budget) {
+        return buildStopConfig(problem, budget, EarlyStopConfig.NONE);
+    }
+
+    private GraspConfig buildStopConfig(
+            Problem problem, Budget budget, EarlyStopConfig earlyStopConfig) {
+        return GraspConfig.builder()
+                .runInfo(new RunInfo("test", 0))
+                .timeLimitSeconds(60)
+                .elitePoolSize(5)
+                .vndConfig(buildVndConfig(problem))
+                .lowerBound(0.99)
+                .upperBound(1.01)
+                .updateInterval(100)
+                .budget(budget)
+                .earlyStopConfig(earlyStopConfig)
+                .build();
+    }
+
+    @Test
+    void run_stopsAfterExactIterationBudget() {
+        var problem = buildSmallProblem();
+        var config = buildBudgetConfig(problem, new Budget(25, 0, 0, 0.0));
+        var algorithm = new SingleThreadGraspAlgorithm(config, new Random(42));
+
+        var result = algorithm.run(problem);
+
+        var info = result.getAdditionalInformation();
+        assertEquals(25, info.getConstructionStatistics().getCallCount());
+        assertEquals(StopReason.ITERATION_BUDGET, info.getStopReason());
+    }
+
+    @Test
+    void run_stopsOnceEvaluationBudgetIsUsed() {
+        var problem = buildSmallProblem();
+        var config = buildBudgetConfig(problem, new Budget(0, 50, 0, 0.0));
+        var algorithm = new SingleThreadGraspAlgorithm(config, new Random(42));
+
+        var startNanos = System.nanoTime();
+        var result = algorithm.run(problem);
+        var elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        assertTrue(elapsedSeconds < 30.0, "Run should end long before the time limit");
+        var searchStatistics = result.getAdditionalInformation().getSearchStatistics();
+        assertTrue(searchStatistics.getTotalEvaluations() >= 50);
+    }
+
+    @Test
+    void run_stopsWhenTargetRevenueIsReached() {
+        var problem = buildSmallProblem();
+        var config = buildBudgetConfig(problem, new Budget(0, 0, 0, 1.0));
+        var algorithm = new SingleThreadGraspAlgorithm(config, new Random(42));
+
+        var result = algorithm.run(problem);
+
+        assertTrue(result.getBestSolution().getTotalRevenue() >= 1.0);
+        var info = result.getAdditionalInformation();
+        assertEquals(0, info.getConstructionStatistics().getCallCount());
+        assertEquals(StopReason.TARGET_REACHED, info.getStopReason());
+    }
+
+    @Test
+    void run_stopsAfterIterationsWithoutImprovement() {
+        var problem = buildSmallProblem();
+        var earlyStop = new EarlyStopConfig(0.0, 30, 0.0, 0.0);
+        var config = buildStopConfig(problem, Budget.NONE, earlyStop);
+        var algorithm = new SingleThreadGraspAlgorithm(config, new Random(42));
+
+        var startNanos = System.nanoTime();
+        var result = algorithm.run(problem);
+        var elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        assertTrue(elapsedSeconds < 30.0, "Run should end long before the time limit");
+        var info = result.getAdditionalInformation();
+        assertEquals(StopReason.STAGNATION, info.getStopReason());
+        assertTrue(info.getConstructionStatistics().getCallCount() >= 30);
+    }
+
+    @Test
+    void run_recordsTimeLimitAsStopReason() {
+        var problem = buildSmallProblem();
+        var algorithm = new SingleThreadGraspAlgorithm(buildConfig(problem), new Random(42));
+
+        var result = algorithm.run(problem);
+
+        assertEquals(StopReason.TIME_LIMIT, result.getAdditionalInformation().getStopReason());
+    }
 }
@@ -0,0 +1,86 @@
+package scheduling.solver.heuristic.grasp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ThreadScalerTest {
+
+    @Test
+    void calibration_doublesWhileThroughputScales() {
+        var scaler = new ThreadScaler(8);
+
+        assertEquals(2, scaler.record(100, 0));
+        assertEquals(4, scaler.record(190, 0));
+        assertEquals(8, scaler.record(360, 0));
+        assertEquals(8, scaler.record(700, 0));
+        assertFalse(scaler.isCalibrating());
+    }
+
+    @Test
+    void calibration_settlesOnBestCountWhenGainFlattens() {
+        var scaler = new ThreadScaler(16);
+
+        scaler.record(100, 0);
+        scaler.record(190, 0);
+        var settled = scaler.record(195, 0);
+
+        assertEquals(2, settled);
+        assertFalse(scaler.isCalibrating());
+    }
+
+    @Test
+    void calibration_stopsRampingUnderHighContention() {
+        var scaler = new ThreadScaler(16);
+
+        scaler.record(100, 0);
+        var settled = scaler.record(190, ThreadScaler.MAX_CONTENTION + 0.1);
+
+        assertEquals(2, settled);
+        assertFalse(scaler.isCalibrating());
+    }
+
+    @Test
+    void singleThreadLimit_skipsCalibration() {
+        var scaler = new ThreadScaler(1);
+
+        assertFalse(scaler.isCalibrating());
+        assertEquals(1, scaler.record(100, 0));
+    }
+
+    @Test
+    void reevaluation_adoptsFasterNeighbour() {
+        var scaler = new ThreadScaler(8);
+        scaler.record(100, 0);
+        scaler.record(100, 0);
+        assertEquals(1, scaler.getActiveThreads());
+
+        var next = 1;
+        for (int i = 0; i < ThreadScaler.REEVALUATE_WINDOWS; i++) {
+            next = scaler.record(100, 0);
+        }
+        assertTrue(scaler.isProbing());
+        assertEquals(2, next);
+
+        assertEquals(2, scaler.record(150, 0));
+        assertFalse(scaler.isProbing());
+    }
+
+    @Test
+    void reevaluation_keepsCountWhenProbeIsNotFaster() {
+        var scaler = new ThreadScaler(8);
+        scaler.record(100, 0);
+        scaler.record(200, 0);
+        scaler.record(200, 0);
+        assertEquals(2, scaler.getActiveThreads());
+
+        for (int i = 0; i < ThreadScaler.REEVALUATE_WINDOWS; i++) {
+            scaler.record(200, 0);
+        }
+        assertEquals(4, scaler.getActiveThreads());
+
+        assertEquals(2, scaler.record(205, 0));
+    }
+}
@@ -14,6 +14,7 @@ import scheduling.model.Problem;
 import scheduling.model.enums.AttentionType;
 import scheduling.model.enums.PricingType;
 import scheduling.solver.FeasibilityCheck;
+import scheduling.solver.heuristic.Deadline;
 
 class GreedyConstructionTest {
 
@@ -56,6 +57,32 @@ class GreedyConstructionTest {
                 revenueMatrix);
     }
 
+    @Test
+    void returnsPartialScheduleWhenDeadlineExpires() {
+        var count = 2 * Deadline.CHECK_INTERVAL;
+        var commercials = new Commercial[count];
+        var suitability = new boolean[count][];
+        var attentionTypes = new AttentionType[count][][];
+        var revenueMatrix = new double[count][][];
+        for (int c = 0; c < count; c++) {
+            commercials[c] = new Commercial(c, c, 0, 1, 5.0, PricingType.FIXED);
+            suitability[c] = new boolean[] {true};
+            attentionTypes[c] = new AttentionType[][] {{AttentionType.N}};
+            revenueMatrix[c] = new double[][] {new double[count]};
+            Arrays.fill(revenueMatrix[c][0], 5.0);
+        }
+        var inventories = new Inventory[] {new Inventory(0, count, 0, count)};
+
+        var problem =
+                buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+        var construction = new GreedyConstruction(problem, 0.0, new Random(42), 0.99, 1.01);
+        var expired = construction.solve(Deadline.atNanos(System.nanoTime() - 1));
+        var full = construction.solve();
+
+        assertEquals(0, expired.getSequences()[0].length);
+        assertEquals(count, full.getSequences()[0].length);
+    }
+
     @Test
     void assignsSingleCommercialWithNAttention() {
         var commercials = new Commercial[] {new Commercial(0, 0, 0, 10, 5.0, PricingType.FIXED)};
@@ -0,0 +1,59 @@
+package scheduling.solver.heuristic.grasp.construction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+class SharedAlphaGeneratorTest {
+
+    @Test
+    void probabilitiesAreUniformInitially() {
+        var generator = new SharedAlphaGenerator(new double[] {0.2, 0.5, 0.8, 0.9});
+
+        assertArrayEquals(
+                new double[] {0.25, 0.25, 0.25, 0.25}, generator.getProbabilities(), 1e-9);
+    }
+
+    @Test
+    void update_withoutFeedbackKeepsProbabilities() {
+        var generator = new SharedAlphaGenerator(new double[] {0.2, 0.5});
+
+        generator.update();
+
+        assertArrayEquals(new double[] {0.5, 0.5}, generator.getProbabilities(), 1e-9);
+    }
+
+    @Test
+    void update_combinesFeedbackOfAllThreads() throws InterruptedException {
+        var generator = new SharedAlphaGenerator(new double[] {0.3, 0.6});
+
+        var threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            var alpha = t % 2 == 0 ? 0.3 : 0.6;
+            threads.add(
+                    Thread.ofPlatform()
+                            .start(
+                                    () -> {
+                                        for (int i = 0; i < 500; i++) {
+                                            generator.feedback(alpha, alpha == 0.3 ? 3.0 : 1.0);
+                                        }
+                                    }));
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+        generator.update();
+
+        // 0.05 + (1 - 0.1) * 3000 / 4000 and 0.05 + 0.9 * 1000 / 4000
+        assertArrayEquals(new double[] {0.725, 0.275}, generator.getProbabilities(), 1e-9);
+    }
+
+    @Test
+    void feedback_rejectsUnknownAlpha() {
+        var generator = new SharedAlphaGenerator(new double[] {0.3, 0.6});
+
+        assertThrows(IllegalArgumentException.class, () -> generator.feedback(0.45, 1.0));
+    }
+}
@@ -0,0 +1,65 @@
+package scheduling.solver.heuristic.grasp.distributed;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class FrameTest {
+
+    @Test
+    void writeThenRead_roundTripsTypeAndPayload() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes);
+        new Frame(MessageType.SOLUTION, new byte[] {1, 2, 3}).write(out);
+        new Frame(MessageType.STOP, new byte[0]).write(out);
+
+        var in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        var first = Frame.read(in);
+        var second = Frame.read(in);
+
+        assertEquals(MessageType.SOLUTION, first.getType());
+        assertArrayEquals(new byte[] {1, 2, 3}, first.getPayload());
+        assertEquals(MessageType.STOP, second.getType());
+        assertEquals(0, second.getPayload().length);
+    }
+
+    @Test
+    void write_prefixesPayloadLengthAndType() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        new Frame(MessageType.DONE, new byte[] {7}).write(new DataOutputStream(bytes));
+
+        assertArrayEquals(new byte[] {0, 0, 0, 1, 4, 7}, bytes.toByteArray());
+    }
+
+    @Test
+    void read_rejectsOversizedLength() {
+        var data = new byte[] {0x7F, 0, 0, 0, 2};
+        var in = new DataInputStream(new ByteArrayInputStream(data));
+
+        assertThrows(IOException.class, () -> Frame.read(in));
+    }
+
+    @Test
+    void read_rejectsUnknownType() {
+        var data = new byte[] {0, 0, 0, 0, 42};
+        var in = new DataInputStream(new ByteArrayInputStream(data));
+
+        assertThrows(IOException.class, () -> Frame.read(in));
+    }
+
+    @Test
+    void read_failsOnTruncatedPayload() {
+        var data = new byte[] {0, 0, 0, 5, 2, 1};
+        var in = new DataInputStream(new ByteArrayInputStream(data));
+
+        assertThrows(EOFException.class, () -> Frame.read(in));
+    }
+}
@@ -0,0 +1,302 @@
+package scheduling.solver.heuristic.grasp.distributed;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import scheduling.GraspMain;
+import scheduling.mapping.ProblemDTOReader;
+import scheduling.model.Commercial;
+import scheduling.model.Inventory;
+import scheduling.model.Problem;
+import scheduling.model.ProblemBuilder;
+import scheduling.model.enums.AttentionType;
+import scheduling.model.enums.PricingType;
+import scheduling.solver.FeasibilityCheck;
+import scheduling.solver.RunInfo;
+import scheduling.solver.SolverSolution;
+import scheduling.solver.heuristic.grasp.GraspConfig;
+import scheduling.solver.heuristic.grasp.GraspInformation;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.MultiThreadGraspAlgorithm;
+import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.InsertNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
+import scheduling.solver.heuristic.grasp.vnd.selector.SequentialSelector;
+import scheduling.solver.heuristic.grasp.vnd.strategy.FirstImprovingStrategy;
+
+class GraspCoordinatorTest {
+
+    private Problem buildProblem(int numCommercials) {
+        return buildProblem(numCommercials, 10.0);
+    }
+
+    private Problem buildProblem(int numCommercials, double basePrice) {
+        return buildProblem(numCommercials, basePrice, 4);
+    }
+
+    private Problem buildProblem(int numCommercials, double basePrice, int maxCommercialCount) {
+        var commercials = new Commercial[numCommercials];
+        var revenueMatrix = new double[numCommercials][1][120];
+        var suitability = new boolean[numCommercials][1];
+        var attentionTypes = new AttentionType[numCommercials][1][];
+        var suitableInventories = new int[numCommercials][];
+        var ratings = new double[1][numCommercials][1];
+        for (int c = 0; c < numCommercials; c++) {
+            commercials[c] = new Commercial(c, c, 0, 30, basePrice + 5 * c, PricingType.FIXED);
+            Arrays.fill(revenueMatrix[c][0], commercials[c].getPrice());
+            suitability[c][0] = true;
+            attentionTypes[c][0] = new AttentionType[] {AttentionType.N};
+            suitableInventories[c] = new int[] {0};
+            ratings[0][c][0] = 1.0;
+        }
+        return new Problem(
+                commercials,
+                new Inventory[] {new Inventory(0, 120, 1, maxCommercialCount)},
+                new int[] {1},
+                suitability,
+                attentionTypes,
+                suitableInventories,
+                new int[][] {IntStream.range(0, numCommercials).toArray()},
+                ratings,
+                revenueMatrix);
+    }
+
+    private GraspConfig buildConfig(Problem problem, int timeLimitSeconds) {
+        List<Neighborhood> neighborhoods = List.of(new InsertNeighborhood(problem));
+        var vndConfig =
+                new VNDConfig(
+                        new FirstImprovingStrategy(), neighborhoods, new SequentialSelector(), 0.0);
+        return GraspConfig.builder()
+                .runInfo(new RunInfo("test", 0))
+                .timeLimitSeconds(timeLimitSeconds)
+                .elitePoolSize(5)
+                .vndConfig(vndConfig)
+                .lowerBound(0.99)
+                .upperBound(1.01)
+                .updateInterval(100)
+                .build();
+    }
+
+    private List<Future<SolverSolution<GraspInformation>>> startWorkers(
+            ExecutorService executor,
+            Problem problem,
+            int count,
+            int port,
+            int timeLimitSeconds) {
+        var futures = new ArrayList<Future<SolverSolution<GraspInformation>>>();
+        for (int i = 0; i < count; i++) {
+            var config = buildConfig(problem, timeLimitSeconds);
+            var node =
+                    new WorkerNode(
+                            problem,
+                            seed -> new MultiThreadGraspAlgorithm(config, new Random(seed), 2),
+                            "localhost",
+                            port);
+            futures.add(executor.submit(node::run));
+        }
+        return futures;
+    }
+
+    @Test
+    void run_collectsTheBestWorkerResult() throws Exception {
+        var problem = buildProblem(2);
+        var coordinator = new GraspCoordinator(problem, 0, 2, 10, 0);
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var workers = startWorkers(executor, problem, 2, coordinator.getLocalPort(), 1);
+            var result = coordinator.run();
+
+            var bestWorkerRevenue = 0.0;
+            for (var worker : workers) {
+                var revenue = worker.get().getBestSolution().getTotalRevenue();
+                bestWorkerRevenue = Math.max(bestWorkerRevenue, revenue);
+            }
+            assertEquals(bestWorkerRevenue, result.getBestSolution().getTotalRevenue(), 1e-6);
+            var info = result.getAdditionalInformation();
+            assertEquals(2, info.getWorkers());
+            assertTrue(info.getSolutionsReceived() >= 2, "Each worker reports at least DONE");
+            assertTrue(info.getBroadcasts() >= 1);
+        }
+    }
+
+    @Test
+    void run_stopsWorkersAtTheGlobalTimeLimit() throws Exception {
+        var problem = buildProblem(2);
+        var coordinator = new GraspCoordinator(problem, 0, 2, 1, 0);
+
+        var startNanos = System.nanoTime();
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var workers = startWorkers(executor, problem, 2, coordinator.getLocalPort(), 60);
+            var result = coordinator.run();
+            for (var worker : workers) {
+                worker.get();
+            }
+            var elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+            assertTrue(elapsedSeconds < 10.0, "Workers should stop long before their 60s limit");
+            assertTrue(result.getBestSolution().getTotalRevenue() > 0.0);
+        }
+    }
+
+    @Test
+    void run_rejectsWorkerWithDifferentInstance() {
+        var problem = buildProblem(2);
+        var coordinator = new GraspCoordinator(problem, 0, 1, 5, 0);
+        var other = buildProblem(3);
+
+        try (var executor = Executors.newFixedThreadPool(1)) {
+            startWorkers(executor, other, 1, coordinator.getLocalPort(), 1);
+
+            assertThrows(UncheckedIOException.class, coordinator::run);
+        }
+    }
+
+    @Test
+    void run_rejectsWorkerWithSameDimensionsButDifferentData() {
+        var problem = buildProblem(2);
+        var coordinator = new GraspCoordinator(problem, 0, 1, 5, 0);
+        var other = buildProblem(2, 12.0);
+
+        try (var executor = Executors.newFixedThreadPool(1)) {
+            startWorkers(executor, other, 1, coordinator.getLocalPort(), 1);
+
+            assertThrows(UncheckedIOException.class, coordinator::run);
+        }
+    }
+
+    @Test
+    void run_relaysEliteMembersToTheOtherWorkers() throws Exception {
+        var problem = buildProblem(2);
+        var coordinator = new GraspCoordinator(problem, 0, 2, 10, 0);
+        var port = coordinator.getLocalPort();
+        var elite = List.of(GraspSolution.fromSequences(problem, new int[][] {{1}}));
+
+        try (var executor = Executors.newFixedThreadPool(1);
+                var sender = Connection.connect("localhost", port);
+                var receiver = Connection.connect("localhost", port)) {
+            var result = executor.submit(coordinator::run);
+            for (var worker : List.of(sender, receiver)) {
+                worker.send(MessageType.HELLO, GraspCoordinator.helloPayload(problem));
+            }
+            sender.expect(MessageType.START);
+            receiver.expect(MessageType.START);
+
+            sender.send(MessageType.ELITE, SolutionCodec.encodeAll(elite));
+            var relayed = receiver.expect(MessageType.ELITE);
+            var members = SolutionCodec.decodeAll(relayed.getPayload(), problem);
+            assertEquals(1, members.size());
+            assertArrayEquals(elite.getFirst().getSequences(), members.getFirst().getSequences());
+
+            for (var worker : List.of(sender, receiver)) {
+                worker.send(MessageType.DONE, SolutionCodec.encode(elite.getFirst()));
+            }
+            var info = result.get().getAdditionalInformation();
+            assertEquals(1, info.getEliteBroadcasts());
+            assertEquals(2, info.getSolutionsReceived());
+        }
+    }
+
+    @Test
+    void run_dropsWorkerReportingAnInfeasibleSchedule() throws Exception {
+        var problem = buildProblem(3, 10.0, 2);
+        var coordinator = new GraspCoordinator(problem, 0, 2, 10, 0);
+        var port = coordinator.getLocalPort();
+        // Three commercials in an inventory that takes at most two.
+        var overfull = GraspSolution.fromSequences(problem, new int[][] {{0, 1, 2}});
+        var feasible = GraspSolution.fromSequences(problem, new int[][] {{2, 1}});
+
+        try (var executor = Executors.newFixedThreadPool(1);
+                var cheater = Connection.connect("localhost", port);
+                var honest = Connection.connect("localhost", port)) {
+            var result = executor.submit(coordinator::run);
+            for (var worker : List.of(cheater, honest)) {
+                worker.send(MessageType.HELLO, GraspCoordinator.helloPayload(problem));
+            }
+            cheater.expect(MessageType.START);
+            honest.expect(MessageType.START);
+
+            cheater.send(MessageType.SOLUTION, SolutionCodec.encode(overfull));
+            assertThrows(IOException.class, cheater::receive, "Coordinator closes the link");
+            honest.send(MessageType.DONE, SolutionCodec.encode(feasible));
+
+            var solution = result.get();
+            assertEquals(feasible.getTotalRevenue(), solution.getBestSolution().getTotalRevenue());
+            assertEquals(1, solution.getAdditionalInformation().getSolutionsReceived());
+            assertDoesNotThrow(() -> FeasibilityCheck.check(problem, solution.getBestSolution()));
+        }
+    }
+
+    // Runs the worker as a separate JVM through GraspMain, as a second machine would.
+    @Test
+    void run_receivesIncumbentsFromWorkerProcess(@TempDir Path outputDir) throws Exception {
+        var instance = Path.of("json_files", "53.json");
+        assumeTrue(Files.exists(instance), "Needs the bundled instances");
+        var problem = ProblemBuilder.build(ProblemDTOReader.read(instance));
+        var coordinator = new GraspCoordinator(problem, 0, 1, 60, 0);
+
+        var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        var workerLog = outputDir.resolve("worker.log");
+        var worker =
+                new ProcessBuilder(
+                                java,
+                                "--enable-preview",
+                                "-cp",
+                                System.getProperty("java.class.path"),
+                                GraspMain.class.getName(),
+                                "-i",
+                                instance.toString(),
+                                "-o",
+                                outputDir.toString(),
+                                "-t",
+                                "3",
+                                "--threads",
+                                "2",
+                                "--role",
+                                "WORKER",
+                                "--coordinator",
+                                "localhost:" + coordinator.getLocalPort())
+                        .redirectErrorStream(true)
+                        .redirectOutput(workerLog.toFile())
+                        .start();
+        try {
+            var result = coordinator.run();
+
+            assertTrue(worker.waitFor(30, TimeUnit.SECONDS), "Worker process should exit");
+            assertEquals(0, worker.exitValue(), () -> readQuietly(workerLog));
+            var info = result.getAdditionalInformation();
+            assertTrue(info.getSolutionsReceived() >= 2, "Incumbent reports and the final DONE");
+            assertTrue(result.getCheckPoints().size() >= 2, "Worker incumbents reach the trace");
+            assertTrue(result.getBestSolution().getTotalRevenue() > 0.0);
+            assertDoesNotThrow(() -> FeasibilityCheck.check(problem, result.getBestSolution()));
+        } finally {
+            worker.destroyForcibly();
+        }
+    }
+
+    private static String readQuietly(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            return "Could not read " + path;
+        }
+    }
+}
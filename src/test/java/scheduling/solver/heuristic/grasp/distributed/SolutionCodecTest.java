@@ -0,0 +1,166 @@
+package scheduling.solver.heuristic.grasp.distributed;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import scheduling.model.Commercial;
+import scheduling.model.Inventory;
+import scheduling.model.Problem;
+import scheduling.model.enums.AttentionType;
+import scheduling.model.enums.PricingType;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+
+class SolutionCodecTest {
+
+    private static final Commercial[] COMMERCIALS =
+            new Commercial[] {
+                new Commercial(0, 0, 0, 30, 10.0, PricingType.FIXED),
+                new Commercial(1, 1, 0, 30, 15.0, PricingType.FIXED),
+                new Commercial(2, 2, 0, 30, 20.0, PricingType.FIXED),
+            };
+
+    private Problem buildProblem() {
+        return buildProblem(120);
+    }
+
+    private Problem buildProblem(int inventoryDuration) {
+        var revenueMatrix = new double[3][2][121];
+        for (int c = 0; c < 3; c++) {
+            for (int i = 0; i < 2; i++) {
+                Arrays.fill(revenueMatrix[c][i], COMMERCIALS[c].getPrice());
+            }
+        }
+        var attention = new AttentionType[3][2][];
+        for (var perInventory : attention) {
+            Arrays.fill(perInventory, new AttentionType[] {AttentionType.N});
+        }
+        return new Problem(
+                COMMERCIALS,
+                new Inventory[] {
+                    new Inventory(0, inventoryDuration, 0, 4),
+                    new Inventory(1, inventoryDuration, 0, 4)
+                },
+                new int[] {0},
+                new boolean[][] {{true, true}, {true, true}, {true, true}},
+                attention,
+                new int[][] {{0, 1}, {0, 1}, {0, 1}},
+                new int[][] {{0, 1, 2}, {0, 1, 2}},
+                new double[][][] {{{0.0}}},
+                revenueMatrix);
+    }
+
+    @Test
+    void decode_restoresSequencesAndRevenue() throws IOException {
+        var problem = buildProblem();
+        var solution = GraspSolution.fromSequences(problem, new int[][] {{2, 0}, {}});
+
+        var decoded = SolutionCodec.decode(SolutionCodec.encode(solution), problem);
+
+        assertArrayEquals(solution.getSequences(), decoded.getSequences());
+        assertArrayEquals(solution.getStartTimes(), decoded.getStartTimes());
+        assertEquals(30.0, decoded.getTotalRevenue(), 1e-9);
+    }
+
+    @Test
+    void decodeAll_restoresEveryEncodedSolution() throws IOException {
+        var problem = buildProblem();
+        var first = GraspSolution.fromSequences(problem, new int[][] {{2, 0}, {}});
+        var second = GraspSolution.fromSequences(problem, new int[][] {{1}, {0, 2}});
+
+        var decoded =
+                SolutionCodec.decodeAll(
+                        SolutionCodec.encodeAll(List.of(first, second)), problem);
+
+        assertEquals(2, decoded.size());
+        assertArrayEquals(first.getSequences(), decoded.get(0).getSequences());
+        assertArrayEquals(second.getSequences(), decoded.get(1).getSequences());
+    }
+
+    @Test
+    void decodeAll_rejectsCountBeyondData() {
+        var problem = buildProblem();
+
+        assertThrows(
+                IOException.class, () -> SolutionCodec.decodeAll(new byte[] {5, 2, 0, 0}, problem));
+    }
+
+    @Test
+    void encode_usesOneBytePerSmallValue() {
+        var problem = buildProblem();
+        var solution = GraspSolution.fromSequences(problem, new int[][] {{1}, {0, 2}});
+
+        assertArrayEquals(new byte[] {2, 1, 1, 2, 0, 2}, SolutionCodec.encode(solution));
+    }
+
+    @Test
+    void decode_rejectsInventoryCountMismatch() {
+        var problem = buildProblem();
+
+        assertThrows(IOException.class, () -> SolutionCodec.decode(new byte[] {1, 0}, problem));
+    }
+
+    @Test
+    void decode_rejectsUnknownCommercial() {
+        var problem = buildProblem();
+
+        assertThrows(
+                IOException.class, () -> SolutionCodec.decode(new byte[] {2, 1, 9, 0}, problem));
+    }
+
+    @Test
+    void decode_rejectsNegativeCommercial() {
+        var problem = buildProblem();
+        // -1 as a five-byte varint
+        var data = new byte[] {2, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 0};
+
+        assertThrows(IOException.class, () -> SolutionCodec.decode(data, problem));
+    }
+
+    @Test
+    void decode_rejectsCommercialPlacedTwice() {
+        var problem = buildProblem();
+
+        assertThrows(
+                IOException.class, () -> SolutionCodec.decode(new byte[] {2, 1, 0, 1, 0}, problem));
+        assertThrows(
+                IOException.class, () -> SolutionCodec.decode(new byte[] {2, 2, 1, 1, 0}, problem));
+    }
+
+    @Test
+    void decode_rejectsSequenceLongerThanUnplacedCommercials() {
+        var problem = buildProblem();
+
+        assertThrows(
+                IOException.class,
+                () -> SolutionCodec.decode(new byte[] {2, 2, 0, 1, 2, 2, 0}, problem));
+    }
+
+    @Test
+    void decode_rejectsSequenceOverrunningItsInventory() {
+        var problem = buildProblem(60);
+
+        assertThrows(
+                IOException.class,
+                () -> SolutionCodec.decode(new byte[] {2, 3, 0, 1, 2, 0}, problem));
+    }
+
+    @Test
+    void decode_rejectsNegativeSequenceLength() {
+        var problem = buildProblem();
+        var data = new byte[] {2, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+
+        assertThrows(IOException.class, () -> SolutionCodec.decode(data, problem));
+    }
+
+    @Test
+    void decode_rejectsTruncatedData() {
+        var problem = buildProblem();
+
+        assertThrows(IOException.class, () -> SolutionCodec.decode(new byte[] {2, 2, 0}, problem));
+    }
+}
@@ -0,0 +1,414 @@
+package scheduling.solver.heuristic.grasp.elitepool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import scheduling.model.Commercial;
+import scheduling.model.Inventory;
+import scheduling.model.Problem;
+import scheduling.model.enums.AttentionType;
+import scheduling.model.enums.PricingType;
+import scheduling.solver.FeasibilityCheck;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.pathrelinking.PathRelinkingUtils;
+
+class CompactSolutionTest {
+
+    @Test
+    void decodeRebuildsOriginalSolution() {
+        var rng = new Random(42);
+        for (int trial = 0; trial < 100; trial++) {
+            var problem = buildRandomProblem(rng);
+            var reference = buildRandomFeasibleSolution(problem, rng);
+            var original = buildRandomFeasibleSolution(problem, rng);
+
+            var decoded =
+                    CompactSolution.encode(original, reference.getSequences(), problem).solution();
+
+            assertArrayEquals(original.getSequences(), decoded.getSequences());
+            assertArrayEquals(original.getStartTimes(), decoded.getStartTimes());
+            assertArrayEquals(original.getAssignedInvId(), decoded.getAssignedInvId());
+            assertArrayEquals(original.getAssignedPos(), decoded.getAssignedPos());
+            assertArrayEquals(original.getTotalInvDuration(), decoded.getTotalInvDuration());
+            assertArrayEquals(original.getTotalDurationOfHour(), decoded.getTotalDurationOfHour());
+            assertEquals(original.getTotalRevenue(), decoded.getTotalRevenue(), 1e-6);
+        }
+    }
+
+    @Test
+    void distanceToMatchesDistanceOfDecodedSolution() {
+        var rng = new Random(7);
+        var problem = buildRandomProblem(rng);
+        var numComm = problem.getCommercials().length;
+        for (int trial = 0; trial < 50; trial++) {
+            var reference = buildRandomFeasibleSolution(problem, rng);
+            var original = buildRandomFeasibleSolution(problem, rng);
+            var other = buildRandomFeasibleSolution(problem, rng);
+            var otherInv = other.getAssignedInvId();
+            var assignedCount = (int) Arrays.stream(otherInv).filter(inv -> inv >= 0).count();
+
+            var compact = CompactSolution.encode(original, reference.getSequences(), problem);
+
+            assertEquals(
+                    PathRelinkingUtils.distance(original, other, numComm),
+                    compact.distanceTo(otherInv, assignedCount, numComm));
+            assertEquals(original.getTotalRevenue(), compact.getTotalRevenue());
+        }
+    }
+
+    // Decoding a member for its distance allocates about two numCommercials-sized
+    // arrays, so 16 members would cost ~32 of them. The returned guide is rebuilt
+    // in full, which takes ~6.
+    @Test
+    void addAndGetGuideDoNotDecodeEveryMember() {
+        var threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        var bean = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(bean.isThreadAllocatedMemorySupported());
+        assumeTrue(bean.isThreadAllocatedMemoryEnabled());
+        var rng = new Random(5);
+        var numComm = 20_000;
+        var problem = buildLargeProblem(numComm, 10);
+        var config = new ElitePoolConfig(ReplacementPolicy.DIVERSITY, 1, true);
+        var pool = new ElitePool(16, problem, config);
+        var members = new ArrayList<GraspSolution>();
+        for (int i = 0; i < 16; i++) {
+            var member = buildRandomAssignment(problem, rng, 100.0 + i);
+            members.add(member);
+            pool.add(member);
+        }
+        var duplicate = withRevenue(members.get(3), 0.0);
+        var from = buildRandomAssignment(problem, rng, 0.0);
+        var random = new Random(1);
+        pool.add(duplicate);
+        pool.getGuide(from, random);
+
+        var threadId = Thread.currentThread().threadId();
+        var beforeAdd = bean.getThreadAllocatedBytes(threadId);
+        pool.add(duplicate);
+        var addBytes = bean.getThreadAllocatedBytes(threadId) - beforeAdd;
+        var beforeGuide = bean.getThreadAllocatedBytes(threadId);
+        pool.getGuide(from, random);
+        var guideBytes = bean.getThreadAllocatedBytes(threadId) - beforeGuide;
+
+        assertEquals(16, pool.size());
+        var oneArray = 4L * numComm;
+        assertTrue(addBytes < oneArray, "add allocated " + addBytes + " bytes");
+        assertTrue(guideBytes < 12 * oneArray, "getGuide allocated " + guideBytes + " bytes");
+    }
+
+    @Test
+    void sequencesEqualToReferenceTakeOneBytePerInventory() {
+        var rng = new Random(7);
+        var problem = buildRandomProblem(rng);
+        var solution = buildRandomFeasibleSolution(problem, rng);
+
+        var compact = CompactSolution.encode(solution, solution.getSequences(), problem);
+
+        assertEquals(problem.getInventories().length, compact.encodedSize());
+    }
+
+    @Test
+    void compactPoolMatchesFullPool() {
+        var rng = new Random(11);
+        var problem = buildRandomProblem(rng);
+        var fullConfig = new ElitePoolConfig(ReplacementPolicy.DIVERSITY, 2);
+        var compactConfig = new ElitePoolConfig(ReplacementPolicy.DIVERSITY, 2, true);
+        var full = new ElitePool(5, problem, fullConfig);
+        var compact = new ElitePool(5, problem, compactConfig);
+        for (int i = 0; i < 50; i++) {
+            var solution = buildRandomFeasibleSolution(problem, rng);
+            full.add(solution);
+            compact.add(solution);
+        }
+
+        assertEquals(full.size(), compact.size());
+        assertEquals(full.getDiversity(), compact.getDiversity(), 1e-9);
+        var fullMembers = full.getSolutions();
+        var compactMembers = compact.getSolutions();
+        for (int i = 0; i < fullMembers.size(); i++) {
+            assertArrayEquals(
+                    fullMembers.get(i).getSequences(), compactMembers.get(i).getSequences());
+            FeasibilityCheck.check(problem, compactMembers.get(i));
+        }
+        var from = buildRandomFeasibleSolution(problem, rng);
+        var first = new Random(3);
+        var second = new Random(3);
+        for (int i = 0; i < 20; i++) {
+            assertArrayEquals(
+                    full.getGuide(from, first).getSequences(),
+                    compact.getGuide(from, second).getSequences());
+        }
+    }
+
+    // Unit-length commercials, all suitable everywhere, in inventories long enough
+    // for any assignment. Every (commercial, inventory) pair shares one all-zero
+    // revenue row so that the matrix stays small.
+    private Problem buildLargeProblem(int numComm, int numInv) {
+        var commercials = new Commercial[numComm];
+        for (int c = 0; c < numComm; c++) {
+            commercials[c] = new Commercial(c, c % 7, 0, 1, 10.0, PricingType.FIXED);
+        }
+        var inventories = new Inventory[numInv];
+        for (int i = 0; i < numInv; i++) {
+            inventories[i] = new Inventory(i, numComm, 0, numComm);
+        }
+        var suitability = new boolean[numComm][numInv];
+        var attentionTypes = new AttentionType[numComm][numInv][];
+        var revenueMatrix = new double[numComm][numInv][];
+        var revenueRow = new double[numComm + 1];
+        for (int c = 0; c < numComm; c++) {
+            Arrays.fill(suitability[c], true);
+            for (int i = 0; i < numInv; i++) {
+                attentionTypes[c][i] = new AttentionType[] {AttentionType.N};
+                revenueMatrix[c][i] = revenueRow;
+            }
+        }
+        return buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+    }
+
+    // Places about nine in ten commercials in a random inventory; the revenue is
+    // set directly so that members can be ordered without evaluating them.
+    private GraspSolution buildRandomAssignment(Problem problem, Random rng, double revenue) {
+        var numComm = problem.getCommercials().length;
+        var numInv = problem.getInventories().length;
+        var seqLists = new ArrayList<ArrayList<Integer>>();
+        for (int i = 0; i < numInv; i++) {
+            seqLists.add(new ArrayList<>());
+        }
+        var assignedInvId = new int[numComm];
+        Arrays.fill(assignedInvId, -1);
+        for (int c = 0; c < numComm; c++) {
+            if (rng.nextInt(10) == 0) {
+                continue;
+            }
+            var invId = rng.nextInt(numInv);
+            seqLists.get(invId).add(c);
+            assignedInvId[c] = invId;
+        }
+        var sequences = new int[numInv][];
+        for (int i = 0; i < numInv; i++) {
+            sequences[i] = seqLists.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new GraspSolution(
+                sequences,
+                new int[numInv][],
+                new double[numInv][],
+                revenue,
+                new int[1],
+                new int[numInv],
+                assignedInvId,
+                new int[numComm]);
+    }
+
+    private static GraspSolution withRevenue(GraspSolution solution, double revenue) {
+        return new GraspSolution(
+                solution.getSequences(),
+                solution.getStartTimes(),
+                solution.getRevenues(),
+                revenue,
+                solution.getTotalDurationOfHour(),
+                solution.getTotalInvDuration(),
+                solution.getAssignedInvId(),
+                solution.getAssignedPos());
+    }
+
+    private Problem buildProblem(
+            Commercial[] commercials,
+            Inventory[] inventories,
+            boolean[][] suitability,
+            AttentionType[][][] attentionTypes,
+            double[][][] revenueMatrix) {
+        var hours = Arrays.stream(inventories).mapToInt(Inventory::getHour).distinct().toArray();
+        var suitInvFor = new int[commercials.length][];
+        for (int c = 0; c < commercials.length; c++) {
+            var list = new ArrayList<Integer>();
+            for (int i = 0; i < inventories.length; i++) {
+                if (suitability[c][i]) {
+                    list.add(i);
+                }
+            }
+            suitInvFor[c] = list.stream().mapToInt(Integer::intValue).toArray();
+        }
+        var suitCommFor = new int[inventories.length][];
+        for (int i = 0; i < inventories.length; i++) {
+            var list = new ArrayList<Integer>();
+            for (int c = 0; c < commercials.length; c++) {
+                if (suitability[c][i]) {
+                    list.add(c);
+                }
+            }
+            suitCommFor[i] = list.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new Problem(
+                commercials,
+                inventories,
+                hours,
+                suitability,
+                attentionTypes,
+                suitInvFor,
+                suitCommFor,
+                new double[][][] {{{0.0}}},
+                revenueMatrix);
+    }
+
+    private GraspSolution buildSolution(Problem problem, int[][] sequences) {
+        var numInv = problem.getInventories().length;
+        var numComm = problem.getCommercials().length;
+        var startTimes = new int[numInv][];
+        var revenues = new double[numInv][];
+        var totalRevenue = 0.0;
+        var maxHour = Arrays.stream(problem.getHours()).max().orElse(0);
+        var totalDurationOfHour = new int[maxHour + 1];
+        var totalInvDuration = new int[numInv];
+        var assignedInvId = new int[numComm];
+        var assignedPos = new int[numComm];
+        Arrays.fill(assignedInvId, -1);
+        Arrays.fill(assignedPos, -1);
+
+        for (int inv = 0; inv < numInv; inv++) {
+            var seq = sequences[inv];
+            startTimes[inv] = new int[seq.length];
+            revenues[inv] = new double[seq.length];
+            var currentTime = 0;
+            for (int pos = 0; pos < seq.length; pos++) {
+                startTimes[inv][pos] = currentTime;
+                revenues[inv][pos] = problem.getRevenue(seq[pos], inv, currentTime);
+                totalRevenue += revenues[inv][pos];
+                currentTime += problem.getCommercial(seq[pos]).getDuration();
+                assignedInvId[seq[pos]] = inv;
+                assignedPos[seq[pos]] = pos;
+            }
+            totalInvDuration[inv] = currentTime;
+            var invHour = problem.getInventory(inv).getHour();
+            totalDurationOfHour[invHour] += currentTime;
+        }
+        return new GraspSolution(
+                sequences,
+                startTimes,
+                revenues,
+                totalRevenue,
+                totalDurationOfHour,
+                totalInvDuration,
+                assignedInvId,
+                assignedPos);
+    }
+
+    private Problem buildRandomProblem(Random rng) {
+        var numComm = 30;
+        var numInv = 8;
+        var commercials = new Commercial[numComm];
+        for (int c = 0; c < numComm; c++) {
+            var duration = 5 + rng.nextInt(26);
+            var group = 1 + rng.nextInt(6);
+            var price = 10.0 + rng.nextInt(91);
+            commercials[c] = new Commercial(c, group, 0, duration, price, PricingType.FIXED);
+        }
+        var inventories = new Inventory[numInv];
+        var possibleHours = new int[] {0, 1, 2};
+        for (int i = 0; i < numInv; i++) {
+            var duration = 60 + rng.nextInt(241);
+            var hour = possibleHours[rng.nextInt(3)];
+            inventories[i] = new Inventory(i, duration, hour, 20);
+        }
+        var suitability = new boolean[numComm][numInv];
+        for (int c = 0; c < numComm; c++) {
+            var hasSuitable = false;
+            for (int i = 0; i < numInv; i++) {
+                suitability[c][i] = rng.nextDouble() < 0.6;
+                if (suitability[c][i]) {
+                    hasSuitable = true;
+                }
+            }
+            if (!hasSuitable) {
+                suitability[c][rng.nextInt(numInv)] = true;
+            }
+        }
+        var attentionPool =
+                new AttentionType[] {
+                    AttentionType.N,
+                    AttentionType.N,
+                    AttentionType.N,
+                    AttentionType.F1,
+                    AttentionType.F2,
+                    AttentionType.F3,
+                    AttentionType.F12,
+                    AttentionType.F123,
+                    AttentionType.L1,
+                    AttentionType.L2,
+                    AttentionType.L12,
+                    AttentionType.L123
+                };
+        var attentionTypes = new AttentionType[numComm][numInv][];
+        for (int c = 0; c < numComm; c++) {
+            for (int i = 0; i < numInv; i++) {
+                attentionTypes[c][i] =
+                        new AttentionType[] {attentionPool[rng.nextInt(attentionPool.length)]};
+            }
+        }
+        var revenueMatrix = new double[numComm][numInv][];
+        for (int c = 0; c < numComm; c++) {
+            for (int i = 0; i < numInv; i++) {
+                revenueMatrix[c][i] = new double[inventories[i].getDuration() + 1];
+                for (int t = 0; t <= inventories[i].getDuration(); t++) {
+                    revenueMatrix[c][i][t] = (c + 1) * 50.0 + t * 0.5;
+                }
+            }
+        }
+        return buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+    }
+
+    private GraspSolution buildRandomFeasibleSolution(Problem problem, Random rng) {
+        var numComm = problem.getCommercials().length;
+        var numInv = problem.getInventories().length;
+        var seqLists = new ArrayList<ArrayList<Integer>>();
+        for (int i = 0; i < numInv; i++) {
+            seqLists.add(new ArrayList<>());
+        }
+        var commIds = new ArrayList<Integer>();
+        for (int c = 0; c < numComm; c++) {
+            commIds.add(c);
+        }
+        Collections.shuffle(commIds, rng);
+        for (var commId : commIds) {
+            var suitableInvs = problem.getSuitableInventories(commId);
+            if (suitableInvs.length == 0) {
+                continue;
+            }
+            var invId = suitableInvs[rng.nextInt(suitableInvs.length)];
+            var pos = rng.nextInt(seqLists.get(invId).size() + 1);
+            seqLists.get(invId).add(pos, commId);
+            var totalDuration = 0;
+            for (var commIdInSeq : seqLists.get(invId)) {
+                totalDuration += problem.getCommercial(commIdInSeq).getDuration();
+            }
+            if (totalDuration > problem.getInventory(invId).getDuration()) {
+                seqLists.get(invId).remove(pos);
+                continue;
+            }
+            var sequences = new int[numInv][];
+            for (int i = 0; i < numInv; i++) {
+                sequences[i] = seqLists.get(i).stream().mapToInt(Integer::intValue).toArray();
+            }
+            var candidate = buildSolution(problem, sequences);
+            try {
+                FeasibilityCheck.check(problem, candidate);
+            } catch (IllegalStateException e) {
+                seqLists.get(invId).remove(pos);
+            }
+        }
+        var sequences = new int[numInv][];
+        for (int i = 0; i < numInv; i++) {
+            sequences[i] = seqLists.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return buildSolution(problem, sequences);
+    }
+}
@@ -1,8 +1,12 @@
 package scheduling.solver.heuristic.grasp.elitepool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Random;
 import org.junit.jupiter.api.Test;
@@ -129,4 +133,110 @@ class ElitePoolTest {
         var guide = pool.getRandomGuide(new Random(42));
         assertNotNull(guide);
     }
+
+    @Test
+    void getSolutions_returnsImmutableSnapshot() {
+        var pool = new ElitePool(3, NUM_COMMERCIALS);
+        var s1 = buildSolution(100.0, new int[] {0, 1, 2});
+        pool.add(s1);
+
+        var snapshot = pool.getSolutions();
+        pool.add(buildSolution(200.0, new int[] {1, 0, 2}));
+
+        assertEquals(1, snapshot.size());
+        assertSame(s1, snapshot.getFirst());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(s1));
+    }
+
+    @Test
+    void getDiversity_isMeanPairwiseDistance() {
+        var pool = new ElitePool(3, NUM_COMMERCIALS);
+        pool.add(buildSolution(100.0, new int[] {0, 1, 2}));
+        pool.add(buildSolution(200.0, new int[] {1, 1, 2}));
+        pool.add(buildSolution(300.0, new int[] {2, 0, 1}));
+
+        assertEquals((1 + 3 + 3) / 3.0, pool.getDiversity(), 1e-9);
+    }
+
+    @Test
+    void getDiversity_updatedWhenMemberReplaced() {
+        var pool = new ElitePool(2, NUM_COMMERCIALS);
+        pool.add(buildSolution(100.0, new int[] {0, 1, 2}));
+        pool.add(buildSolution(200.0, new int[] {1, 1, 2}));
+        assertEquals(1.0, pool.getDiversity(), 1e-9);
+
+        pool.add(buildSolution(300.0, new int[] {2, 0, 1}));
+
+        assertEquals(3.0, pool.getDiversity(), 1e-9);
+    }
+
+    @Test
+    void diversity_replacesMostSimilarWorseMember() {
+        var pool = new ElitePool(2, NUM_COMMERCIALS, diversityConfig(1));
+        var far = buildSolution(100.0, new int[] {0, 1, 2});
+        var near = buildSolution(110.0, new int[] {2, 0, 1});
+        pool.add(far);
+        pool.add(near);
+
+        var candidate = buildSolution(120.0, new int[] {2, 0, 0});
+        pool.add(candidate);
+
+        var members = pool.getSolutions();
+        assertTrue(members.contains(far));
+        assertTrue(members.contains(candidate));
+        assertFalse(members.contains(near));
+    }
+
+    @Test
+    void diversity_rejectsCloseCandidateUnlessBest() {
+        var pool = new ElitePool(3, NUM_COMMERCIALS, diversityConfig(2));
+        pool.add(buildSolution(100.0, new int[] {0, 1, 2}));
+        pool.add(buildSolution(200.0, new int[] {2, 0, 1}));
+
+        pool.add(buildSolution(150.0, new int[] {0, 1, 1}));
+        assertEquals(2, pool.size());
+
+        pool.add(buildSolution(250.0, new int[] {0, 1, 1}));
+        assertEquals(3, pool.size());
+    }
+
+    @Test
+    void diversity_getGuidePrefersDistantSolutions() {
+        var pool = new ElitePool(3, NUM_COMMERCIALS, diversityConfig(1));
+        var from = buildSolution(100.0, new int[] {0, 1, 2});
+        var near = buildSolution(200.0, new int[] {0, 1, 0});
+        var far = buildSolution(300.0, new int[] {1, 2, 0});
+        pool.add(from);
+        pool.add(near);
+        pool.add(far);
+
+        var random = new Random(42);
+        var farCount = 0;
+        for (int i = 0; i < 1000; i++) {
+            var guide = pool.getGuide(from, random);
+            assertNotSame(from, guide);
+            if (guide == far) {
+                farCount++;
+            }
+        }
+        assertTrue(farCount > 600, "Expected about 3/4 of draws to be the distant guide");
+    }
+
+    @Test
+    void worstPolicy_getGuideMatchesRandomGuide() {
+        var pool = new ElitePool(3, NUM_COMMERCIALS);
+        var s1 = buildSolution(100.0, new int[] {0, 1, 2});
+        pool.add(s1);
+        pool.add(buildSolution(200.0, new int[] {1, 0, 2}));
+
+        var first = new Random(7);
+        var second = new Random(7);
+        for (int i = 0; i < 20; i++) {
+            assertSame(pool.getRandomGuide(first), pool.getGuide(s1, second));
+        }
+    }
+
+    private static ElitePoolConfig diversityConfig(int minDistance) {
+        return new ElitePoolConfig(ReplacementPolicy.DIVERSITY, minDistance);
+    }
 }
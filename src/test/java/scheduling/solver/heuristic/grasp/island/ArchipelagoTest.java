@@ -0,0 +1,85 @@
+package scheduling.solver.heuristic.grasp.island;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.elitepool.ElitePool;
+
+class ArchipelagoTest {
+
+    private static final int NUM_COMMERCIALS = 3;
+
+    private GraspSolution buildSolution(double revenue, int[] assignedInvId) {
+        return new GraspSolution(
+                new int[0][],
+                new int[0][],
+                new double[0][],
+                revenue,
+                new int[0],
+                new int[0],
+                assignedInvId,
+                new int[assignedInvId.length]);
+    }
+
+    private Archipelago buildArchipelago(
+            int islands, int migrationSize, MigrationTopology topology) {
+        var pools = new ArrayList<ElitePool>();
+        for (int i = 0; i < islands; i++) {
+            pools.add(new ElitePool(5, NUM_COMMERCIALS));
+        }
+        return new Archipelago(pools, new IslandConfig(islands, 10, migrationSize, topology));
+    }
+
+    @Test
+    void islandOf_assignsWorkersRoundRobin() {
+        var archipelago = buildArchipelago(3, 1, MigrationTopology.RING);
+        var islands = List.of(0, 1, 2, 3, 4).stream().map(archipelago::islandOf).toList();
+
+        assertEquals(List.of(0, 1, 2, 0, 1), islands);
+    }
+
+    @Test
+    void emigrate_ringSendsBestMembersToNextIsland() {
+        var archipelago = buildArchipelago(3, 2, MigrationTopology.RING);
+        archipelago.pool(2).add(buildSolution(100.0, new int[] {0, 1, 2}));
+        archipelago.pool(2).add(buildSolution(300.0, new int[] {1, 0, 2}));
+        archipelago.pool(2).add(buildSolution(200.0, new int[] {2, 1, 0}));
+
+        var target = archipelago.emigrate(2, new Random(0));
+
+        assertEquals(0, target);
+        assertEquals(0, archipelago.pool(0).size());
+        assertEquals(2, archipelago.receive(0));
+        var revenues =
+                archipelago.pool(0).getSolutions().stream()
+                        .map(GraspSolution::getTotalRevenue)
+                        .sorted()
+                        .toList();
+        assertEquals(List.of(200.0, 300.0), revenues);
+    }
+
+    @Test
+    void emigrate_randomNeverTargetsSelf() {
+        var archipelago = buildArchipelago(4, 1, MigrationTopology.RANDOM);
+        archipelago.pool(1).add(buildSolution(100.0, new int[] {0, 1, 2}));
+        var random = new Random(7);
+
+        for (int i = 0; i < 100; i++) {
+            assertNotEquals(1, archipelago.emigrate(1, random));
+        }
+    }
+
+    @Test
+    void emigrate_singleIslandIsNoOp() {
+        var archipelago = buildArchipelago(1, 1, MigrationTopology.RING);
+        archipelago.pool(0).add(buildSolution(100.0, new int[] {0, 1, 2}));
+
+        assertEquals(-1, archipelago.emigrate(0, new Random(0)));
+        assertEquals(0, archipelago.receive(0));
+    }
+}
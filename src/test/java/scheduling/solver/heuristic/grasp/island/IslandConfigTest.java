@@ -0,0 +1,40 @@
+package scheduling.solver.heuristic.grasp.island;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class IslandConfigTest {
+
+    @Test
+    void sharedIsDisabled() {
+        assertFalse(IslandConfig.SHARED.isEnabled());
+    }
+
+    @Test
+    void positiveIslandCountIsEnabled() {
+        assertTrue(new IslandConfig(2, 10, 1, MigrationTopology.RING).isEnabled());
+    }
+
+    @Test
+    void stringDescListsAllFields() {
+        var config = new IslandConfig(8, 25, 3, MigrationTopology.RING);
+        assertEquals("ISL[n=8, every=25, k=3, RING]", config.stringDesc());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new IslandConfig(-1, 10, 1, MigrationTopology.RING));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new IslandConfig(2, 0, 1, MigrationTopology.RING));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new IslandConfig(2, 10, 0, MigrationTopology.RING));
+    }
+}
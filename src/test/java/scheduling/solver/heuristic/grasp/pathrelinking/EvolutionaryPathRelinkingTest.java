@@ -0,0 +1,298 @@
+package scheduling.solver.heuristic.grasp.pathrelinking;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import scheduling.model.Commercial;
+import scheduling.model.Inventory;
+import scheduling.model.Problem;
+import scheduling.model.enums.AttentionType;
+import scheduling.model.enums.PricingType;
+import scheduling.solver.FeasibilityCheck;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.elitepool.ElitePool;
+import scheduling.solver.heuristic.grasp.vnd.VNDConfig;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.InsertNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.TransferNeighborhood;
+import scheduling.solver.heuristic.grasp.vnd.selector.SequentialSelector;
+import scheduling.solver.heuristic.grasp.vnd.statistics.PhaseStatistics;
+import scheduling.solver.heuristic.grasp.vnd.strategy.FirstImprovingStrategy;
+
+class EvolutionaryPathRelinkingTest {
+
+    private static final long NO_DEADLINE_NANOS = 60_000_000_000L;
+
+    @Test
+    void runReturnsFeasibleSolutionAtLeastAsGoodAsPoolBest() {
+        var rng = new Random(42);
+        var problem = buildRandomProblem(rng);
+        var pool = buildPool(problem, rng, 5);
+        var poolBest = bestRevenue(pool.getSolutions());
+        var statistics = new PhaseStatistics();
+
+        var result =
+                newRelinking(problem, 2)
+                        .run(pool, 7, System.nanoTime() + NO_DEADLINE_NANOS, statistics);
+
+        assertDoesNotThrow(() -> FeasibilityCheck.check(problem, result));
+        assertTrue(result.getTotalRevenue() >= poolBest - 1e-6);
+        assertTrue(statistics.getCallCount() >= 1);
+    }
+
+    @Test
+    void runIsDeterministicForSameSeed() {
+        var problem = buildRandomProblem(new Random(3));
+        var first = newRelinking(problem, 4);
+        var second = newRelinking(problem, 1);
+
+        var firstResult =
+                first.run(
+                        buildPool(problem, new Random(5), 4),
+                        11,
+                        System.nanoTime() + NO_DEADLINE_NANOS,
+                        new PhaseStatistics());
+        var secondResult =
+                second.run(
+                        buildPool(problem, new Random(5), 4),
+                        11,
+                        System.nanoTime() + NO_DEADLINE_NANOS,
+                        new PhaseStatistics());
+
+        assertEquals(firstResult.getTotalRevenue(), secondResult.getTotalRevenue(), 1e-6);
+    }
+
+    @Test
+    void expiredDeadlineReturnsPoolBestWithoutRelinking() {
+        var rng = new Random(42);
+        var problem = buildRandomProblem(rng);
+        var pool = buildPool(problem, rng, 5);
+        var poolBest = bestRevenue(pool.getSolutions());
+        var statistics = new PhaseStatistics();
+
+        var result = newRelinking(problem, 2).run(pool, 7, System.nanoTime(), statistics);
+
+        assertEquals(poolBest, result.getTotalRevenue(), 1e-6);
+        assertEquals(0, statistics.getCallCount());
+    }
+
+    private EvolutionaryPathRelinking newRelinking(Problem problem, int threadCount) {
+        var vndConfig =
+                new VNDConfig(
+                        new FirstImprovingStrategy(),
+                        List.of(new InsertNeighborhood(problem), new TransferNeighborhood(problem)),
+                        new SequentialSelector(),
+                        0.0);
+        return new EvolutionaryPathRelinking(
+                problem, vndConfig, PathRelinkingConfig.FULL, threadCount);
+    }
+
+    private ElitePool buildPool(Problem problem, Random rng, int size) {
+        var pool = new ElitePool(size, problem.getCommercials().length);
+        for (int i = 0; i < size; i++) {
+            pool.add(buildRandomFeasibleSolution(problem, rng));
+        }
+        return pool;
+    }
+
+    private static double bestRevenue(List<GraspSolution> solutions) {
+        return solutions.stream().mapToDouble(GraspSolution::getTotalRevenue).max().orElseThrow();
+    }
+
+    private Problem buildProblem(
+            Commercial[] commercials,
+            Inventory[] inventories,
+            boolean[][] suitability,
+            AttentionType[][][] attentionTypes,
+            double[][][] revenueMatrix) {
+        var hours = Arrays.stream(inventories).mapToInt(Inventory::getHour).distinct().toArray();
+        var suitInvFor = new int[commercials.length][];
+        for (int c = 0; c < commercials.length; c++) {
+            var list = new ArrayList<Integer>();
+            for (int i = 0; i < inventories.length; i++) {
+                if (suitability[c][i]) {
+                    list.add(i);
+                }
+            }
+            suitInvFor[c] = list.stream().mapToInt(Integer::intValue).toArray();
+        }
+        var suitCommFor = new int[inventories.length][];
+        for (int i = 0; i < inventories.length; i++) {
+            var list = new ArrayList<Integer>();
+            for (int c = 0; c < commercials.length; c++) {
+                if (suitability[c][i]) {
+                    list.add(c);
+                }
+            }
+            suitCommFor[i] = list.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new Problem(
+                commercials,
+                inventories,
+                hours,
+                suitability,
+                attentionTypes,
+                suitInvFor,
+                suitCommFor,
+                new double[][][] {{{0.0}}},
+                revenueMatrix);
+    }
+
+    private GraspSolution buildSolution(Problem problem, int[][] sequences) {
+        var numInv = problem.getInventories().length;
+        var numComm = problem.getCommercials().length;
+        var startTimes = new int[numInv][];
+        var revenues = new double[numInv][];
+        var totalRevenue = 0.0;
+        var maxHour = Arrays.stream(problem.getHours()).max().orElse(0);
+        var totalDurationOfHour = new int[maxHour + 1];
+        var totalInvDuration = new int[numInv];
+        var assignedInvId = new int[numComm];
+        var assignedPos = new int[numComm];
+        Arrays.fill(assignedInvId, -1);
+        Arrays.fill(assignedPos, -1);
+
+        for (int inv = 0; inv < numInv; inv++) {
+            var seq = sequences[inv];
+            startTimes[inv] = new int[seq.length];
+            revenues[inv] = new double[seq.length];
+            var currentTime = 0;
+            for (int pos = 0; pos < seq.length; pos++) {
+                startTimes[inv][pos] = currentTime;
+                revenues[inv][pos] = problem.getRevenue(seq[pos], inv, currentTime);
+                totalRevenue += revenues[inv][pos];
+                currentTime += problem.getCommercial(seq[pos]).getDuration();
+                assignedInvId[seq[pos]] = inv;
+                assignedPos[seq[pos]] = pos;
+            }
+            totalInvDuration[inv] = currentTime;
+            var invHour = problem.getInventory(inv).getHour();
+            totalDurationOfHour[invHour] += currentTime;
+        }
+        return new GraspSolution(
+                sequences,
+                startTimes,
+                revenues,
+                totalRevenue,
+                totalDurationOfHour,
+                totalInvDuration,
+                assignedInvId,
+                assignedPos);
+    }
+
+    private Problem buildRandomProblem(Random rng) {
+        var numComm = 30;
+        var numInv = 8;
+        var commercials = new Commercial[numComm];
+        for (int c = 0; c < numComm; c++) {
+            var duration = 5 + rng.nextInt(26);
+            var group = 1 + rng.nextInt(6);
+            var price = 10.0 + rng.nextInt(91);
+            commercials[c] = new Commercial(c, group, 0, duration, price, PricingType.FIXED);
+        }
+        var inventories = new Inventory[numInv];
+        var possibleHours = new int[] {0, 1, 2};
+        for (int i = 0; i < numInv; i++) {
+            var duration = 60 + rng.nextInt(241);
+            var hour = possibleHours[rng.nextInt(3)];
+            inventories[i] = new Inventory(i, duration, hour, 20);
+        }
+        var suitability = new boolean[numComm][numInv];
+        for (int c = 0; c < numComm; c++) {
+            var hasSuitable = false;
+            for (int i = 0; i < numInv; i++) {
+                suitability[c][i] = rng.nextDouble() < 0.6;
+                if (suitability[c][i]) {
+                    hasSuitable = true;
+                }
+            }
+            if (!hasSuitable) {
+                suitability[c][rng.nextInt(numInv)] = true;
+            }
+        }
+        var attentionPool =
+                new AttentionType[] {
+                    AttentionType.N,
+                    AttentionType.N,
+                    AttentionType.N,
+                    AttentionType.F1,
+                    AttentionType.F2,
+                    AttentionType.F3,
+                    AttentionType.F12,
+                    AttentionType.F123,
+                    AttentionType.L1,
+                    AttentionType.L2,
+                    AttentionType.L12,
+                    AttentionType.L123
+                };
+        var attentionTypes = new AttentionType[numComm][numInv][];
+        for (int c = 0; c < numComm; c++) {
+            for (int i = 0; i < numInv; i++) {
+                attentionTypes[c][i] =
+                        new AttentionType[] {attentionPool[rng.nextInt(attentionPool.length)]};
+            }
+        }
+        var revenueMatrix = new double[numComm][numInv][];
+        for (int c = 0; c < numComm; c++) {
+            for (int i = 0; i < numInv; i++) {
+                revenueMatrix[c][i] = new double[inventories[i].getDuration() + 1];
+                for (int t = 0; t <= inventories[i].getDuration(); t++) {
+                    revenueMatrix[c][i][t] = (c + 1) * 50.0 + t * 0.5;
+                }
+            }
+        }
+        return buildProblem(commercials, inventories, suitability, attentionTypes, revenueMatrix);
+    }
+
+    private GraspSolution buildRandomFeasibleSolution(Problem problem, Random rng) {
+        var numComm = problem.getCommercials().length;
+        var numInv = problem.getInventories().length;
+        var seqLists = new ArrayList<ArrayList<Integer>>();
+        for (int i = 0; i < numInv; i++) {
+            seqLists.add(new ArrayList<>());
+        }
+        var commIds = new ArrayList<Integer>();
+        for (int c = 0; c < numComm; c++) {
+            commIds.add(c);
+        }
+        Collections.shuffle(commIds, rng);
+        for (var commId : commIds) {
+            var suitableInvs = problem.getSuitableInventories(commId);
+            if (suitableInvs.length == 0) {
+                continue;
+            }
+            var invId = suitableInvs[rng.nextInt(suitableInvs.length)];
+            var pos = rng.nextInt(seqLists.get(invId).size() + 1);
+            seqLists.get(invId).add(pos, commId);
+            var totalDuration = 0;
+            for (var commIdInSeq : seqLists.get(invId)) {
+                totalDuration += problem.getCommercial(commIdInSeq).getDuration();
+            }
+            if (totalDuration > problem.getInventory(invId).getDuration()) {
+                seqLists.get(invId).remove(pos);
+                continue;
+            }
+            var sequences = new int[numInv][];
+            for (int i = 0; i < numInv; i++) {
+                sequences[i] = seqLists.get(i).stream().mapToInt(Integer::intValue).toArray();
+            }
+            var candidate = buildSolution(problem, sequences);
+            try {
+                FeasibilityCheck.check(problem, candidate);
+            } catch (IllegalStateException e) {
+                seqLists.get(invId).remove(pos);
+            }
+        }
+        var sequences = new int[numInv][];
+        for (int i = 0; i < numInv; i++) {
+            sequences[i] = seqLists.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return buildSolution(problem, sequences);
+    }
+}
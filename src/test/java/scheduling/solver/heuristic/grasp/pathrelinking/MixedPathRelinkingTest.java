@@ -100,6 +100,39 @@ class MixedPathRelinkingTest {
         }
     }
 
+    @Test
+    void singleStepBudgetMovesAtMostOneCommercial() {
+        var initial = buildCheckedSolution(problem, new int[][] {{0, 1}, {2}});
+        var guiding = buildCheckedSolution(problem, new int[][] {{2}, {0, 1}});
+        var config = new PathRelinkingConfig(1, 0, 0.5, false, 1.0);
+        var pr = new MixedPathRelinking(problem, initial, guiding, new Random(42), config);
+        var result = pr.relink();
+        assertTrue(PathRelinkingUtils.distance(result, initial, numComm) <= 1);
+    }
+
+    @Test
+    @SuppressFBWarnings(
+            value = "DMI_RANDOM_USED_ONLY_ONCE",
+            justification = "Isolated RNG per trial for deterministic reproducibility")
+    void bruteForceTruncatedRelinkProducesFeasibleSolutions() {
+        var rng = new Random(7);
+        var config = new PathRelinkingConfig(3, 0, 0.2, false, 1.0);
+        for (int trial = 0; trial < 200; trial++) {
+            var problem = buildRandomProblem(rng);
+            var initial = buildRandomFeasibleSolution(problem, rng);
+            var guiding = buildRandomFeasibleSolution(problem, rng);
+            var trialRng = new Random(rng.nextLong());
+            var pr = new MixedPathRelinking(problem, initial, guiding, trialRng, config);
+            var result = pr.relink();
+            assertDoesNotThrow(
+                    () -> FeasibilityCheck.check(problem, result),
+                    "Infeasible result at trial=" + trial);
+            assertTrue(
+                    result.getTotalRevenue() >= initial.getTotalRevenue() - 1e-6,
+                    "Result worse than initial at trial=" + trial);
+        }
+    }
+
     private Problem buildProblem(
             Commercial[] commercials,
             Inventory[] inventories,
@@ -0,0 +1,71 @@
+package scheduling.solver.heuristic.grasp.pathrelinking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PathRelinkingConfigTest {
+
+    @Test
+    void fullConfigIsFull() {
+        assertTrue(PathRelinkingConfig.FULL.isFull());
+        assertFalse(new PathRelinkingConfig(5, 0, 0.5, false, 1.0).isFull());
+        assertFalse(new PathRelinkingConfig(0, 0, 0.25, false, 1.0).isFull());
+        assertFalse(new PathRelinkingConfig(0, 0, 0.5, true, 0.1).isFull());
+        assertFalse(new PathRelinkingConfig(0, 0, 0.5, false, 1.0, 0.1).isFull());
+    }
+
+    @Test
+    void stepLimitCoversWholePathWhenFull() {
+        assertEquals(12, PathRelinkingConfig.FULL.stepLimit(12));
+    }
+
+    @Test
+    void stepLimitScalesWithEndpointFraction() {
+        var config = new PathRelinkingConfig(0, 0, 0.25, false, 1.0);
+        assertEquals(5, config.stepLimit(10));
+    }
+
+    @Test
+    void stepLimitCappedByMaxSteps() {
+        var config = new PathRelinkingConfig(3, 0, 0.5, false, 1.0);
+        assertEquals(3, config.stepLimit(10));
+        assertEquals(2, config.stepLimit(2));
+    }
+
+    @Test
+    void invalidArgumentsThrow() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new PathRelinkingConfig(-1, 0, 0.5, false, 1.0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new PathRelinkingConfig(0, -1, 0.5, false, 1.0));
+        assertThrows(
+                IllegalArgumentException.class, () -> new PathRelinkingConfig(0, 0, 0, false, 1.0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new PathRelinkingConfig(0, 0, 0.6, false, 1.0));
+        assertThrows(
+                IllegalArgumentException.class, () -> new PathRelinkingConfig(0, 0, 0.5, true, 0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new PathRelinkingConfig(0, 0, 0.5, false, 1.0, 1.0));
+    }
+
+    @Test
+    void stringDesc() {
+        assertEquals(
+                "PR[steps=10, budget=0ms, frac=0.5]",
+                new PathRelinkingConfig(10, 0, 0.5, false, 1.0).stringDesc());
+        assertEquals(
+                "PR[steps=0, budget=2ms, frac=0.3, adaptive(min=0.2)]",
+                new PathRelinkingConfig(0, 2, 0.3, true, 0.2).stringDesc());
+        assertEquals(
+                "PR[steps=0, budget=0ms, frac=0.5, evo=0.1]",
+                new PathRelinkingConfig(0, 0, 0.5, false, 1.0, 0.1).stringDesc());
+    }
+}
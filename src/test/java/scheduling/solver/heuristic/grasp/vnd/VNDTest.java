@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.List;
 import java.util.Random;
 import org.junit.jupiter.api.Test;
+import scheduling.solver.heuristic.Deadline;
 import scheduling.solver.heuristic.grasp.GraspSolution;
 import scheduling.solver.heuristic.grasp.move.Move;
 import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
@@ -34,6 +35,24 @@ class VNDTest {
         assertSame(initial, result);
     }
 
+    @Test
+    void returnsInitialSolutionWhenDeadlineExpired() {
+        var initial = buildEmptySolution();
+        var neighborhood = emptyNeighborhood(NeighborhoodType.INSERT);
+        var config =
+                new VNDConfig(
+                        new FirstImprovingStrategy(),
+                        List.of(neighborhood),
+                        new SequentialSelector(),
+                        0.0);
+        var ls = new VND(config, new Random(42));
+
+        var result = ls.search(initial, Deadline.atNanos(System.nanoTime() - 1));
+
+        assertSame(initial, result);
+        assertEquals(0, ls.getStatistics().getTotalIterations());
+    }
+
     @Test
     void stopsWhenAllNeighborhoodsExhausted() {
         var initial = buildEmptySolution();
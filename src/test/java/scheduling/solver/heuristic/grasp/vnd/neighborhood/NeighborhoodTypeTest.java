@@ -0,0 +1,52 @@
+package scheduling.solver.heuristic.grasp.vnd.neighborhood;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import scheduling.model.Commercial;
+import scheduling.model.Inventory;
+import scheduling.model.Problem;
+import scheduling.model.enums.AttentionType;
+import scheduling.model.enums.PricingType;
+
+class NeighborhoodTypeTest {
+
+    private Problem buildProblem() {
+        var commercials =
+                new Commercial[] {
+                    new Commercial(0, 0, 0, 10, 100.0, PricingType.FIXED),
+                    new Commercial(1, 1, 0, 10, 100.0, PricingType.FIXED),
+                };
+        var revenueMatrix = new double[2][1][61];
+        for (var perInventory : revenueMatrix) {
+            Arrays.fill(perInventory[0], 10.0);
+        }
+        return new Problem(
+                commercials,
+                new Inventory[] {new Inventory(0, 60, 0, 10)},
+                new int[] {0},
+                new boolean[][] {{true}, {true}},
+                new AttentionType[][][] {{{AttentionType.N}}, {{AttentionType.N}}},
+                new int[][] {{0}, {0}},
+                new int[][] {{0, 1}},
+                new double[][][] {{{1.0}, {1.0}}},
+                revenueMatrix);
+    }
+
+    @Test
+    void createBuildsTheMatchingNeighborhood() {
+        var problem = buildProblem();
+
+        assertInstanceOf(InsertNeighborhood.class, NeighborhoodType.INSERT.create(problem));
+        assertInstanceOf(
+                InterSwapNeighborhood.class, NeighborhoodType.INTER_SWAP.create(problem));
+        assertInstanceOf(
+                IntraSwapNeighborhood.class, NeighborhoodType.INTRA_SWAP.create(problem));
+        assertInstanceOf(
+                OutOfPoolSwapNeighborhood.class,
+                NeighborhoodType.OUT_OF_POOL_SWAP.create(problem));
+        assertInstanceOf(ShiftNeighborhood.class, NeighborhoodType.SHIFT.create(problem));
+        assertInstanceOf(TransferNeighborhood.class, NeighborhoodType.TRANSFER.create(problem));
+    }
+}
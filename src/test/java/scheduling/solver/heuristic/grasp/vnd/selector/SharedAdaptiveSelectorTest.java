@@ -0,0 +1,111 @@
+package scheduling.solver.heuristic.grasp.vnd.selector;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import scheduling.solver.heuristic.grasp.GraspSolution;
+import scheduling.solver.heuristic.grasp.move.Move;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.Neighborhood;
+import scheduling.solver.heuristic.grasp.vnd.neighborhood.NeighborhoodType;
+
+class SharedAdaptiveSelectorTest {
+
+    @Test
+    void stringDescReturnsFormattedString() {
+        var selector =
+                new SharedAdaptiveSelector(
+                        0.05, List.of(stubNeighborhood(NeighborhoodType.INSERT)));
+        assertEquals("SHARED_ADAPTIVE(min=0.05)", selector.stringDesc());
+    }
+
+    @Test
+    void adaptiveSelectorSharedInstancePoolsFeedback() {
+        var neighborhoods = List.of(stubNeighborhood(NeighborhoodType.INSERT));
+        var selector = new AdaptiveSelector(0.05, neighborhoods);
+
+        var shared = selector.sharedInstance();
+
+        assertInstanceOf(SharedAdaptiveSelector.class, shared);
+        assertSame(shared, shared.sharedInstance());
+    }
+
+    @Test
+    void probabilitiesStayUniformUntilUpdate() {
+        var n1 = stubNeighborhood(NeighborhoodType.INSERT);
+        var n2 = stubNeighborhood(NeighborhoodType.SHIFT);
+        var selector = new SharedAdaptiveSelector(0.05, List.of(n1, n2));
+
+        selector.reportResult(n1, 100.0);
+
+        assertArrayEquals(new double[] {0.5, 0.5}, selector.getProbabilities(), 1e-9);
+    }
+
+    @Test
+    void updatePublishesProbabilitiesFromAllThreads() throws InterruptedException {
+        var n1 = stubNeighborhood(NeighborhoodType.INSERT);
+        var n2 = stubNeighborhood(NeighborhoodType.SHIFT);
+        var selector = new SharedAdaptiveSelector(0.1, List.of(n1, n2));
+
+        var threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(
+                    Thread.ofPlatform()
+                            .start(
+                                    () -> {
+                                        for (int i = 0; i < 1000; i++) {
+                                            selector.reportResult(n1, 3.0);
+                                            selector.reportResult(n2, 1.0);
+                                        }
+                                    }));
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+        selector.update();
+
+        // 0.1 + (1 - 0.2) * 12000 / 16000 and 0.1 + 0.8 * 4000 / 16000
+        assertArrayEquals(new double[] {0.7, 0.3}, selector.getProbabilities(), 1e-9);
+    }
+
+    @Test
+    void biasesTowardHighGainNeighborhood() {
+        var n1 = stubNeighborhood(NeighborhoodType.INSERT);
+        var n2 = stubNeighborhood(NeighborhoodType.SHIFT);
+        var neighborhoods = List.of(n1, n2);
+        var selector = new SharedAdaptiveSelector(0.05, neighborhoods);
+
+        selector.reportResult(n1, 100.0);
+        selector.reportResult(n2, 10.0);
+        selector.update();
+
+        var random = new Random(42);
+        var n1Count = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (selector.select(neighborhoods, random) == n1) {
+                n1Count++;
+            }
+        }
+        assertTrue(n1Count > 700, "n1 should be selected most of the time: " + n1Count);
+    }
+
+    private Neighborhood stubNeighborhood(NeighborhoodType type) {
+        return new Neighborhood() {
+            @Override
+            public Iterable<Move> generateMoves(GraspSolution solution, Random random) {
+                return List.of();
+            }
+
+            @Override
+            public NeighborhoodType type() {
+                return type;
+            }
+        };
+    }
+}
@@ -3,8 +3,10 @@ package scheduling.solver.heuristic.grasp.vnd.strategy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import scheduling.solver.heuristic.Deadline;
 import scheduling.solver.heuristic.grasp.move.Move;
 
 class BestImprovingStrategyTest {
@@ -72,4 +74,19 @@ class BestImprovingStrategyTest {
         var strategy = new BestImprovingStrategy();
         assertEquals("BEST", strategy.stringDesc());
     }
+
+    @Test
+    void returnsBestSoFarWhenDeadlineExpires() {
+        var strategy = new BestImprovingStrategy();
+        var moves = new ArrayList<Move>();
+        for (int i = 1; i <= 2 * Deadline.CHECK_INTERVAL; i++) {
+            moves.add(new StubMove(true, i));
+        }
+        var expired = Deadline.atNanos(System.nanoTime() - 1);
+
+        var result = strategy.selectMove(moves, expired);
+
+        assertTrue(result.isPresent());
+        assertEquals(moves.get(Deadline.CHECK_INTERVAL - 2), result.get());
+    }
 }
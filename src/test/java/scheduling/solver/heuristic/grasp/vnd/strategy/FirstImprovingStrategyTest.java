@@ -3,8 +3,10 @@ package scheduling.solver.heuristic.grasp.vnd.strategy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import scheduling.solver.heuristic.Deadline;
 import scheduling.solver.heuristic.grasp.move.Move;
 
 class FirstImprovingStrategyTest {
@@ -68,4 +70,18 @@ class FirstImprovingStrategyTest {
         var strategy = new FirstImprovingStrategy();
         assertEquals("FIRST", strategy.stringDesc());
     }
+
+    @Test
+    void stopsScanningWhenDeadlineExpires() {
+        var strategy = new FirstImprovingStrategy();
+        var moves = new ArrayList<Move>();
+        for (int i = 0; i < 2 * Deadline.CHECK_INTERVAL; i++) {
+            moves.add(new StubMove(true, 0.0));
+        }
+        moves.add(new StubMove(true, 10.0));
+        var expired = Deadline.atNanos(System.nanoTime() - 1);
+
+        assertTrue(strategy.selectMove(moves, expired).isEmpty());
+        assertTrue(strategy.selectMove(moves).isPresent());
+    }
 }
@@ -1,37 +1,102 @@
 package scheduling.solver.mip;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import org.junit.jupiter.api.Test;
+import scheduling.solver.EarlyStopConfig;
 
 class MipConfigTest {
 
     @Test
     void storesAllParameters() {
-        var config = new MipConfig("inst1", 300);
+        var config = config("inst1", 300);
         assertEquals("inst1", config.instanceName());
         assertEquals(300, config.timeLimitSeconds());
     }
 
     @Test
     void nonPositiveTimeLimitThrows() {
-        assertThrows(IllegalArgumentException.class, () -> new MipConfig("inst1", 0));
-        assertThrows(IllegalArgumentException.class, () -> new MipConfig("inst1", -1));
+        assertThrows(IllegalArgumentException.class, () -> config("inst1", 0));
+        assertThrows(IllegalArgumentException.class, () -> config("inst1", -1));
     }
 
     @Test
     void stringDescIncludesTimeLimit() {
-        var config = new MipConfig("inst1", 300);
+        var config = config("inst1", 300);
         assertEquals("MIP[time=300]", config.stringDesc());
     }
 
+    @Test
+    void stringDescIncludesTargetAndWorkLimit() {
+        var config =
+                MipConfig.builder()
+                        .instanceName("inst1")
+                        .timeLimitSeconds(300)
+                        .targetRevenue(1500.0)
+                        .workLimit(20.0)
+                        .build();
+        assertEquals("MIP[time=300, target=1500.0, work=20.0]", config.stringDesc());
+    }
+
+    @Test
+    void stringDescIncludesEnabledEarlyStop() {
+        var earlyStop = new EarlyStopConfig(0.0, 0, 120.0, 0.001);
+        var config =
+                MipConfig.builder()
+                        .instanceName("inst1")
+                        .timeLimitSeconds(300)
+                        .earlyStop(earlyStop)
+                        .build();
+        assertEquals("MIP[time=300, STOP[rate<0.001/120.0s]]", config.stringDesc());
+    }
+
+    @Test
+    void modelNamesDefaultOffAndNotInStringDesc() {
+        var unnamed = config("inst1", 300);
+        var named =
+                MipConfig.builder()
+                        .instanceName("inst1")
+                        .timeLimitSeconds(300)
+                        .modelNames(true)
+                        .build();
+
+        assertFalse(unnamed.modelNames());
+        assertTrue(named.modelNames());
+        assertEquals(unnamed.stringDesc(), named.stringDesc());
+    }
+
+    @Test
+    void stringDescIncludesFormulationOnlyWhenCumulative() {
+        var direct = config("inst1", 300);
+        var cumulative =
+                MipConfig.builder()
+                        .instanceName("inst1")
+                        .timeLimitSeconds(300)
+                        .formulation(MipFormulation.CUMULATIVE)
+                        .build();
+
+        assertEquals(MipFormulation.DIRECT, direct.formulation());
+        assertEquals("MIP[time=300, form=CUMULATIVE]", cumulative.stringDesc());
+        assertNotEquals(direct.outputPath(Path.of("out")), cumulative.outputPath(Path.of("out")));
+    }
+
+    @Test
+    void negativeTargetOrWorkLimitThrows() {
+        var builder = MipConfig.builder().instanceName("inst1").timeLimitSeconds(300);
+        assertThrows(IllegalArgumentException.class, () -> builder.targetRevenue(-1).build());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> builder.targetRevenue(0).workLimit(-1).build());
+    }
+
     @Test
     void outputPathUsesInstanceNameAndHash() {
-        var config = new MipConfig("inst1", 300);
+        var config = config("inst1", 300);
         var path = config.outputPath(Path.of("output"));
 
         assertEquals("inst1", path.getParent().getFileName().toString());
@@ -41,15 +106,15 @@ class MipConfigTest {
 
     @Test
     void outputPathDeterministic() {
-        var config1 = new MipConfig("inst1", 300);
-        var config2 = new MipConfig("inst1", 300);
+        var config1 = config("inst1", 300);
+        var config2 = config("inst1", 300);
         assertEquals(config1.outputPath(Path.of("out")), config2.outputPath(Path.of("out")));
     }
 
     @Test
     void outputPathDiffersForDifferentTimeLimit() {
-        var config1 = new MipConfig("inst1", 300);
-        var config2 = new MipConfig("inst1", 600);
+        var config1 = config("inst1", 300);
+        var config2 = config("inst1", 600);
         assertNotEquals(
                 config1.outputPath(Path.of("out")).getFileName(),
                 config2.outputPath(Path.of("out")).getFileName());
@@ -57,8 +122,15 @@ class MipConfigTest {
 
     @Test
     void outputPathDiffersForDifferentInstance() {
-        var config1 = new MipConfig("inst1", 300);
-        var config2 = new MipConfig("inst2", 300);
+        var config1 = config("inst1", 300);
+        var config2 = config("inst2", 300);
         assertNotEquals(config1.outputPath(Path.of("out")), config2.outputPath(Path.of("out")));
     }
+
+    private static MipConfig config(String instanceName, int timeLimitSeconds) {
+        return MipConfig.builder()
+                .instanceName(instanceName)
+                .timeLimitSeconds(timeLimitSeconds)
+                .build();
+    }
 }
@@ -16,6 +16,7 @@ import scheduling.model.enums.AttentionType;
 import scheduling.model.enums.PricingType;
 import scheduling.solver.Solution;
 import scheduling.solver.SolverSolution;
+import scheduling.solver.StopReason;
 
 class MipSolverTest {
 
@@ -102,6 +103,15 @@ class MipSolverTest {
 
     private static MipInformation createMipInformation() {
         return new MipInformation(
-                new MipConfig("test", 300), 2, "OPTIMAL", 0.0, 0.0, 0.0, 0.0, 0.0, 1);
+                MipConfig.builder().instanceName("test").timeLimitSeconds(300).build(),
+                2,
+                "OPTIMAL",
+                0.0,
+                0.0,
+                0.0,
+                0.0,
+                0.0,
+                1,
+                StopReason.COMPLETED);
     }
 }
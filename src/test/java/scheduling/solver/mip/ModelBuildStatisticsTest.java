@@ -0,0 +1,41 @@
+package scheduling.solver.mip;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ModelBuildStatisticsTest {
+
+    @Test
+    void keepsFamiliesInRecordedOrder() {
+        var statistics = new ModelBuildStatistics();
+        statistics.record("O", 10, 100);
+        statistics.record("uniqueness", 3, 50);
+        statistics.record("y", 4, 20);
+
+        var families = List.copyOf(statistics.getFamilies().keySet());
+        assertEquals(List.of("O", "uniqueness", "y"), families);
+        assertEquals(170, statistics.getTotalTimeNanos());
+    }
+
+    @Test
+    void mergesRepeatedFamilies() {
+        var statistics = new ModelBuildStatistics();
+        statistics.record("O", 10, 100);
+        statistics.record("O", 5, 40);
+
+        var family = statistics.getFamilies().get("O");
+        assertEquals(new ModelBuildStatistics.FamilyStatistics(15, 140), family);
+    }
+
+    @Test
+    void recordsModelSize() {
+        var statistics = new ModelBuildStatistics();
+        statistics.recordModelSize(120, 80, 900);
+
+        assertEquals(120, statistics.getNumVars());
+        assertEquals(80, statistics.getNumConstrs());
+        assertEquals(900, statistics.getNumNonZeros());
+    }
+}
@@ -75,7 +75,8 @@ class RelaxedMIPConfigTest {
     @Test
     void outputPathDiffersFromContinuousMIPConfig() {
         var relaxedConfig = new RelaxedMIPConfig("inst1", RelaxedMIPReturnMode.BEST);
-        var continuousConfig = new MipConfig("inst1", 300);
+        var continuousConfig =
+                MipConfig.builder().instanceName("inst1").timeLimitSeconds(300).build();
 
         assertNotEquals(
                 continuousConfig.outputPath(Path.of("out")),
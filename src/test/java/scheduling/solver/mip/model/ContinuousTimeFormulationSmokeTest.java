@@ -0,0 +1,181 @@
+package scheduling.solver.mip.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.gurobi.gurobi.GRB;
+import com.gurobi.gurobi.GRBEnv;
+import com.gurobi.gurobi.GRBException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import scheduling.model.Commercial;
+import scheduling.model.Inventory;
+import scheduling.model.Problem;
+import scheduling.model.enums.AttentionType;
+import scheduling.model.enums.PricingType;
+import scheduling.solver.FeasibilityCheck;
+import scheduling.solver.mip.MipConfig;
+import scheduling.solver.mip.MipFormulation;
+import scheduling.solver.mip.MipInformation;
+import scheduling.solver.mip.MipSolver;
+
+class ContinuousTimeFormulationSmokeTest {
+
+    @Test
+    void cumulativeFormulationMatchesDirectWhenGurobiAvailable() {
+        assumeTrue(gurobiAvailable());
+
+        var problem = createTinyProblem();
+        var direct = solve(problem, MipFormulation.DIRECT);
+        var cumulative = solve(problem, MipFormulation.CUMULATIVE);
+
+        assertEquals(direct.objectiveValue(), cumulative.objectiveValue(), 1e-6);
+        var directSize = direct.buildStatistics();
+        var cumulativeSize = cumulative.buildStatistics();
+        assertTrue(cumulativeSize.getNumVars() > directSize.getNumVars());
+        assertTrue(cumulativeSize.getFamilies().containsKey("cum_dur"));
+        assertFalse(directSize.getFamilies().containsKey("cum_dur"));
+    }
+
+    // Placing all three commercials back to back in id order hits every nonzero
+    // revenue, so 4300 is the optimum whatever the formulation or naming.
+    @Test
+    void modelNamesDoNotChangeTheModelWhenGurobiAvailable() {
+        assumeTrue(gurobiAvailable());
+
+        var problem = createTinyProblem();
+        for (var formulation : MipFormulation.values()) {
+            var unnamed = solve(problem, formulation, false);
+            var named = solve(problem, formulation, true);
+
+            assertEquals(4300.0, unnamed.objectiveValue(), 1e-6, formulation.name());
+            assertEquals(4300.0, named.objectiveValue(), 1e-6, formulation.name());
+            var unnamedSize = unnamed.buildStatistics();
+            var namedSize = named.buildStatistics();
+            assertEquals(unnamedSize.getNumVars(), namedSize.getNumVars());
+            assertEquals(unnamedSize.getNumConstrs(), namedSize.getNumConstrs());
+            assertEquals(unnamedSize.getNumNonZeros(), namedSize.getNumNonZeros());
+        }
+    }
+
+    // Doubling the commercials and slots multiplies the direct formulation's nonzeros
+    // by about 16 but the cumulative one's by about 4, since the cumulative rows
+    // reference D, T and A instead of repeating sums over earlier slots.
+    @Test
+    void cumulativeNonZerosGrowSlowerThanDirectWhenGurobiAvailable() {
+        assumeTrue(gurobiAvailable());
+
+        var small = createProblem(6);
+        var large = createProblem(12);
+        var directGrowth =
+                (double) nonZeros(large, MipFormulation.DIRECT)
+                        / nonZeros(small, MipFormulation.DIRECT);
+        var cumulativeGrowth =
+                (double) nonZeros(large, MipFormulation.CUMULATIVE)
+                        / nonZeros(small, MipFormulation.CUMULATIVE);
+
+        assertTrue(
+                cumulativeGrowth < directGrowth,
+                "cumulative x" + cumulativeGrowth + " vs direct x" + directGrowth);
+    }
+
+    private static long nonZeros(Problem problem, MipFormulation formulation) {
+        var config =
+                MipConfig.builder()
+                        .instanceName("size")
+                        .timeLimitSeconds(60)
+                        .formulation(formulation)
+                        .build();
+        try (var model = new ContinuousTimeModel(config)) {
+            model.build(problem);
+            return model.buildStatistics().getNumNonZeros();
+        }
+    }
+
+    private static MipInformation solve(Problem problem, MipFormulation formulation) {
+        return solve(problem, formulation, true);
+    }
+
+    private static MipInformation solve(
+            Problem problem, MipFormulation formulation, boolean modelNames) {
+        var config =
+                MipConfig.builder()
+                        .instanceName("tiny")
+                        .timeLimitSeconds(60)
+                        .modelNames(modelNames)
+                        .formulation(formulation)
+                        .build();
+        var result = new MipSolver(new ContinuousTimeModel(config)).solve(problem);
+        FeasibilityCheck.check(problem, result.getBestSolution());
+        return result.getAdditionalInformation();
+    }
+
+    private static boolean gurobiAvailable() {
+        try {
+            var env = new GRBEnv(true);
+            env.set(GRB.IntParam.OutputFlag, 0);
+            env.start();
+            env.dispose();
+            return true;
+        } catch (GRBException | UnsatisfiedLinkError e) {
+            return false;
+        }
+    }
+
+    // numCommercials commercials of 10 units that all fit one inventory.
+    private static Problem createProblem(int numCommercials) {
+        var duration = 10 * numCommercials;
+        var commercials = new Commercial[numCommercials];
+        var suitability = new boolean[numCommercials][];
+        var attentionTypes = new AttentionType[numCommercials][][];
+        var suitableInventories = new int[numCommercials][];
+        var revenueMatrix = new double[numCommercials][1][];
+        for (int c = 0; c < numCommercials; c++) {
+            commercials[c] = new Commercial(c, c, 0, 10, 100.0 + c, PricingType.FIXED);
+            suitability[c] = new boolean[] {true};
+            attentionTypes[c] = new AttentionType[][] {{AttentionType.N}};
+            suitableInventories[c] = new int[] {0};
+            revenueMatrix[c][0] = new double[duration];
+            Arrays.fill(revenueMatrix[c][0], 100.0 + c);
+        }
+        return new Problem(
+                commercials,
+                new Inventory[] {new Inventory(0, duration, 1, numCommercials)},
+                new int[] {1},
+                suitability,
+                attentionTypes,
+                suitableInventories,
+                new int[][] {IntStream.range(0, numCommercials).toArray()},
+                new double[][][] {{{0.0}}},
+                revenueMatrix);
+    }
+
+    private static Problem createTinyProblem() {
+        var comm0 = new Commercial(0, 1, 0, 45, 100.0, PricingType.FIXED);
+        var comm1 = new Commercial(1, 2, 0, 30, 200.0, PricingType.FIXED);
+        var comm2 = new Commercial(2, 1, 0, 20, 150.0, PricingType.FIXED);
+        var inventory = new Inventory(0, 120, 1, 3);
+        var none = new AttentionType[][] {{AttentionType.N}};
+        var revenueMatrix = new double[3][1][];
+        for (int c = 0; c < 3; c++) {
+            revenueMatrix[c][0] = new double[120];
+        }
+        revenueMatrix[0][0][0] = 1000.0;
+        revenueMatrix[1][0][45] = 2500.0;
+        revenueMatrix[2][0][75] = 800.0;
+
+        return new Problem(
+                new Commercial[] {comm0, comm1, comm2},
+                new Inventory[] {inventory},
+                new int[] {1},
+                new boolean[][] {{true}, {true}, {true}},
+                new AttentionType[][][] {none, none, none},
+                new int[][] {{0}, {0}, {0}},
+                new int[][] {{0, 1, 2}},
+                new double[][][] {{{0.0}}},
+                revenueMatrix);
+    }
+}
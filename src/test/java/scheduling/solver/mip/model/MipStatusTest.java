@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.gurobi.gurobi.GRB;
 import org.junit.jupiter.api.Test;
+import scheduling.solver.StopReason;
 
 class MipStatusTest {
 
@@ -18,6 +19,14 @@ class MipStatusTest {
         assertEquals("TIME_LIMIT", MipStatus.label(GRB.Status.TIME_LIMIT));
     }
 
+    @Test
+    void mapsLimitsToStopReasons() {
+        assertEquals(StopReason.TIME_LIMIT, MipStatus.stopReason(GRB.Status.TIME_LIMIT));
+        assertEquals(StopReason.TARGET_REACHED, MipStatus.stopReason(GRB.Status.USER_OBJ_LIMIT));
+        assertEquals(StopReason.WORK_LIMIT, MipStatus.stopReason(GRB.Status.WORK_LIMIT));
+        assertEquals(StopReason.COMPLETED, MipStatus.stopReason(GRB.Status.OPTIMAL));
+    }
+
     @Test
     void failsOnUnknownStatus() {
         assertThrows(IllegalArgumentException.class, () -> MipStatus.label(-1));
@@ -0,0 +1,18 @@
+package scheduling.solver.mip.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class ModelNamesTest {
+
+    @Test
+    void joinsPrefixAndIndices() {
+        assertEquals("no_consec_3_7_1_0", ModelNames.of("no_consec", 3, 7, 1, 0));
+    }
+
+    @Test
+    void prefixOnlyWithoutIndices() {
+        assertEquals("objective", ModelNames.of("objective"));
+    }
+}
@@ -12,6 +12,7 @@ import scheduling.model.Inventory;
 import scheduling.model.Problem;
 import scheduling.model.enums.AttentionType;
 import scheduling.model.enums.PricingType;
+import scheduling.solver.EarlyStopConfig;
 import scheduling.solver.FeasibilityCheck;
 import scheduling.solver.mip.RelaxedMIPConfig;
 import scheduling.solver.mip.RelaxedMIPReturnMode;
@@ -24,17 +25,27 @@ class RelaxedMIPModelSmokeTest {
         assumeTrue(gurobiAvailable());
 
         var problem = createTinyProblem();
-        var config = new RelaxedMIPConfig("tiny", RelaxedMIPReturnMode.BEST);
-        var solver = new RelaxedMIPSolver(new RelaxedMIPModel(config));
+        // Names are only labels, so both settings must give the same model.
+        for (var modelNames : new boolean[] {false, true}) {
+            var config =
+                    new RelaxedMIPConfig(
+                            "tiny",
+                            RelaxedMIPReturnMode.BEST,
+                            RelaxedMIPConfig.DEFAULT_MIP_GAP,
+                            EarlyStopConfig.NONE,
+                            modelNames);
+            var solver = new RelaxedMIPSolver(new RelaxedMIPModel(config));
 
-        var result = solver.solve(problem);
+            var result = solver.solve(problem);
 
-        FeasibilityCheck.check(problem, result.getBestSolution());
-        var info = result.getAdditionalInformation();
-        assertEquals(1000.0, result.getBestSolution().getTotalRevenue(), 1e-10);
-        assertEquals(2500.0, info.relaxedIncumbentValue(), 1e-10);
-        assertEquals(2500.0, info.relaxedUpperBound(), 1e-10);
-        assertEquals(1000.0, info.realizedRevenue(), 1e-10);
+            FeasibilityCheck.check(problem, result.getBestSolution());
+            var info = result.getAdditionalInformation();
+            var label = "modelNames=" + modelNames;
+            assertEquals(1000.0, result.getBestSolution().getTotalRevenue(), 1e-10, label);
+            assertEquals(2500.0, info.relaxedIncumbentValue(), 1e-10, label);
+            assertEquals(2500.0, info.relaxedUpperBound(), 1e-10, label);
+            assertEquals(1000.0, info.realizedRevenue(), 1e-10, label);
+        }
     }
 
     private static boolean gurobiAvailable() {